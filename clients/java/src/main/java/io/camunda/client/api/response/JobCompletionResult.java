@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.api.response;
+
+/** The result of completing a single job as part of a batch completion. */
+public interface JobCompletionResult {
+
+  /**
+   * @return the key of the job
+   */
+  long getJobKey();
+
+  /**
+   * @return true if the job was completed, false if its completion was rejected
+   */
+  boolean isCompleted();
+
+  /**
+   * @return the reason why the job was not completed, or an empty string if it was completed
+   */
+  String getRejectionReason();
+}
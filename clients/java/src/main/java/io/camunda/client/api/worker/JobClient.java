@@ -19,6 +19,7 @@ import io.camunda.client.api.CamundaFuture;
 import io.camunda.client.api.ExperimentalApi;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
@@ -74,6 +75,28 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete several jobs at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(firstJobKey, firstJobVariables)
+   *  .addJob(secondJobKey, secondJobVariables)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are grouped by partition, and the jobs of a partition are completed together,
+   * which is cheaper than completing them one by one. The completion of each job succeeds or fails
+   * on its own; the response contains the result of each job completion.
+   *
+   * <p>Jobs which require a job result, e.g. jobs of task listeners, can't be completed with this
+   * command. Use {@link #newCompleteCommand(long)} instead.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
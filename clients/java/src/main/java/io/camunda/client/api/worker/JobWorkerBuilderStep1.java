@@ -242,6 +242,41 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Opt-in feature flag to run each job handler on its own virtual thread, instead of on the
+     * client's shared job worker executor. This allows handlers which mostly block, e.g. on I/O,
+     * to work on many jobs concurrently without sizing the executor for it.
+     *
+     * <p>The number of jobs worked on concurrently is still bounded by {@link
+     * #maxJobsActive(int)}, for polled as well as for streamed jobs.
+     *
+     * <p>Virtual threads which got pinned to their carrier thread while handling a job can be
+     * reported to the {@link JobWorkerMetrics} of this worker, see {@link
+     * #virtualThreadPinnedMetricsEnabled(boolean)}.
+     *
+     * <p>NOTE: virtual threads require Java 21 or newer; opening the worker fails on older JVMs.
+     *
+     * @param virtualThreadsEnabled whether to run job handlers on virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    /**
+     * Opt-in feature flag to notify the {@link JobWorkerMetrics} of this worker about virtual
+     * threads which got pinned to their carrier thread while handling a job, see {@link
+     * JobWorkerMetrics#virtualThreadPinned(int)}. Only has an effect if {@link
+     * #virtualThreadsEnabled(boolean)} is enabled as well.
+     *
+     * <p>Pinned threads are detected by streaming JDK Flight Recorder events. A single stream is
+     * shared by all workers of the JVM which enabled this flag, and it's only open as long as any
+     * of them is open.
+     *
+     * @param virtualThreadPinnedMetricsEnabled whether to report pinned virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadPinnedMetricsEnabled(
+        boolean virtualThreadPinnedMetricsEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
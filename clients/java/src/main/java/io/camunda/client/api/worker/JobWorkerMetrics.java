@@ -39,6 +39,26 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time a job handler starts to work on one or more jobs.
+   *
+   * <p>NOTE: together with {@link #jobHandled(int)}, this gives the amount of jobs which are
+   * currently being worked on concurrently.
+   *
+   * @param count the amount of jobs which are now being worked on
+   */
+  default void jobHandlerStarted(final int count) {}
+
+  /**
+   * Called every time a virtual thread running a job handler was pinned to its carrier thread,
+   * e.g. because it blocked while holding a monitor. Only called for workers which run their
+   * handlers on virtual threads and report pinned threads, see {@link
+   * JobWorkerBuilderStep1.JobWorkerBuilderStep3#virtualThreadPinnedMetricsEnabled(boolean)}.
+   *
+   * @param count the amount of times virtual threads were pinned
+   */
+  default void virtualThreadPinned(final int count) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
@@ -32,10 +32,14 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A counter for the count of jobs whose handler was started
+ *   <li>A counter for the count of pinned virtual threads, if the worker runs its handlers on
+ *       virtual threads
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
- * subtract both to estimate the count/rate of jobs queued in a given worker.
+ * subtract both to estimate the count/rate of jobs queued in a given worker. Subtracting the jobs
+ * handled from the jobs whose handler was started gives the handler concurrency of a worker.
  *
  * <p>NOTE: the names may be changed depending on the registry backing Micrometer (e.g. Prometheus
  * names will replace the periods with underscore, etc.)
@@ -81,6 +85,22 @@ public interface MicrometerJobWorkerMetricsBuilder {
       }
     },
 
+    /** Counter name backing the {@link JobWorkerMetrics#jobHandlerStarted(int)} count. */
+    JOB_HANDLER_STARTED {
+      @Override
+      public String asString() {
+        return "camunda.client.worker.job.handler.started";
+      }
+    },
+
+    /** Counter name backing the {@link JobWorkerMetrics#virtualThreadPinned(int)} count. */
+    VIRTUAL_THREAD_PINNED {
+      @Override
+      public String asString() {
+        return "camunda.client.worker.virtual.thread.pinned";
+      }
+    },
+
     /**
      * Counter backing the {@link JobWorkerMetrics#jobActivated(int)} count.
      *
@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.command;
+
+import io.camunda.client.CredentialsProvider.StatusCode;
+import io.camunda.client.api.CamundaFuture;
+import io.camunda.client.api.JsonMapper;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
+import io.camunda.client.api.command.FinalCommandStep;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.impl.RetriableClientFutureImpl;
+import io.camunda.client.impl.http.HttpCamundaFuture;
+import io.camunda.client.impl.http.HttpClient;
+import io.camunda.client.impl.response.CompleteJobsResponseImpl;
+import io.camunda.client.protocol.rest.JobBatchCompletionItem;
+import io.camunda.client.protocol.rest.JobBatchCompletionRequest;
+import io.camunda.client.protocol.rest.JobBatchCompletionResult;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletion;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.apache.hc.client5.http.config.RequestConfig;
+
+public final class CompleteJobsCommandImpl implements CompleteJobsCommandStep1 {
+
+  private static final String EMPTY_VARIABLES = "{}";
+
+  private final GatewayStub asyncStub;
+  private final JsonMapper jsonMapper;
+  private final Predicate<StatusCode> retryPredicate;
+  private Duration requestTimeout;
+  private final HttpClient httpClient;
+  private final RequestConfig.Builder httpRequestConfig;
+  private boolean useRest;
+  private final List<Job> jobs = new ArrayList<>();
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final Duration requestTimeout,
+      final Predicate<StatusCode> retryPredicate,
+      final HttpClient httpClient,
+      final boolean preferRestOverGrpc) {
+    this.asyncStub = asyncStub;
+    this.jsonMapper = jsonMapper;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    this.httpClient = httpClient;
+    httpRequestConfig = httpClient.newRequestConfig();
+    useRest = preferRestOverGrpc;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey) {
+    jobs.add(new Job(jobKey, EMPTY_VARIABLES));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final String variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    jobs.add(new Job(jobKey, jsonMapper.validateJson("variables", variables)));
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final Map<String, Object> variables) {
+    return addJob(jobKey, (Object) variables);
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 addJob(final long jobKey, final Object variables) {
+    ArgumentUtil.ensureNotNull("variables", variables);
+    jobs.add(new Job(jobKey, jsonMapper.toJson(variables)));
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<CompleteJobsResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    httpRequestConfig.setResponseTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public CamundaFuture<CompleteJobsResponse> send() {
+    if (useRest) {
+      return sendRestRequest();
+    } else {
+      return sendGrpcRequest();
+    }
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 useRest() {
+    useRest = true;
+    return this;
+  }
+
+  @Override
+  public CompleteJobsCommandStep1 useGrpc() {
+    useRest = false;
+    return this;
+  }
+
+  private CamundaFuture<CompleteJobsResponse> sendRestRequest() {
+    // unlike gRPC, REST expects the variables of each job as JSON object, so they are converted
+    // only when the request is sent
+    final JobBatchCompletionRequest httpRequestObject = new JobBatchCompletionRequest();
+    for (final Job job : jobs) {
+      httpRequestObject.addJobsItem(
+          new JobBatchCompletionItem()
+              .jobKey(String.valueOf(job.jobKey()))
+              .variables(jsonMapper.fromJsonAsMap(job.variables())));
+    }
+
+    final HttpCamundaFuture<CompleteJobsResponse> result = new HttpCamundaFuture<>();
+    httpClient.post(
+        "/jobs/completion",
+        jsonMapper.toJson(httpRequestObject),
+        httpRequestConfig.build(),
+        JobBatchCompletionResult.class,
+        CompleteJobsResponseImpl::new,
+        result);
+    return result;
+  }
+
+  private CamundaFuture<CompleteJobsResponse> sendGrpcRequest() {
+    final CompleteJobsRequest.Builder requestBuilder = CompleteJobsRequest.newBuilder();
+    for (final Job job : jobs) {
+      requestBuilder.addJobs(
+          JobCompletion.newBuilder().setJobKey(job.jobKey()).setVariables(job.variables()));
+    }
+    final CompleteJobsRequest request = requestBuilder.build();
+
+    final RetriableClientFutureImpl<CompleteJobsResponse, GatewayOuterClass.CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsResponseImpl::new,
+                retryPredicate,
+                streamObserver -> sendGrpcRequest(request, streamObserver));
+
+    sendGrpcRequest(request, future);
+    return future;
+  }
+
+  private void sendGrpcRequest(
+      final CompleteJobsRequest request,
+      final StreamObserver<GatewayOuterClass.CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+
+  private static final class Job {
+    private final long jobKey;
+    private final String variables;
+
+    private Job(final long jobKey, final String variables) {
+      this.jobKey = jobKey;
+      this.variables = variables;
+    }
+
+    private long jobKey() {
+      return jobKey;
+    }
+
+    private String variables() {
+      return variables;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.response;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.response.JobCompletionResult;
+import io.camunda.client.protocol.rest.JobBatchCompletionResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class CompleteJobsResponseImpl implements CompleteJobsResponse {
+
+  private final List<JobCompletionResult> results;
+
+  public CompleteJobsResponseImpl(final GatewayOuterClass.CompleteJobsResponse response) {
+    results =
+        response.getResultsList().stream()
+            .map(
+                result ->
+                    new JobCompletionResultImpl(
+                        result.getJobKey(), result.getCompleted(), result.getRejectionReason()))
+            .collect(Collectors.toList());
+  }
+
+  public CompleteJobsResponseImpl(final JobBatchCompletionResult response) {
+    results =
+        response.getResults().stream()
+            .map(
+                result ->
+                    new JobCompletionResultImpl(
+                        Long.parseLong(result.getJobKey()),
+                        Boolean.TRUE.equals(result.getCompleted()),
+                        result.getRejectionReason() == null ? "" : result.getRejectionReason()))
+            .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<JobCompletionResult> getResults() {
+    return results;
+  }
+
+  private static final class JobCompletionResultImpl implements JobCompletionResult {
+
+    private final long jobKey;
+    private final boolean completed;
+    private final String rejectionReason;
+
+    private JobCompletionResultImpl(
+        final long jobKey, final boolean completed, final String rejectionReason) {
+      this.jobKey = jobKey;
+      this.completed = completed;
+      this.rejectionReason = rejectionReason;
+    }
+
+    @Override
+    public long getJobKey() {
+      return jobKey;
+    }
+
+    @Override
+    public boolean isCompleted() {
+      return completed;
+    }
+
+    @Override
+    public String getRejectionReason() {
+      return rejectionReason;
+    }
+  }
+}
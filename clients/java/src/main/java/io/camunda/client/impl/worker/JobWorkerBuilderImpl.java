@@ -59,6 +59,8 @@ public final class JobWorkerBuilderImpl
   private BackoffSupplier backoffSupplier;
   private boolean enableStreaming;
   private Duration streamingTimeout;
+  private boolean virtualThreadsEnabled;
+  private boolean virtualThreadPinnedMetricsEnabled;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
@@ -164,6 +166,19 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadPinnedMetricsEnabled(
+      final boolean virtualThreadPinnedMetricsEnabled) {
+    this.virtualThreadPinnedMetricsEnabled = virtualThreadPinnedMetricsEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -185,6 +200,19 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
+    final Executor handlerExecutor;
+    if (virtualThreadsEnabled) {
+      final VirtualThreadExecutor virtualThreadExecutor =
+          new VirtualThreadExecutor(
+              jobType,
+              metrics,
+              virtualThreadPinnedMetricsEnabled ? VirtualThreadPinnedMonitor.shared() : null);
+      closeables.add(virtualThreadExecutor);
+      handlerExecutor = virtualThreadExecutor;
+    } else {
+      handlerExecutor = executorService;
+    }
+
     final Executor jobExecutor;
     if (enableStreaming) {
       if (streamingTimeout != null) {
@@ -202,10 +230,10 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(handlerExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor = handlerExecutor;
     }
 
     final JobWorkerImpl jobWorker =
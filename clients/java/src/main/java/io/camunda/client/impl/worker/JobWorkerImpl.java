@@ -252,7 +252,12 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private void handleActivatedJob(final ActivatedJob job, final Runnable finalizer) {
     metrics.jobActivated(1);
     try {
-      executor.execute(jobHandlerFactory.create(job, finalizer));
+      final Runnable jobHandler = jobHandlerFactory.create(job, finalizer);
+      executor.execute(
+          () -> {
+            metrics.jobHandlerStarted(1);
+            jobHandler.run();
+          });
     } catch (final RejectedExecutionException e) {
       if (isClosed()) {
         return;
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every submitted job handler on its own virtual thread. The executor itself doesn't bound
+ * the amount of concurrently running handlers; this is left to the worker, which never activates
+ * more than {@code maxJobsActive} jobs via polling, and which submits streamed jobs through a
+ * {@link BlockingExecutor}.
+ *
+ * <p>The threads of each executor share a unique name prefix, which is used to attribute pinned
+ * virtual threads to the worker if reporting them is enabled, see {@link
+ * VirtualThreadPinnedMonitor}.
+ *
+ * <p>As the client is compiled for Java 8, virtual threads are created via reflection.
+ */
+final class VirtualThreadExecutor implements Executor, Closeable {
+
+  private static final AtomicInteger EXECUTOR_ID = new AtomicInteger();
+
+  private final ThreadFactory threadFactory;
+  private final String threadNamePrefix;
+  private final VirtualThreadPinnedMonitor pinnedMonitor;
+  private volatile boolean isClosed;
+
+  /**
+   * @param jobType the job type of the worker, which is part of the thread names
+   * @param metrics the metrics of the worker
+   * @param pinnedMonitor the monitor to report pinned threads of this executor with, or null to not
+   *     report them
+   */
+  VirtualThreadExecutor(
+      final String jobType,
+      final JobWorkerMetrics metrics,
+      final VirtualThreadPinnedMonitor pinnedMonitor) {
+    threadNamePrefix =
+        "camunda-job-handler-" + EXECUTOR_ID.incrementAndGet() + "-" + jobType + "-";
+    threadFactory = createVirtualThreadFactory(threadNamePrefix);
+    this.pinnedMonitor = pinnedMonitor;
+    if (pinnedMonitor != null) {
+      pinnedMonitor.register(threadNamePrefix, metrics);
+    }
+  }
+
+  @Override
+  public void execute(final Runnable command) {
+    if (isClosed) {
+      throw new RejectedExecutionException(
+          "Expected to run job handler on a virtual thread, but the executor is closed");
+    }
+
+    threadFactory.newThread(command).start();
+  }
+
+  @Override
+  public void close() {
+    isClosed = true;
+    if (pinnedMonitor != null) {
+      pinnedMonitor.deregister(threadNamePrefix);
+    }
+  }
+
+  private static ThreadFactory createVirtualThreadFactory(final String threadNamePrefix) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+      final Method factoryMethod = builderClass.getMethod("factory");
+
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Object namedBuilder = nameMethod.invoke(builder, threadNamePrefix, 0L);
+      return (ThreadFactory) factoryMethod.invoke(namedBuilder);
+    } catch (final ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to run job handlers on virtual threads, but they are not supported by the"
+                  + " current JVM (Java %s); virtual threads require Java 21 or newer",
+              System.getProperty("java.version")),
+          e);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import io.camunda.client.impl.Loggers;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Reports virtual threads of workers which were pinned to their carrier thread to the workers'
+ * {@link JobWorkerMetrics}. It streams the {@code jdk.VirtualThreadPinned} JFR events, and
+ * attributes each event to the worker whose thread name prefix matches the name of the pinned
+ * thread.
+ *
+ * <p>A single JFR stream is shared by all workers of the JVM, see {@link #shared()}. It's opened
+ * when the first worker registers, and closed again when the last worker deregistered.
+ *
+ * <p>As the client is compiled for Java 8, the JFR streaming API is accessed via reflection. If
+ * it's not available, e.g. because the runtime was built without JFR, pinned threads are simply
+ * not reported.
+ */
+final class VirtualThreadPinnedMonitor {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+  private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+  private static final VirtualThreadPinnedMonitor SHARED = new VirtualThreadPinnedMonitor();
+
+  private final Map<String, JobWorkerMetrics> workers = new ConcurrentHashMap<>();
+  private AutoCloseable recordingStream;
+  private Method getThreadMethod;
+  private Method getJavaNameMethod;
+  private boolean isJfrUnavailable;
+
+  VirtualThreadPinnedMonitor() {}
+
+  /**
+   * @return the monitor shared by all workers of this JVM
+   */
+  static VirtualThreadPinnedMonitor shared() {
+    return SHARED;
+  }
+
+  /**
+   * Registers a worker, and starts to stream pinned events asynchronously if no other worker is
+   * registered yet.
+   *
+   * @param threadNamePrefix the name prefix of the worker's threads
+   * @param metrics the metrics to report pinned threads of the worker to
+   */
+  synchronized void register(final String threadNamePrefix, final JobWorkerMetrics metrics) {
+    workers.put(threadNamePrefix, metrics);
+    if (recordingStream == null && !isJfrUnavailable) {
+      openRecordingStream();
+    }
+  }
+
+  /**
+   * Stops reporting pinned threads of the worker, and stops to stream pinned events if no other
+   * worker is registered anymore.
+   *
+   * @param threadNamePrefix the name prefix of the worker's threads, as given on registration
+   */
+  synchronized void deregister(final String threadNamePrefix) {
+    workers.remove(threadNamePrefix);
+    if (workers.isEmpty()) {
+      closeRecordingStream();
+    }
+  }
+
+  synchronized boolean isStreaming() {
+    return recordingStream != null;
+  }
+
+  void onPinnedThread(final String threadName) {
+    for (final Entry<String, JobWorkerMetrics> worker : workers.entrySet()) {
+      if (threadName.startsWith(worker.getKey())) {
+        worker.getValue().virtualThreadPinned(1);
+        return;
+      }
+    }
+  }
+
+  private void openRecordingStream() {
+    try {
+      getThreadMethod = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getThread");
+      getJavaNameMethod =
+          Class.forName("jdk.jfr.consumer.RecordedThread").getMethod("getJavaName");
+
+      final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+      final Object stream = streamClass.getConstructor().newInstance();
+      recordingStream = (AutoCloseable) stream;
+
+      streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT_NAME);
+      final Consumer<Object> onPinned = this::onPinnedEvent;
+      streamClass
+          .getMethod("onEvent", String.class, Consumer.class)
+          .invoke(stream, PINNED_EVENT_NAME, onPinned);
+      streamClass.getMethod("startAsync").invoke(stream);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      LOG.debug(
+          "Failed to stream JFR events; pinned virtual threads of job handlers will not be"
+              + " reported",
+          e);
+      isJfrUnavailable = true;
+      closeRecordingStream();
+    }
+  }
+
+  private void closeRecordingStream() {
+    if (recordingStream == null) {
+      return;
+    }
+
+    try {
+      recordingStream.close();
+    } catch (final Exception e) {
+      LOG.debug("Failed to close JFR stream of pinned virtual threads", e);
+    }
+    recordingStream = null;
+  }
+
+  private void onPinnedEvent(final Object event) {
+    try {
+      final Object thread = getThreadMethod.invoke(event);
+      if (thread == null) {
+        return;
+      }
+
+      final Object threadName = getJavaNameMethod.invoke(thread);
+      if (threadName != null) {
+        onPinnedThread(threadName.toString());
+      }
+    } catch (final ReflectiveOperationException e) {
+      LOG.trace("Failed to read the thread of a pinned virtual thread event", e);
+    }
+  }
+}
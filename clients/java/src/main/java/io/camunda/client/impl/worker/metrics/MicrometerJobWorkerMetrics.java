@@ -25,12 +25,16 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   private final Counter jobHandledCounter;
   private final Counter zeebeJobActivatedCounter;
   private final Counter zeebeJobHandledCounter;
+  private final Counter jobHandlerStartedCounter;
+  private final Counter virtualThreadPinnedCounter;
 
   public MicrometerJobWorkerMetrics(
       final Counter jobActivatedCounter,
       final Counter jobHandledCounter,
       final Counter zeebeJobActivatedCounter,
-      final Counter zeebeJobHandledCounter) {
+      final Counter zeebeJobHandledCounter,
+      final Counter jobHandlerStartedCounter,
+      final Counter virtualThreadPinnedCounter) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
@@ -39,6 +43,12 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
         Objects.requireNonNull(zeebeJobActivatedCounter, "must specify a job activated counter");
     this.zeebeJobHandledCounter =
         Objects.requireNonNull(zeebeJobHandledCounter, "must specify a job handled counter");
+    this.jobHandlerStartedCounter =
+        Objects.requireNonNull(
+            jobHandlerStartedCounter, "must specify a job handler started counter");
+    this.virtualThreadPinnedCounter =
+        Objects.requireNonNull(
+            virtualThreadPinnedCounter, "must specify a virtual thread pinned counter");
   }
 
   @Override
@@ -52,4 +62,14 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
     jobHandledCounter.increment(count);
     zeebeJobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobHandlerStarted(final int count) {
+    jobHandlerStartedCounter.increment(count);
+  }
+
+  @Override
+  public void virtualThreadPinned(final int count) {
+    virtualThreadPinnedCounter.increment(count);
+  }
 }
@@ -48,7 +48,16 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
         meterRegistry.counter(Names.ZEEBE_JOB_ACTIVATED.asString(), tags);
     final Counter zeebeJobHandledCounter =
         meterRegistry.counter(Names.ZEEBE_JOB_HANDLED.asString(), tags);
+    final Counter jobHandlerStartedCounter =
+        meterRegistry.counter(Names.JOB_HANDLER_STARTED.asString(), tags);
+    final Counter virtualThreadPinnedCounter =
+        meterRegistry.counter(Names.VIRTUAL_THREAD_PINNED.asString(), tags);
     return new MicrometerJobWorkerMetrics(
-        jobActivatedCounter, jobHandledCounter, zeebeJobActivatedCounter, zeebeJobHandledCounter);
+        jobActivatedCounter,
+        jobHandledCounter,
+        zeebeJobActivatedCounter,
+        zeebeJobHandledCounter,
+        jobHandlerStartedCounter,
+        virtualThreadPinnedCounter);
   }
 }
@@ -75,6 +75,7 @@ final class JobWorkerMetricsTest {
   private static final class TestJobWorkerMetrics implements JobWorkerMetrics {
     private final AtomicInteger jobsActivated = new AtomicInteger();
     private final AtomicInteger jobsHandled = new AtomicInteger();
+    private final AtomicInteger jobHandlersStarted = new AtomicInteger();
 
     @Override
     public void jobActivated(final int count) {
@@ -85,6 +86,11 @@ final class JobWorkerMetricsTest {
     public void jobHandled(final int count) {
       jobsHandled.addAndGet(count);
     }
+
+    @Override
+    public void jobHandlerStarted(final int count) {
+      jobHandlersStarted.addAndGet(count);
+    }
   }
 
   private static final class TestJobPoller implements JobPoller {
@@ -188,6 +194,24 @@ final class JobWorkerMetricsTest {
         assertThat(metrics.jobsHandled).hasValue(2);
       }
     }
+
+    @Test
+    void shouldCountStartedJobHandlers() {
+      // given
+      final TestJobStreamer streamer = new TestJobStreamer();
+      final TestJobWorkerMetrics metrics = new TestJobWorkerMetrics();
+
+      try (final JobWorkerImpl ignored = createWorker(2, streamer, metrics)) {
+        // when
+        streamer.streamJob();
+        streamer.streamJob();
+        streamer.streamJob();
+
+        // then
+        executor.runUntilIdle();
+        assertThat(metrics.jobHandlersStarted).hasValue(3);
+      }
+    }
   }
 
   @Nested
@@ -229,5 +253,23 @@ final class JobWorkerMetricsTest {
         assertThat(metrics.jobsHandled).hasValue(3);
       }
     }
+
+    @Test
+    void shouldCountStartedJobHandlers() {
+      // given
+      final TestJobPoller poller = new TestJobPoller();
+      final TestJobWorkerMetrics metrics = new TestJobWorkerMetrics();
+
+      try (final JobWorkerImpl ignored = createWorker(1, poller, metrics)) {
+        // when
+        executor.tick(1, TimeUnit.MINUTES);
+        poller.produceJob();
+        poller.produceJob();
+
+        // then
+        executor.runUntilIdle();
+        assertThat(metrics.jobHandlersStarted).hasValue(2);
+      }
+    }
   }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+final class VirtualThreadExecutorTest {
+
+  @Test
+  void shouldRunOnVirtualThread() throws Exception {
+    // given
+    final CompletableFuture<Thread> handlerThread = new CompletableFuture<>();
+    try (final VirtualThreadExecutor executor =
+        new VirtualThreadExecutor("type", JobWorkerMetrics.noop(), null)) {
+
+      // when
+      executor.execute(() -> handlerThread.complete(Thread.currentThread()));
+
+      // then
+      final Thread thread = handlerThread.join();
+      assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+      assertThat(thread.getName()).startsWith("camunda-job-handler-").contains("-type-");
+    }
+  }
+
+  @Test
+  void shouldUseDistinctThreadNamesPerExecutor() {
+    // given
+    final CompletableFuture<String> firstThreadName = new CompletableFuture<>();
+    final CompletableFuture<String> secondThreadName = new CompletableFuture<>();
+
+    // when
+    try (final VirtualThreadExecutor first =
+            new VirtualThreadExecutor("type", JobWorkerMetrics.noop(), null);
+        final VirtualThreadExecutor second =
+            new VirtualThreadExecutor("type", JobWorkerMetrics.noop(), null)) {
+      first.execute(() -> firstThreadName.complete(Thread.currentThread().getName()));
+      second.execute(() -> secondThreadName.complete(Thread.currentThread().getName()));
+
+      // then
+      final String firstPrefix = firstThreadName.join().replaceFirst("\\d+$", "");
+      assertThat(secondThreadName.join()).doesNotStartWith(firstPrefix);
+    }
+  }
+
+  @Test
+  void shouldRejectWhenClosed() {
+    // given
+    final VirtualThreadExecutor executor =
+        new VirtualThreadExecutor("type", JobWorkerMetrics.noop(), null);
+
+    // when
+    executor.close();
+
+    // then
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+final class VirtualThreadPinnedMonitorTest {
+
+  private final VirtualThreadPinnedMonitor monitor = new VirtualThreadPinnedMonitor();
+
+  @Test
+  void shouldNotStreamWithoutWorkers() {
+    // when - then
+    assertThat(monitor.isStreaming()).isFalse();
+  }
+
+  @Test
+  void shouldShareStreamBetweenWorkers() {
+    // given
+    monitor.register("worker-1-", JobWorkerMetrics.noop());
+    monitor.register("worker-2-", JobWorkerMetrics.noop());
+
+    // when
+    monitor.deregister("worker-1-");
+
+    // then
+    assertThat(monitor.isStreaming()).isTrue();
+
+    // when
+    monitor.deregister("worker-2-");
+
+    // then
+    assertThat(monitor.isStreaming()).isFalse();
+  }
+
+  @Test
+  void shouldReportPinnedThreadToMatchingWorker() {
+    // given
+    final PinnedCounter firstMetrics = new PinnedCounter();
+    final PinnedCounter secondMetrics = new PinnedCounter();
+    monitor.register("worker-1-", firstMetrics);
+    monitor.register("worker-2-", secondMetrics);
+
+    try {
+      // when
+      monitor.onPinnedThread("worker-2-7");
+      monitor.onPinnedThread("other-thread");
+
+      // then
+      assertThat(firstMetrics.pinned).hasValue(0);
+      assertThat(secondMetrics.pinned).hasValue(1);
+    } finally {
+      monitor.deregister("worker-1-");
+      monitor.deregister("worker-2-");
+    }
+  }
+
+  @Test
+  void shouldOnlyStreamWhileExecutorIsOpen() {
+    // given
+    final VirtualThreadExecutor executor =
+        new VirtualThreadExecutor("type", JobWorkerMetrics.noop(), monitor);
+    assertThat(monitor.isStreaming()).isTrue();
+
+    // when
+    executor.close();
+
+    // then
+    assertThat(monitor.isStreaming()).isFalse();
+  }
+
+  private static final class PinnedCounter implements JobWorkerMetrics {
+    private final AtomicInteger pinned = new AtomicInteger();
+
+    @Override
+    public void virtualThreadPinned(final int count) {
+      pinned.addAndGet(count);
+    }
+  }
+}
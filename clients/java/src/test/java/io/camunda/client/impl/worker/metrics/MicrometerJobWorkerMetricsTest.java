@@ -64,6 +64,28 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldCountStartedJobHandlers() {
+    // when
+    metrics.jobHandlerStarted(4);
+
+    // then
+    Assertions.assertThat(meterRegistry).has(hasCounter(Names.JOB_HANDLER_STARTED, tags));
+    Assertions.assertThat(meterRegistry.counter(Names.JOB_HANDLER_STARTED.asString(), tags))
+        .has(hasCount(4));
+  }
+
+  @Test
+  void shouldCountPinnedVirtualThreads() {
+    // when
+    metrics.virtualThreadPinned(2);
+
+    // then
+    Assertions.assertThat(meterRegistry).has(hasCounter(Names.VIRTUAL_THREAD_PINNED, tags));
+    Assertions.assertThat(meterRegistry.counter(Names.VIRTUAL_THREAD_PINNED.asString(), tags))
+        .has(hasCount(2));
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.client.api.command.InternalClientException;
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.response.JobCompletionResult;
+import io.camunda.client.util.ClientTest;
+import io.camunda.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletion;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    client
+        .newCompleteJobsCommand()
+        .addJob(12)
+        .addJob(13, variables)
+        .addJob(14, JsonUtil.toJson(variables))
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(JobCompletion::getJobKey, job -> JsonUtil.fromJsonAsMap(job.getVariables()))
+        .containsExactly(
+            Tuple.tuple(12L, Collections.emptyMap()),
+            Tuple.tuple(13L, variables),
+            Tuple.tuple(14L, variables));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        GatewayOuterClass.JobCompletionResult.newBuilder().setJobKey(12).setCompleted(true).build(),
+        GatewayOuterClass.JobCompletionResult.newBuilder()
+            .setJobKey(13)
+            .setCompleted(false)
+            .setRejectionReason("rejected")
+            .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(
+            JobCompletionResult::getJobKey,
+            JobCompletionResult::isCompleted,
+            JobCompletionResult::getRejectionReason)
+        .containsExactly(Tuple.tuple(12L, true, ""), Tuple.tuple(13L, false, "rejected"));
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+
+  @Test
+  public void shouldRejectInvalidJsonVariables() {
+    // when / then
+    assertThatThrownBy(() -> client.newCompleteJobsCommand().addJob(12, "[invalid"))
+        .isInstanceOf(InternalClientException.class);
+  }
+}
@@ -106,7 +106,9 @@ public class AnnotationUtil {
               annotation.fetchAllVariables(),
               annotation.streamEnabled(),
               Duration.of(annotation.streamTimeout(), ChronoUnit.MILLIS),
-              annotation.maxRetries()));
+              annotation.maxRetries(),
+              annotation.virtualThreadsEnabled(),
+              null));
     }
     return Optional.empty();
   }
@@ -133,7 +135,9 @@ public class AnnotationUtil {
               annotation.fetchAllVariables(),
               annotation.streamEnabled(),
               Duration.of(annotation.streamTimeout(), ChronoUnit.MILLIS),
-              annotation.maxRetries()));
+              annotation.maxRetries(),
+              null,
+              null));
     }
     return Optional.empty();
   }
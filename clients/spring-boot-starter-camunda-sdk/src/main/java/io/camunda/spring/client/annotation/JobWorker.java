@@ -117,4 +117,11 @@ public @interface JobWorker {
 
   /** Set the max number of retries for a job */
   int maxRetries() default -1;
+
+  /**
+   * Whether each job handler should run on its own virtual thread instead of on the shared job
+   * worker executor. The number of jobs handled concurrently is still bounded by {@link
+   * #maxJobsActive()}. Requires Java 21 or newer.
+   */
+  boolean virtualThreadsEnabled() default false;
 }
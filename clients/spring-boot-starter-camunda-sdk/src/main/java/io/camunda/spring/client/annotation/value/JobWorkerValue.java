@@ -36,6 +36,8 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
   private Boolean streamEnabled;
   private Duration streamTimeout;
   private Integer maxRetries;
+  private Boolean virtualThreadsEnabled;
+  private Boolean virtualThreadPinnedMetricsEnabled;
 
   public JobWorkerValue() {}
 
@@ -54,7 +56,9 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
       final Boolean forceFetchAllVariables,
       final Boolean streamEnabled,
       final Duration streamTimeout,
-      final Integer maxRetries) {
+      final Integer maxRetries,
+      final Boolean virtualThreadsEnabled,
+      final Boolean virtualThreadPinnedMetricsEnabled) {
     this.type = type;
     this.name = name;
     this.timeout = timeout;
@@ -70,6 +74,8 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
     this.streamEnabled = streamEnabled;
     this.streamTimeout = streamTimeout;
     this.maxRetries = maxRetries;
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+    this.virtualThreadPinnedMetricsEnabled = virtualThreadPinnedMetricsEnabled;
   }
 
   public String getType() {
@@ -192,6 +198,23 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
     this.maxRetries = maxRetries;
   }
 
+  public Boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final Boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+  }
+
+  public Boolean getVirtualThreadPinnedMetricsEnabled() {
+    return virtualThreadPinnedMetricsEnabled;
+  }
+
+  public void setVirtualThreadPinnedMetricsEnabled(
+      final Boolean virtualThreadPinnedMetricsEnabled) {
+    this.virtualThreadPinnedMetricsEnabled = virtualThreadPinnedMetricsEnabled;
+  }
+
   @Override
   public MethodInfo getBeanInfo() {
     return methodInfo;
@@ -214,7 +237,9 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
         forceFetchAllVariables,
         streamEnabled,
         streamTimeout,
-        maxRetries);
+        maxRetries,
+        virtualThreadsEnabled,
+        virtualThreadPinnedMetricsEnabled);
   }
 
   @Override
@@ -240,7 +265,10 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
         && Objects.equals(forceFetchAllVariables, that.forceFetchAllVariables)
         && Objects.equals(streamEnabled, that.streamEnabled)
         && Objects.equals(streamTimeout, that.streamTimeout)
-        && Objects.equals(maxRetries, that.maxRetries);
+        && Objects.equals(maxRetries, that.maxRetries)
+        && Objects.equals(virtualThreadsEnabled, that.virtualThreadsEnabled)
+        && Objects.equals(
+            virtualThreadPinnedMetricsEnabled, that.virtualThreadPinnedMetricsEnabled);
   }
 
   @Override
@@ -278,6 +306,10 @@ public class JobWorkerValue implements CamundaAnnotationValue<MethodInfo> {
         + streamTimeout
         + ", maxRetries="
         + maxRetries
+        + ", virtualThreadsEnabled="
+        + virtualThreadsEnabled
+        + ", virtualThreadPinnedMetricsEnabled="
+        + virtualThreadPinnedMetricsEnabled
         + '}';
   }
 }
@@ -117,6 +117,13 @@ public class JobWorkerManager {
     if (isValidDuration(jobWorkerValue.getStreamTimeout())) {
       builder.streamTimeout(jobWorkerValue.getStreamTimeout());
     }
+    if (jobWorkerValue.getVirtualThreadsEnabled() != null) {
+      builder.virtualThreadsEnabled(jobWorkerValue.getVirtualThreadsEnabled());
+    }
+    if (jobWorkerValue.getVirtualThreadPinnedMetricsEnabled() != null) {
+      builder.virtualThreadPinnedMetricsEnabled(
+          jobWorkerValue.getVirtualThreadPinnedMetricsEnabled());
+    }
 
     final JobWorker jobWorker = builder.open();
     openedWorkers.add(jobWorker);
@@ -40,4 +40,14 @@ public class CamundaClientMetricsBridge implements JobWorkerMetrics {
   public void jobHandled(final int count) {
     metricsRecorder.increase("camunda.client.worker.job", "handled", jobType, count);
   }
+
+  @Override
+  public void jobHandlerStarted(final int count) {
+    metricsRecorder.increase("camunda.client.worker.job", "handler-started", jobType, count);
+  }
+
+  @Override
+  public void virtualThreadPinned(final int count) {
+    metricsRecorder.increase("camunda.client.worker.virtual-thread", "pinned", jobType, count);
+  }
 }
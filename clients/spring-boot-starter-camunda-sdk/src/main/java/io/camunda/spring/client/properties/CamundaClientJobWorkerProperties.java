@@ -95,6 +95,20 @@ public class CamundaClientJobWorkerProperties {
    */
   private Integer maxRetries;
 
+  /**
+   * Opt-in feature flag to run each job handler on its own virtual thread instead of on the shared
+   * job worker executor. The number of jobs handled concurrently is still bounded by
+   * `max-jobs-active`. Requires Java 21 or newer.
+   */
+  private Boolean virtualThreadsEnabled;
+
+  /**
+   * Opt-in feature flag to report virtual threads of job handlers which got pinned to their carrier
+   * thread to the worker metrics. Only has an effect if `virtual-threads-enabled` is set as well.
+   * Pinned threads are detected via a JDK Flight Recorder stream, which is shared by all workers.
+   */
+  private Boolean virtualThreadPinnedMetricsEnabled;
+
   /**
    * This instantiates the properties without any defaults. Intended to be used by {@link
    * CamundaClientWorkerProperties#getOverride()}.
@@ -231,4 +245,21 @@ public class CamundaClientJobWorkerProperties {
   public void setMaxRetries(final Integer maxRetries) {
     this.maxRetries = maxRetries;
   }
+
+  public Boolean getVirtualThreadsEnabled() {
+    return virtualThreadsEnabled;
+  }
+
+  public void setVirtualThreadsEnabled(final Boolean virtualThreadsEnabled) {
+    this.virtualThreadsEnabled = virtualThreadsEnabled;
+  }
+
+  public Boolean getVirtualThreadPinnedMetricsEnabled() {
+    return virtualThreadPinnedMetricsEnabled;
+  }
+
+  public void setVirtualThreadPinnedMetricsEnabled(
+      final Boolean virtualThreadPinnedMetricsEnabled) {
+    this.virtualThreadPinnedMetricsEnabled = virtualThreadPinnedMetricsEnabled;
+  }
 }
@@ -171,6 +171,16 @@ public class PropertyBasedJobWorkerValueCustomizer implements JobWorkerValueCust
         source::getForceFetchAllVariables,
         target::setForceFetchAllVariables);
     copyProperty("maxRetries", overrideSource, source::getMaxRetries, target::setMaxRetries);
+    copyProperty(
+        "virtualThreadsEnabled",
+        overrideSource,
+        source::getVirtualThreadsEnabled,
+        target::setVirtualThreadsEnabled);
+    copyProperty(
+        "virtualThreadPinnedMetricsEnabled",
+        overrideSource,
+        source::getVirtualThreadPinnedMetricsEnabled,
+        target::setVirtualThreadPinnedMetricsEnabled);
   }
 
   private <T> void copyProperty(
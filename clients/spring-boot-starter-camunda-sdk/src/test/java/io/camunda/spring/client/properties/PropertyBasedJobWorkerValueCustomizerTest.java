@@ -412,7 +412,19 @@ public class PropertyBasedJobWorkerValueCustomizerTest {
                 "maxRetries",
                 CamundaClientJobWorkerProperties::setMaxRetries,
                 JobWorkerValue::getMaxRetries,
-                7))
+                7),
+            //    private Boolean virtualThreadsEnabled;
+            new Input<>(
+                "virtualThreadsEnabled",
+                CamundaClientJobWorkerProperties::setVirtualThreadsEnabled,
+                JobWorkerValue::getVirtualThreadsEnabled,
+                true),
+            //    private Boolean virtualThreadPinnedMetricsEnabled;
+            new Input<>(
+                "virtualThreadPinnedMetricsEnabled",
+                CamundaClientJobWorkerProperties::setVirtualThreadPinnedMetricsEnabled,
+                JobWorkerValue::getVirtualThreadPinnedMetricsEnabled,
+                true))
         .map(
             i ->
                 new Input<Object>(
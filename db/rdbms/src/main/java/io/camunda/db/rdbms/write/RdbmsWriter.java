@@ -256,4 +256,12 @@ public class RdbmsWriter {
   public void flush() {
     executionQueue.flush();
   }
+
+  public void flushAsync() {
+    executionQueue.flushAsync();
+  }
+
+  public void close() {
+    executionQueue.close();
+  }
 }
@@ -23,11 +23,17 @@ public record RdbmsWriterConfig(
      * processed and are completed or failed.
      */
     boolean exportBatchOperationItemsOnCreation,
+    /*
+     * Flush the queue on a dedicated writer thread, such that new statements can be queued while
+     * the previous batch is committed. At most one batch is flushed at a time.
+     */
+    boolean asyncFlush,
     HistoryConfig history) {
 
   public static final int DEFAULT_QUEUE_SIZE = 1000;
   public static final int DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE = 10000;
   public static final boolean DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION = true;
+  public static final boolean DEFAULT_ASYNC_FLUSH = false;
 
   public static Builder builder() {
     return new Builder();
@@ -40,6 +46,7 @@ public record RdbmsWriterConfig(
     private int batchOperationItemInsertBlockSize = DEFAULT_BATCH_OPERATION_ITEM_INSERT_BLOCK_SIZE;
     private boolean exportBatchOperationItemsOnCreation =
         DEFAULT_EXPORT_BATCH_OPERATION_ITEMS_ON_CREATION;
+    private boolean asyncFlush = DEFAULT_ASYNC_FLUSH;
     private HistoryConfig history = new HistoryConfig.Builder().build();
 
     public Builder partitionId(final int partitionId) {
@@ -63,6 +70,11 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder asyncFlush(final boolean asyncFlush) {
+      this.asyncFlush = asyncFlush;
+      return this;
+    }
+
     public Builder history(final HistoryConfig history) {
       this.history = history;
       return this;
@@ -75,6 +87,7 @@ public record RdbmsWriterConfig(
           queueSize,
           batchOperationItemInsertBlockSize,
           exportBatchOperationItemsOnCreation,
+          asyncFlush,
           history);
     }
   }
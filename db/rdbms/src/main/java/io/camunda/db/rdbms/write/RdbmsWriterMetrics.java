@@ -16,6 +16,9 @@ import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.ResourceSample;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public class RdbmsWriterMetrics {
@@ -25,6 +28,8 @@ public class RdbmsWriterMetrics {
   private final MeterRegistry meterRegistry;
   private final Timer flushLatency;
   private Sample flushLatencyMeasurement;
+  private final Map<Long, AtomicInteger> flushQueueDepths = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicInteger> inFlightStatements = new ConcurrentHashMap<>();
 
   public RdbmsWriterMetrics(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -128,6 +133,41 @@ public class RdbmsWriterMetrics {
     }
   }
 
+  public void setFlushQueueDepth(final long partitionId, final int depth) {
+    partitionGauge(
+            flushQueueDepths,
+            "flush.queue.depth",
+            "Number of statements queued for the next flush",
+            partitionId)
+        .set(depth);
+  }
+
+  public void setInFlightStatements(final long partitionId, final int count) {
+    partitionGauge(
+            inFlightStatements,
+            "flush.in.flight",
+            "Number of statements which are currently being flushed",
+            partitionId)
+        .set(count);
+  }
+
+  private AtomicInteger partitionGauge(
+      final Map<Long, AtomicInteger> gauges,
+      final String name,
+      final String description,
+      final long partitionId) {
+    return gauges.computeIfAbsent(
+        partitionId,
+        id -> {
+          final var value = new AtomicInteger();
+          Gauge.builder(meterName(name), value, AtomicInteger::get)
+              .description(description)
+              .tag("partitionId", String.valueOf(id))
+              .register(meterRegistry);
+          return value;
+        });
+  }
+
   private String meterName(final String name) {
     return NAMESPACE + "." + name;
   }
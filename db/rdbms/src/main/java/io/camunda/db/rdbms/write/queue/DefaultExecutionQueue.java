@@ -11,11 +11,14 @@ import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
@@ -42,21 +45,43 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final ArrayList<QueueItem> queue = new ArrayList<>();
+  // positions of the queued items by context type and id, in insertion order, to find merge
+  // candidates without scanning the whole queue
+  private final Map<QueueItemKey, List<Integer>> queueIndex = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
+  private final boolean asyncFlush;
 
   private final RdbmsWriterMetrics metrics;
 
+  // the writer thread is only created on the first async flush, as exporters are also
+  // instantiated just to validate their configuration; guarded by the queue
+  private ExecutorService flushExecutor;
+  private CompletableFuture<Void> inFlightFlush = CompletableFuture.completedFuture(null);
+  // the items of the in-flight batch, which are requeued by the caller if the batch fails; the
+  // writer thread never takes the queue lock, as the caller may hold it while waiting for the batch
+  private List<QueueItem> inFlightBatch = List.of();
+
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, false, metrics);
+  }
+
   public DefaultExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final int queueFlushLimit,
+      final boolean asyncFlush,
       final RdbmsWriterMetrics metrics) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
+    this.asyncFlush = asyncFlush;
     this.metrics = metrics;
   }
 
@@ -68,8 +93,13 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         metrics.startFlushLatencyMeasurement();
       }
 
+      queueIndex
+          .computeIfAbsent(
+              new QueueItemKey(entry.contextType(), entry.id()), k -> new ArrayList<>(1))
+          .add(queue.size());
       queue.add(entry);
       metrics.recordEnqueuedStatement(entry.statementId());
+      metrics.setFlushQueueDepth(partitionId, queue.size());
       checkQueueForFlush();
     }
   }
@@ -92,6 +122,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   @Override
   public int flush() {
     synchronized (queue) {
+      awaitInFlightFlush();
       if (queue.isEmpty()) {
         LOG.trace(
             "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
@@ -100,72 +131,260 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       }
 
       LOG.trace("[RDBMS ExecutionQueue, Partition {}] flushing queue", partitionId);
-      try (final var ignored = metrics.measureFlushDuration()) {
-        final int numFlushedElements = doFLush();
-        metrics.stopFlushLatencyMeasurement();
-        metrics.recordBulkSize(numFlushedElements);
-
-        return numFlushedElements;
-      } catch (final Exception e) {
-        metrics.recordFailedFlush();
+      final var batch = sealBatch();
+      final int numFlushedElements;
+      try {
+        numFlushedElements = executeBatch(batch);
+      } catch (final RuntimeException e) {
+        requeue(batch);
         throw e;
       }
+      metrics.stopFlushLatencyMeasurement();
+      return numFlushedElements;
     }
   }
 
   /**
-   * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * Seals the queued items into a batch which is committed on the writer thread, while new items
+   * are queued for the next batch. At most one batch is in flight: if the previous batch is not
+   * committed yet, this waits for it, which applies backpressure to the caller. A failure of the
+   * previous batch is rethrown here; its items are back in the queue and are retried with the next
+   * flush.
+   */
+  @Override
+  public void flushAsync() {
+    if (!asyncFlush) {
+      flush();
+      return;
+    }
+
+    synchronized (queue) {
+      if (queue.isEmpty()) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+            partitionId);
+        return;
+      }
+
+      awaitInFlightFlush();
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] flushing queue asynchronously", partitionId);
+      final var batch = sealBatch();
+      metrics.stopFlushLatencyMeasurement();
+      inFlightBatch = batch;
+      inFlightFlush = CompletableFuture.runAsync(() -> executeBatch(batch), flushExecutor());
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (queue) {
+      if (flushExecutor != null) {
+        flushExecutor.shutdown();
+        flushExecutor = null;
+      }
+    }
+  }
+
+  /**
+   * Finds the last added queueItem which can be merged by one of the given mergers. The queueItem
+   * will be replaced with a new, combined queueItem.
+   *
+   * <p>Mergers which are bound to a context type and id only look at the queued items with the same
+   * context type and id, so merging does not depend on the size of the queue. All other mergers
+   * iterate from the end over the whole queue.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        for (final QueueItemMerger merger : combiners) {
-          if (merger.canBeMerged(item)) {
-            LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
-            metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-            return true;
-          }
+      int mergeIndex = -1;
+      QueueItemMerger mergeWith = null;
+      for (final QueueItemMerger merger : combiners) {
+        final int index = findLastMergeableItem(merger, mergeIndex);
+        if (index > mergeIndex) {
+          mergeIndex = index;
+          mergeWith = merger;
         }
+      }
+
+      if (mergeWith == null) {
+        return false;
+      }
+
+      final QueueItem item = queue.get(mergeIndex);
+      LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+      final QueueItem mergedItem = mergeWith.merge(item);
+      queue.set(mergeIndex, mergedItem);
+      reindex(item, mergedItem, mergeIndex);
+      metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+      return true;
+    }
+  }
+
+  /**
+   * @return the index of the last queued item after {@code lowerBound} which can be merged by the
+   *     given merger, or -1 if there is none
+   */
+  private int findLastMergeableItem(final QueueItemMerger merger, final int lowerBound) {
+    if (merger.contextType() == null || merger.id() == null) {
+      for (int index = queue.size() - 1; index > lowerBound; index--) {
+        if (merger.canBeMerged(queue.get(index))) {
+          return index;
+        }
+      }
+
+      return -1;
+    }
+
+    final var candidates = queueIndex.get(new QueueItemKey(merger.contextType(), merger.id()));
+    if (candidates == null) {
+      return -1;
+    }
 
-        index--;
+    for (int i = candidates.size() - 1; i >= 0; i--) {
+      final int index = candidates.get(i);
+      if (index <= lowerBound) {
+        return -1;
       }
 
-      return false;
+      if (merger.canBeMerged(queue.get(index))) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private void reindex(final QueueItem item, final QueueItem mergedItem, final int index) {
+    final var key = new QueueItemKey(item.contextType(), item.id());
+    final var mergedKey = new QueueItemKey(mergedItem.contextType(), mergedItem.id());
+    if (key.equals(mergedKey)) {
+      return;
+    }
+
+    final var positions = queueIndex.get(key);
+    positions.remove(Integer.valueOf(index));
+    if (positions.isEmpty()) {
+      queueIndex.remove(key);
+    }
+
+    final var mergedPositions = queueIndex.computeIfAbsent(mergedKey, k -> new ArrayList<>(1));
+    int insertAt = mergedPositions.size();
+    while (insertAt > 0 && mergedPositions.get(insertAt - 1) > index) {
+      insertAt--;
+    }
+    mergedPositions.add(insertAt, index);
+  }
+
+  /**
+   * Takes all queued items out of the queue and calls the pre flush listeners. If the batch fails,
+   * its items are put back into the queue, see {@link #requeue(List)}. The listeners run on the
+   * caller's thread, as they may queue new items, e.g. the exporter position, which then go into
+   * the next batch.
+   */
+  private List<QueueItem> sealBatch() {
+    final var batch = new ArrayList<>(queue);
+    queue.clear();
+    queueIndex.clear();
+    metrics.setFlushQueueDepth(partitionId, 0);
+
+    if (!preFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+      preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    }
+
+    return batch;
+  }
+
+  private int executeBatch(final List<QueueItem> batch) {
+    metrics.setInFlightStatements(partitionId, batch.size());
+    try (final var ignored = metrics.measureFlushDuration()) {
+      final int numFlushedElements = doFLush(batch);
+      metrics.recordBulkSize(numFlushedElements);
+
+      return numFlushedElements;
+    } catch (final Exception e) {
+      metrics.recordFailedFlush();
+      throw e;
+    } finally {
+      metrics.setInFlightStatements(partitionId, 0);
     }
   }
 
-  private int doFLush() {
+  /**
+   * Puts the items of a failed batch back at the head of the queue, before the items which were
+   * queued while the batch was flushed, so that they are retried in order with the next flush. As
+   * the post flush listeners are not called for the failed batch, the exporter position is not
+   * reported before its items are committed.
+   */
+  private void requeue(final List<QueueItem> batch) {
+    if (queue.isEmpty()) {
+      metrics.startFlushLatencyMeasurement();
+    }
+
+    queue.addAll(0, batch);
+    queueIndex.clear();
+    for (int index = 0; index < queue.size(); index++) {
+      final var item = queue.get(index);
+      queueIndex
+          .computeIfAbsent(new QueueItemKey(item.contextType(), item.id()), k -> new ArrayList<>(1))
+          .add(index);
+    }
+    metrics.setFlushQueueDepth(partitionId, queue.size());
+  }
+
+  /**
+   * Waits for the in-flight batch, if any. If it failed, its items are put back into the queue on
+   * the caller's thread, which holds the queue lock, and the failure is rethrown.
+   */
+  private void awaitInFlightFlush() {
+    final var flush = inFlightFlush;
+    final var batch = inFlightBatch;
+    inFlightFlush = CompletableFuture.completedFuture(null);
+    inFlightBatch = List.of();
+    try {
+      flush.join();
+    } catch (final CompletionException e) {
+      requeue(batch);
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private ExecutorService flushExecutor() {
+    if (flushExecutor == null) {
+      flushExecutor =
+          Executors.newSingleThreadExecutor(
+              Thread.ofPlatform()
+                  .name("rdbms-exporter-p" + partitionId + "-flush")
+                  .daemon(true)
+                  .factory());
+    }
+
+    return flushExecutor;
+  }
+
+  private int doFLush(final List<QueueItem> batch) {
     LOG.debug(
         "[RDBMS ExecutionQueue, Partition {}] Flushing execution queue with {} items",
         partitionId,
-        queue.size());
+        batch.size());
 
     final var startMillis = System.currentTimeMillis();
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
     var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
+    final var optimizedItems = optimizeQueueOrder(batch);
 
     try {
       for (final var entry : optimizedItems) {
         LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
         session.update(entry.statementId(), entry.parameter());
-        queue.remove();
         flushedElements++;
       }
 
-      if (!preFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
-        preFlushListeners.forEach(PreFlushListener::onPreFlush);
-      }
-
       final var batchResult = session.flushStatements();
       for (final BatchResult singleBatchResult : batchResult) {
         if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)
@@ -239,7 +458,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
@@ -254,7 +473,9 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         partitionId,
         queue.size());
     if (queue.size() >= queueFlushLimit) {
-      flush();
+      flushAsync();
     }
   }
+
+  private record QueueItemKey(ContextType contextType, Object id) {}
 }
@@ -15,7 +15,25 @@ public interface ExecutionQueue {
 
   void registerPostFlushListener(PostFlushListener listener);
 
+  /**
+   * Flushes all queued items and returns once they are committed, including a batch which may
+   * still be in flight from a previous {@link #flushAsync()}.
+   *
+   * @return number of flushed items
+   */
   int flush();
 
+  /**
+   * Hands the queued items over to be flushed in the background and returns without waiting for
+   * the commit. Post flush listeners are called once the batch is committed. Queues which don't
+   * flush in the background flush synchronously instead.
+   */
+  default void flushAsync() {
+    flush();
+  }
+
   boolean tryMergeWithExistingQueueItem(QueueItemMerger... combiners);
+
+  /** Releases the resources used to flush in the background, if any. */
+  default void close() {}
 }
@@ -12,4 +12,23 @@ public interface QueueItemMerger {
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * The context type of the items this merger can merge. Together with {@link #id()}, it allows the
+   * queue to look up merge candidates directly instead of checking every queued item.
+   *
+   * @return the context type, or null if the merger is not bound to a single context type
+   */
+  default ContextType contextType() {
+    return null;
+  }
+
+  /**
+   * The id of the items this merger can merge.
+   *
+   * @return the id, or null if the merger is not bound to a single id
+   */
+  default Object id() {
+    return null;
+  }
 }
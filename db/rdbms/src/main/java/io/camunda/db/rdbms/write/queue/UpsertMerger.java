@@ -36,6 +36,16 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
         && clazz.isInstance(queueItem.parameter());
   }
 
+  @Override
+  public ContextType contextType() {
+    return contextType;
+  }
+
+  @Override
+  public Object id() {
+    return id;
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     return originalItem.copy(
@@ -11,19 +11,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.mockito.Mockito;
 
 class DefaultExecutionQueueTest {
@@ -322,4 +330,323 @@ class DefaultExecutionQueueTest {
     verify(session).update(eq("statement1"), any());
     verify(session).update(eq("statement3"), any());
   }
+
+  @Test
+  public void whenKeyedMergerShouldMergeLastItemWithSameContextTypeAndId() {
+    // given
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "statement2", 2);
+    final var item3 =
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.UPDATE, 1L, "statement3", 3);
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+
+    // when - the last item with the same context type and id has a different parameter type
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L, String.class));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue()).hasSize(3);
+    assertThat(executionQueue.getQueue().get(0).parameter()).isEqualTo("parameter1+");
+    assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
+    assertThat(executionQueue.getQueue().get(2)).isSameAs(item3);
+  }
+
+  @Test
+  public void whenSeveralMergersMatchShouldMergeLastAddedItem() {
+    // given
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L, String.class),
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 2L, String.class));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue().get(0)).isSameAs(item1);
+    assertThat(executionQueue.getQueue().get(1).parameter()).isEqualTo("parameter2+");
+  }
+
+  @Test
+  public void whenQueueWasFlushedShouldNotMergeFlushedItems() {
+    // given
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.flush();
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(ContextType.PROCESS_INSTANCE, 1L, String.class));
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void whenAsyncFlushIsCalledBatchIsCommittedOnWriterThread() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, true, metrics);
+    final var committedOn = new CompletableFuture<Thread>();
+    executionQueue.registerPostFlushListener(() -> committedOn.complete(Thread.currentThread()));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+
+    // when
+    executionQueue.flushAsync();
+
+    // then
+    assertThat(committedOn.join()).isNotSameAs(Thread.currentThread());
+    verify(session).update("statement1", "parameter1");
+    verify(session).commit();
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenBatchIsInFlightNewItemsGoIntoNextBatch() throws InterruptedException {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, true, metrics);
+    final var commitStarted = new CountDownLatch(1);
+    final var releaseCommit = new CountDownLatch(1);
+    Mockito.doAnswer(
+            invocation -> {
+              commitStarted.countDown();
+              releaseCommit.await();
+              return null;
+            })
+        .doNothing()
+        .when(session)
+        .commit();
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.flushAsync();
+    commitStarted.await();
+
+    // when
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(item2);
+
+    // then
+    assertThat(executionQueue.getQueue()).containsExactly(item2);
+    releaseCommit.countDown();
+    assertThat(executionQueue.flush()).isOne();
+    verify(session).update("statement2", "parameter2");
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsNextFlushRethrows() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, true, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e);
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.flushAsync();
+
+    // when - then
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+    verify(session).rollback();
+    verify(postFlushListener, never()).onPostFlush();
+    verify(metrics).recordFailedFlush();
+    executionQueue.close();
+  }
+
+  @Test
+  public void whenFlushFailsItemsAreRetriedWithNextFlush() {
+    // given
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item1);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+    assertThat(executionQueue.getQueue()).containsExactly(item1);
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isOne();
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session, times(2)).update("statement1", "parameter1");
+    verify(session).commit();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsBatchIsRetriedBeforeNewItems() {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, true, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.flushAsync();
+    executionQueue.executeInQueue(item2);
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    final var inOrder = inOrder(session);
+    inOrder.verify(session).update("statement1", "parameter1");
+    inOrder.verify(session).rollback();
+    inOrder.verify(session).update("statement1", "parameter1");
+    inOrder.verify(session).update("statement2", "parameter2");
+    inOrder.verify(session).commit();
+    verify(postFlushListener).onPostFlush();
+    executionQueue.close();
+  }
+
+  @Test
+  @Timeout(30)
+  public void whenAsyncFlushFailsWhileCallerIsWaitingBatchIsRequeued() throws Exception {
+    // given
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, true, metrics);
+    final var e = new RuntimeException("Some error");
+    final var flushStarted = new CountDownLatch(1);
+    final var releaseFlush = new CountDownLatch(1);
+    Mockito.doAnswer(
+            invocation -> {
+              flushStarted.countDown();
+              releaseFlush.await();
+              throw e;
+            })
+        .doReturn(List.of())
+        .when(session)
+        .flushStatements();
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item1);
+    executionQueue.flushAsync();
+    flushStarted.await();
+
+    // when - the caller waits for the batch while holding the queue, before the batch fails
+    final var flushResult = new CompletableFuture<Integer>();
+    final var caller =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  try {
+                    flushResult.complete(executionQueue.flush());
+                  } catch (final Throwable error) {
+                    flushResult.completeExceptionally(error);
+                  }
+                });
+    while (caller.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    releaseFlush.countDown();
+
+    // then
+    assertThat(flushResult)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(ExecutionException.class)
+        .havingCause()
+        .isEqualTo(e);
+    assertThat(executionQueue.getQueue()).containsExactly(item1);
+    assertThat(executionQueue.flush()).isOne();
+    verify(session).commit();
+    executionQueue.close();
+  }
+
+  private record KeyedMerger(ContextType contextType, Object id, Class<?> parameterType)
+      implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.contextType() == contextType
+          && queueItem.id().equals(id)
+          && parameterType.isInstance(queueItem.parameter());
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+    }
+  }
 }
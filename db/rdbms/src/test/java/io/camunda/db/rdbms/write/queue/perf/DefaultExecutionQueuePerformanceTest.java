@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue.perf;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.queue.ContextType;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.QueueItemMerger;
+import io.camunda.db.rdbms.write.queue.WriteStatementType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging a new item into a queue which already holds {@code queueSize} items, which is
+ * what happens for every update of a pending entity (e.g. completing a process instance inserted in
+ * the same flush). The merged items are picked round-robin, so most of them are far away from the
+ * end of the queue.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DefaultExecutionQueuePerformanceTest {
+
+  @Param({"1000", "10000", "100000"})
+  private int queueSize;
+
+  private DefaultExecutionQueue queue;
+  private long nextId;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // a flush limit of 0 means the queue is never flushed implicitly, so it keeps its size
+    queue =
+        new DefaultExecutionQueue(null, 1, 0, new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+    for (long id = 0; id < queueSize; id++) {
+      queue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE,
+              WriteStatementType.INSERT,
+              id,
+              "insertProcessInstance",
+              "parameter-" + id));
+    }
+  }
+
+  @Benchmark
+  public boolean measureMergeWithExistingQueueItem() {
+    final long id = nextId++ % queueSize;
+    return queue.tryMergeWithExistingQueueItem(
+        new IdentityMerger(ContextType.PROCESS_INSTANCE, id));
+  }
+
+  @JMHTest("measureMergeWithExistingQueueItem")
+  void shouldMergeIndependentOfQueueSize(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; the merged item is looked up by its id, whereas scanning
+    // the 100000 queued items would stay orders of magnitude below it
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("queueSize", "100000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private record IdentityMerger(ContextType contextType, Object id) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.contextType() == contextType && queueItem.id().equals(id);
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem;
+    }
+  }
+}
@@ -87,6 +87,7 @@ public class BrokerBasedConfiguration {
     return new ActivateJobHandlerConfiguration(
         "ActivateJobsHandlerRest-Broker",
         properties.getGateway().getLongPolling(),
+        properties.getGateway().getJobActivation(),
         properties.getGateway().getNetwork().getMaxMessageSize());
   }
 
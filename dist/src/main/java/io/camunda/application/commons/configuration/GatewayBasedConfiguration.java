@@ -75,6 +75,7 @@ public final class GatewayBasedConfiguration {
     return new ActivateJobHandlerConfiguration(
         "ActivateJobsHandlerRest-Gateway",
         properties.getLongPolling(),
+        properties.getJobActivation(),
         properties.getNetwork().getMaxMessageSize());
   }
 
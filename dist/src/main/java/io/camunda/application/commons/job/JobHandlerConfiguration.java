@@ -8,6 +8,7 @@
 package io.camunda.application.commons.job;
 
 import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.gateway.impl.configuration.JobActivationCfg;
 import io.camunda.zeebe.gateway.impl.configuration.LongPollingCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
@@ -76,7 +77,8 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          config.jobActivation().getPartitionFanOut());
     }
   }
 
@@ -93,9 +95,13 @@ public class JobHandlerConfiguration {
         .setRequestCanceledExceptionProvider(RuntimeException::new)
         .setMetrics(
             new LongPollingMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.REST))
+        .setPartitionFanOut(config.jobActivation().getPartitionFanOut())
         .build();
   }
 
   public record ActivateJobHandlerConfiguration(
-      String actorName, LongPollingCfg longPolling, DataSize maxMessageSize) {}
+      String actorName,
+      LongPollingCfg longPolling,
+      JobActivationCfg jobActivation,
+      DataSize maxMessageSize) {}
 }
@@ -85,7 +85,8 @@ public class RestoreApp implements ApplicationRunner {
   public void run(final ApplicationArguments args)
       throws IOException, ExecutionException, InterruptedException {
     LOG.info("Starting to restore from backup {}", backupId);
-    new RestoreManager(configuration, backupStore, meterRegistry)
+    new RestoreManager(
+            configuration, backupStore, restoreConfiguration.concurrentDownloads(), meterRegistry)
         .restore(
             backupId,
             restoreConfiguration.validateConfig(),
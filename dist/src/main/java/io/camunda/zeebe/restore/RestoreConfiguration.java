@@ -11,7 +11,14 @@ import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * @param validateConfig whether to validate that the backup matches the broker's configuration
+ * @param ignoreFilesInTarget files in the data directory which don't count as existing data
+ * @param concurrentDownloads the maximum number of backups which are downloaded concurrently,
+ *     across all partitions of the broker
+ */
 @ConfigurationProperties(prefix = "zeebe.restore")
 public record RestoreConfiguration(
     @DefaultValue("true") boolean validateConfig,
-    @DefaultValue({"lost+found"}) List<String> ignoreFilesInTarget) {}
+    @DefaultValue({"lost+found"}) List<String> ignoreFilesInTarget,
+    @DefaultValue("8") int concurrentDownloads) {}
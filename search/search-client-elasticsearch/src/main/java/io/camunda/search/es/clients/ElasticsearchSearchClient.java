@@ -26,6 +26,8 @@ import io.camunda.search.clients.core.SearchDeleteRequest;
 import io.camunda.search.clients.core.SearchGetRequest;
 import io.camunda.search.clients.core.SearchGetResponse;
 import io.camunda.search.clients.core.SearchIndexRequest;
+import io.camunda.search.clients.core.SearchQueryHit;
+import io.camunda.search.clients.core.SearchQueryHitIterator;
 import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.core.SearchQueryResponse;
 import io.camunda.search.clients.core.SearchWriteResponse;
@@ -47,6 +49,8 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +60,7 @@ public class ElasticsearchSearchClient
   private static final int ELASTICSEARCH_QUERY_MAX_PAGE_SIZE = 10_000;
   private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchSearchClient.class);
   private static final String SCROLL_KEEP_ALIVE_TIME = "1m";
+  private static final String SHARD_DOC_SORT_FIELD = "_shard_doc";
 
   private final ElasticsearchClient client;
   private final ElasticsearchTransformers transformers;
@@ -131,6 +136,36 @@ public class ElasticsearchSearchClient
     }
   }
 
+  @Override
+  public <T> Stream<SearchQueryHit<T>> stream(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    final var pageSize = getStreamPageSize(searchRequest);
+    final var pitId = new AtomicReference<>(openPointInTime(searchRequest.index()));
+    final var hitTransformer = new SearchQueryHitTransformer<T>(transformers);
+
+    final var iterator =
+        new SearchQueryHitIterator<T>(
+            searchAfter -> {
+              try {
+                final var request =
+                    transformSearchRequestToPointInTimeRequest(
+                        searchRequest, pitId.get(), searchAfter, pageSize);
+                final var rawSearchResponse = client.search(request, documentClass);
+                // the id of a point in time may change with every search
+                if (rawSearchResponse.pitId() != null) {
+                  pitId.set(rawSearchResponse.pitId());
+                }
+                return rawSearchResponse.hits().hits().stream().map(hitTransformer::apply).toList();
+              } catch (final IOException | ElasticsearchException e) {
+                LOGGER.warn(ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e);
+                throw new CamundaSearchException(
+                    ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e, searchExceptionToReason(e));
+              }
+            },
+            pageSize);
+    return iterator.stream(() -> closePointInTime(pitId.get()));
+  }
+
   @Override
   public <T> SearchGetResponse<T> get(
       final SearchGetRequest getRequest, final Class<T> documentClass) {
@@ -156,6 +191,39 @@ public class ElasticsearchSearchClient
         .apply(searchRequest);
   }
 
+  private SearchRequest transformSearchRequestToPointInTimeRequest(
+      final SearchQueryRequest searchRequest,
+      final String pitId,
+      final Object[] searchAfter,
+      final int pageSize) {
+    final var pointInTimeRequest =
+        new SearchQueryRequest(
+            List.of(),
+            searchRequest.query(),
+            null,
+            searchRequest.sort(),
+            searchAfter,
+            null,
+            pageSize,
+            searchRequest.source());
+    final var hasSort = searchRequest.sort() != null && !searchRequest.sort().isEmpty();
+    return getSearchRequestTransformer()
+        .withSearchRequestCustomizer(
+            c -> {
+              c.pit(p -> p.id(pitId).keepAlive(t -> t.time(SCROLL_KEEP_ALIVE_TIME)));
+              // with a given sort, Elasticsearch adds the _shard_doc tiebreaker implicitly
+              return hasSort ? c : c.sort(s -> s.field(f -> f.field(SHARD_DOC_SORT_FIELD)));
+            })
+        .apply(pointInTimeRequest);
+  }
+
+  private static int getStreamPageSize(final SearchQueryRequest searchRequest) {
+    final var size = searchRequest.size();
+    return size != null && size > 0
+        ? Math.min(size, ELASTICSEARCH_QUERY_MAX_PAGE_SIZE)
+        : ELASTICSEARCH_QUERY_MAX_PAGE_SIZE;
+  }
+
   private <T> List<Hit<T>> collectHits(final HitsMetadata<T> hitsMetadata) {
     return hitsMetadata.hits().stream().toList();
   }
@@ -206,6 +274,26 @@ public class ElasticsearchSearchClient
         r -> r.scrollId(scrollId).scroll(t -> t.time(SCROLL_KEEP_ALIVE_TIME)), documentClass);
   }
 
+  private String openPointInTime(final List<String> indices) {
+    try {
+      return client
+          .openPointInTime(r -> r.index(indices).keepAlive(t -> t.time(SCROLL_KEEP_ALIVE_TIME)))
+          .id();
+    } catch (final IOException | ElasticsearchException e) {
+      LOGGER.warn(ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e);
+      throw new CamundaSearchException(
+          ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e, searchExceptionToReason(e));
+    }
+  }
+
+  private void closePointInTime(final String pitId) {
+    try {
+      client.closePointInTime(r -> r.id(pitId));
+    } catch (final IOException | ElasticsearchException e) {
+      LOGGER.warn("Failed to close point in time.", e);
+    }
+  }
+
   private void clearScroll(final String scrollId) {
     if (scrollId != null) {
       try {
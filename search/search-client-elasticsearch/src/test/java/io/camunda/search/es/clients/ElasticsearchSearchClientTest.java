@@ -7,25 +7,36 @@
  */
 package io.camunda.search.es.clients;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
 import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.es.transformers.ElasticsearchTransformers;
 import io.camunda.search.exception.CamundaSearchException;
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ElasticsearchSearchClientTest {
 
+  private static final String PIT_ID = "pit-id";
+
   private ElasticsearchClient client;
   private ElasticsearchSearchClient searchClient;
   private SearchQueryRequest searchRequest;
@@ -49,4 +60,80 @@ class ElasticsearchSearchClientTest {
     verify(client, never()).scroll(any(Function.class), any());
     verify(client, never()).clearScroll(any(Function.class));
   }
+
+  @Test
+  void streamShouldSortByShardDocIfNoSortIsGiven() throws IOException {
+    // given
+    givenPointInTime();
+    when(client.search(any(SearchRequest.class), any())).thenReturn(searchResponse(List.of()));
+
+    // when
+    try (final var stream = searchClient.stream(searchRequest, Object.class)) {
+      stream.toList();
+    }
+
+    // then
+    final var request = ArgumentCaptor.forClass(SearchRequest.class);
+    verify(client).search(request.capture(), any());
+    assertThat(request.getValue().pit().id()).isEqualTo(PIT_ID);
+    assertThat(request.getValue().sort())
+        .singleElement()
+        .satisfies(sort -> assertThat(sort.field().field()).isEqualTo("_shard_doc"));
+  }
+
+  @Test
+  void streamShouldClosePointInTimeOnEarlyClose() throws IOException {
+    // given
+    givenPointInTime();
+    when(searchRequest.size()).thenReturn(1);
+    when(client.search(any(SearchRequest.class), any())).thenReturn(searchResponse(List.of(1L)));
+
+    // when
+    try (final var stream = searchClient.stream(searchRequest, Object.class)) {
+      assertThat(stream.findFirst()).isPresent();
+    }
+
+    // then
+    verify(client, times(1)).search(any(SearchRequest.class), any());
+    verify(client, times(1)).closePointInTime(any(Function.class));
+  }
+
+  @Test
+  void streamShouldClosePointInTimeOnError() throws IOException {
+    // given
+    givenPointInTime();
+    when(client.search(any(SearchRequest.class), any())).thenThrow(IOException.class);
+
+    // when
+    final var stream = searchClient.stream(searchRequest, Object.class);
+    assertThatExceptionOfType(CamundaSearchException.class).isThrownBy(stream::toList);
+
+    // then
+    verify(client, times(1)).closePointInTime(any(Function.class));
+    stream.close();
+    verify(client, times(1)).closePointInTime(any(Function.class));
+  }
+
+  private void givenPointInTime() throws IOException {
+    final var pointInTime = mock(OpenPointInTimeResponse.class);
+    when(pointInTime.id()).thenReturn(PIT_ID);
+    when(client.openPointInTime(any(Function.class))).thenReturn(pointInTime);
+  }
+
+  private static SearchResponse<Object> searchResponse(final List<Long> sortValues) {
+    final List<Hit<Object>> hits =
+        sortValues.stream()
+            .map(
+                sortValue -> {
+                  final Hit<Object> hit = mock(Hit.class);
+                  when(hit.sort()).thenReturn(List.of(FieldValue.of(sortValue)));
+                  return hit;
+                })
+            .toList();
+    final HitsMetadata<Object> hitsMetadata = mock(HitsMetadata.class);
+    when(hitsMetadata.hits()).thenReturn(hits);
+    final SearchResponse<Object> response = mock(SearchResponse.class);
+    when(response.hits()).thenReturn(hitsMetadata);
+    return response;
+  }
 }
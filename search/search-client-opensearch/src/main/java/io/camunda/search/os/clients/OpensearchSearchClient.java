@@ -13,6 +13,8 @@ import io.camunda.search.clients.core.SearchDeleteRequest;
 import io.camunda.search.clients.core.SearchGetRequest;
 import io.camunda.search.clients.core.SearchGetResponse;
 import io.camunda.search.clients.core.SearchIndexRequest;
+import io.camunda.search.clients.core.SearchQueryHit;
+import io.camunda.search.clients.core.SearchQueryHitIterator;
 import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.core.SearchQueryResponse;
 import io.camunda.search.clients.core.SearchWriteResponse;
@@ -34,8 +36,10 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch._types.WriteResponseBase;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.GetRequest;
@@ -54,6 +58,7 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
   private static final int OPENSEARCH_QUERY_MAX_PAGE_SIZE = 10_000;
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchSearchClient.class);
   private static final String SCROLL_KEEP_ALIVE_TIME = "1m";
+  private static final String SHARD_DOC_SORT_FIELD = "_shard_doc";
 
   private final OpenSearchClient client;
   private final OpensearchTransformers transformers;
@@ -129,6 +134,31 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
     }
   }
 
+  @Override
+  public <T> Stream<SearchQueryHit<T>> stream(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    final var pageSize = getStreamPageSize(searchRequest);
+    final var pitId = createPit(searchRequest.index());
+    final var hitTransformer = new SearchQueryHitTransformer<T>(transformers);
+
+    final var iterator =
+        new SearchQueryHitIterator<T>(
+            searchAfter -> {
+              try {
+                final var request =
+                    transformSearchRequestToPitRequest(searchRequest, pitId, searchAfter, pageSize);
+                final var rawSearchResponse = client.search(request, documentClass);
+                return rawSearchResponse.hits().hits().stream().map(hitTransformer::apply).toList();
+              } catch (final IOException | OpenSearchException e) {
+                LOGGER.warn(ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e);
+                throw new CamundaSearchException(
+                    ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e, searchExceptionToReason(e));
+              }
+            },
+            pageSize);
+    return iterator.stream(() -> deletePit(pitId));
+  }
+
   @Override
   public <T> SearchGetResponse<T> get(
       final SearchGetRequest getRequest, final Class<T> documentClass) {
@@ -154,6 +184,38 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
         .apply(searchRequest);
   }
 
+  private SearchRequest transformSearchRequestToPitRequest(
+      final SearchQueryRequest searchRequest,
+      final String pitId,
+      final Object[] searchAfter,
+      final int pageSize) {
+    final var pitRequest =
+        new SearchQueryRequest(
+            List.of(),
+            searchRequest.query(),
+            null,
+            searchRequest.sort(),
+            searchAfter,
+            null,
+            pageSize,
+            searchRequest.source());
+    return getSearchRequestTransformer()
+        .withSearchRequestCustomizer(
+            c ->
+                c.pit(p -> p.id(pitId).keepAlive(SCROLL_KEEP_ALIVE_TIME))
+                    // unlike Elasticsearch, OpenSearch doesn't add a tiebreaker implicitly; the
+                    // shard doc makes the sort total, so that search_after doesn't skip hits
+                    .sort(s -> s.field(f -> f.field(SHARD_DOC_SORT_FIELD).order(SortOrder.Asc))))
+        .apply(pitRequest);
+  }
+
+  private static int getStreamPageSize(final SearchQueryRequest searchRequest) {
+    final var size = searchRequest.size();
+    return size != null && size > 0
+        ? Math.min(size, OPENSEARCH_QUERY_MAX_PAGE_SIZE)
+        : OPENSEARCH_QUERY_MAX_PAGE_SIZE;
+  }
+
   private <T> List<Hit<T>> collectHits(final HitsMetadata<T> hitsMetadata) {
     return hitsMetadata.hits().stream().toList();
   }
@@ -204,6 +266,27 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
         r -> r.scrollId(scrollId).scroll(s -> s.time(SCROLL_KEEP_ALIVE_TIME)), documentClass);
   }
 
+  private String createPit(final List<String> indices) {
+    try {
+      return client
+          .createPit(
+              r -> r.targetIndexes(indices).keepAlive(t -> t.time(SCROLL_KEEP_ALIVE_TIME)))
+          .pitId();
+    } catch (final IOException | OpenSearchException e) {
+      LOGGER.warn(ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e);
+      throw new CamundaSearchException(
+          ErrorMessages.ERROR_FAILED_FIND_ALL_QUERY, e, searchExceptionToReason(e));
+    }
+  }
+
+  private void deletePit(final String pitId) {
+    try {
+      client.deletePit(r -> r.pitId(pitId));
+    } catch (final IOException | OpenSearchException e) {
+      LOGGER.warn("Failed to delete point in time.", e);
+    }
+  }
+
   private void clearScroll(final String scrollId) {
     if (scrollId != null) {
       try {
@@ -53,7 +53,12 @@ public final class SearchRequestTransformer
     final var searchAfter = value.searchAfter();
     final var searchQuery = value.query();
 
-    final var builder = new Builder().index(value.index()).from(value.from()).size(value.size());
+    final var builder = new Builder().from(value.from()).size(value.size());
+
+    // a search on a point in time must not target any index
+    if (!value.index().isEmpty()) {
+      builder.index(value.index());
+    }
 
     if (searchQuery != null) {
       final var queryTransformer = getQueryTransformer();
@@ -7,10 +7,12 @@
  */
 package io.camunda.search.os.clients;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,14 +20,22 @@ import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.exception.CamundaSearchException;
 import io.camunda.search.os.transformers.OpensearchTransformers;
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.pit.CreatePitResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.HitsMetadata;
 
 public class OpensearchSearchClientTest {
 
+  private static final String PIT_ID = "pit-id";
+
   private OpenSearchClient client;
   private OpensearchSearchClient searchClient;
   private SearchQueryRequest searchRequest;
@@ -49,4 +59,80 @@ public class OpensearchSearchClientTest {
     verify(client, never()).scroll(any(Function.class), any());
     verify(client, never()).clearScroll(any(Function.class));
   }
+
+  @Test
+  void streamShouldSortByShardDocAsTiebreaker() throws IOException {
+    // given
+    givenPit();
+    when(client.search(any(SearchRequest.class), any())).thenReturn(searchResponse(List.of()));
+
+    // when
+    try (final var stream = searchClient.stream(searchRequest, Object.class)) {
+      stream.toList();
+    }
+
+    // then
+    final var request = ArgumentCaptor.forClass(SearchRequest.class);
+    verify(client).search(request.capture(), any());
+    assertThat(request.getValue().pit().id()).isEqualTo(PIT_ID);
+    assertThat(request.getValue().sort())
+        .last()
+        .satisfies(sort -> assertThat(sort.field().field()).isEqualTo("_shard_doc"));
+  }
+
+  @Test
+  void streamShouldDeletePitOnEarlyClose() throws IOException {
+    // given
+    givenPit();
+    when(searchRequest.size()).thenReturn(1);
+    when(client.search(any(SearchRequest.class), any())).thenReturn(searchResponse(List.of("1")));
+
+    // when
+    try (final var stream = searchClient.stream(searchRequest, Object.class)) {
+      assertThat(stream.findFirst()).isPresent();
+    }
+
+    // then
+    verify(client, times(1)).search(any(SearchRequest.class), any());
+    verify(client, times(1)).deletePit(any(Function.class));
+  }
+
+  @Test
+  void streamShouldDeletePitOnError() throws IOException {
+    // given
+    givenPit();
+    when(client.search(any(SearchRequest.class), any())).thenThrow(IOException.class);
+
+    // when
+    final var stream = searchClient.stream(searchRequest, Object.class);
+    assertThatExceptionOfType(CamundaSearchException.class).isThrownBy(stream::toList);
+
+    // then
+    verify(client, times(1)).deletePit(any(Function.class));
+    stream.close();
+    verify(client, times(1)).deletePit(any(Function.class));
+  }
+
+  private void givenPit() throws IOException {
+    final var pit = mock(CreatePitResponse.class);
+    when(pit.pitId()).thenReturn(PIT_ID);
+    when(client.createPit(any(Function.class))).thenReturn(pit);
+  }
+
+  private static SearchResponse<Object> searchResponse(final List<String> sortValues) {
+    final List<Hit<Object>> hits =
+        sortValues.stream()
+            .map(
+                sortValue -> {
+                  final Hit<Object> hit = mock(Hit.class);
+                  when(hit.sort()).thenReturn(List.of(sortValue));
+                  return hit;
+                })
+            .toList();
+    final HitsMetadata<Object> hitsMetadata = mock(HitsMetadata.class);
+    when(hitsMetadata.hits()).thenReturn(hits);
+    final SearchResponse<Object> response = mock(SearchResponse.class);
+    when(response.hits()).thenReturn(hitsMetadata);
+    return response;
+  }
 }
@@ -11,12 +11,14 @@ import static io.camunda.search.clients.core.RequestBuilders.searchRequest;
 
 import io.camunda.search.clients.core.SearchGetRequest;
 import io.camunda.search.clients.core.SearchGetResponse;
+import io.camunda.search.clients.core.SearchQueryHit;
 import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.clients.core.SearchQueryRequest.Builder;
 import io.camunda.search.clients.core.SearchQueryResponse;
 import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface DocumentBasedSearchClient extends CloseableSilently {
 
@@ -31,5 +33,16 @@ public interface DocumentBasedSearchClient extends CloseableSilently {
   <T> SearchQueryResponse<T> scroll(
       final SearchQueryRequest searchRequest, final Class<T> documentClass);
 
+  /**
+   * Streams all hits matching the given request, fetching them page by page from a point in time
+   * using {@code search_after}. A page is only fetched once the previous one was consumed, so memory
+   * usage doesn't grow with the number of hits. Aggregations and {@code from} of the request are
+   * ignored.
+   *
+   * <p>The returned stream must be closed to release the point in time.
+   */
+  <T> Stream<SearchQueryHit<T>> stream(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass);
+
   <T> SearchGetResponse<T> get(final SearchGetRequest getRequest, final Class<T> documentClass);
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the hits of a search page by page, using the sort values of the last hit of a page
+ * as {@code search_after} for the next page. The next page is only fetched once all hits of the
+ * current page were consumed, so at most one page of hits is held in memory, and a slow consumer
+ * doesn't cause pages to pile up.
+ *
+ * <p>A page with fewer hits than the page size is the last page. If fetching a page fails, the
+ * close handler of the stream is run right away, so that the resources of the search, e.g. the
+ * point in time, are released even if the consumer doesn't close the stream.
+ */
+public final class SearchQueryHitIterator<T> implements Iterator<SearchQueryHit<T>> {
+
+  private final Function<Object[], List<SearchQueryHit<T>>> pageFetcher;
+  private final int pageSize;
+
+  private Iterator<SearchQueryHit<T>> currentPage = Collections.emptyIterator();
+  private Object[] searchAfter;
+  private boolean lastPageFetched;
+  private Runnable closeHandler = () -> {};
+  private boolean closed;
+
+  /**
+   * @param pageFetcher fetches the page after the given sort values, or the first page if they are
+   *     null
+   * @param pageSize the number of hits per page
+   */
+  public SearchQueryHitIterator(
+      final Function<Object[], List<SearchQueryHit<T>>> pageFetcher, final int pageSize) {
+    this.pageFetcher = pageFetcher;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (!currentPage.hasNext() && !lastPageFetched) {
+      fetchNextPage();
+    }
+    return currentPage.hasNext();
+  }
+
+  @Override
+  public SearchQueryHit<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  /**
+   * @param onClose called once when the stream is closed or fetching a page failed, e.g. to release
+   *     the point in time
+   * @return a sequential stream over the remaining hits; the stream must be closed
+   */
+  public Stream<SearchQueryHit<T>> stream(final Runnable onClose) {
+    closeHandler = onClose;
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::close);
+  }
+
+  private void close() {
+    if (!closed) {
+      closed = true;
+      closeHandler.run();
+    }
+  }
+
+  private void fetchNextPage() {
+    final List<SearchQueryHit<T>> hits;
+    try {
+      hits = pageFetcher.apply(searchAfter);
+    } catch (final RuntimeException e) {
+      // the search can't be continued; don't fetch again with released resources
+      lastPageFetched = true;
+      close();
+      throw e;
+    }
+    lastPageFetched = hits.size() < pageSize;
+    if (!hits.isEmpty()) {
+      searchAfter = hits.getLast().sortValues();
+    }
+    currentPage = hits.iterator();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class SearchQueryHitIteratorTest {
+
+  private final List<Object[]> requestedSearchAfter = new ArrayList<>();
+
+  @Test
+  public void shouldFetchPagesUsingSearchAfter() {
+    // given
+    final var iterator = new SearchQueryHitIterator<>(searchAfter -> fetch(searchAfter, 5, 2), 2);
+
+    // when
+    final var ids = iterator.stream(() -> {}).map(SearchQueryHit::id).toList();
+
+    // then
+    assertThat(ids).containsExactly("0", "1", "2", "3", "4");
+    assertThat(requestedSearchAfter).containsExactly(null, new Object[] {1}, new Object[] {3});
+  }
+
+  @Test
+  public void shouldFetchNextPageOnlyWhenCurrentPageIsConsumed() {
+    // given
+    final var iterator = new SearchQueryHitIterator<>(searchAfter -> fetch(searchAfter, 10, 2), 2);
+
+    // when
+    iterator.next();
+    iterator.next();
+
+    // then
+    assertThat(requestedSearchAfter).hasSize(1);
+  }
+
+  @Test
+  public void shouldFetchOnceMoreIfLastPageIsFull() {
+    // given
+    final var iterator = new SearchQueryHitIterator<>(searchAfter -> fetch(searchAfter, 4, 2), 2);
+
+    // when
+    final var hits = iterator.stream(() -> {}).toList();
+
+    // then
+    assertThat(hits).hasSize(4);
+    assertThat(requestedSearchAfter).hasSize(3);
+  }
+
+  @Test
+  public void shouldNotHaveNextIfNoHits() {
+    // given
+    final var iterator = new SearchQueryHitIterator<>(searchAfter -> fetch(searchAfter, 0, 2), 2);
+
+    // when - then
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(requestedSearchAfter).hasSize(1);
+  }
+
+  @Test
+  public void shouldRunCloseHandlerWhenStreamIsClosed() {
+    // given
+    final var closed = new AtomicBoolean();
+    final var iterator = new SearchQueryHitIterator<>(searchAfter -> fetch(searchAfter, 5, 2), 2);
+
+    // when
+    try (final var stream = iterator.stream(() -> closed.set(true))) {
+      stream.findFirst();
+    }
+
+    // then
+    assertThat(closed).isTrue();
+    assertThat(requestedSearchAfter).hasSize(1);
+  }
+
+  @Test
+  public void shouldRunCloseHandlerOnceIfFetchingPageFails() {
+    // given
+    final var closed = new AtomicInteger();
+    final var iterator =
+        new SearchQueryHitIterator<>(
+            searchAfter -> {
+              throw new IllegalStateException("expected");
+            },
+            2);
+
+    // when
+    try (final var stream = iterator.stream(closed::incrementAndGet)) {
+      assertThatThrownBy(stream::toList).isInstanceOf(IllegalStateException.class);
+      assertThat(closed).hasValue(1);
+    }
+
+    // then
+    assertThat(closed).hasValue(1);
+  }
+
+  private List<SearchQueryHit<Object>> fetch(
+      final Object[] searchAfter, final int totalHits, final int pageSize) {
+    requestedSearchAfter.add(searchAfter);
+    final var from = searchAfter == null ? 0 : (int) searchAfter[0] + 1;
+    return IntStream.range(from, Math.min(from + pageSize, totalHits))
+        .mapToObj(
+            i ->
+                new SearchQueryHit.Builder<>()
+                    .id(String.valueOf(i))
+                    .sortValues(new Object[] {i})
+                    .build())
+        .toList();
+  }
+}
@@ -23,6 +23,9 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.impl.job.ResponseObserver;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobResult;
@@ -35,6 +38,7 @@ public final class JobServices<T> extends SearchQueryService<JobServices<T>, Job
 
   private final ActivateJobsHandler<T> activateJobsHandler;
   private final JobSearchClient jobSearchClient;
+  private final CompleteJobsHandler completeJobsHandler;
 
   public JobServices(
       final BrokerClient brokerClient,
@@ -45,6 +49,7 @@ public final class JobServices<T> extends SearchQueryService<JobServices<T>, Job
     super(brokerClient, securityContextProvider, authentication);
     this.activateJobsHandler = activateJobsHandler;
     this.jobSearchClient = jobSearchClient;
+    completeJobsHandler = new CompleteJobsHandler(brokerClient);
   }
 
   @Override
@@ -104,6 +109,15 @@ public final class JobServices<T> extends SearchQueryService<JobServices<T>, Job
         new BrokerCompleteJobRequest(jobKey, getDocumentOrEmpty(variables), result));
   }
 
+  public CompletableFuture<List<JobCompletionResult>> completeJobs(
+      final List<CompleteJobsItem> jobs) {
+    final var completions =
+        jobs.stream()
+            .map(job -> new JobCompletion(job.jobKey(), getDocumentOrEmpty(job.variables())))
+            .toList();
+    return completeJobsHandler.completeJobs(completions, authentication.claims());
+  }
+
   public CompletableFuture<JobRecord> updateJob(
       final long jobKey, final Long operationReference, final UpdateJobChangeset changeset) {
     final var brokerRequest =
@@ -134,5 +148,7 @@ public final class JobServices<T> extends SearchQueryService<JobServices<T>, Job
       List<String> fetchVariable,
       long requestTimeout) {}
 
+  public record CompleteJobsItem(long jobKey, Map<String, Object> variables) {}
+
   public record UpdateJobChangeset(Integer retries, Long timeout) {}
 }
@@ -33,6 +33,8 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private PayloadCompression payloadCompression = PayloadCompression.NONE;
+  private int payloadCompressionThreshold = 4 * 1024;
   private File keyStore;
   private String keyStorePassword;
   private int socketSendBuffer = AUTO_SOCKET_SIZE;
@@ -144,6 +146,47 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return the algorithm used to compress the payload of large messages
+   */
+  public PayloadCompression getPayloadCompression() {
+    return payloadCompression;
+  }
+
+  /**
+   * Sets the algorithm used to compress the payload of messages which are at least {@link
+   * #getPayloadCompressionThreshold()} bytes large. Unlike the {@link CompressionAlgorithm}, which
+   * applies to all messages of a connection, this is decided per message, such that small control
+   * messages and heartbeats are not compressed. Payloads are only compressed for peers which
+   * support it, i.e. which negotiated protocol version 3 or later.
+   *
+   * @param payloadCompression the algorithm to compress large payloads with
+   * @return this config for chaining
+   */
+  public MessagingConfig setPayloadCompression(final PayloadCompression payloadCompression) {
+    this.payloadCompression = payloadCompression;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes from which message payloads are compressed
+   */
+  public int getPayloadCompressionThreshold() {
+    return payloadCompressionThreshold;
+  }
+
+  /**
+   * Sets the size in bytes from which the payload of a message is compressed, if a {@link
+   * PayloadCompression} is configured.
+   *
+   * @param payloadCompressionThreshold the minimum payload size in bytes to compress
+   * @return this config for chaining
+   */
+  public MessagingConfig setPayloadCompressionThreshold(final int payloadCompressionThreshold) {
+    this.payloadCompressionThreshold = payloadCompressionThreshold;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
@@ -304,4 +347,9 @@ public class MessagingConfig implements Config {
     NONE,
     SNAPPY
   }
+
+  public enum PayloadCompression {
+    NONE,
+    ZSTD
+  }
 }
@@ -89,8 +89,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
         }
         if (contentLength > 0) {
           // TODO: Perform a sanity check on the size before allocating
-          content = new byte[contentLength];
-          buffer.readBytes(content);
+          content = readContent(buffer, contentLength);
         } else {
           content = EMPTY_PAYLOAD;
         }
@@ -153,6 +152,20 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  /**
+   * Reads the content of a message, which is fully readable from the given buffer, and returns the
+   * payload it holds. The V2 encoder writes the payload as is.
+   *
+   * @param buffer the buffer to read from
+   * @param contentLength the length of the content, which is greater than zero
+   * @return the payload of the message
+   */
+  protected byte[] readContent(final ByteBuf buffer, final int contentLength) {
+    final byte[] content = new byte[contentLength];
+    buffer.readBytes(content);
+    return content;
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
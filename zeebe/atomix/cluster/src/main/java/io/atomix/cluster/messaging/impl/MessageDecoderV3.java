@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.github.luben.zstd.Zstd;
+import io.netty.buffer.ByteBuf;
+
+/** V3 decoder, which decompresses the payloads written by the {@link MessageEncoderV3}. */
+class MessageDecoderV3 extends MessageDecoderV2 {
+
+  @Override
+  protected byte[] readContent(final ByteBuf buffer, final int contentLength) {
+    final int contentEnd = buffer.readerIndex() + contentLength;
+    final byte codec = buffer.readByte();
+    return switch (codec) {
+      case MessageEncoderV3.CODEC_NONE -> super.readContent(buffer, contentLength - Byte.BYTES);
+      case MessageEncoderV3.CODEC_ZSTD -> decompress(buffer, contentEnd);
+      default -> throw new IllegalStateException("Unknown payload codec " + codec);
+    };
+  }
+
+  private static byte[] decompress(final ByteBuf buffer, final int contentEnd) {
+    final int payloadLength = readInt(buffer);
+    checkState(payloadLength > 0, "Expected a positive payload length, but got %s", payloadLength);
+    final byte[] compressed = new byte[contentEnd - buffer.readerIndex()];
+    buffer.readBytes(compressed);
+
+    final byte[] payload = new byte[payloadLength];
+    final long result =
+        Zstd.decompressByteArray(payload, 0, payloadLength, compressed, 0, compressed.length);
+    checkState(
+        !Zstd.isError(result) && result == payloadLength,
+        "Failed to decompress payload of %s bytes: %s",
+        payloadLength,
+        Zstd.isError(result) ? Zstd.getErrorName(result) : result + " bytes decompressed");
+    return payload;
+  }
+}
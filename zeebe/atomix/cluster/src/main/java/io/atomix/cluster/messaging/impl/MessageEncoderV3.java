@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.github.luben.zstd.Zstd;
+import io.atomix.cluster.messaging.MessagingConfig.PayloadCompression;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * V3 message encoder. The content of a message is prefixed with the codec of the payload; if the
+ * payload is compressed, the codec is followed by the length of the uncompressed payload.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  static final byte CODEC_NONE = 0;
+  static final byte CODEC_ZSTD = 1;
+
+  // favor speed over ratio, as the leader compresses every append request it sends
+  private static final int ZSTD_LEVEL = 1;
+
+  private final PayloadCompression compression;
+  private final int compressionThreshold;
+
+  MessageEncoderV3(
+      final Address address, final PayloadCompression compression, final int compressionThreshold) {
+    super(address);
+    this.compression = compression;
+    this.compressionThreshold = compressionThreshold;
+  }
+
+  @Override
+  protected void encodeMessage(final ProtocolMessage message, final ByteBuf buffer) {
+    buffer.writeByte(message.type().id());
+    writeLong(buffer, message.id());
+
+    final byte[] payload = message.payload();
+    if (payload.length == 0) {
+      writeInt(buffer, 0);
+      return;
+    }
+
+    if (compression == PayloadCompression.ZSTD && payload.length >= compressionThreshold) {
+      final byte[] compressed = Zstd.compress(payload, ZSTD_LEVEL);
+      if (compressed.length < payload.length) {
+        writeInt(buffer, compressed.length + Byte.BYTES + varIntLength(payload.length));
+        buffer.writeByte(CODEC_ZSTD);
+        writeInt(buffer, payload.length);
+        buffer.writeBytes(compressed);
+        return;
+      }
+    }
+
+    writeInt(buffer, payload.length + Byte.BYTES);
+    buffer.writeByte(CODEC_NONE);
+    buffer.writeBytes(payload);
+  }
+
+  /** Returns the number of bytes {@link #writeInt(ByteBuf, int)} writes for the given value. */
+  private static int varIntLength(final int value) {
+    int length = 1;
+    for (int remaining = value >>> 7; remaining != 0; remaining >>>= 7) {
+      length++;
+    }
+    return length;
+  }
+}
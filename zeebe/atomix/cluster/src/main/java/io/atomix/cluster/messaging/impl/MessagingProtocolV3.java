@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.utils.net.Address;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * Same as {@link MessagingProtocolV2}, but the payload of a message may be compressed. Whether a
+ * payload is compressed is decided per message by the sender, such that only large payloads (e.g.
+ * Raft append requests or snapshot chunks) are compressed, while small control messages are not. As
+ * the protocol version is negotiated during the handshake, peers which only know V2 continue to
+ * exchange uncompressed messages.
+ */
+public class MessagingProtocolV3 implements MessagingProtocol {
+  private final Address address;
+  private final MessagingConfig config;
+
+  MessagingProtocolV3(final Address address, final MessagingConfig config) {
+    this.address = address;
+    this.config = config;
+  }
+
+  @Override
+  public ProtocolVersion version() {
+    return ProtocolVersion.V3;
+  }
+
+  @Override
+  public MessageToByteEncoder<Object> newEncoder() {
+    return new MessageEncoderV3(
+        address, config.getPayloadCompression(), config.getPayloadCompressionThreshold());
+  }
+
+  @Override
+  public ByteToMessageDecoder newDecoder() {
+    return new MessageDecoderV3();
+  }
+}
@@ -1074,7 +1074,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final Connection<M> connection,
         final ProtocolVersion protocolVersion,
         final boolean isClient) {
-      final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
+      final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress, config);
       context.pipeline().remove(this);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
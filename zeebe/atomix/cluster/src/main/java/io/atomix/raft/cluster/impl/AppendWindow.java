@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+/**
+ * Limits the number of in-flight append requests to a single follower.
+ *
+ * <p>If the window is adaptive, its size follows the observed round-trip time of append requests,
+ * similar to TCP Vegas: the lowest observed round-trip time is taken as the latency of an idle
+ * follower, and any additional latency is attributed to requests queuing up on the way to or at the
+ * follower. The window starts with a slow start phase, where it grows by one with every response,
+ * until requests start to queue up; it is then set to the number of requests the link can carry.
+ * Afterwards, it grows by one per round trip as long as fewer than {@link #QUEUE_LOW} requests are
+ * estimated to be queued, and shrinks by one per round trip once more than {@link #QUEUE_HIGH} are.
+ * Failed requests (e.g. timeouts) are treated like packet loss, and halve the window.
+ *
+ * <p>This lets the window grow on high latency links, where a small window would leave the link
+ * idle most of the time, while keeping it small for followers which cannot keep up.
+ *
+ * <p>The lowest round-trip time is only forgotten when the window is {@link #reset()}, i.e. when
+ * the member's replication state is reset, since requests which are constantly queued would
+ * otherwise slowly become the new baseline.
+ */
+final class AppendWindow {
+
+  static final int QUEUE_LOW = 1;
+  static final int QUEUE_HIGH = 3;
+
+  private static final int MIN_SIZE = 1;
+
+  private final int initialSize;
+  private final int maxSize;
+  private final boolean adaptive;
+
+  private double size;
+  private boolean slowStart;
+  private long minRtt;
+  private long smoothedRtt;
+
+  private AppendWindow(final int initialSize, final int maxSize, final boolean adaptive) {
+    this.initialSize = initialSize;
+    this.maxSize = maxSize;
+    this.adaptive = adaptive;
+    reset();
+  }
+
+  /** Returns a window which is always of the given size. */
+  static AppendWindow fixed(final int size) {
+    return new AppendWindow(size, size, false);
+  }
+
+  /**
+   * Returns a window which starts at the given initial size, and adapts between 1 and the given
+   * maximum size. If the maximum size is not greater than the initial size, the window is fixed.
+   */
+  static AppendWindow adaptive(final int initialSize, final int maxSize) {
+    if (maxSize <= initialSize) {
+      return fixed(initialSize);
+    }
+
+    return new AppendWindow(initialSize, maxSize, true);
+  }
+
+  void reset() {
+    size = initialSize;
+    slowStart = true;
+    minRtt = Long.MAX_VALUE;
+    smoothedRtt = 0;
+  }
+
+  int size() {
+    return (int) size;
+  }
+
+  /**
+   * @return the smoothed round-trip time of append requests in nanoseconds, or 0 if none was
+   *     observed yet
+   */
+  long smoothedRtt() {
+    return smoothedRtt;
+  }
+
+  /**
+   * Updates the window with the round-trip time of a successful append request.
+   *
+   * @param rttNanos the round-trip time of the request in nanoseconds
+   * @param inFlight the number of requests in flight when the request was sent, including itself
+   */
+  void onSuccess(final long rttNanos, final int inFlight) {
+    final long rtt = Math.max(1, rttNanos);
+    smoothedRtt = smoothedRtt == 0 ? rtt : smoothedRtt + ((rtt - smoothedRtt) >> 3);
+
+    minRtt = Math.min(minRtt, rtt);
+
+    if (!adaptive) {
+      return;
+    }
+
+    // the number of requests the link carries without queuing, and the number of requests queued
+    final double carried = size * minRtt / rtt;
+    final double queued = size - carried;
+    // only grow if the window is actually used; otherwise it is not what limits throughput
+    final boolean windowUsed = inFlight * 2 >= size;
+
+    if (slowStart) {
+      if (queued > QUEUE_HIGH) {
+        slowStart = false;
+        size = carried + QUEUE_LOW;
+      } else if (windowUsed) {
+        size++;
+      }
+    } else if (queued > QUEUE_HIGH) {
+      size -= 1 / size;
+    } else if (queued < QUEUE_LOW && windowUsed) {
+      size += 1 / size;
+    }
+
+    size = Math.min(maxSize, Math.max(MIN_SIZE, size));
+  }
+
+  /** Updates the window after an append request failed, e.g. because it timed out. */
+  void onFailure() {
+    if (adaptive) {
+      slowStart = false;
+      size = Math.max(MIN_SIZE, size / 2);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AppendWindow{"
+        + "size="
+        + size
+        + ", maxSize="
+        + maxSize
+        + ", minRtt="
+        + minRtt
+        + ", smoothedRtt="
+        + smoothedRtt
+        + '}';
+  }
+}
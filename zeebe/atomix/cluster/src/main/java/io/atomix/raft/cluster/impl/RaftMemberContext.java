@@ -30,9 +30,8 @@ import org.slf4j.LoggerFactory;
 /** Cluster member state. */
 public final class RaftMemberContext {
 
-  private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -43,6 +42,7 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private boolean configuring;
   private boolean installing;
@@ -55,9 +55,10 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAdaptiveAppendsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow = AppendWindow.adaptive(maxAppendsPerMember, maxAdaptiveAppendsPerMember);
   }
 
   /** Resets the member state. */
@@ -69,6 +70,8 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
+    appendWindow.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -147,7 +150,7 @@ public final class RaftMemberContext {
   public boolean canAppend() {
     return open
         && (inFlightAppendCount == 0
-            || (appendSucceeded && inFlightAppendCount < maxAppendsPerMember));
+            || (appendSucceeded && inFlightAppendCount < appendWindow.size()));
   }
 
   /**
@@ -178,14 +181,62 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes the approximate size of the entries sent with the request
+   */
+  public void startAppend(final int bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
+  /**
+   * Completes an append request to the member.
+   *
+   * @param bytes the approximate size of the entries sent with the request
+   */
+  public void completeAppend(final int bytes) {
     inFlightAppendCount--;
+    inFlightAppendBytes -= bytes;
+  }
+
+  /**
+   * Records the round-trip time of an append request which was answered by the member, which adapts
+   * the number of appends which can be in flight to the member.
+   *
+   * @param rttNanos the round-trip time of the request in nanoseconds
+   * @param inFlight the number of appends in flight when the request was sent, including itself
+   */
+  public void recordAppendLatency(final long rttNanos, final int inFlight) {
+    appendWindow.onSuccess(rttNanos, inFlight);
+  }
+
+  /** Records an append request which failed or timed out, which shrinks the append window. */
+  public void recordAppendFailure() {
+    appendWindow.onFailure();
+  }
+
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
+  }
+
+  /**
+   * @return the number of append requests which can currently be in flight to the member
+   */
+  public int getAppendWindowSize() {
+    return appendWindow.size();
+  }
+
+  /**
+   * @return the smoothed round-trip time of append requests in nanoseconds
+   */
+  public long getAppendRtt() {
+    return appendWindow.smoothedRtt();
   }
 
   /**
@@ -256,6 +307,7 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendWindow", appendWindow)
         .add("appendSucceeded", appendSucceeded)
         .add("configuring", configuring)
         .add("installing", installing)
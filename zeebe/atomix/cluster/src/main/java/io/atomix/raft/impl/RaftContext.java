@@ -427,6 +427,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return partitionConfig.getMaxAdaptiveAppendsPerFollower();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
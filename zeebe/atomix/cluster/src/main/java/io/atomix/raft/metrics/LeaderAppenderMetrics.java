@@ -33,6 +33,9 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
   private final Counter commitRate;
   private final StatefulGauge nonCommittedEntriesValue;
   private final Map<String, StatefulGauge> nonReplicatedEntries;
+  private final Map<String, StatefulGauge> appendWindowSize;
+  private final Map<String, StatefulGauge> appendRtt;
+  private final Map<String, StatefulGauge> inFlightAppendBytes;
 
   public LeaderAppenderMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -41,6 +44,9 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendDataRate = new HashMap<>();
     appendRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
+    appendWindowSize = new HashMap<>();
+    appendRtt = new HashMap<>();
+    inFlightAppendBytes = new HashMap<>();
 
     commitRate =
         Counter.builder(LeaderMetricsDoc.COMMIT_RATE.getName())
@@ -79,6 +85,21 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .set(remainingEntries);
   }
 
+  public void observeAppendWindow(
+      final String memberId, final int windowSize, final long rttNanos, final long inFlightBytes) {
+    appendWindowSize
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.APPEND_WINDOW_SIZE, id))
+        .set(windowSize);
+    appendRtt
+        .computeIfAbsent(memberId, id -> registerFollowerGauge(LeaderMetricsDoc.APPEND_RTT, id))
+        .set(rttNanos / 1_000_000d);
+    inFlightAppendBytes
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.IN_FLIGHT_APPEND_BYTES, id))
+        .set(inFlightBytes);
+  }
+
   private Timer getAppendLatency(final String memberId) {
     return appendLatency.computeIfAbsent(
         memberId,
@@ -130,6 +151,16 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .register(meterRegistry);
   }
 
+  private StatefulGauge registerFollowerGauge(
+      final LeaderMetricsDoc meterDoc, final String memberId) {
+    return StatefulGauge.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .baseUnit(meterDoc.getBaseUnit())
+        .tag(RaftKeyNames.FOLLOWER.asString(), memberId)
+        .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+        .register(meterRegistry);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(commitRate);
@@ -138,5 +169,8 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendRate.values().forEach(meterRegistry::remove);
     appendDataRate.values().forEach(meterRegistry::remove);
     nonReplicatedEntries.values().forEach(meterRegistry::remove);
+    appendWindowSize.values().forEach(meterRegistry::remove);
+    appendRtt.values().forEach(meterRegistry::remove);
+    inFlightAppendBytes.values().forEach(meterRegistry::remove);
   }
 }
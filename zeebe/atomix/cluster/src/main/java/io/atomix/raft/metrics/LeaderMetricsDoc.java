@@ -114,6 +114,88 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
       };
     }
   },
+  /** The number of append requests which can be in flight to a given follower */
+  APPEND_WINDOW_SIZE {
+    @Override
+    public String getName() {
+      return "atomix.append.window.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of append requests which can be in flight to a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
+  /** The smoothed round-trip time of append requests to a given follower */
+  APPEND_RTT {
+    @Override
+    public String getBaseUnit() {
+      return "ms";
+    }
+
+    @Override
+    public String getName() {
+      return "atomix.append.rtt";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The smoothed round-trip time of append requests to a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
+  /** The approximate size of the entries in flight to a given follower */
+  IN_FLIGHT_APPEND_BYTES {
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public String getName() {
+      return "atomix.append.inflight.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The approximate size of the entries in flight to a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
   /** The count of entries committed (counting entries, not their size) */
   COMMIT_RATE {
     @Override
@@ -34,6 +34,7 @@ public class RaftPartitionConfig {
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
+  private int maxAdaptiveAppendsPerFollower = 0;
   private int maxAppendBatchSize = 32 * 1024;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -94,6 +95,22 @@ public class RaftPartitionConfig {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  /**
+   * Returns the upper bound of the adaptive append window. If it is greater than {@link
+   * #getMaxAppendsPerFollower()}, the number of appends in flight per follower starts at {@link
+   * #getMaxAppendsPerFollower()} and then adapts to the observed append latency, up to this bound.
+   * Otherwise, the number of appends in flight is fixed to {@link #getMaxAppendsPerFollower()}.
+   *
+   * @return the maximum number of appends in flight per follower, when adapting the append window
+   */
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
   public int getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -218,6 +235,8 @@ public class RaftPartitionConfig {
         + heartbeatInterval
         + ", maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", priorityElectionEnabled="
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return how many bytes of a segment are loaded into memory ahead of sequential readers
+   */
+  public int getReadAheadSize() {
+    return readAheadSize;
+  }
+
+  /**
+   * Sets how many bytes of a segment are loaded into memory ahead of sequential readers, on a
+   * background thread, such that cold reads don't take their page faults one by one.
+   *
+   * @param readAheadSize how many bytes to load ahead of readers, or 0 to disable read-ahead
+   */
+  public void setReadAheadSize(final int readAheadSize) {
+    this.readAheadSize = readAheadSize;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +157,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", readAheadSize="
+        + readAheadSize
         + '}';
   }
 }
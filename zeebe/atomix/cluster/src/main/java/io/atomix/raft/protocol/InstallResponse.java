@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -27,26 +29,50 @@ import io.atomix.raft.RaftError;
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
  * the request was successful.
+ *
+ * <p>The response to the initial chunk of a snapshot may also contain the checksums of the files of
+ * the receiver's latest snapshot, such that the leader can skip sending files which it already
+ * holds.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected HashMap<String, Long> heldSnapshotFiles;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> heldSnapshotFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.heldSnapshotFiles = heldSnapshotFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the checksums of the files of the receiver's latest snapshot, by file name.
+   *
+   * @return the held snapshot files, or an empty map if the receiver did not send any
+   */
+  public Map<String, Long> heldSnapshotFiles() {
+    return heldSnapshotFiles == null ? Map.of() : heldSnapshotFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("heldSnapshotFiles", heldSnapshotFiles().size())
         .toString();
   }
 
@@ -62,17 +88,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> heldSnapshotFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, heldSnapshotFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withHeldSnapshotFiles(final Map<String, Long> heldSnapshotFiles) {
+      this.heldSnapshotFiles = new HashMap<>(heldSnapshotFiles);
+      return this;
+    }
   }
 }
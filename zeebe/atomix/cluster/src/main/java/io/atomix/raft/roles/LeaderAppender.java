@@ -203,9 +203,13 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int appendBytes =
+        request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
+    member.startAppend(appendBytes);
+    final int inFlightAppends = member.getInFlightAppendCount();
 
     final long timestamp = System.currentTimeMillis();
+    final long startNanos = System.nanoTime();
 
     LOGGER.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -216,7 +220,12 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                member.completeAppend();
+                member.completeAppend(appendBytes);
+                if (!request.entries().isEmpty()) {
+                  // only appends with entries are subject to the append window
+                  updateAppendWindow(
+                      member, response, error, System.nanoTime() - startNanos, inFlightAppends);
+                }
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
@@ -233,6 +242,25 @@ final class LeaderAppender {
     }
   }
 
+  private void updateAppendWindow(
+      final RaftMemberContext member,
+      final AppendResponse response,
+      final Throwable error,
+      final long rttNanos,
+      final int inFlightAppends) {
+    if (error == null && response.status() == RaftResponse.Status.OK) {
+      member.recordAppendLatency(rttNanos, inFlightAppends);
+    } else {
+      member.recordAppendFailure();
+    }
+
+    metrics.observeAppendWindow(
+        member.getMember().memberId().id(),
+        member.getAppendWindowSize(),
+        member.getAppendRtt(),
+        member.getInFlightAppendBytes());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -499,6 +527,11 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // The receiver lists the files of its latest snapshot only when it receives the first chunk;
+    // any of these which are part of the snapshot being sent are then only referenced
+    if (request.isInitial() && !request.complete()) {
+      member.getSnapshotChunkReader().setReceiverFiles(response.heldSnapshotFiles());
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
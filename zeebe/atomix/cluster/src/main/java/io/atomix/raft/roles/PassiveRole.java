@@ -268,12 +268,19 @@ public class PassiveRole extends InactiveRole {
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which files we already hold, so it can skip sending them again
+      raft.getPersistedSnapshotStore()
+          .getLatestSnapshot()
+          .ifPresent(
+              snapshot -> response.withHeldSnapshotFiles(snapshot.getChecksums().getChecksums()));
+    }
+
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
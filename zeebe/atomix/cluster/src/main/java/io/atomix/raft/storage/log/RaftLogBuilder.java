@@ -129,6 +129,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how many bytes of a segment are loaded into memory ahead of sequential readers, on a
+   * background thread. By default, this is 0, i.e. readers don't read ahead.
+   *
+   * @param readAheadSize how many bytes to load ahead of readers, or 0 to disable read-ahead
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withReadAheadSize(final int readAheadSize) {
+    journalBuilder.withReadAheadSize(readAheadSize);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.PayloadCompression;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+final class MessagingProtocolV3Test {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+  private static final int THRESHOLD = 1024;
+
+  private final MessagingConfig config =
+      new MessagingConfig()
+          .setPayloadCompression(PayloadCompression.ZSTD)
+          .setPayloadCompressionThreshold(THRESHOLD);
+
+  @Test
+  void shouldCompressPayloadAboveThreshold() {
+    // given
+    final byte[] payload = compressiblePayload(16 * THRESHOLD);
+
+    // when
+    final var encoded = encode(config, request(payload));
+
+    // then
+    assertThat(encoded.readableBytes()).isLessThan(payload.length / 2);
+    assertThat(decode(encoded).payload()).isEqualTo(payload);
+  }
+
+  @Test
+  void shouldNotCompressPayloadBelowThreshold() {
+    // given
+    final byte[] payload = compressiblePayload(THRESHOLD - 1);
+
+    // when
+    final var encoded = encode(config, request(payload));
+
+    // then
+    assertThat(encoded.readableBytes()).isGreaterThan(payload.length);
+    assertThat(decode(encoded).payload()).isEqualTo(payload);
+  }
+
+  @Test
+  void shouldNotCompressPayloadIfDisabled() {
+    // given
+    final byte[] payload = compressiblePayload(16 * THRESHOLD);
+    final var uncompressed = new MessagingConfig().setPayloadCompressionThreshold(THRESHOLD);
+
+    // when
+    final var encoded = encode(uncompressed, request(payload));
+
+    // then
+    assertThat(encoded.readableBytes()).isGreaterThan(payload.length);
+    assertThat(decode(encoded).payload()).isEqualTo(payload);
+  }
+
+  @Test
+  void shouldDecodeCompressedReply() {
+    // given
+    final byte[] payload = compressiblePayload(16 * THRESHOLD);
+    final var reply = new ProtocolReply(1, payload, ProtocolReply.Status.OK);
+
+    // when
+    final var encoded = encode(config, reply);
+
+    // then
+    final var decoded = (ProtocolReply) decode(encoded);
+    assertThat(decoded.payload()).isEqualTo(payload);
+    assertThat(decoded.status()).isEqualTo(ProtocolReply.Status.OK);
+  }
+
+  @Test
+  void shouldEncodeEmptyPayload() {
+    // given
+    final var request = request(new byte[0]);
+
+    // when
+    final var encoded = encode(config, request);
+
+    // then
+    assertThat(decode(encoded).payload()).isEmpty();
+  }
+
+  private ByteBuf encode(final MessagingConfig config, final ProtocolMessage message) {
+    final var channel =
+        new EmbeddedChannel(ProtocolVersion.V3.createProtocol(ADDRESS, config).newEncoder());
+    channel.writeOutbound(message);
+    return channel.readOutbound();
+  }
+
+  private ProtocolMessage decode(final ByteBuf encoded) {
+    final var channel =
+        new EmbeddedChannel(ProtocolVersion.V3.createProtocol(ADDRESS, config).newDecoder());
+    channel.writeInbound(encoded);
+    return channel.readInbound();
+  }
+
+  private static ProtocolRequest request(final byte[] payload) {
+    return new ProtocolRequest(1, ADDRESS, "subject", payload);
+  }
+
+  private static byte[] compressiblePayload(final int length) {
+    final byte[] payload = new byte[length];
+    Arrays.fill(payload, (byte) 'a');
+    return payload;
+  }
+}
@@ -20,13 +20,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.PayloadCompression;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -78,4 +81,44 @@ class NettyMessagingServiceCompressionTest {
     senderNetty.stop();
     receiverNetty.stop();
   }
+
+  @Test
+  void shouldExchangeUncompressedPayloadsWithPeerOfPreviousProtocolVersion() {
+    // given
+    final var config =
+        new MessagingConfig()
+            .setShutdownQuietPeriod(Duration.ofMillis(50))
+            .setPayloadCompression(PayloadCompression.ZSTD)
+            .setPayloadCompressionThreshold(1024);
+    var nextAddress = SocketUtil.getNextAddress();
+    final var senderAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService(
+                    "test", senderAddress, config, ProtocolVersion.V2, "", registry)
+                .start()
+                .join();
+
+    nextAddress = SocketUtil.getNextAddress();
+    final var receiverAddress = Address.from(nextAddress.getHostName(), nextAddress.getPort());
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", receiverAddress, config, registry).start().join();
+
+    final byte[] request = new byte[64 * 1024];
+    Arrays.fill(request, (byte) 'a');
+    receiverNetty.registerHandler(
+        "subject", (m, payload) -> CompletableFuture.completedFuture(payload));
+
+    // when - the sender only speaks V2, so the receiver must not compress the large reply
+    final CompletableFuture<byte[]> response =
+        senderNetty.sendAndReceive(receiverAddress, "subject", request);
+
+    // then
+    assertThat(response.join()).isEqualTo(request);
+
+    // teardown
+    senderNetty.stop();
+    receiverNetty.stop();
+  }
 }
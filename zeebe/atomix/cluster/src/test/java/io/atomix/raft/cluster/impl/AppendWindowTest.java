@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  @Test
+  void shouldNotAdaptFixedWindow() {
+    // given
+    final var window = AppendWindow.fixed(2);
+
+    // when
+    window.onSuccess(Duration.ofMillis(1).toNanos(), 2);
+    window.onSuccess(Duration.ofMillis(1).toNanos(), 2);
+    window.onFailure();
+
+    // then
+    assertThat(window.size()).isEqualTo(2);
+    assertThat(window.smoothedRtt()).isEqualTo(Duration.ofMillis(1).toNanos());
+  }
+
+  @Test
+  void shouldBeFixedIfMaxSizeIsNotGreaterThanInitialSize() {
+    // given
+    final var window = AppendWindow.adaptive(4, 2);
+
+    // when
+    window.onSuccess(Duration.ofMillis(1).toNanos(), 4);
+
+    // then
+    assertThat(window.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldHalveWindowOnFailure() {
+    // given
+    final var window = AppendWindow.adaptive(8, 16);
+
+    // when
+    window.onFailure();
+    window.onFailure();
+    window.onFailure();
+    window.onFailure();
+
+    // then
+    assertThat(window.size()).isOne();
+  }
+
+  @Test
+  void shouldNotGrowIfWindowIsNotUsed() {
+    // given
+    final var window = AppendWindow.adaptive(4, 16);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      window.onSuccess(Duration.ofMillis(1).toNanos(), 1);
+    }
+
+    // then
+    assertThat(window.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldResetToInitialSize() {
+    // given
+    final var window = AppendWindow.adaptive(2, 16);
+    window.onSuccess(Duration.ofMillis(1).toNanos(), 2);
+
+    // when
+    window.reset();
+
+    // then
+    assertThat(window.size()).isEqualTo(2);
+    assertThat(window.smoothedRtt()).isZero();
+  }
+
+  @Test
+  void shouldIncreaseThroughputOnHighLatencyLink() {
+    // given - a follower 25ms away, which can handle one request every 500us
+    final var link = new SimulatedLink(Duration.ofMillis(25), Duration.ofNanos(500_000));
+    final var fixedWindow = AppendWindow.fixed(2);
+    final var adaptiveWindow = AppendWindow.adaptive(2, 1024);
+
+    // when
+    final var fixedThroughput = link.replicate(fixedWindow, Duration.ofSeconds(10));
+    final var adaptiveThroughput = link.replicate(adaptiveWindow, Duration.ofSeconds(10));
+
+    // then - the fixed window is limited by the latency, the adaptive one by the follower
+    assertThat(fixedThroughput).isLessThan(50);
+    assertThat(adaptiveThroughput).isGreaterThan(1_700);
+    assertThat(adaptiveWindow.size()).isLessThan(1024);
+    assertThat(adaptiveWindow.smoothedRtt()).isLessThan(Duration.ofMillis(60).toNanos());
+  }
+
+  @Test
+  void shouldKeepWindowSmallForSlowFollower() {
+    // given - a close follower, which can only handle one request every 5ms
+    final var link = new SimulatedLink(Duration.ofNanos(100_000), Duration.ofMillis(5));
+    final var window = AppendWindow.adaptive(2, 1024);
+
+    // when
+    final var throughput = link.replicate(window, Duration.ofSeconds(10));
+
+    // then - requests do not pile up at the follower
+    assertThat(throughput).isGreaterThan(190);
+    assertThat(window.size()).isLessThan(8);
+  }
+
+  /**
+   * Simulates replicating to a follower over a link with a fixed one-way latency, where the
+   * follower handles one request at a time. The leader always has entries to replicate, so it keeps
+   * the window full.
+   */
+  private record SimulatedLink(Duration latency, Duration serviceTime) {
+
+    /**
+     * @return the number of requests acknowledged per second
+     */
+    double replicate(final AppendWindow window, final Duration duration) {
+      final long latencyNanos = latency.toNanos();
+      final long serviceNanos = serviceTime.toNanos();
+      final var responses = new PriorityQueue<Request>();
+      long now = 0;
+      long followerIdleAt = 0;
+      long acknowledged = 0;
+
+      while (now < duration.toNanos()) {
+        while (responses.size() < window.size()) {
+          final long handledAt = Math.max(now + latencyNanos, followerIdleAt) + serviceNanos;
+          followerIdleAt = handledAt;
+          responses.add(new Request(now, handledAt + latencyNanos, responses.size() + 1));
+        }
+
+        final var request = responses.poll();
+        now = request.respondedAt();
+        window.onSuccess(now - request.sentAt(), request.inFlight());
+        acknowledged++;
+      }
+
+      return acknowledged / (duration.toNanos() / 1e9);
+    }
+  }
+
+  private record Request(long sentAt, long respondedAt, int inFlight)
+      implements Comparable<Request> {
+
+    @Override
+    public int compareTo(final Request other) {
+      return Long.compare(respondedAt, other.respondedAt);
+    }
+  }
+}
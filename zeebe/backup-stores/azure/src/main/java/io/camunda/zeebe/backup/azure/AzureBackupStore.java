@@ -129,9 +129,11 @@ public final class AzureBackupStore implements BackupStore {
         () -> {
           final var persistedManifest = manifestManager.createInitialManifest(backup);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(persistedManifest);
+            final var snapshot =
+                fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+            final var segments =
+                fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            manifestManager.completeManifest(persistedManifest, snapshot, segments);
           } catch (final Exception e) {
             manifestManager.markAsFailed(persistedManifest.manifest().id(), e.getMessage());
             throw e;
@@ -17,10 +17,16 @@ import com.azure.storage.blob.specialized.BlockBlobClient;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.azure.AzureBackupStoreException.BlobAlreadyExists;
+import io.camunda.zeebe.backup.common.FileChecksums;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.FileTransfers;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -34,8 +40,12 @@ final class FileSetManager {
     containerCreated = !createContainer;
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+  /**
+   * @return the saved file set, with the checksum of each file
+   */
+  FileSet save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
     assureContainerCreated();
+    final List<NamedFile> savedFiles = new ArrayList<>();
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
@@ -43,16 +53,21 @@ final class FileSetManager {
 
       final BlobClient blobClient = containerClient.getBlobClient(fileSetPath + fileName);
 
-      try {
-        final BinaryData binaryData = BinaryData.fromFile(filePath);
+      try (final var content = FileChecksums.newChecksummedInputStream(filePath)) {
+        final BinaryData binaryData = BinaryData.fromStream(content);
         blobClient.upload(binaryData, false);
+        savedFiles.add(NamedFile.withChecksum(fileName, content.getChecksum().getValue()));
       } catch (final BlobStorageException e) {
         if (e.getErrorCode() == BlobErrorCode.BLOB_ALREADY_EXISTS) {
           throw new BlobAlreadyExists("File already exists.", e.getCause());
         }
         throw e;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
       }
     }
+
+    return new FileSet(savedFiles);
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -75,18 +90,33 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
+    FileTransfers.forEach(
+        fileSet.files(),
+        file -> restoreFile(id, fileSetName, file, pathByName.get(file.name())));
+
+    return new NamedFileSetImpl(pathByName);
+  }
 
-      final BlockBlobClient blobClient =
-          containerClient
-              .getBlobClient(fileSetPath(id, fileSetName) + fileName)
-              .getBlockBlobClient();
+  private void restoreFile(
+      final BackupIdentifier id,
+      final String fileSetName,
+      final NamedFile file,
+      final Path filePath) {
+    final BlockBlobClient blobClient =
+        containerClient
+            .getBlobClient(fileSetPath(id, fileSetName) + file.name())
+            .getBlockBlobClient();
+    if (file.checksum() == null) {
+      // backups taken before checksums were recorded can't be verified
       blobClient.downloadToFile(String.valueOf(filePath), true);
+      return;
     }
 
-    return new NamedFileSetImpl(pathByName);
+    try (final var content = blobClient.openInputStream()) {
+      FileChecksums.copyVerified(content, filePath, file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to restore file " + file.name(), e);
+    }
   }
 
   void assureContainerCreated() {
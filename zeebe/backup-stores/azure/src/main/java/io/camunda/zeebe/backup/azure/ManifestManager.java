@@ -31,6 +31,7 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.backup.common.Manifest.StatusCode;
@@ -105,9 +106,11 @@ public final class ManifestManager {
     }
   }
 
-  void completeManifest(final PersistedManifest inProgressManifest) {
+  /** Completes the manifest with the file sets as they were saved, e.g. with their checksums. */
+  void completeManifest(
+      final PersistedManifest inProgressManifest, final FileSet snapshot, final FileSet segments) {
     final byte[] serializedManifest;
-    final var completed = inProgressManifest.manifest().complete();
+    final var completed = inProgressManifest.manifest().complete(snapshot, segments);
     assureContainerCreated();
     try {
       serializedManifest = MAPPER.writeValueAsBytes(completed);
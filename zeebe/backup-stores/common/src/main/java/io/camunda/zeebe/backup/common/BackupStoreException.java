@@ -24,6 +24,14 @@ public abstract class BackupStoreException extends RuntimeException {
     }
   }
 
+  public static class ChecksumMismatch extends BackupStoreException {
+    public ChecksumMismatch(final String fileName, final long expected, final long actual) {
+      super(
+          "Expected file '%s' to have checksum %d, but the restored content has checksum %d"
+              .formatted(fileName, expected, actual));
+    }
+  }
+
   public static class UnexpectedManifestState extends BackupStoreException {
     public UnexpectedManifestState(final StatusCode expected, final StatusCode actual) {
       super("Expected manifest in state '%s', but was in '%s'".formatted(expected, actual));
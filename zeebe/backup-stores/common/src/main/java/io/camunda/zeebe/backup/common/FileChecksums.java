@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.common.BackupStoreException.ChecksumMismatch;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Computes the CRC32C checksums which are recorded for the files of a backup, and verifies them
+ * while the files are restored, such that a corrupted file fails the restore without reading the
+ * restored files a second time.
+ */
+public final class FileChecksums {
+
+  private FileChecksums() {}
+
+  /**
+   * Opens the given file for uploading, computing the CRC32C checksum of the bytes as they are
+   * read. The checksum must be taken from {@link CheckedInputStream#getChecksum()} once the upload
+   * is done, as the file may still grow while it is uploaded, e.g. the live tail segment.
+   */
+  public static CheckedInputStream newChecksummedInputStream(final Path file) throws IOException {
+    return new CheckedInputStream(Files.newInputStream(file), new CRC32C());
+  }
+
+  /**
+   * Copies the content to the target file, computing its checksum on the way. The target file is
+   * deleted again if the checksum doesn't match the one recorded for the file.
+   *
+   * @throws ChecksumMismatch if the content doesn't match the recorded checksum
+   */
+  public static void copyVerified(
+      final InputStream content, final Path target, final NamedFile file) throws IOException {
+    final var checksum = new CRC32C();
+    try (final var input = new CheckedInputStream(content, checksum)) {
+      Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    if (checksum.getValue() != file.checksum()) {
+      Files.deleteIfExists(target);
+      throw new ChecksumMismatch(file.name(), file.checksum(), checksum.getValue());
+    }
+  }
+}
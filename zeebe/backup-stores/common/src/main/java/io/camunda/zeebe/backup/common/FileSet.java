@@ -43,9 +43,28 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * @param name the name of the file in its file set
+   * @param contentHash the hash of the file's content if the store keeps files by their content,
+   *     such that files which didn't change are shared between backups; null otherwise
+   * @param checksum the CRC32C checksum of the file's content, which is verified when the file is
+   *     restored; null if the store doesn't record it, or for backups taken before it did
+   */
+  public record NamedFile(String name, String contentHash, Long checksum) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null, null);
+    }
+
+    public NamedFile(final String name, final String contentHash) {
+      this(name, contentHash, null);
+    }
+
+    public static NamedFile withChecksum(final String name, final long checksum) {
+      return new NamedFile(name, null, checksum);
+    }
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/** Transfers the files of a file set concurrently, e.g. to restore a backup faster. */
+public final class FileTransfers {
+
+  /**
+   * The maximum number of files which are transferred at the same time per file set, so that a
+   * file set with many files doesn't open an unbounded number of connections to the store.
+   */
+  public static final int MAX_CONCURRENT_TRANSFERS = 8;
+
+  private FileTransfers() {}
+
+  /**
+   * Runs the transfer for each of the files on its own virtual thread, with at most {@link
+   * #MAX_CONCURRENT_TRANSFERS} running at the same time, and waits until all of them are done.
+   *
+   * @throws RuntimeException the failure of one of the failed transfers, as is
+   */
+  public static <T> void forEach(final Collection<T> files, final Consumer<T> transfer) {
+    final var concurrencyLimit = new Semaphore(MAX_CONCURRENT_TRANSFERS);
+    try (final var executor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("zeebe-backup-transfer-", 0).factory())) {
+      final var transfers =
+          files.stream()
+              .map(
+                  file ->
+                      CompletableFuture.runAsync(
+                          () -> {
+                            concurrencyLimit.acquireUninterruptibly();
+                            try {
+                              transfer.accept(file);
+                            } finally {
+                              concurrencyLimit.release();
+                            }
+                          },
+                          executor))
+              .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(transfers).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -93,6 +93,12 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /**
+     * Completes the manifest with the given file sets, e.g. to record the content hashes or the
+     * checksums of the files as they were stored.
+     */
+    CompletedManifest complete(final FileSet snapshot, final FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -108,6 +114,16 @@ public sealed interface Manifest {
   sealed interface FailedManifest extends Manifest permits ManifestImpl {
 
     String failureReason();
+
+    /**
+     * @return the snapshot files, or null if the backup failed before its files were recorded
+     */
+    FileSet snapshot();
+
+    /**
+     * @return the segment files, or null if the backup failed before its files were recorded
+     */
+    FileSet segments();
   }
 
   enum StatusCode {
@@ -53,6 +53,12 @@ public record ManifestImpl(
         id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now());
   }
 
+  @Override
+  public CompletedManifest complete(final FileSet snapshot, final FileSet segments) {
+    return new ManifestImpl(
+        id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now());
+  }
+
   @Override
   public FailedManifest fail(final String failureReason) {
     return new ManifestImpl(
@@ -0,0 +1,301 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.filesystem;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentMismatch;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Stores the contents of backed up files by their SHA-256 hash, such that a file which didn't
+ * change between two backups, e.g. an SST file of a snapshot or an older journal segment, is only
+ * stored once per partition.
+ *
+ * <p>Every file set of a backup which references a content adds a reference marker next to it. The
+ * content is deleted together with its last reference, which keeps deleting a backup safe even if
+ * later backups still reference some of its files.
+ *
+ * <p>Adding and releasing references of a partition must not interleave, otherwise a content may be
+ * deleted right after a concurrent backup decided to reference it instead of storing it again. As
+ * the base path may be a mount shared by several brokers, they are serialized by an exclusive lock
+ * on the {@code .lock} file of the partition's objects directory.
+ *
+ * <p>The contents are stored with the following scheme: {@code
+ * basePath/objects/partitionId/hash}, and the references with the scheme {@code
+ * basePath/objects/partitionId/hash.refs/checkpointId-nodeId-fileSetName}.
+ */
+final class ContentStore {
+
+  private static final String OBJECTS_PATH_FORMAT = "%s/objects/%s/";
+  private static final String REFERENCES_SUFFIX = ".refs";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  private static final String LOCK_FILE_NAME = ".lock";
+
+  // a file lock is held by the whole JVM, and acquiring an overlapping one throws instead of
+  // blocking, so the threads of this JVM are serialized before they acquire the file lock
+  private static final Map<Path, Object> LOCAL_LOCKS = new ConcurrentHashMap<>();
+
+  private final String basePath;
+
+  ContentStore(final String basePath) {
+    this.basePath = basePath;
+  }
+
+  /**
+   * Adds a reference from the given file set to the content of the given file, storing the content
+   * if it's not stored yet.
+   *
+   * @return the hash of the file's content
+   */
+  String store(final BackupIdentifier id, final String fileSetName, final Path file) {
+    final var objectsPath = objectsPath(id.partitionId());
+    try {
+      FileUtil.ensureDirectoryExists(objectsPath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to create objects directory " + objectsPath, e);
+    }
+
+    final var hash = hash(file);
+    final boolean referenced =
+        withLock(
+            objectsPath,
+            () -> {
+              if (!Files.exists(objectsPath.resolve(hash))) {
+                return false;
+              }
+              addReference(objectsPath, hash, id, fileSetName);
+              return true;
+            });
+    if (referenced) {
+      return hash;
+    }
+
+    // the file is copied without holding the lock, as other brokers may be waiting for it. The
+    // file may have changed since it was hashed, e.g. the last segment of the journal, so the
+    // content is stored under the hash of what was actually copied
+    final var copy = copyToTempFile(file, objectsPath);
+    try {
+      return withLock(
+          objectsPath,
+          () -> {
+            moveToObject(copy, objectsPath);
+            addReference(objectsPath, copy.hash(), id, fileSetName);
+            return copy.hash();
+          });
+    } finally {
+      deleteQuietly(copy.tempFile());
+    }
+  }
+
+  /**
+   * Removes the references from the given file set to the given contents, deleting the contents
+   * which are no longer referenced by any backup.
+   */
+  void release(
+      final BackupIdentifier id, final String fileSetName, final Collection<String> hashes) {
+    final var objectsPath = objectsPath(id.partitionId());
+    if (!Files.isDirectory(objectsPath)) {
+      // nothing was stored for this partition
+      return;
+    }
+
+    final Set<String> distinctHashes = Set.copyOf(hashes);
+    withLock(
+        objectsPath,
+        () -> {
+          for (final var hash : distinctHashes) {
+            final var referencesPath = objectsPath.resolve(hash + REFERENCES_SUFFIX);
+            try {
+              Files.deleteIfExists(referencesPath.resolve(referenceName(id, fileSetName)));
+              if (FileUtil.isEmpty(referencesPath)) {
+                Files.deleteIfExists(objectsPath.resolve(hash));
+                Files.deleteIfExists(referencesPath);
+              }
+            } catch (final IOException e) {
+              throw new UncheckedIOException("Unable to release content " + hash, e);
+            }
+          }
+
+          try {
+            FileUtil.flushDirectory(objectsPath);
+          } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to flush directory " + objectsPath, e);
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Copies the content with the given hash to the target file, verifying the hash of the copied
+   * content on the way.
+   *
+   * @throws ContentMismatch if the stored content doesn't match its hash
+   */
+  void restore(final int partitionId, final String hash, final Path target) {
+    final var objectPath = objectsPath(partitionId).resolve(hash);
+    final var digest = newDigest();
+    try (final var input = new DigestInputStream(Files.newInputStream(objectPath), digest)) {
+      Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+      FileUtil.flush(target);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to restore content " + hash + " to " + target, e);
+    }
+
+    final var restoredHash = HEX_FORMAT.formatHex(digest.digest());
+    if (!restoredHash.equals(hash)) {
+      throw new ContentMismatch(
+          "Expected restored file %s to have hash '%s', but was '%s'"
+              .formatted(target, hash, restoredHash));
+    }
+  }
+
+  /** Returns the number of file sets which reference the content with the given hash. */
+  int referenceCount(final int partitionId, final String hash) {
+    final var referencesPath = objectsPath(partitionId).resolve(hash + REFERENCES_SUFFIX);
+    if (!Files.isDirectory(referencesPath)) {
+      return 0;
+    }
+
+    try (final var references = Files.list(referencesPath)) {
+      return (int) references.count();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to list references of content " + hash, e);
+    }
+  }
+
+  private void addReference(
+      final Path objectsPath,
+      final String hash,
+      final BackupIdentifier id,
+      final String fileSetName) {
+    final var referencesPath = objectsPath.resolve(hash + REFERENCES_SUFFIX);
+    final var referencePath = referencesPath.resolve(referenceName(id, fileSetName));
+    try {
+      FileUtil.ensureDirectoryExists(referencesPath);
+      if (!Files.exists(referencePath)) {
+        Files.createFile(referencePath);
+        FileUtil.flushDirectory(referencesPath);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to add reference to content " + hash, e);
+    }
+  }
+
+  private CopiedContent copyToTempFile(final Path file, final Path objectsPath) {
+    final var digest = newDigest();
+    Path tempFile = null;
+    try {
+      tempFile = Files.createTempFile(objectsPath, "content-", ".tmp");
+      try (final InputStream input = new DigestInputStream(Files.newInputStream(file), digest);
+          final OutputStream output = Files.newOutputStream(tempFile)) {
+        input.transferTo(output);
+      }
+      FileUtil.flush(tempFile);
+      return new CopiedContent(tempFile, HEX_FORMAT.formatHex(digest.digest()));
+    } catch (final IOException e) {
+      deleteQuietly(tempFile);
+      throw new UncheckedIOException("Unable to copy file " + file, e);
+    }
+  }
+
+  /**
+   * Moves the copied content to its object file, unless a concurrent backup stored the same content
+   * in the meantime. Must be called while holding the lock of the objects directory.
+   */
+  private void moveToObject(final CopiedContent copy, final Path objectsPath) {
+    final var objectPath = objectsPath.resolve(copy.hash());
+    if (Files.exists(objectPath)) {
+      return;
+    }
+
+    try {
+      FileUtil.moveDurably(copy.tempFile(), objectPath, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to store content " + copy.hash(), e);
+    }
+  }
+
+  private String hash(final Path file) {
+    final var digest = newDigest();
+    try (final var input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to read file " + file, e);
+    }
+    return HEX_FORMAT.formatHex(digest.digest());
+  }
+
+  /**
+   * Runs the given action while holding the lock of the given objects directory, which excludes
+   * the threads of this JVM as well as other processes using the same directory.
+   */
+  private <T> T withLock(final Path objectsPath, final Supplier<T> action) {
+    final var lockPath = objectsPath.resolve(LOCK_FILE_NAME).toAbsolutePath().normalize();
+    synchronized (LOCAL_LOCKS.computeIfAbsent(lockPath, ignored -> new Object())) {
+      try (final var channel = FileChannel.open(lockPath, CREATE, WRITE);
+          final var ignored = channel.lock()) {
+        return action.get();
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Unable to lock objects directory " + objectsPath, e);
+      }
+    }
+  }
+
+  private Path objectsPath(final int partitionId) {
+    return Path.of(OBJECTS_PATH_FORMAT.formatted(basePath, partitionId));
+  }
+
+  private static String referenceName(final BackupIdentifier id, final String fileSetName) {
+    return "%d-%d-%s".formatted(id.checkpointId(), id.nodeId(), fileSetName);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void deleteQuietly(final Path file) {
+    if (file == null) {
+      return;
+    }
+
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException ignored) {
+      // an orphaned temporary file doesn't affect any backup
+    }
+  }
+
+  private record CopiedContent(Path tempFile, String hash) {}
+}
@@ -11,6 +11,7 @@ import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.FileTransfers;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
@@ -19,6 +20,9 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,49 +31,55 @@ final class FileSetManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSetManager.class);
 
-  // The path format is constructed by basePath/contents/partitionId/checkpointId/nodeId/nameOfFile
+  // Backups taken before contents were shared between backups store their files by the path format
+  // basePath/contents/partitionId/checkpointId/nodeId/nameOfFile
   private static final String PATH_FORMAT = "%s/contents/%s/%s/%s/%s/";
   private final String basePath;
+  private final ContentStore contentStore;
 
   FileSetManager(final String basePath) {
     this.basePath = basePath;
+    contentStore = new ContentStore(basePath);
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
-    final var fileSetPath = fileSetPath(id, fileSetName);
-
+  /**
+   * Stores the contents of the given files, sharing the contents which were already stored by an
+   * earlier backup of the same partition.
+   *
+   * @return the stored file set, with the content hash of each file
+   */
+  FileSet save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    final List<NamedFile> storedFiles = new ArrayList<>();
     try {
-      FileUtil.ensureDirectoryExists(fileSetPath);
-    } catch (final IOException e) {
-      throw new UncheckedIOException("Unable to create backup directory", e);
+      for (final var namedFile : fileSet.namedFiles().entrySet()) {
+        final var contentHash = contentStore.store(id, fileSetName, namedFile.getValue());
+        storedFiles.add(new NamedFile(namedFile.getKey(), contentHash));
+      }
+    } catch (final RuntimeException e) {
+      release(id, fileSetName, new FileSet(storedFiles));
+      throw e;
     }
 
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var sourceFileName = namedFile.getKey();
-      final var sourceFilePath = namedFile.getValue();
+    return new FileSet(storedFiles);
+  }
 
-      final var targetFilePath = fileSetPath.resolve(sourceFileName);
-      try {
-        Files.copy(sourceFilePath, targetFilePath);
-        FileUtil.flush(targetFilePath);
-      } catch (final IOException e) {
-        throw new UncheckedIOException("Unable to copy file " + sourceFilePath, e);
-      }
+  /**
+   * Deletes the given file set of the backup. Contents which are shared with other backups are
+   * kept until they're no longer referenced.
+   *
+   * @param fileSet the file set as recorded in the manifest, or null if it's unknown
+   */
+  public void delete(final BackupIdentifier id, final String fileSetName, final FileSet fileSet) {
+    if (fileSet != null) {
+      release(id, fileSetName, fileSet);
     }
 
-    try {
-      FileUtil.flushDirectory(fileSetPath);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(
-          "Unable to flush directory "
-              + fileSetPath
-              + " data might not be consistent on the filesystem. Backup should be restarted.",
-          e);
+    // file sets of backups taken before contents were shared are stored in their own directory
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    if (!Files.exists(fileSetPath)) {
+      return;
     }
-  }
 
-  public void delete(final BackupIdentifier id, final String fileSetName) {
-    final var fileSetPath = fileSetPath(id, fileSetName);
     try {
       FileUtil.deleteFolder(fileSetPath);
       FileUtil.flushDirectory(fileSetPath.getParent());
@@ -91,18 +101,9 @@ final class FileSetManager {
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
     final Path fileSetPath = fileSetPath(id, fileSetName);
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      final var backupFilePath = fileSetPath.resolve(fileName);
-
-      try {
-        Files.copy(backupFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
-        FileUtil.flush(filePath);
-      } catch (final IOException e) {
-        throw new UncheckedIOException("Unable to restore file " + fileName, e);
-      }
-    }
+    FileTransfers.forEach(
+        fileSet.files(),
+        file -> restoreFile(id, fileSetPath, file, pathByName.get(file.name())));
     try {
       FileUtil.flushDirectory(targetFolder);
     } catch (final IOException e) {
@@ -118,6 +119,31 @@ final class FileSetManager {
     return new NamedFileSetImpl(pathByName);
   }
 
+  private void restoreFile(
+      final BackupIdentifier id,
+      final Path fileSetPath,
+      final NamedFile file,
+      final Path filePath) {
+    if (file.contentHash() != null) {
+      contentStore.restore(id.partitionId(), file.contentHash(), filePath);
+      return;
+    }
+
+    final var backupFilePath = fileSetPath.resolve(file.name());
+    try {
+      Files.copy(backupFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+      FileUtil.flush(filePath);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to restore file " + file.name(), e);
+    }
+  }
+
+  private void release(final BackupIdentifier id, final String fileSetName, final FileSet fileSet) {
+    final var contentHashes =
+        fileSet.files().stream().map(NamedFile::contentHash).filter(Objects::nonNull).toList();
+    contentStore.release(id, fileSetName, contentHashes);
+  }
+
   private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return Path.of(
         PATH_FORMAT.formatted(
@@ -16,6 +16,7 @@ import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -29,6 +30,11 @@ import org.slf4j.event.Level;
 /**
  * {@link BackupStore} for local filesystem. Stores all backups in a given baseDir.
  *
+ * <p>The contents of the backed up files are stored by their hash, and shared between the backups
+ * of a partition. As most snapshot files and journal segments don't change between two backups,
+ * a backup only needs to store the files which changed since the previous one, see {@link
+ * ContentStore}.
+ *
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
  * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
  */
@@ -59,12 +65,21 @@ public final class FilesystemBackupStore implements BackupStore {
     return CompletableFuture.runAsync(
         () -> {
           final var manifest = manifestManager.createInitialManifest(backup);
+          FileSet snapshot = null;
+          FileSet segments = null;
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(manifest);
+            snapshot = fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
+            segments = fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
+            manifestManager.completeManifest(manifest, snapshot, segments);
           } catch (final Exception e) {
-            manifestManager.markAsFailed(manifest.id(), e.getMessage());
+            try {
+              manifestManager.markAsFailed(manifest.id(), e.getMessage());
+              // the failed manifest doesn't record the stored files, so release them now
+              fileSetManager.delete(backup.id(), SNAPSHOT_FILESET_NAME, snapshot);
+              fileSetManager.delete(backup.id(), SEGMENTS_FILESET_NAME, segments);
+            } catch (final Exception cleanupError) {
+              e.addSuppressed(cleanupError);
+            }
             throw e;
           }
         },
@@ -95,9 +110,10 @@ public final class FilesystemBackupStore implements BackupStore {
   public CompletableFuture<Void> delete(final BackupIdentifier id) {
     return CompletableFuture.runAsync(
         () -> {
-          manifestManager.deleteManifest(id);
-          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
-          fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          // the manifest is deleted first, such that it never references released contents
+          final var manifest = manifestManager.deleteManifest(id);
+          fileSetManager.delete(id, SNAPSHOT_FILESET_NAME, snapshotOf(manifest));
+          fileSetManager.delete(id, SEGMENTS_FILESET_NAME, segmentsOf(manifest));
         },
         executor);
   }
@@ -158,6 +174,30 @@ public final class FilesystemBackupStore implements BackupStore {
         });
   }
 
+  private static FileSet snapshotOf(final Manifest manifest) {
+    if (manifest == null) {
+      return null;
+    }
+
+    return switch (manifest.statusCode()) {
+      case COMPLETED -> manifest.asCompleted().snapshot();
+      case FAILED -> manifest.asFailed().snapshot();
+      case IN_PROGRESS -> null;
+    };
+  }
+
+  private static FileSet segmentsOf(final Manifest manifest) {
+    if (manifest == null) {
+      return null;
+    }
+
+    return switch (manifest.statusCode()) {
+      case COMPLETED -> manifest.asCompleted().segments();
+      case FAILED -> manifest.asFailed().segments();
+      case IN_PROGRESS -> null;
+    };
+  }
+
   public static void validateConfig(final FilesystemBackupConfig config) {
     if (config.basePath() == null || config.basePath().isBlank()) {
       throw new IllegalArgumentException("Base directory is required");
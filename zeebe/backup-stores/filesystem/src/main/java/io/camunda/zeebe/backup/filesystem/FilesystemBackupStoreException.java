@@ -9,6 +9,10 @@ package io.camunda.zeebe.backup.filesystem;
 
 public abstract class FilesystemBackupStoreException extends RuntimeException {
 
+  protected FilesystemBackupStoreException(final String message) {
+    super(message);
+  }
+
   protected FilesystemBackupStoreException(final String message, final Throwable cause) {
     super(message, cause);
   }
@@ -19,4 +23,11 @@ public abstract class FilesystemBackupStoreException extends RuntimeException {
       super(message, cause);
     }
   }
+
+  public static final class ContentMismatch extends FilesystemBackupStoreException {
+
+    public ContentMismatch(final String message) {
+      super(message);
+    }
+  }
 }
@@ -17,6 +17,7 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.backup.common.Manifest.StatusCode;
@@ -93,9 +94,10 @@ public final class ManifestManager {
     }
   }
 
-  void completeManifest(final InProgressManifest inProgressManifest) {
+  void completeManifest(
+      final InProgressManifest inProgressManifest, final FileSet snapshot, final FileSet segments) {
     final byte[] serializedManifest;
-    final var completed = inProgressManifest.complete();
+    final var completed = inProgressManifest.complete(snapshot, segments);
     try {
       serializedManifest = MAPPER.writeValueAsBytes(completed);
 
@@ -138,10 +140,13 @@ public final class ManifestManager {
     }
   }
 
-  public void deleteManifest(final BackupIdentifier id) {
+  /**
+   * @return the deleted manifest, or null if there was none
+   */
+  public Manifest deleteManifest(final BackupIdentifier id) {
     final Manifest manifest = getManifest(id);
     if (manifest == null) {
-      return;
+      return null;
     } else if (manifest.statusCode() == StatusCode.IN_PROGRESS) {
       throw new UnexpectedManifestState(
           "Cannot delete Backup with id '%s' while saving is in progress."
@@ -157,6 +162,7 @@ public final class ManifestManager {
     } catch (final IOException e) {
       throw new UncheckedIOException("Unable to delete manifest", e);
     }
+    return manifest;
   }
 
   Manifest getManifest(final BackupIdentifier id) {
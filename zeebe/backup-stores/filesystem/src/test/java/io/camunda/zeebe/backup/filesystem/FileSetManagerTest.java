@@ -8,6 +8,7 @@
 package io.camunda.zeebe.backup.filesystem;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -16,11 +17,16 @@ import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentMismatch;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -46,13 +52,132 @@ class FileSetManagerTest {
   @Test
   void testSave() throws IOException {
     final Path filePath = tempDir.resolve("testFile.txt");
-    Files.createFile(filePath);
+    Files.writeString(filePath, "content");
     final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
 
-    fileSetManager.save(backupIdentifier, "fileSetName", namedFileSet);
+    final var savedFileSet = fileSetManager.save(backupIdentifier, "fileSetName", namedFileSet);
 
-    final Path savedFilePath = backupDir.resolve("contents/0/42/1337/fileSetName/testFile.txt");
-    assertThat(Files.exists(savedFilePath)).isTrue();
+    assertThat(savedFileSet.files()).hasSize(1);
+    final var savedFile = savedFileSet.files().getFirst();
+    assertThat(savedFile.name()).isEqualTo("testFile.txt");
+    assertThat(backupDir.resolve("objects/0/" + savedFile.contentHash())).hasContent("content");
+  }
+
+  @Test
+  void shouldShareContentBetweenBackups() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
+    final var otherBackupIdentifier = new BackupIdentifierImpl(1337, 0, 43L);
+    final var savedFileSet = fileSetManager.save(backupIdentifier, "fileSetName", namedFileSet);
+
+    // when
+    final var otherSavedFileSet =
+        fileSetManager.save(otherBackupIdentifier, "fileSetName", namedFileSet);
+
+    // then
+    assertThat(otherSavedFileSet).isEqualTo(savedFileSet);
+    final var contentHash = savedFileSet.files().getFirst().contentHash();
+    assertThat(new ContentStore(backupDir.toString()).referenceCount(0, contentHash))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeepSharedContentUntilLastBackupIsDeleted() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
+    final var otherBackupIdentifier = new BackupIdentifierImpl(1337, 0, 43L);
+    final var savedFileSet = fileSetManager.save(backupIdentifier, "fileSetName", namedFileSet);
+    fileSetManager.save(otherBackupIdentifier, "fileSetName", namedFileSet);
+    final var contentPath =
+        backupDir.resolve("objects/0/" + savedFileSet.files().getFirst().contentHash());
+
+    // when
+    fileSetManager.delete(backupIdentifier, "fileSetName", savedFileSet);
+
+    // then
+    assertThat(contentPath).exists();
+    fileSetManager.delete(otherBackupIdentifier, "fileSetName", savedFileSet);
+    assertThat(contentPath).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreSavedFileSet() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var savedFileSet =
+        fileSetManager.save(
+            backupIdentifier,
+            "fileSetName",
+            new NamedFileSetImpl(Map.of("testFile.txt", filePath)));
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+
+    // when
+    final var restoredFileSet =
+        fileSetManager.restore(backupIdentifier, "fileSetName", savedFileSet, targetFolder);
+
+    // then
+    assertThat(restoredFileSet.namedFiles().get("testFile.txt")).hasContent("content");
+  }
+
+  @Test
+  void shouldNotRestoreCorruptedContent() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var savedFileSet =
+        fileSetManager.save(
+            backupIdentifier,
+            "fileSetName",
+            new NamedFileSetImpl(Map.of("testFile.txt", filePath)));
+    Files.writeString(
+        backupDir.resolve("objects/0/" + savedFileSet.files().getFirst().contentHash()),
+        "corrupted");
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+
+    // when - then
+    assertThatThrownBy(
+            () ->
+                fileSetManager.restore(backupIdentifier, "fileSetName", savedFileSet, targetFolder))
+        .isInstanceOf(ContentMismatch.class);
+  }
+
+  @Test
+  void shouldNotLoseSharedContentWhileConcurrentlySavingAndDeleting() throws Exception {
+    // given - two managers on the same directory, like two brokers using a shared mount
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
+    final var fileSetManagers = List.of(fileSetManager, new FileSetManager(backupDir.toString()));
+    final List<Future<?>> backups = new ArrayList<>();
+
+    // when - each backup references the content which the previous one may be deleting
+    try (final var executor = Executors.newFixedThreadPool(4)) {
+      for (int checkpointId = 1; checkpointId <= 100; checkpointId++) {
+        final var id = new BackupIdentifierImpl(1337, 0, checkpointId);
+        final var manager = fileSetManagers.get(checkpointId % 2);
+        final var targetFolder = tempDir.resolve("restoreTarget-" + checkpointId);
+        backups.add(
+            executor.submit(
+                () -> {
+                  final var savedFileSet = manager.save(id, "fileSetName", namedFileSet);
+                  Files.createDirectories(targetFolder);
+                  manager.restore(id, "fileSetName", savedFileSet, targetFolder);
+                  manager.delete(id, "fileSetName", savedFileSet);
+                  return null;
+                }));
+      }
+    }
+
+    // then
+    for (final var backup : backups) {
+      assertThat(backup).succeedsWithin(Duration.ZERO);
+    }
+    assertThat(backupDir.resolve("objects/0")).isDirectoryNotContaining("glob:**.refs");
   }
 
   @Test
@@ -60,14 +185,14 @@ class FileSetManagerTest {
     final Path fileSetPath = backupDir.resolve("contents/0/42/1337/fileSetName");
     Files.createDirectories(fileSetPath);
 
-    fileSetManager.delete(backupIdentifier, "fileSetName");
+    fileSetManager.delete(backupIdentifier, "fileSetName", null);
 
     assertThat(Files.exists(fileSetPath)).isFalse();
   }
 
   @Test
   void testDeleteNonExistingFile() {
-    fileSetManager.delete(backupIdentifier, "nonExistingFileSet");
+    fileSetManager.delete(backupIdentifier, "nonExistingFileSet", null);
   }
 
   @Test
@@ -16,9 +16,12 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
 import io.camunda.zeebe.backup.testkit.support.TestBackupProvider;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -29,6 +32,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
@@ -121,6 +125,31 @@ public class FilesystemBackupStoreIT implements BackupStoreTestKit {
                 + "but was in state 'IN_PROGRESS'");
   }
 
+  @Test
+  void shouldRestoreBackupAfterDeletingBackupWithSharedContents(@TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var firstBackup =
+        new TestBackupProvider().simpleBackupWithId(new BackupIdentifierImpl(1, 2, 3));
+    final var secondBackup =
+        new BackupImpl(
+            new BackupIdentifierImpl(1, 2, 4),
+            firstBackup.descriptor(),
+            firstBackup.snapshot(),
+            firstBackup.segments());
+    getStore().save(firstBackup).join();
+    getStore().save(secondBackup).join();
+
+    // when
+    getStore().delete(firstBackup.id()).join();
+
+    // then
+    final var restored = getStore().restore(secondBackup.id(), targetDir).join();
+    BackupAssert.assertThatBackup(restored)
+        .hasSameContentsAs(secondBackup)
+        .residesInPath(targetDir);
+  }
+
   void uploadInProgressManifest(final Backup backup) {
     final var manifest = Manifest.createInProgress(backup);
     final byte[] serializedManifest;
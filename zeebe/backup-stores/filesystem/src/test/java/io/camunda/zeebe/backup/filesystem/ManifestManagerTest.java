@@ -17,6 +17,8 @@ import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.common.Manifest.FailedManifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
@@ -90,12 +92,14 @@ class ManifestManagerTest {
   @Test
   void shouldCompleteManifest() throws IOException {
     final var inProgressManifest = createInitialManifest();
-    manifestManager.completeManifest(inProgressManifest);
+    final var snapshot = new FileSet(List.of(new NamedFile("snapshotFile", "hash")));
+    manifestManager.completeManifest(inProgressManifest, snapshot, new FileSet(List.of()));
 
     final var manifestPath = tempDir.resolve("manifests/0/42/1337/manifest.json");
     final var completedManifest = manifestManager.getManifest(backupIdentifier);
     assertThat(Files.exists(manifestPath)).isTrue();
     assertThat(completedManifest.statusCode()).isEqualTo(Manifest.StatusCode.COMPLETED);
+    assertThat(completedManifest.asCompleted().snapshot()).isEqualTo(snapshot);
   }
 
   @Test
@@ -111,7 +115,8 @@ class ManifestManagerTest {
   @Test
   void shouldDeleteManifest() throws IOException {
     final var inProgressManifest = createInitialManifest();
-    manifestManager.completeManifest(inProgressManifest);
+    manifestManager.completeManifest(
+        inProgressManifest, new FileSet(List.of()), new FileSet(List.of()));
 
     manifestManager.deleteManifest(backupIdentifier);
 
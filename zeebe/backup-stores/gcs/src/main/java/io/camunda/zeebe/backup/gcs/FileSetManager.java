@@ -14,12 +14,17 @@ import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.FileChecksums;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
+import io.camunda.zeebe.backup.common.FileTransfers;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 final class FileSetManager {
@@ -47,17 +52,24 @@ final class FileSetManager {
     this.basePath = basePath;
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+  /**
+   * @return the saved file set, with the checksum of each file
+   */
+  FileSet save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
+    final List<NamedFile> savedFiles = new ArrayList<>();
     for (final var namedFile : fileSet.namedFiles().entrySet()) {
       final var fileName = namedFile.getKey();
       final var filePath = namedFile.getValue();
-      try {
+      try (final var content = FileChecksums.newChecksummedInputStream(filePath)) {
         client.createFrom(
-            blobInfo(id, fileSetName, fileName), filePath, BlobWriteOption.doesNotExist());
+            blobInfo(id, fileSetName, fileName), content, BlobWriteOption.doesNotExist());
+        savedFiles.add(NamedFile.withChecksum(fileName, content.getChecksum().getValue()));
       } catch (final IOException e) {
         throw new UncheckedIOException(e);
       }
     }
+
+    return new FileSet(savedFiles);
   }
 
   public void delete(final BackupIdentifier id, final String fileSetName) {
@@ -78,15 +90,32 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, (f) -> targetFolder.resolve(f.name())));
 
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      client.downloadTo(blobInfo(id, filesetName, fileName).getBlobId(), filePath);
-    }
+    FileTransfers.forEach(
+        fileSet.files(),
+        file -> restoreFile(id, filesetName, file, pathByName.get(file.name())));
 
     return new NamedFileSetImpl(pathByName);
   }
 
+  private void restoreFile(
+      final BackupIdentifier id,
+      final String filesetName,
+      final NamedFile file,
+      final Path filePath) {
+    final var blobId = blobInfo(id, filesetName, file.name()).getBlobId();
+    if (file.checksum() == null) {
+      // backups taken before checksums were recorded can't be verified
+      client.downloadTo(blobId, filePath);
+      return;
+    }
+
+    try (final var reader = client.reader(blobId)) {
+      FileChecksums.copyVerified(Channels.newInputStream(reader), filePath, file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to restore file " + file.name(), e);
+    }
+  }
+
   private String fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return PATH_FORMAT.formatted(
         basePath, id.partitionId(), id.checkpointId(), id.nodeId(), fileSetName);
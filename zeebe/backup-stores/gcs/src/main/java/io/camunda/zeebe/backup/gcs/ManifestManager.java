@@ -25,7 +25,9 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.CompletedManifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -109,8 +111,18 @@ public final class ManifestManager {
   }
 
   void completeManifest(final PersistedManifest persistedManifest) {
+    completeManifest(persistedManifest, persistedManifest.manifest().complete());
+  }
+
+  /** Completes the manifest with the file sets as they were saved, e.g. with their checksums. */
+  void completeManifest(
+      final PersistedManifest persistedManifest, final FileSet snapshot, final FileSet segments) {
+    completeManifest(persistedManifest, persistedManifest.manifest().complete(snapshot, segments));
+  }
+
+  private void completeManifest(
+      final PersistedManifest persistedManifest, final CompletedManifest completed) {
     final var generation = persistedManifest.generation();
-    final var completed = persistedManifest.manifest().complete();
     try {
       client.create(
           manifestBlobInfo(completed.id()),
@@ -11,38 +11,80 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BucketInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.ChecksumMismatch;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32C;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
 
 final class FileSetManagerTest {
+  @TempDir Path tempDir;
+
   @Test
   void shouldSaveFileSet() throws IOException {
     // given
     final var mockClient = mock(Storage.class);
     final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var file1 = Files.writeString(tempDir.resolve("file1"), "content1");
+    final var file2 = Files.writeString(tempDir.resolve("file2"), "content2");
     final var namedFileSet =
-        new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
+        new NamedFileSetImpl(Map.of("snapshotFile1", file1, "snapshotFile2", file2));
+    when(mockClient.createFrom(any(), any(InputStream.class), any())).then(drainContent());
+
+    // when
+    final var savedFileSet = manager.save(backupIdentifier, "filesetName", namedFileSet);
+
+    // then
+    verify(mockClient).createFrom(blobNamed("snapshotFile1"), any(InputStream.class), any());
+    verify(mockClient).createFrom(blobNamed("snapshotFile2"), any(InputStream.class), any());
+    Assertions.assertThat(savedFileSet.files())
+        .containsExactlyInAnyOrder(
+            NamedFile.withChecksum("snapshotFile1", checksum("content1")),
+            NamedFile.withChecksum("snapshotFile2", checksum("content2")));
+  }
+
+  @Test
+  void shouldRecordChecksumOfUploadedContentWhenFileGrowsDuringUpload() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var segment = Files.writeString(tempDir.resolve("segment"), "content");
+    final var namedFileSet = new NamedFileSetImpl(Map.of("segment", segment));
+    when(mockClient.createFrom(any(), any(InputStream.class), any()))
+        .then(
+            invocation -> {
+              Files.writeString(segment, "+appended", StandardOpenOption.APPEND);
+              return drainContent().answer(invocation);
+            });
 
     // when
-    manager.save(backupIdentifier, "filesetName", namedFileSet);
+    final var savedFileSet = manager.save(backupIdentifier, "filesetName", namedFileSet);
 
     // then
-    verify(mockClient).createFrom(any(), eq(Path.of("file1")), any());
-    verify(mockClient).createFrom(any(), eq(Path.of("file2")), any());
+    Assertions.assertThat(savedFileSet.files())
+        .containsExactly(NamedFile.withChecksum("segment", checksum("content+appended")));
   }
 
   @Test
@@ -53,8 +95,12 @@ final class FileSetManagerTest {
     final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
     final var namedFileSet =
         new NamedFileSetImpl(
-            Map.of("snapshotFile1", Path.of("file1"), "snapshotFile2", Path.of("file2")));
-    when(mockClient.createFrom(any(), any(Path.class), any()))
+            Map.of(
+                "snapshotFile1",
+                Files.writeString(tempDir.resolve("file1"), "content1"),
+                "snapshotFile2",
+                Files.writeString(tempDir.resolve("file2"), "content2")));
+    when(mockClient.createFrom(any(), any(InputStream.class), any()))
         .thenThrow(new StorageException(412, "expected"));
 
     // when throw
@@ -159,4 +205,76 @@ final class FileSetManagerTest {
         .isInstanceOf(StorageException.class)
         .hasMessageContaining("expected");
   }
+
+  @Test
+  void shouldVerifyChecksumOnRestore() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var fileSet =
+        new FileSet(List.of(NamedFile.withChecksum("snapshotFile", checksum("content"))));
+    final var reader = readerOf("content");
+    when(mockClient.reader(any())).thenReturn(reader);
+
+    // when
+    final var namedFileSet = manager.restore(backupIdentifier, "filesetName", fileSet, tempDir);
+
+    // then
+    Assertions.assertThat(namedFileSet.namedFiles().get("snapshotFile")).hasContent("content");
+    verify(mockClient, never()).downloadTo(any(), any(Path.class));
+  }
+
+  @Test
+  void shouldNotRestoreCorruptedFile() throws IOException {
+    // given
+    final var mockClient = mock(Storage.class);
+    final var manager = new FileSetManager(mockClient, BucketInfo.of("bucket"), "basePath");
+    final var backupIdentifier = new BackupIdentifierImpl(1, 2, 3);
+    final var fileSet =
+        new FileSet(List.of(NamedFile.withChecksum("snapshotFile", checksum("content"))));
+    final var reader = readerOf("corrupted");
+    when(mockClient.reader(any())).thenReturn(reader);
+
+    // when - then throw
+    assertThatThrownBy(() -> manager.restore(backupIdentifier, "filesetName", fileSet, tempDir))
+        .isInstanceOf(ChecksumMismatch.class)
+        .hasMessageContaining("snapshotFile");
+    Assertions.assertThat(tempDir.resolve("snapshotFile")).doesNotExist();
+  }
+
+  private static BlobInfo blobNamed(final String fileName) {
+    return argThat(blobInfo -> blobInfo.getName().endsWith("/" + fileName));
+  }
+
+  private static Answer<Blob> drainContent() {
+    return invocation -> {
+      invocation.getArgument(1, InputStream.class).transferTo(OutputStream.nullOutputStream());
+      return null;
+    };
+  }
+
+  private static long checksum(final String content) {
+    final var checksum = new CRC32C();
+    checksum.update(content.getBytes());
+    return checksum.getValue();
+  }
+
+  private static ReadChannel readerOf(final String content) throws IOException {
+    final var remaining = ByteBuffer.wrap(content.getBytes());
+    final var reader = mock(ReadChannel.class);
+    when(reader.read(any()))
+        .thenAnswer(
+            invocation -> {
+              if (!remaining.hasRemaining()) {
+                return -1;
+              }
+              final ByteBuffer target = invocation.getArgument(0);
+              final var length = Math.min(target.remaining(), remaining.remaining());
+              target.put(remaining.slice(remaining.position(), length));
+              remaining.position(remaining.position() + length);
+              return length;
+            });
+    return reader;
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.perf.TestEngine;
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import java.io.IOException;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * A single partition engine for the benchmarks. Commands are appended to an in-memory log and
+ * processed by the real stream processor, on a {@code ProcessingDbState} backed by RocksDB in a
+ * temporary folder; no network is involved.
+ */
+final class BenchmarkEngine implements AutoCloseable {
+
+  private final AutoCloseableRule closeables = new AutoCloseableRule();
+  private final TestEngine engine;
+
+  BenchmarkEngine() throws IOException {
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+    closeables.manage(temporaryFolder::delete);
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    closeables.manage(actorScheduler);
+    actorScheduler.start();
+
+    engine =
+        TestEngine.createSinglePartitionEngine(
+            new TestContext(actorScheduler, temporaryFolder, closeables));
+  }
+
+  TestEngine engine() {
+    return engine;
+  }
+
+  void deploy(final BpmnModelInstance process) {
+    engine.createDeploymentClient().withXmlResource(process).deploy();
+  }
+
+  /**
+   * Clears the log and the recorded records, such that the memory used by the benchmark doesn't
+   * grow with the number of invocations. The state is kept.
+   */
+  void reset() {
+    engine.reset();
+  }
+
+  @Override
+  public void close() {
+    closeables.after();
+  }
+}
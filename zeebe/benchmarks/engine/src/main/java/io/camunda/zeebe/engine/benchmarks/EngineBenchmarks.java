@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the engine benchmarks with the usual JMH command line options, e.g. {@code
+ * ProcessExecutionBenchmark -p elementCount=10}. Unless another result format is given, the
+ * results are written as JSON, by default to {@code engine-benchmarks.json}, such that runs on
+ * different commits can be compared.
+ */
+public final class EngineBenchmarks {
+
+  private static final String DEFAULT_RESULT_FILE = "engine-benchmarks.json";
+
+  private EngineBenchmarks() {}
+
+  public static void main(final String[] args) throws Exception {
+    final var commandLineOptions = new CommandLineOptions(args);
+    final var options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+      if (!commandLineOptions.getResult().hasValue()) {
+        options.result(DEFAULT_RESULT_FILE);
+      }
+    }
+
+    new Runner(options.build()).run();
+  }
+}
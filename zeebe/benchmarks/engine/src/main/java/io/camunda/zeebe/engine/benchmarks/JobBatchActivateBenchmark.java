@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code JobBatchActivateProcessor}: each invocation activates a batch of {@link
+ * #jobsPerBatch} jobs. The jobs are created before each invocation, outside of the measurement;
+ * processing a command takes long enough that the per invocation fixtures don't skew the results.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobBatchActivateBenchmark {
+
+  private static final String PROCESS_ID = "process";
+  private static final String JOB_TYPE = "task";
+
+  @Param({"1", "10", "100"})
+  private int jobsPerBatch;
+
+  private BenchmarkEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+  private JobActivationClient jobActivationClient;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new BenchmarkEngine();
+    engine.deploy(
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType(JOB_TYPE))
+            .endEvent()
+            .done());
+
+    processInstanceClient = engine.engine().createProcessInstanceClient();
+    jobActivationClient =
+        engine
+            .engine()
+            .createJobActivationClient()
+            .withType(JOB_TYPE)
+            .withMaxJobsToActivate(jobsPerBatch);
+  }
+
+  @Setup(Level.Invocation)
+  public void createJobs() {
+    for (int i = 0; i < jobsPerBatch; i++) {
+      processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+    }
+
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withType(JOB_TYPE)
+        .limit(jobsPerBatch)
+        .asList();
+  }
+
+  @TearDown(Level.Invocation)
+  public void reset() {
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public Record<JobBatchRecordValue> activateJobs() {
+    return jobActivationClient.activate();
+  }
+}
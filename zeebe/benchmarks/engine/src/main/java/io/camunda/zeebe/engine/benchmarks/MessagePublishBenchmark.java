@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@code MessagePublishProcessor}: each invocation publishes a message with a new
+ * correlation key. If {@link #correlate} is set, a process instance waits for the message, which
+ * is then correlated to it; the correlation is finished after the measurement, before the next
+ * invocation.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MessagePublishBenchmark {
+
+  private static final String PROCESS_ID = "process";
+  private static final String MESSAGE_NAME = "message";
+
+  @Param({"false", "true"})
+  private boolean correlate;
+
+  private BenchmarkEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+  private PublishMessageClient publishMessageClient;
+
+  private long count;
+  private String correlationKey;
+  private long processInstanceKey;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new BenchmarkEngine();
+    engine.deploy(
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .intermediateCatchEvent(
+                "catch", e -> e.message(m -> m.name(MESSAGE_NAME).zeebeCorrelationKey("=key")))
+            .endEvent()
+            .done());
+
+    processInstanceClient = engine.engine().createProcessInstanceClient();
+    publishMessageClient =
+        engine.engine().createPublishMessageClient().withName(MESSAGE_NAME).withTimeToLive(0L);
+  }
+
+  @Setup(Level.Invocation)
+  public void awaitMessage() {
+    correlationKey = "key-" + count++;
+    if (!correlate) {
+      return;
+    }
+
+    processInstanceKey =
+        processInstanceClient
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("key", correlationKey)
+            .create();
+    RecordingExporter.messageSubscriptionRecords(MessageSubscriptionIntent.CREATED)
+        .withCorrelationKey(correlationKey)
+        .getFirst();
+  }
+
+  @TearDown(Level.Invocation)
+  public void reset() {
+    if (correlate) {
+      RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+          .withProcessInstanceKey(processInstanceKey)
+          .filterRootScope()
+          .getFirst();
+    }
+
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public Record<MessageRecordValue> publishMessage() {
+    return publishMessageClient.withCorrelationKey(correlationKey).publish();
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the activation and completion of BPMN elements by the {@code BpmnStreamProcessor}: each
+ * invocation creates a process instance which passes through {@link #elementCount} intermediate
+ * throw events, and waits until the instance is completed.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProcessExecutionBenchmark {
+
+  private static final String PROCESS_ID = "process";
+
+  @Param({"1", "10", "50"})
+  private int elementCount;
+
+  private BenchmarkEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new BenchmarkEngine();
+
+    AbstractFlowNodeBuilder<?, ?> process = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 0; i < elementCount; i++) {
+      process = process.intermediateThrowEvent("event-" + i);
+    }
+    engine.deploy(process.endEvent().done());
+
+    processInstanceClient = engine.engine().createProcessInstanceClient();
+  }
+
+  @TearDown(Level.Invocation)
+  public void reset() {
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> executeProcess() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+
+    return RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .filterRootScope()
+        .getFirst();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.protocol.record.value.TimerRecordValue;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the triggering of a timer catch event: each invocation writes the trigger command for a
+ * timer, as the due date checker would, and waits until the timer is triggered. The timer is due in
+ * an hour, such that the due date checker doesn't interfere with the benchmark.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TimerTriggerBenchmark {
+
+  private static final String PROCESS_ID = "process";
+
+  private BenchmarkEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+
+  private Record<TimerRecordValue> timer;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new BenchmarkEngine();
+    engine.deploy(
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .intermediateCatchEvent("timer", e -> e.timerWithDuration("PT1H"))
+            .endEvent()
+            .done());
+
+    processInstanceClient = engine.engine().createProcessInstanceClient();
+  }
+
+  @Setup(Level.Invocation)
+  public void createTimer() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+    timer =
+        RecordingExporter.timerRecords(TimerIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .getFirst();
+  }
+
+  @TearDown(Level.Invocation)
+  public void reset() {
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(timer.getValue().getProcessInstanceKey())
+        .filterRootScope()
+        .getFirst();
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public Record<TimerRecordValue> triggerTimer() {
+    engine
+        .engine()
+        .writeRecords(
+            RecordToWrite.command()
+                .timer(TimerIntent.TRIGGER, timer.getValue())
+                .key(timer.getKey()));
+
+    return RecordingExporter.timerRecords(TimerIntent.TRIGGERED)
+        .withRecordKey(timer.getKey())
+        .getFirst();
+  }
+}
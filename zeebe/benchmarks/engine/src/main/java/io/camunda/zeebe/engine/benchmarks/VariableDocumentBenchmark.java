@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.benchmarks;
+
+import io.camunda.zeebe.engine.util.client.VariableClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentRecordValue;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the merge of a variable document into the scope of a process instance: each invocation
+ * updates all {@link #variableCount} variables of the instance with new values.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VariableDocumentBenchmark {
+
+  private static final String PROCESS_ID = "process";
+
+  @Param({"1", "10", "100"})
+  private int variableCount;
+
+  private BenchmarkEngine engine;
+  private VariableClient variableClient;
+
+  private long count;
+  private Map<String, Object> document;
+
+  @Setup
+  public void setup() throws IOException {
+    engine = new BenchmarkEngine();
+    engine.deploy(
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobType("task"))
+            .endEvent()
+            .done());
+
+    final long processInstanceKey =
+        engine.engine().createProcessInstanceClient().ofBpmnProcessId(PROCESS_ID).create();
+    variableClient = engine.engine().createVariableClient().ofScope(processInstanceKey);
+  }
+
+  @Setup(Level.Invocation)
+  public void createDocument() {
+    document = new HashMap<>();
+    count++;
+    for (int i = 0; i < variableCount; i++) {
+      document.put("var" + i, count);
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void reset() {
+    engine.reset();
+  }
+
+  @TearDown
+  public void tearDown() {
+    engine.close();
+  }
+
+  @Benchmark
+  public Record<VariableDocumentRecordValue> mergeVariableDocument() {
+    return variableClient.withDocument(document).update();
+  }
+}
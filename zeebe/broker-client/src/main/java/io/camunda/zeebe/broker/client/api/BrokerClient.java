@@ -13,6 +13,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface BrokerClient extends AutoCloseable {
@@ -93,4 +94,12 @@ public interface BrokerClient extends AutoCloseable {
   BrokerTopologyManager getTopologyManager();
 
   void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+
+  /**
+   * Subscribes to the {@link PartitionJobAvailableNotification}s broadcast by the brokers, which
+   * tell on which partition jobs of a type became available.
+   *
+   * @param handler consumer of the partition id and job type of each notification
+   */
+  void subscribePartitionJobAvailableNotification(BiConsumer<Integer, String> handler);
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api;
+
+/**
+ * A notification that jobs of a type are available for activation on a specific partition. It is
+ * broadcast by the brokers in addition to the plain job type notification, and encoded as a string
+ * of the form {@code <partitionId>:<jobType>} to be compatible with any event service serializer.
+ */
+public record PartitionJobAvailableNotification(int partitionId, String jobType) {
+
+  public static final String TOPIC = "jobsAvailableOnPartition";
+  private static final char SEPARATOR = ':';
+
+  public String encode() {
+    return partitionId + String.valueOf(SEPARATOR) + jobType;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the given message is not an encoded notification
+   */
+  public static PartitionJobAvailableNotification decode(final String message) {
+    final var separatorIndex = message.indexOf(SEPARATOR);
+    if (separatorIndex <= 0) {
+      throw new IllegalArgumentException(
+          "Expected a partition job available notification, but got '%s'".formatted(message));
+    }
+
+    try {
+      final var partitionId = Integer.parseInt(message.substring(0, separatorIndex));
+      return new PartitionJobAvailableNotification(
+          partitionId, message.substring(separatorIndex + 1));
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Expected a partition job available notification, but got '%s'".formatted(message), e);
+    }
+  }
+}
@@ -14,6 +14,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
 import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.PartitionJobAvailableNotification;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -23,6 +24,8 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +37,7 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerRequestManager requestManager;
 
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final List<Subscription> jobAvailableSubscriptions = new CopyOnWriteArrayList<>();
   private final ClusterEventService eventService;
   private final ActorSchedulingService schedulingService;
   private final AtomixClientTransportAdapter atomixTransportAdapter;
@@ -82,9 +85,7 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(atomixTransportAdapter::close);
     LOG.debug("transport client closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.forEach(Subscription::close);
 
     LOG.debug("Gateway broker client closed.");
   }
@@ -137,7 +138,7 @@ public final class BrokerClientImpl implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+    jobAvailableSubscriptions.add(
         eventService
             .subscribe(
                 topic,
@@ -145,7 +146,22 @@ public final class BrokerClientImpl implements BrokerClient {
                   handler.accept((String) msg);
                   return CompletableFuture.completedFuture(null);
                 })
-            .join();
+            .join());
+  }
+
+  @Override
+  public void subscribePartitionJobAvailableNotification(
+      final BiConsumer<Integer, String> handler) {
+    subscribeJobAvailableNotification(
+        PartitionJobAvailableNotification.TOPIC,
+        msg -> {
+          try {
+            final var notification = PartitionJobAvailableNotification.decode(msg);
+            handler.accept(notification.partitionId(), notification.jobType());
+          } catch (final IllegalArgumentException e) {
+            LOG.debug("Ignoring malformed partition job available notification", e);
+          }
+        });
   }
 
   private void doAndLogException(final Runnable r) {
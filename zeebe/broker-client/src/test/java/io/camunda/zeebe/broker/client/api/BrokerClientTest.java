@@ -354,6 +354,29 @@ public final class BrokerClientTest {
         .untilAtomic(messageRef, Matchers.equalTo("bar"));
   }
 
+  @Test
+  void shouldReceivePartitionJobAvailableNotification() {
+    // given
+    final AtomicReference<PartitionJobAvailableNotification> notificationRef =
+        new AtomicReference<>();
+    client.subscribePartitionJobAvailableNotification(
+        (partitionId, jobType) ->
+            notificationRef.set(new PartitionJobAvailableNotification(partitionId, jobType)));
+
+    // when
+    atomixCluster.getEventService().broadcast(PartitionJobAvailableNotification.TOPIC, "malformed");
+    atomixCluster
+        .getEventService()
+        .broadcast(
+            PartitionJobAvailableNotification.TOPIC,
+            new PartitionJobAvailableNotification(2, "foo:bar").encode());
+
+    // then
+    Awaitility.await("until notification received")
+        .untilAtomic(
+            notificationRef, Matchers.equalTo(new PartitionJobAvailableNotification(2, "foo:bar")));
+  }
+
   @Test
   public void shouldThrowCorrectErrorForInactivePartitionAndNoLeaderRequest() {
     // given
@@ -78,6 +78,9 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setPayloadCompression(cluster.getPayloadCompression())
+            .setPayloadCompressionThreshold(
+                (int) cluster.getPayloadCompressionThreshold().toBytes())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort())
             .setHeartbeatTimeout(network.getHeartbeatTimeout())
@@ -216,6 +216,14 @@ final class ExporterContainer implements Controller {
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
   }
 
+  /**
+   * Returns whether a record with the given metadata and position would be passed on to the
+   * exporter, i.e. whether it was not exported yet and is accepted by the exporter's filter.
+   */
+  boolean willExport(final RecordMetadata metadata, final long recordPosition) {
+    return position < recordPosition && acceptRecord(metadata);
+  }
+
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
     try {
       if (position < typedEvent.getPosition()) {
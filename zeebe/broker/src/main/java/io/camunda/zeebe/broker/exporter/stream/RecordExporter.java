@@ -11,11 +11,19 @@ import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.time.InstantSource;
 import java.util.List;
 
+/**
+ * Passes the records of a partition on to all of its exporters. Each record is decoded at most once
+ * and the same read-only record is handed to every exporter. The value of a record is only decoded
+ * if at least one exporter will actually see it; records which all exporters have already exported
+ * (e.g. while a newly added exporter catches up) or which they all filter out are skipped without
+ * decoding.
+ */
 class RecordExporter {
 
   private final RecordValues recordValues = new RecordValues();
@@ -24,7 +32,9 @@ class RecordExporter {
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
 
+  private LoggedEvent rawEvent;
   private boolean shouldExport;
+  private boolean valueRead;
   private int exporterIndex;
   private final InstantSource clock;
 
@@ -40,15 +50,18 @@ class RecordExporter {
   }
 
   void wrap(final LoggedEvent rawEvent) {
+    this.rawEvent = rawEvent;
     rawEvent.readMetadata(rawMetadata);
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
-
-    shouldExport = recordValue != null;
+    shouldExport = TypedEventRegistry.EVENT_REGISTRY.containsKey(rawMetadata.getValueType());
     if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+      typedEvent.wrap(rawEvent, rawMetadata, null);
+      valueRead = false;
       exporterIndex = 0;
+
+      if (anyContainerWillExport(rawEvent.getPosition())) {
+        readValue();
+      }
     }
   }
 
@@ -73,6 +86,12 @@ class RecordExporter {
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
 
+      // containers may be added while the record is retried, so they may need the value even if
+      // none of the containers did when the record was wrapped
+      if (!valueRead && container.willExport(rawMetadata, typedEvent.getPosition())) {
+        readValue();
+      }
+
       try (final var timer =
           exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
         if (container.exportRecord(rawMetadata, typedEvent)) {
@@ -87,6 +106,22 @@ class RecordExporter {
     return true;
   }
 
+  private boolean anyContainerWillExport(final long position) {
+    for (final ExporterContainer container : containers) {
+      if (container.willExport(rawMetadata, position)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void readValue() {
+    final UnifiedRecordValue recordValue =
+        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    typedEvent.wrap(rawEvent, rawMetadata, recordValue);
+    valueRead = true;
+  }
+
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.jobstream;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.camunda.zeebe.broker.client.api.PartitionJobAvailableNotification;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
@@ -34,6 +35,15 @@ public final class RemoteJobStreamer implements JobStreamer {
     eventService.broadcast(JOBS_AVAILABLE_TOPIC, jobType);
   }
 
+  @Override
+  public void notifyWorkAvailable(final int partitionId, final String jobType) {
+    notifyWorkAvailable(jobType);
+    // only gateways which fan out job activations subscribe to the partition notifications
+    eventService.broadcast(
+        PartitionJobAvailableNotification.TOPIC,
+        new PartitionJobAvailableNotification(partitionId, jobType).encode());
+  }
+
   @Override
   public Optional<JobStream> streamFor(
       final DirectBuffer jobType, final Predicate<JobActivationProperties> filter) {
@@ -59,6 +59,7 @@ import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -120,6 +121,7 @@ public final class ZeebePartitionFactory {
   private final List<PartitionRaftListener> partitionRaftListeners;
   private final SecurityConfiguration securityConfig;
   private final SearchClientsProxy searchClientsProxy;
+  private final SharedProcessCache sharedProcessCache;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -137,7 +139,8 @@ public final class ZeebePartitionFactory {
       final TopologyManagerImpl topologyManager,
       final FeatureFlags featureFlags,
       final SecurityConfiguration securityConfig,
-      final SearchClientsProxy searchClientsProxy) {
+      final SearchClientsProxy searchClientsProxy,
+      final SharedProcessCache sharedProcessCache) {
     this.actorSchedulingService = actorSchedulingService;
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
@@ -154,6 +157,7 @@ public final class ZeebePartitionFactory {
     this.featureFlags = featureFlags;
     this.securityConfig = securityConfig;
     this.searchClientsProxy = searchClientsProxy;
+    this.sharedProcessCache = sharedProcessCache;
   }
 
   public ZeebePartition constructPartition(
@@ -204,6 +208,7 @@ public final class ZeebePartitionFactory {
             topologyManager,
             brokerHealthCheckService,
             securityConfig,
+            sharedProcessCache,
             partitionMeterRegistry);
     context.setDynamicPartitionConfig(initialPartitionConfig);
 
@@ -12,12 +12,14 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.PayloadCompression;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.springframework.util.unit.DataSize;
 
 public final class ClusterCfg implements ConfigurationEntry {
 
@@ -28,6 +30,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   public static final int DEFAULT_CLUSTER_SIZE = 1;
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
   public static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(2500);
+  public static final DataSize DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD = DataSize.ofKilobytes(4);
 
   private static final String NODE_ID_ERROR_MSG =
       "Node id %s needs to be non negative and smaller then cluster size %s.";
@@ -55,6 +58,8 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private PayloadCompression payloadCompression = PayloadCompression.NONE;
+  private DataSize payloadCompressionThreshold = DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD;
   private ConfigManagerCfg configManager = ConfigManagerCfg.defaultConfig();
 
   @Override
@@ -193,6 +198,22 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public PayloadCompression getPayloadCompression() {
+    return payloadCompression;
+  }
+
+  public void setPayloadCompression(final PayloadCompression payloadCompression) {
+    this.payloadCompression = payloadCompression;
+  }
+
+  public DataSize getPayloadCompressionThreshold() {
+    return payloadCompressionThreshold;
+  }
+
+  public void setPayloadCompressionThreshold(final DataSize payloadCompressionThreshold) {
+    this.payloadCompressionThreshold = payloadCompressionThreshold;
+  }
+
   public ConfigManagerCfg getConfigManager() {
     return configManager;
   }
@@ -216,6 +237,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         membership,
         raft,
         messageCompression,
+        payloadCompression,
+        payloadCompressionThreshold,
         configManager);
   }
 
@@ -240,6 +263,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         && Objects.equals(membership, that.membership)
         && Objects.equals(raft, that.raft)
         && messageCompression == that.messageCompression
+        && payloadCompression == that.payloadCompression
+        && Objects.equals(payloadCompressionThreshold, that.payloadCompressionThreshold)
         && Objects.equals(configManager, that.configManager);
   }
 
@@ -271,6 +296,10 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", payloadCompression="
+        + payloadCompression
+        + ", payloadCompressionThreshold="
+        + payloadCompressionThreshold
         + ", configManagerCfg="
         + configManager
         + '}';
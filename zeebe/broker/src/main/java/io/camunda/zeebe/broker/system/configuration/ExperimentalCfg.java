@@ -20,6 +20,7 @@ import org.springframework.util.unit.DataSize;
 public class ExperimentalCfg implements ConfigurationEntry {
 
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 6;
+  public static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 0;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
@@ -33,6 +34,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private boolean versionCheckRestrictionEnabled = DEFAULT_VERSION_CHECK_ENABLED;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private RocksdbCfg rocksdb = new RocksdbCfg();
@@ -74,6 +76,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
   public DataSize getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -166,6 +176,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return "ExperimentalCfg{"
         + "maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
@@ -13,7 +13,9 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_TRANSACTION_LIMIT = 1_000;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxEventsInReplayTransaction = DEFAULT_REPLAY_TRANSACTION_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +26,11 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxEventsInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxEventsInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxEventsInReplayTransaction));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +46,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxEventsInReplayTransaction() {
+    return maxEventsInReplayTransaction;
+  }
+
+  public void setMaxEventsInReplayTransaction(final int maxEventsInReplayTransaction) {
+    this.maxEventsInReplayTransaction = maxEventsInReplayTransaction;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +75,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxEventsInReplayTransaction="
+        + maxEventsInReplayTransaction
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
@@ -9,10 +9,14 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.EnumSet;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
@@ -28,6 +32,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private DataSize columnFamilyCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
+  private Set<ZbColumnFamilies> cachedColumnFamilies =
+      EnumSet.of(
+          ZbColumnFamilies.ELEMENT_INSTANCE_KEY, ZbColumnFamilies.VARIABLES, ZbColumnFamilies.JOBS);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +130,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
+  public Set<ZbColumnFamilies> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<ZbColumnFamilies> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +164,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setColumnFamilyCacheSize(columnFamilyCacheSize.toBytes())
+        .setCachedColumnFamilies(
+            cachedColumnFamilies.stream().map(Enum::name).collect(Collectors.toSet()));
   }
 
   @Override
@@ -165,6 +193,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
         + '}';
   }
 
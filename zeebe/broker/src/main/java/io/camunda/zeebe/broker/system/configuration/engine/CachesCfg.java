@@ -9,12 +9,17 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
+  public static final DataSize DEFAULT_SHARED_PROCESS_CACHE_SIZE = DataSize.ofMegabytes(32);
+
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize sharedProcessCacheSize = DEFAULT_SHARED_PROCESS_CACHE_SIZE;
+  private int authorizationCacheCapacity = EngineConfiguration.DEFAULT_AUTHORIZATION_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -48,6 +53,30 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  /**
+   * @return the maximum summed size of the BPMN resources of the parsed processes which are cached
+   *     once for all partitions of the broker
+   */
+  public DataSize getSharedProcessCacheSize() {
+    return sharedProcessCacheSize;
+  }
+
+  public void setSharedProcessCacheSize(final DataSize sharedProcessCacheSize) {
+    this.sharedProcessCacheSize = sharedProcessCacheSize;
+  }
+
+  /**
+   * @return the maximum number of effective permissions (i.e. the tenants or the authorized
+   *     resources of a user, client or mapping rule) which are cached per partition
+   */
+  public int getAuthorizationCacheCapacity() {
+    return authorizationCacheCapacity;
+  }
+
+  public void setAuthorizationCacheCapacity(final int authorizationCacheCapacity) {
+    this.authorizationCacheCapacity = authorizationCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -59,6 +88,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + processCacheCapacity
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", sharedProcessCacheSize="
+        + sharedProcessCacheSize
+        + ", authorizationCacheCapacity="
+        + authorizationCacheCapacity
         + '}';
   }
 }
@@ -16,6 +16,7 @@ public final class EngineCfg implements ConfigurationEntry {
   private MessagesCfg messages = new MessagesCfg();
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
+  private TimersCfg timers = new TimersCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
   private BatchOperationCfg batchOperations = new BatchOperationCfg();
   private UsageMetricsCfg usageMetrics = new UsageMetricsCfg();
@@ -27,6 +28,7 @@ public final class EngineCfg implements ConfigurationEntry {
     messages.init(globalConfig, brokerBase);
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
+    timers.init(globalConfig, brokerBase);
     batchOperations.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
     distribution.init(globalConfig, brokerBase);
@@ -57,6 +59,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.jobs = jobs;
   }
 
+  public TimersCfg getTimers() {
+    return timers;
+  }
+
+  public void setTimers(final TimersCfg timers) {
+    this.timers = timers;
+  }
+
   public ValidatorsCfg getValidators() {
     return validators;
   }
@@ -106,6 +116,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + caches
         + ", jobs="
         + jobs
+        + ", timers="
+        + timers
         + ", validators="
         + validators
         + ", batchOperations="
@@ -127,8 +139,10 @@ public final class EngineCfg implements ConfigurationEntry {
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setAuthorizationCacheCapacity(caches.getAuthorizationCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setTimersDueDateHorizon(timers.getDueDateHorizon())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
         .setBatchOperationSchedulerInterval(batchOperations.getSchedulerInterval())
         .setBatchOperationChunkSize(batchOperations.getChunkSize())
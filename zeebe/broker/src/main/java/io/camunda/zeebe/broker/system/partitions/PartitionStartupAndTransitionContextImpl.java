@@ -40,6 +40,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -113,6 +114,7 @@ public class PartitionStartupAndTransitionContextImpl
   private final HealthTreeMetrics healthGraphMetrics;
   private final BrokerHealthCheckService brokerHealthCheckService;
   private final SecurityConfiguration securityConfig;
+  private final SharedProcessCache sharedProcessCache;
   private final MeterRegistry startupMeterRegistry;
   private MeterRegistry transitionMeterRegistry;
   private volatile boolean migrationsPerformed = false;
@@ -141,6 +143,7 @@ public class PartitionStartupAndTransitionContextImpl
       final TopologyManager topologyManager,
       final BrokerHealthCheckService brokerHealthCheckService,
       final SecurityConfiguration securityConfig,
+      final SharedProcessCache sharedProcessCache,
       final MeterRegistry startupMeterRegistry) {
     this.nodeId = nodeId;
     this.partitionCount = partitionCount;
@@ -166,6 +169,7 @@ public class PartitionStartupAndTransitionContextImpl
     this.topologyManager = topologyManager;
     this.brokerHealthCheckService = brokerHealthCheckService;
     this.securityConfig = securityConfig;
+    this.sharedProcessCache = sharedProcessCache;
     this.startupMeterRegistry = startupMeterRegistry;
     healthGraphMetrics = new HealthTreeMetrics(startupMeterRegistry);
   }
@@ -323,6 +327,11 @@ public class PartitionStartupAndTransitionContextImpl
     return securityConfig;
   }
 
+  @Override
+  public SharedProcessCache getSharedProcessCache() {
+    return sharedProcessCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
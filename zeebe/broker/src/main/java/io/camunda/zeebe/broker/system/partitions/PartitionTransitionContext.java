@@ -29,6 +29,7 @@ import io.camunda.zeebe.db.SnapshotCopy;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -110,6 +111,11 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   SecurityConfiguration getSecurityConfig();
 
+  /**
+   * @return the cache of parsed processes which is shared by all partitions of the broker
+   */
+  SharedProcessCache getSharedProcessCache();
+
   QueryService getQueryService();
 
   void setQueryService(QueryService queryService);
@@ -133,7 +133,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         targetRole == Role.LEADER ? StreamProcessorMode.PROCESSING : StreamProcessorMode.REPLAY;
 
     final var experimentalCfg = context.getBrokerCfg().getExperimental();
-    final var engineCfg = experimentalCfg.getEngine().createEngineConfiguration();
+    final var engineCfg =
+        experimentalCfg
+            .getEngine()
+            .createEngineConfiguration()
+            .setSharedProcessCache(context.getSharedProcessCache());
 
     final var engine =
         new Engine(
@@ -159,6 +163,8 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxEventsInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxEventsInReplayTransaction())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
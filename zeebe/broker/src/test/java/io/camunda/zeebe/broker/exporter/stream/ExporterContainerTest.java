@@ -402,6 +402,49 @@ final class ExporterContainerTest {
       assertThat(exporterContainer.getPosition()).isEqualTo(1);
     }
 
+    @Test
+    void shouldExportRecordWhichWasNotExportedYet() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      // when
+      final var willExport = exporterContainer.willExport(new RecordMetadata(), 1);
+
+      // then
+      assertThat(willExport).isTrue();
+    }
+
+    @Test
+    void shouldNotExportRecordWhichWasAlreadyExported() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 1);
+      exporterContainer.initMetadata();
+
+      // when
+      final var willExport = exporterContainer.willExport(new RecordMetadata(), 1);
+
+      // then
+      assertThat(willExport).isFalse();
+    }
+
+    @Test
+    void shouldNotExportRecordWhichIsFiltered() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      exporter.getContext().setFilter(new AlwaysRejectingFilter());
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      // when
+      final var willExport = exporterContainer.willExport(new RecordMetadata(), 1);
+
+      // then
+      assertThat(willExport).isFalse();
+    }
+
     @Test
     void shouldUpdatePositionsWhenRecordIsFilteredAndPositionsAreEqual() throws Exception {
       // given
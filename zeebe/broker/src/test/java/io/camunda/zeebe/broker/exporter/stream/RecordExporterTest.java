@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.broker.exporter.stream.ExporterContainerTest.FakeExporter;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class RecordExporterTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private ExporterContainerRuntime runtime;
+  private ExporterContainer firstContainer;
+  private ExporterContainer secondContainer;
+  private RecordExporter recordExporter;
+
+  @BeforeEach
+  void beforeEach(final @TempDir Path storagePath) throws Exception {
+    runtime = new ExporterContainerRuntime(storagePath);
+    firstContainer = newContainer("first");
+    secondContainer = newContainer("second");
+
+    final var metrics = new ExporterMetrics(new SimpleMeterRegistry());
+    metrics.initializeExporterState(ExporterPhase.EXPORTING);
+    recordExporter =
+        new RecordExporter(
+            metrics,
+            List.of(firstContainer, secondContainer),
+            PARTITION_ID,
+            InstantSource.system());
+  }
+
+  @AfterEach
+  void afterEach() {
+    runtime.close();
+  }
+
+  @Test
+  void shouldNotDecodeValueIfAllExportersExportedRecord() {
+    // given
+    initPosition(firstContainer, 5);
+    initPosition(secondContainer, 5);
+    final var loggedEvent = loggedEvent(3);
+
+    // when
+    recordExporter.wrap(loggedEvent);
+    final var exported = recordExporter.export();
+
+    // then
+    assertThat(exported).isTrue();
+    verify(loggedEvent, never()).readValue(any());
+    assertThat(exporter(firstContainer).getRecord()).isNull();
+    assertThat(exporter(secondContainer).getRecord()).isNull();
+  }
+
+  @Test
+  void shouldNotDecodeValueIfAllExportersFilterRecord() {
+    // given
+    initPosition(firstContainer, 0);
+    initPosition(secondContainer, 0);
+    exporter(firstContainer).getContext().setFilter(new AlwaysRejectingFilter());
+    exporter(secondContainer).getContext().setFilter(new AlwaysRejectingFilter());
+    final var loggedEvent = loggedEvent(1);
+
+    // when
+    recordExporter.wrap(loggedEvent);
+    final var exported = recordExporter.export();
+
+    // then
+    assertThat(exported).isTrue();
+    verify(loggedEvent, never()).readValue(any());
+    assertThat(exporter(firstContainer).getRecord()).isNull();
+    assertThat(exporter(secondContainer).getRecord()).isNull();
+    assertThat(firstContainer.getPosition()).isEqualTo(1);
+    assertThat(secondContainer.getPosition()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDecodeValueOnceIfAnyExporterWillExportRecord() {
+    // given
+    initPosition(firstContainer, 0);
+    initPosition(secondContainer, 0);
+    exporter(firstContainer).getContext().setFilter(new AlwaysRejectingFilter());
+    final var loggedEvent = loggedEvent(1);
+
+    // when
+    recordExporter.wrap(loggedEvent);
+    final var exported = recordExporter.export();
+
+    // then
+    assertThat(exported).isTrue();
+    verify(loggedEvent, times(1)).readValue(any());
+    assertThat(exporter(firstContainer).getRecord()).isNull();
+    assertThat(firstContainer.getPosition()).isEqualTo(1);
+    assertThat(exporter(secondContainer).getRecord()).isNotNull();
+  }
+
+  @Test
+  void shouldDecodeValueIfOnlyOneExporterDidNotExportRecordYet() {
+    // given
+    initPosition(firstContainer, 5);
+    initPosition(secondContainer, 0);
+    final var loggedEvent = loggedEvent(3);
+
+    // when
+    recordExporter.wrap(loggedEvent);
+    final var exported = recordExporter.export();
+
+    // then
+    assertThat(exported).isTrue();
+    verify(loggedEvent, times(1)).readValue(any());
+    assertThat(exporter(firstContainer).getRecord()).isNull();
+    assertThat(exporter(secondContainer).getRecord()).isNotNull();
+  }
+
+  private ExporterContainer newContainer(final String id) throws Exception {
+    final var descriptor =
+        runtime.getRepository().validateAndAddExporterDescriptor(id, FakeExporter.class, Map.of());
+    final var container = runtime.newContainer(descriptor, PARTITION_ID);
+    container.configureExporter();
+    return container;
+  }
+
+  private void initPosition(final ExporterContainer container, final long position) {
+    runtime.getState().setPosition(container.getId(), position);
+    container.initMetadata();
+  }
+
+  private static FakeExporter exporter(final ExporterContainer container) {
+    return (FakeExporter) container.getExporter();
+  }
+
+  private static LoggedEvent loggedEvent(final long position) {
+    final var loggedEvent = mock(LoggedEvent.class);
+    when(loggedEvent.getPosition()).thenReturn(position);
+    doAnswer(
+            invocation -> {
+              final RecordMetadata metadata = invocation.getArgument(0);
+              metadata
+                  .recordType(RecordType.EVENT)
+                  .valueType(ValueType.PROCESS_INSTANCE)
+                  .intent(ProcessInstanceIntent.ELEMENT_ACTIVATED);
+              return null;
+            })
+        .when(loggedEvent)
+        .readMetadata(any());
+    return loggedEvent;
+  }
+
+  private static final class AlwaysRejectingFilter implements Context.RecordFilter {
+
+    @Override
+    public boolean acceptType(final RecordType recordType) {
+      return false;
+    }
+
+    @Override
+    public boolean acceptValue(final ValueType valueType) {
+      return false;
+    }
+
+    @Override
+    public boolean acceptIntent(final Intent intent) {
+      return false;
+    }
+  }
+}
@@ -171,6 +171,21 @@ public final class RaftPartitionFactoryTest {
     assertThat(partition.getPartitionConfig().getMaxAppendsPerFollower()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldSetMaxAdaptiveAppendsPerFollower() {
+    // given
+    final int expected = 64;
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxAdaptiveAppendsPerFollower(expected);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxAdaptiveAppendsPerFollower())
+        .isEqualTo(expected);
+  }
+
   @Test
   void shouldEnablePriorityElection() {
     // given
@@ -226,6 +241,20 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldSetReadAheadSize() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setReadAheadSize(DataSize.ofMegabytes(4));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getReadAheadSize())
+        .isEqualTo(4 * 1024 * 1024);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
@@ -10,8 +10,10 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.PayloadCompression;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class CompressionCfgTest {
 
@@ -34,4 +36,27 @@ public final class CompressionCfgTest {
     // then
     assertThat(config.getMessageCompression()).isEqualTo(CompressionAlgorithm.NONE);
   }
+
+  @Test
+  public void shouldConfigurePayloadCompression() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("compression-cfg", Map.of());
+    final ClusterCfg config = cfg.getCluster();
+
+    // then
+    assertThat(config.getPayloadCompression()).isEqualTo(PayloadCompression.ZSTD);
+    assertThat(config.getPayloadCompressionThreshold()).isEqualTo(DataSize.ofKilobytes(8));
+  }
+
+  @Test
+  public void shouldSetDefaultPayloadCompression() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", Map.of());
+    final ClusterCfg config = cfg.getCluster();
+
+    // then
+    assertThat(config.getPayloadCompression()).isEqualTo(PayloadCompression.NONE);
+    assertThat(config.getPayloadCompressionThreshold())
+        .isEqualTo(ClusterCfg.DEFAULT_PAYLOAD_COMPRESSION_THRESHOLD);
+  }
 }
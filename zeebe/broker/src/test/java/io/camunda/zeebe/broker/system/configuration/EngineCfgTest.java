@@ -9,11 +9,13 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.broker.system.configuration.engine.CachesCfg;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class EngineCfgTest {
 
@@ -34,10 +36,13 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(configuration.getTimersDueDateHorizon()).isEqualTo(Duration.ofMinutes(10));
     assertThat(configuration.getFormCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getAuthorizationCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_AUTHORIZATION_CACHE_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
     assertThat(configuration.getMaxProcessDepth())
@@ -59,9 +64,36 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
+    assertThat(configuration.getTimersDueDateHorizon()).isEqualTo(Duration.ofMinutes(5));
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
     assertThat(configuration.getMaxProcessDepth()).isEqualTo(2000);
+    assertThat(configuration.getAuthorizationCacheCapacity()).isEqualTo(2000);
+  }
+
+  @Test
+  void shouldUseDefaultSharedProcessCacheSize() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // when
+    final var caches = cfg.getExperimental().getEngine().getCaches();
+
+    // then
+    assertThat(caches.getSharedProcessCacheSize())
+        .isEqualTo(CachesCfg.DEFAULT_SHARED_PROCESS_CACHE_SIZE);
+  }
+
+  @Test
+  void shouldSetSharedProcessCacheSize() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("engine", environment);
+
+    // when
+    final var caches = cfg.getExperimental().getEngine().getCaches();
+
+    // then
+    assertThat(caches.getSharedProcessCacheSize()).isEqualTo(DataSize.ofMegabytes(64));
   }
 }
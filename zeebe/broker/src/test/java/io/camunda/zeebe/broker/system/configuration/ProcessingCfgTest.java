@@ -80,6 +80,43 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldUseDefaultMaxEventsInReplayTransaction() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxEventsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldSetMaxEventsInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxEventsInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(250);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxEventsInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxEventsInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxEventsInReplayTransaction must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
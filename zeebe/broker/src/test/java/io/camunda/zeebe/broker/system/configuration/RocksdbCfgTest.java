@@ -77,6 +77,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize()).isZero();
   }
 
   @Test
@@ -97,6 +98,22 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMaxOpenFiles()).isEqualTo(3);
   }
 
+  @Test
+  public void shouldSetColumnFamilyCacheViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var rocksDbConfiguration = rocksdb.createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(64).toBytes());
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder("JOBS", "VARIABLES");
+  }
+
   @Test
   public void shouldSetColumnFamilyOptionsConfig() {
     // when
@@ -173,6 +173,12 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    // cached permissions may have been resolved from the discarded changes
+    processingState.getEffectivePermissionsCache().clear();
+  }
+
   private boolean shouldProcessCommand(final TypedRecord<?> typedCommand) {
     // There is no ban check needed if the intent is not instance related
     // nor if the intent is to create new instances, which can't be banned yet
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -23,6 +24,7 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_AUTHORIZATION_CACHE_CAPACITY = 10_000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
@@ -47,6 +49,7 @@ public final class EngineConfiguration {
       Duration.ofSeconds(60);
   public static final int DEFAULT_BATCH_OPERATION_QUERY_RETRY_BACKOFF_FACTOR = 2;
   public static final boolean DEFAULT_COMMAND_DISTRIBUTION_PAUSED = false;
+  public static final Duration DEFAULT_TIMERS_DUE_DATE_HORIZON = Duration.ofMinutes(10);
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
@@ -54,6 +57,8 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private SharedProcessCache sharedProcessCache;
+  private int authorizationCacheCapacity = DEFAULT_AUTHORIZATION_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
@@ -80,6 +85,8 @@ public final class EngineConfiguration {
 
   private boolean commandDistributionPaused = DEFAULT_COMMAND_DISTRIBUTION_PAUSED;
 
+  private Duration timersDueDateHorizon = DEFAULT_TIMERS_DUE_DATE_HORIZON;
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -136,6 +143,28 @@ public final class EngineConfiguration {
     return this;
   }
 
+  /**
+   * @return the process cache shared by all partitions of a broker, or null if every partition
+   *     should parse its processes on its own
+   */
+  public SharedProcessCache getSharedProcessCache() {
+    return sharedProcessCache;
+  }
+
+  public EngineConfiguration setSharedProcessCache(final SharedProcessCache sharedProcessCache) {
+    this.sharedProcessCache = sharedProcessCache;
+    return this;
+  }
+
+  public int getAuthorizationCacheCapacity() {
+    return authorizationCacheCapacity;
+  }
+
+  public EngineConfiguration setAuthorizationCacheCapacity(final int authorizationCacheCapacity) {
+    this.authorizationCacheCapacity = authorizationCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -287,4 +316,13 @@ public final class EngineConfiguration {
     this.commandDistributionPaused = commandDistributionPaused;
     return this;
   }
+
+  public Duration getTimersDueDateHorizon() {
+    return timersDueDateHorizon;
+  }
+
+  public EngineConfiguration setTimersDueDateHorizon(final Duration timersDueDateHorizon) {
+    this.timersDueDateHorizon = timersDueDateHorizon;
+    return this;
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheKeyNames;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class AuthorizationCacheMetrics {
+
+  private final Map<AuthorizationCacheType, Counter> hits =
+      new EnumMap<>(AuthorizationCacheType.class);
+  private final Map<AuthorizationCacheType, Counter> misses =
+      new EnumMap<>(AuthorizationCacheType.class);
+  private final Map<AuthorizationCacheType, Counter> invalidations =
+      new EnumMap<>(AuthorizationCacheType.class);
+
+  public AuthorizationCacheMetrics(final MeterRegistry meterRegistry) {
+    for (final var type : AuthorizationCacheType.values()) {
+      hits.put(type, registerCounter(AuthorizationCacheMetricsDoc.HITS, type, meterRegistry));
+      misses.put(type, registerCounter(AuthorizationCacheMetricsDoc.MISSES, type, meterRegistry));
+      invalidations.put(
+          type, registerCounter(AuthorizationCacheMetricsDoc.INVALIDATIONS, type, meterRegistry));
+    }
+  }
+
+  public void hit(final AuthorizationCacheType type) {
+    hits.get(type).increment();
+  }
+
+  public void miss(final AuthorizationCacheType type) {
+    misses.get(type).increment();
+  }
+
+  public void invalidated(final AuthorizationCacheType type, final int count) {
+    if (count > 0) {
+      invalidations.get(type).increment(count);
+    }
+  }
+
+  private static Counter registerCounter(
+      final AuthorizationCacheMetricsDoc doc,
+      final AuthorizationCacheType type,
+      final MeterRegistry meterRegistry) {
+    return Counter.builder(doc.getName())
+        .description(doc.getDescription())
+        .tag(AuthorizationCacheKeyNames.CACHE.asString(), type.getTagValue())
+        .register(meterRegistry);
+  }
+}
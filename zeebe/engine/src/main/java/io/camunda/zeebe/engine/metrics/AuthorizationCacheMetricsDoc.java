@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+
+/** Metrics of the per-partition cache of effective permissions used by authorization checks. */
+public enum AuthorizationCacheMetricsDoc implements ExtendedMeterDocumentation {
+  HITS {
+    @Override
+    public String getDescription() {
+      return "Number of lookups in the authorization cache which were hits";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.authorization.cache.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return AuthorizationCacheKeyNames.values();
+    }
+  },
+
+  MISSES {
+    @Override
+    public String getDescription() {
+      return "Number of lookups in the authorization cache which were misses, i.e. the effective"
+          + " permissions had to be resolved from the state";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.authorization.cache.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return AuthorizationCacheKeyNames.values();
+    }
+  },
+
+  INVALIDATIONS {
+    @Override
+    public String getDescription() {
+      return "Number of entries removed from the authorization cache because memberships,"
+          + " authorizations or mapping rules changed";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.authorization.cache.invalidations";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return AuthorizationCacheKeyNames.values();
+    }
+  };
+
+  public enum AuthorizationCacheKeyNames implements KeyName {
+    /** The kind of cached entries, see {@link AuthorizationCacheType} */
+    CACHE {
+      @Override
+      public String asString() {
+        return "cache";
+      }
+    }
+  }
+
+  public enum AuthorizationCacheType {
+    /** The tenants a principal is assigned to */
+    TENANTS("tenants"),
+    /** The resources a principal is authorized for, per resource type and permission type */
+    PERMISSIONS("permissions"),
+    /** All mapping rules, which are matched against the claims of a command */
+    MAPPING_RULES("mappingRules");
+
+    private final String tagValue;
+
+    AuthorizationCacheType(final String tagValue) {
+      this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+      return tagValue;
+    }
+  }
+}
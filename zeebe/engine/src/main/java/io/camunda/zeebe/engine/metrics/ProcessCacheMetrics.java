@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ProcessCacheMetrics {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+  private final AtomicLong weight = new AtomicLong();
+
+  public ProcessCacheMetrics(final MeterRegistry meterRegistry) {
+    hits = registerCounter(ProcessCacheMetricsDoc.HITS, meterRegistry);
+    misses = registerCounter(ProcessCacheMetricsDoc.MISSES, meterRegistry);
+    evictions = registerCounter(ProcessCacheMetricsDoc.EVICTIONS, meterRegistry);
+    Gauge.builder(ProcessCacheMetricsDoc.WEIGHT.getName(), weight, AtomicLong::get)
+        .description(ProcessCacheMetricsDoc.WEIGHT.getDescription())
+        .baseUnit(ProcessCacheMetricsDoc.WEIGHT.getBaseUnit())
+        .register(meterRegistry);
+  }
+
+  public void hit() {
+    hits.increment();
+  }
+
+  public void miss() {
+    misses.increment();
+  }
+
+  public void evicted() {
+    evictions.increment();
+  }
+
+  public void added(final int weight) {
+    this.weight.addAndGet(weight);
+  }
+
+  public void removed(final int weight) {
+    this.weight.addAndGet(-weight);
+  }
+
+  private static Counter registerCounter(
+      final ProcessCacheMetricsDoc doc, final MeterRegistry meterRegistry) {
+    return Counter.builder(doc.getName())
+        .description(doc.getDescription())
+        .register(meterRegistry);
+  }
+}
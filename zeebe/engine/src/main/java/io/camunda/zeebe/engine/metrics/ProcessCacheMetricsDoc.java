@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.micrometer.core.instrument.Meter.Type;
+
+/** Metrics of the process cache which is shared by all partitions of a broker. */
+public enum ProcessCacheMetricsDoc implements ExtendedMeterDocumentation {
+  HITS {
+    @Override
+    public String getDescription() {
+      return "Number of lookups of a parsed process in the shared process cache which were hits";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.process.cache.shared.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+  },
+
+  MISSES {
+    @Override
+    public String getDescription() {
+      return "Number of lookups of a parsed process in the shared process cache which were misses,"
+          + " i.e. the process had to be parsed";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.process.cache.shared.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+  },
+
+  EVICTIONS {
+    @Override
+    public String getDescription() {
+      return "Number of parsed processes evicted from the shared process cache to stay within its"
+          + " maximum size";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.process.cache.shared.evictions";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+  },
+
+  WEIGHT {
+    @Override
+    public String getDescription() {
+      return "Summed size in bytes of the BPMN resources of all processes in the shared process"
+          + " cache";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.process.cache.shared.weight";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+  }
+}
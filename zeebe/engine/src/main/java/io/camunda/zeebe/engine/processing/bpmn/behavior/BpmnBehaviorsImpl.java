@@ -156,7 +156,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
         new MultiInstanceInputCollectionBehavior(
             expressionBehavior, stateBehavior, writers.state());
     multiInstanceOutputCollectionBehavior =
-        new MultiInstanceOutputCollectionBehavior(stateBehavior, expressionBehavior());
+        new MultiInstanceOutputCollectionBehavior(
+            stateBehavior, expressionBehavior(), writers.state());
 
     elementActivationBehavior =
         new ElementActivationBehavior(
@@ -46,6 +46,7 @@ public class BpmnJobActivationBehavior {
   private final KeyGenerator keyGenerator;
   private final JobProcessingMetrics jobMetrics;
   private final InstantSource clock;
+  private final int partitionId;
 
   public BpmnJobActivationBehavior(
       final JobStreamer jobStreamer,
@@ -61,6 +62,7 @@ public class BpmnJobActivationBehavior {
     stateWriter = writers.state();
     sideEffectWriter = writers.sideEffect();
     this.clock = clock;
+    partitionId = state.getPartitionId();
   }
 
   public void publishWork(final long jobKey, final JobRecord jobRecord) {
@@ -111,7 +113,7 @@ public class BpmnJobActivationBehavior {
   private void notifyJobAvailable(final String jobType, final JobKind jobKind) {
     sideEffectWriter.appendSideEffect(
         () -> {
-          jobStreamer.notifyWorkAvailable(jobType);
+          jobStreamer.notifyWorkAvailable(partitionId, jobType);
           jobMetrics.countJobEvent(JobAction.WORKERS_NOTIFIED, jobKind, jobType);
           return true;
         });
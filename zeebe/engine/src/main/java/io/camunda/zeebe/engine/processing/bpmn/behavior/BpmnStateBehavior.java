@@ -29,6 +29,7 @@ import io.camunda.zeebe.util.Either;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
@@ -319,4 +320,9 @@ public final class BpmnStateBehavior {
   public Optional<List<DirectBuffer>> getInputCollection(final long multiInstanceKey) {
     return multiInstanceState.getInputCollection(multiInstanceKey);
   }
+
+  public void forEachOutputElement(
+      final long multiInstanceKey, final ObjIntConsumer<DirectBuffer> visitor) {
+    multiInstanceState.forEachOutputElement(multiInstanceKey, visitor);
+  }
 }
@@ -12,11 +12,15 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
 import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.impl.record.value.multiinstance.MultiInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
 import java.util.Optional;
@@ -24,8 +28,24 @@ import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * Collects the output elements of the inner instances of a multi-instance body into its output
+ * collection.
+ *
+ * <p>Usually, the output collection variable is updated whenever an inner instance completes, such
+ * that the progress is visible while the body is active. As every update rewrites the whole
+ * collection, and writes it as a variable record, this costs O(N²) for a collection of N elements.
+ * Therefore, the output elements of large parallel multi-instance bodies are only collected in the
+ * state, and written to the output collection at once when the body completes. This is not done for
+ * sequential bodies, nor for bodies with a completion condition, as their inner instances or the
+ * completion condition may read the output collection.
+ */
 public final class MultiInstanceOutputCollectionBehavior {
 
+  /** The minimum size of the input collection from which output elements are collected in state. */
+  static final int COLLECT_ON_COMPLETION_THRESHOLD = 100;
+
+  private final MultiInstanceRecord outputElementRecord = new MultiInstanceRecord();
   private final MsgPackReader outputCollectionReader = new MsgPackReader();
   private final MsgPackWriter outputCollectionWriter = new MsgPackWriter();
   private final ExpandableArrayBuffer outputCollectionBuffer = new ExpandableArrayBuffer();
@@ -33,11 +53,19 @@ public final class MultiInstanceOutputCollectionBehavior {
 
   private final BpmnStateBehavior stateBehavior;
   private final ExpressionProcessor expressionProcessor;
+  private final StateWriter stateWriter;
+
+  private int collectionSize;
+  private int nextIndex;
+  private Failure mergeFailure;
 
   MultiInstanceOutputCollectionBehavior(
-      final BpmnStateBehavior stateBehavior, final ExpressionProcessor expressionProcessor) {
+      final BpmnStateBehavior stateBehavior,
+      final ExpressionProcessor expressionProcessor,
+      final StateWriter stateWriter) {
     this.stateBehavior = stateBehavior;
     this.expressionProcessor = expressionProcessor;
+    this.stateWriter = stateWriter;
   }
 
   public void initializeOutputCollection(
@@ -56,20 +84,150 @@ public final class MultiInstanceOutputCollectionBehavior {
     stateBehavior.setLocalVariable(context, variableName, outputCollectionBuffer, 0, length);
   }
 
+  /**
+   * Adds the output element of the completed inner instance to the output collection, or collects
+   * it in the state until the body completes.
+   *
+   * @param inputCollectionSize the size of the input collection of the body
+   */
   public Either<Failure, Void> updateOutputCollection(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
-      final BpmnElementContext flowScopeContext) {
+      final BpmnElementContext flowScopeContext,
+      final int inputCollectionSize) {
 
-    return element
-        .getLoopCharacteristics()
+    final var loopCharacteristics = element.getLoopCharacteristics();
+    return loopCharacteristics
         .getOutputCollection()
         .map(
             variableName ->
-                updateOutputCollection(element, childContext, flowScopeContext, variableName))
+                isCollectedOnCompletion(loopCharacteristics, inputCollectionSize)
+                    ? collectOutputElement(element, childContext, flowScopeContext)
+                    : updateOutputCollection(element, childContext, flowScopeContext, variableName))
+        .orElse(Either.right(null));
+  }
+
+  /**
+   * Writes the output elements which were collected in the state to the output collection. Must be
+   * called before the body completes, as the collected elements are removed on completion.
+   */
+  public Either<Failure, Void> completeOutputCollection(
+      final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    return element
+        .getLoopCharacteristics()
+        .getOutputCollection()
+        .map(variableName -> writeCollectedOutputElements(context, variableName))
         .orElse(Either.right(null));
   }
 
+  private static boolean isCollectedOnCompletion(
+      final ExecutableLoopCharacteristics loopCharacteristics, final int inputCollectionSize) {
+    return !loopCharacteristics.isSequential()
+        && loopCharacteristics.getCompletionCondition().isEmpty()
+        && inputCollectionSize >= COLLECT_ON_COMPLETION_THRESHOLD;
+  }
+
+  private Either<Failure, Void> collectOutputElement(
+      final ExecutableMultiInstanceBody element,
+      final BpmnElementContext childContext,
+      final BpmnElementContext flowScopeContext) {
+
+    final var loopCounter =
+        stateBehavior.getElementInstance(childContext).getMultiInstanceLoopCounter();
+
+    return readOutputElementVariable(element, childContext)
+        .map(
+            elementVariable -> {
+              outputElementRecord.reset();
+              outputElementRecord.setLoopCounter(loopCounter).setOutputElement(elementVariable);
+              stateWriter.appendFollowUpEvent(
+                  flowScopeContext.getElementInstanceKey(),
+                  MultiInstanceIntent.OUTPUT_ELEMENT_COLLECTED,
+                  outputElementRecord);
+              return null;
+            });
+  }
+
+  private Either<Failure, Void> writeCollectedOutputElements(
+      final BpmnElementContext context, final DirectBuffer variableName) {
+
+    final var currentCollection = stateBehavior.getLocalVariable(context, variableName);
+    nextIndex = 0;
+    mergeFailure = null;
+    outputCollectionWriter.wrap(outputCollectionBuffer, 0);
+
+    stateBehavior.forEachOutputElement(
+        context.getElementInstanceKey(),
+        (outputElement, loopCounter) ->
+            mergeOutputElement(
+                currentCollection, loopCounter, outputElement, context, variableName));
+
+    if (mergeFailure != null) {
+      return Either.left(mergeFailure);
+    }
+    if (nextIndex == 0) {
+      // no output elements were collected in the state
+      return Either.right(null);
+    }
+
+    final var offset = outputCollectionReader.getOffset();
+    outputCollectionWriter.writeRaw(
+        currentCollection, offset, currentCollection.capacity() - offset);
+    stateBehavior.setLocalVariable(
+        context, variableName, outputCollectionBuffer, 0, outputCollectionWriter.getOffset());
+    return Either.right(null);
+  }
+
+  /**
+   * Copies the current collection up to the given position into the output collection buffer, and
+   * the output element at the position. The output elements are visited in the order of their loop
+   * counter, so the current collection is copied in a single pass.
+   */
+  private void mergeOutputElement(
+      final DirectBuffer currentCollection,
+      final int loopCounter,
+      final DirectBuffer outputElement,
+      final BpmnElementContext context,
+      final DirectBuffer variableName) {
+    if (mergeFailure != null) {
+      return;
+    }
+
+    final var variableScopeKey = context.getElementInstanceKey();
+    if (nextIndex == 0) {
+      if (currentCollection == null) {
+        mergeFailure = outputCollectionIsNil(variableName, variableScopeKey);
+        return;
+      }
+
+      outputCollectionReader.wrap(currentCollection, 0, currentCollection.capacity());
+      final var token = outputCollectionReader.readToken();
+      final var optValidationFailure =
+          validateIsCollectionAndHasAppropriateSIze(
+              loopCounter, variableScopeKey, variableName, token);
+      if (optValidationFailure.isPresent()) {
+        mergeFailure = optValidationFailure.get();
+        return;
+      }
+
+      collectionSize = token.getSize();
+      nextIndex = 1;
+      outputCollectionWriter.writeRaw(currentCollection, 0, outputCollectionReader.getOffset());
+    } else if (loopCounter > collectionSize) {
+      mergeFailure = indexOutOfBounds(loopCounter, collectionSize, variableScopeKey, variableName);
+      return;
+    }
+
+    final var offsetBefore = outputCollectionReader.getOffset();
+    outputCollectionReader.skipValues((long) loopCounter - nextIndex);
+    final var offsetElement = outputCollectionReader.getOffset();
+    outputCollectionReader.skipValue();
+
+    outputCollectionWriter.writeRaw(currentCollection, offsetBefore, offsetElement - offsetBefore);
+    outputCollectionWriter.writeRaw(outputElement);
+    nextIndex = loopCounter + 1;
+  }
+
   private Either<Failure, Void> updateOutputCollection(
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext childContext,
@@ -90,11 +248,7 @@ public final class MultiInstanceOutputCollectionBehavior {
                   stateBehavior.getLocalVariable(flowScopeContext, variableName);
               if (currentCollection == null) {
                 return Either.left(
-                    new Failure(
-                        "Expected the output collection variable '%s' to be of type list, but it was NIL"
-                            .formatted(bufferAsString(variableName)),
-                        ErrorType.EXTRACT_VALUE_ERROR,
-                        flowScopeContext.getElementInstanceKey()));
+                    outputCollectionIsNil(variableName, flowScopeContext.getElementInstanceKey()));
               }
               return replaceAt(
                       currentCollection,
@@ -166,13 +320,29 @@ public final class MultiInstanceOutputCollectionBehavior {
 
     final int size = token.getSize();
     if (index > size) {
-      return Optional.of(
-          new Failure(
-              "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
-                  .formatted(bufferAsString(variableName), index, size),
-              ErrorType.EXTRACT_VALUE_ERROR,
-              variableScopeKey));
+      return Optional.of(indexOutOfBounds(index, size, variableScopeKey, variableName));
     }
     return Optional.empty();
   }
+
+  private static Failure outputCollectionIsNil(
+      final DirectBuffer variableName, final long variableScopeKey) {
+    return new Failure(
+        "Expected the output collection variable '%s' to be of type list, but it was NIL"
+            .formatted(bufferAsString(variableName)),
+        ErrorType.EXTRACT_VALUE_ERROR,
+        variableScopeKey);
+  }
+
+  private static Failure indexOutOfBounds(
+      final int index,
+      final int size,
+      final long variableScopeKey,
+      final DirectBuffer variableName) {
+    return new Failure(
+        "Unable to update an item in output collection '%s' at position %d because the size of the collection is: %d. This may happen when multiple BPMN elements write to the same variable."
+            .formatted(bufferAsString(variableName), index, size),
+        ErrorType.EXTRACT_VALUE_ERROR,
+        variableScopeKey);
+  }
 }
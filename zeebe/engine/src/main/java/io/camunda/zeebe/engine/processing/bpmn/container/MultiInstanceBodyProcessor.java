@@ -103,6 +103,11 @@ public final class MultiInstanceBodyProcessor
   @Override
   public Either<Failure, ?> onComplete(
       final ExecutableMultiInstanceBody element, final BpmnElementContext context) {
+    final var outputCollectionCompleted =
+        multiInstanceOutputCollectionBehavior.completeOutputCollection(element, context);
+    if (outputCollectionCompleted.isLeft()) {
+      return outputCollectionCompleted;
+    }
 
     eventSubscriptionBehavior.unsubscribeFromEvents(context);
 
@@ -184,9 +189,19 @@ public final class MultiInstanceBodyProcessor
       final ExecutableMultiInstanceBody element,
       final BpmnElementContext flowScopeContext,
       final BpmnElementContext childContext) {
+    // Test that input collection variable can be evaluated correctly.
+    // This should not be necessary now that we fetch the input collection from the state. However,
+    // to remain backwards compatible we need to keep this check, as there could be existing multi
+    // instance bodies that do not have an input collection stored in the state. Its size also
+    // determines how the output collection is updated.
+    final var inputCollectionOrFailure =
+        multiInstanceInputCollectionBehavior.getInputCollection(element, flowScopeContext);
+    final int inputCollectionSize =
+        inputCollectionOrFailure.isRight() ? inputCollectionOrFailure.get().size() : 0;
+
     final var updatedOrFailure =
         multiInstanceOutputCollectionBehavior.updateOutputCollection(
-            element, childContext, flowScopeContext);
+            element, childContext, flowScopeContext, inputCollectionSize);
     if (updatedOrFailure.isLeft()) {
       return updatedOrFailure;
     }
@@ -198,13 +213,7 @@ public final class MultiInstanceBodyProcessor
       return satisfiesCompletionConditionOrFailure;
     }
 
-    // Test that input collection variable can be evaluated correctly.
-    // This should not be necessary now that we fetch the input collection from the state. However,
-    // to remain backwards compatible we need to keep this check, as there could be existing multi
-    // instance bodies that do not have an input collection stored in the state.
-    return multiInstanceInputCollectionBehavior
-        .getInputCollection(element, flowScopeContext)
-        .map(ok -> satisfiesCompletionConditionOrFailure.get());
+    return inputCollectionOrFailure.map(ok -> satisfiesCompletionConditionOrFailure.get());
   }
 
   @Override
@@ -0,0 +1,563 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.StaticExpression;
+import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableActivity;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableEndEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElementContainer;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowNode;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableStartEvent;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutionListener;
+import io.camunda.zeebe.engine.processing.deployment.model.element.JobWorkerProperties;
+import io.camunda.zeebe.engine.processing.deployment.model.element.LinkedResource;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeBindingType;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeExecutionListenerEventType;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Encodes an {@link ExecutableProcess} into a compact binary form, and decodes it again without
+ * reading and transforming the BPMN XML it was created from. Expressions are stored as their raw
+ * text and parsed again when the process is decoded.
+ *
+ * <p>The format covers the elements of straight-through processes: none start events, none and
+ * terminate end events, tasks, service and send tasks, exclusive and parallel gateways, and
+ * sequence flows, including their variable mappings and execution listeners. Processes with any
+ * other element, or with events attached to their activities, are not encoded and must be
+ * transformed from their XML instead.
+ *
+ * <p>The encoded form starts with the {@link #FORMAT_VERSION}. Processes encoded with another
+ * version are not decoded, such that changes of the executable model or of this format only need
+ * a new version, and not a migration of the stored processes.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class ExecutableProcessCodec {
+
+  /** The version of the format; it must be incremented on every change of the format. */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final DirectBuffer NOT_ENCODED = new UnsafeBuffer();
+  private static final String FEEL_EXPRESSION_MARKER = "=";
+
+  private final ExpressionLanguage expressionLanguage;
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  public ExecutableProcessCodec(final ExpressionLanguage expressionLanguage) {
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  /**
+   * Encodes the given process.
+   *
+   * @param process the process to encode
+   * @return the encoded process, or an empty buffer if the process contains elements which are not
+   *     covered by the format
+   */
+  public DirectBuffer encode(final ExecutableProcess process) {
+    if (!canEncode(process)) {
+      return NOT_ENCODED;
+    }
+
+    final List<AbstractFlowElement> elements =
+        process.getFlowElements().stream().filter(element -> element != process).toList();
+
+    final var buffer = new ExpandableArrayBuffer();
+    writer.wrap(buffer, 0);
+    writer.writeInteger(FORMAT_VERSION);
+    writeElement(process);
+    writeIds(process.getStartEvents());
+    writer.writeArrayHeader(elements.size());
+    elements.forEach(this::writeElement);
+
+    return new UnsafeBuffer(Arrays.copyOf(buffer.byteArray(), writer.getOffset()));
+  }
+
+  /**
+   * Decodes a process which was encoded by {@link #encode(ExecutableProcess)}.
+   *
+   * @param buffer the encoded process
+   * @return the decoded process, or {@code null} if it was encoded with another format version
+   */
+  public ExecutableProcess decode(final DirectBuffer buffer) {
+    reader.wrap(buffer, 0, buffer.capacity());
+    if (reader.readInteger() != FORMAT_VERSION) {
+      return null;
+    }
+
+    // references between elements are resolved once all elements are created
+    final List<Consumer<ExecutableProcess>> references = new ArrayList<>();
+    final var process = (ExecutableProcess) readElement(references);
+    final var startEventIds = readIds();
+
+    final int elementCount = reader.readArrayHeader();
+    for (int i = 0; i < elementCount; i++) {
+      process.addFlowElement(readElement(references));
+    }
+
+    references.forEach(reference -> reference.accept(process));
+    startEventIds.forEach(
+        id -> process.addStartEvent(process.getElementById(id, ExecutableStartEvent.class)));
+
+    return process;
+  }
+
+  private boolean canEncode(final ExecutableProcess process) {
+    return ElementKind.of(process) == ElementKind.PROCESS
+        && hasNoEvents(process)
+        && canEncodeFlowNode(process)
+        && process.getFlowElements().stream()
+            .filter(element -> element != process)
+            .allMatch(element -> canEncode(process, element));
+  }
+
+  private boolean canEncode(final ExecutableProcess process, final AbstractFlowElement element) {
+    final var kind = ElementKind.of(element);
+    if (kind == null || kind == ElementKind.PROCESS) {
+      return false;
+    }
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      return sequenceFlow.getFlowScope() == null && canEncode(sequenceFlow.getCondition());
+    }
+
+    final var flowNode = (ExecutableFlowNode) element;
+    if (flowNode.getFlowScope() != process || !canEncodeFlowNode(flowNode)) {
+      return false;
+    }
+
+    return switch (kind) {
+      case START_EVENT -> canEncode((ExecutableStartEvent) element);
+      case END_EVENT -> canEncode((ExecutableEndEvent) element);
+      case ACTIVITY -> hasNoEvents((ExecutableActivity) element);
+      case JOB_WORKER_TASK -> {
+        final var task = (ExecutableJobWorkerTask) element;
+        yield hasNoEvents(task) && canEncode(task.getJobWorkerProperties());
+      }
+      default -> true;
+    };
+  }
+
+  private boolean canEncode(final ExecutableStartEvent startEvent) {
+    return startEvent.isNone()
+        && startEvent.getEventType() == BpmnEventType.NONE
+        && !startEvent.isConnectedToEventBasedGateway()
+        && startEvent.getEventSubProcess() == null
+        && startEvent.getCompensation() == null;
+  }
+
+  private boolean canEncode(final ExecutableEndEvent endEvent) {
+    final var eventType = endEvent.getEventType();
+    return endEvent.getError() == null
+        && endEvent.getEscalation() == null
+        && endEvent.getSignal() == null
+        && endEvent.getCompensation() == null
+        && endEvent.getJobWorkerProperties() == null
+        && (endEvent.isTerminateEndEvent()
+            ? eventType == BpmnEventType.TERMINATE
+            : eventType == BpmnEventType.NONE);
+  }
+
+  private boolean canEncodeFlowNode(final ExecutableFlowNode flowNode) {
+    return canEncode(flowNode.getInputMappings().orElse(null))
+        && canEncode(flowNode.getOutputMappings().orElse(null))
+        && getExecutionListeners(flowNode).stream()
+            .allMatch(listener -> canEncode(listener.getJobWorkerProperties()));
+  }
+
+  private boolean canEncode(final JobWorkerProperties properties) {
+    // the user task properties are only set for user tasks, which are not covered by the format
+    return properties == null
+        || (properties.getAssignee() == null
+            && properties.getCandidateGroups() == null
+            && properties.getCandidateUsers() == null
+            && properties.getDueDate() == null
+            && properties.getExternalFormReference() == null
+            && properties.getFollowUpDate() == null
+            && properties.getFormId() == null
+            && properties.getPriority() == null
+            && properties.getFormBindingType() == null
+            && properties.getFormVersionTag() == null
+            && canEncode(properties.getType())
+            && canEncode(properties.getRetries()));
+  }
+
+  private boolean canEncode(final Expression expression) {
+    if (expression == null || expression instanceof FeelExpression) {
+      return true;
+    }
+    // a static expression is only parsed as such again if it doesn't look like a FEEL expression
+    return expression instanceof StaticExpression && !isFeelExpression(expression.getExpression());
+  }
+
+  private static boolean isFeelExpression(final String expression) {
+    return expression.length() > FEEL_EXPRESSION_MARKER.length()
+        && expression.startsWith(FEEL_EXPRESSION_MARKER);
+  }
+
+  private static boolean hasNoEvents(final ExecutableActivity activity) {
+    return activity.getEvents().isEmpty()
+        && activity.getBoundaryEvents().isEmpty()
+        && activity.getEventSubprocesses().isEmpty();
+  }
+
+  private static List<ExecutionListener> getExecutionListeners(final ExecutableFlowNode flowNode) {
+    return Stream.concat(
+            flowNode.getStartExecutionListeners().stream(),
+            flowNode.getEndExecutionListeners().stream())
+        .toList();
+  }
+
+  private void writeElement(final AbstractFlowElement element) {
+    final var kind = ElementKind.of(element);
+    writer.writeInteger(kind.ordinal());
+    writer.writeString(element.getId());
+    writeBuffer(element.getName());
+    writeBuffer(element.getDocumentation());
+    writeEnum(element.getElementType());
+    writeEnum(element.getEventType());
+    writeMap(element.getProperties());
+    writeId(element.getFlowScope());
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      writeExpression(sequenceFlow.getCondition());
+      writeId(sequenceFlow.getSource());
+      writeId(sequenceFlow.getTarget());
+      return;
+    }
+
+    final var flowNode = (ExecutableFlowNode) element;
+    writeExpression(flowNode.getInputMappings().orElse(null));
+    writeExpression(flowNode.getOutputMappings().orElse(null));
+    writeExecutionListeners(getExecutionListeners(flowNode));
+    writeIds(flowNode.getIncoming());
+    writeIds(flowNode.getOutgoing());
+
+    switch (kind) {
+      case START_EVENT -> writer.writeBoolean(((ExecutableStartEvent) element).interrupting());
+      case END_EVENT -> writer.writeBoolean(((ExecutableEndEvent) element).isTerminateEndEvent());
+      case JOB_WORKER_TASK ->
+          writeJobWorkerProperties(((ExecutableJobWorkerTask) element).getJobWorkerProperties());
+      case EXCLUSIVE_GATEWAY -> writeId(((ExecutableExclusiveGateway) element).getDefaultFlow());
+      default -> {
+        // no kind-specific properties
+      }
+    }
+  }
+
+  private void writeExecutionListeners(final List<ExecutionListener> listeners) {
+    writer.writeArrayHeader(listeners.size());
+    for (final var listener : listeners) {
+      final var properties = listener.getJobWorkerProperties();
+      writeEnum(listener.getEventType());
+      writeExpression(properties.getType());
+      writeExpression(properties.getRetries());
+      writeMap(properties.getTaskHeaders());
+    }
+  }
+
+  private void writeJobWorkerProperties(final JobWorkerProperties properties) {
+    if (properties == null) {
+      writer.writeNil();
+      return;
+    }
+
+    writer.writeArrayHeader(4);
+    writeExpression(properties.getType());
+    writeExpression(properties.getRetries());
+    writeMap(properties.getTaskHeaders());
+
+    final var linkedResources = properties.getLinkedResources();
+    if (linkedResources == null) {
+      writer.writeNil();
+      return;
+    }
+
+    writer.writeArrayHeader(linkedResources.size());
+    for (final var linkedResource : linkedResources) {
+      writeString(linkedResource.getResourceId());
+      writeString(linkedResource.getResourceType());
+      writeString(linkedResource.getLinkName());
+      writeEnum(linkedResource.getBindingType());
+      writeString(linkedResource.getVersionTag());
+    }
+  }
+
+  private void writeExpression(final Expression expression) {
+    if (expression == null) {
+      writer.writeNil();
+    } else if (expression instanceof FeelExpression) {
+      writeString(FEEL_EXPRESSION_MARKER + expression.getExpression());
+    } else {
+      writeString(expression.getExpression());
+    }
+  }
+
+  private void writeIds(final List<? extends ExecutableFlowElement> elements) {
+    writer.writeArrayHeader(elements.size());
+    elements.forEach(this::writeId);
+  }
+
+  private void writeId(final ExecutableFlowElement element) {
+    writeBuffer(element == null ? null : element.getId());
+  }
+
+  private void writeMap(final Map<String, String> map) {
+    writer.writeMapHeader(map.size());
+    map.forEach(
+        (key, value) -> {
+          writeString(key);
+          writeString(value);
+        });
+  }
+
+  private void writeEnum(final Enum<?> value) {
+    writeString(value == null ? null : value.name());
+  }
+
+  private void writeString(final String value) {
+    writeBuffer(value == null ? null : wrapString(value));
+  }
+
+  private void writeBuffer(final DirectBuffer value) {
+    if (value == null) {
+      writer.writeNil();
+    } else {
+      writer.writeString(value);
+    }
+  }
+
+  private AbstractFlowElement readElement(final List<Consumer<ExecutableProcess>> references) {
+    final var kind = ElementKind.values()[(int) reader.readInteger()];
+    final var element = kind.newElement(readString());
+    element.setName(readBuffer());
+    element.setDocumentation(readBuffer());
+    element.setElementType(readEnum(BpmnElementType.class));
+    element.setEventType(readEnum(BpmnEventType.class));
+    element.setProperties(readMap(Collections.emptyMap()));
+
+    final var flowScopeId = readString();
+    if (flowScopeId != null) {
+      references.add(process -> setFlowScope(element, process.getElementById(flowScopeId)));
+    }
+
+    if (element instanceof final ExecutableSequenceFlow sequenceFlow) {
+      sequenceFlow.setCondition(readExpression());
+      final var sourceId = readString();
+      final var targetId = readString();
+      references.add(
+          process -> {
+            sequenceFlow.setSource(process.getElementById(sourceId, ExecutableFlowNode.class));
+            sequenceFlow.setTarget(process.getElementById(targetId, ExecutableFlowNode.class));
+          });
+      return element;
+    }
+
+    final var flowNode = (ExecutableFlowNode) element;
+    final var inputMappings = readExpression();
+    if (inputMappings != null) {
+      flowNode.setInputMappings(inputMappings);
+    }
+    final var outputMappings = readExpression();
+    if (outputMappings != null) {
+      flowNode.setOutputMappings(outputMappings);
+    }
+    readExecutionListeners(flowNode);
+
+    final var incomingIds = readIds();
+    final var outgoingIds = readIds();
+    // the conditions of all sequence flows are read at this point, which the exclusive gateway
+    // relies on when adding its outgoing sequence flows
+    references.add(
+        process -> {
+          incomingIds.forEach(
+              id -> flowNode.addIncoming(process.getElementById(id, ExecutableSequenceFlow.class)));
+          outgoingIds.forEach(
+              id -> flowNode.addOutgoing(process.getElementById(id, ExecutableSequenceFlow.class)));
+        });
+
+    switch (kind) {
+      case START_EVENT -> ((ExecutableStartEvent) element).setInterrupting(reader.readBoolean());
+      case END_EVENT -> ((ExecutableEndEvent) element).setTerminateEndEvent(reader.readBoolean());
+      case JOB_WORKER_TASK ->
+          ((ExecutableJobWorkerTask) element).setJobWorkerProperties(readJobWorkerProperties());
+      case EXCLUSIVE_GATEWAY -> {
+        final var defaultFlowId = readString();
+        if (defaultFlowId != null) {
+          references.add(
+              process ->
+                  ((ExecutableExclusiveGateway) element)
+                      .setDefaultFlow(
+                          process.getElementById(defaultFlowId, ExecutableSequenceFlow.class)));
+        }
+      }
+      default -> {
+        // no kind-specific properties
+      }
+    }
+
+    return element;
+  }
+
+  private static void setFlowScope(
+      final AbstractFlowElement element, final AbstractFlowElement flowScope) {
+    element.setFlowScope(flowScope);
+    if (flowScope instanceof final ExecutableFlowElementContainer container) {
+      container.addChildElement(element);
+    }
+  }
+
+  private void readExecutionListeners(final ExecutableFlowNode flowNode) {
+    final int listenerCount = reader.readArrayHeader();
+    for (int i = 0; i < listenerCount; i++) {
+      final var eventType = readEnum(ZeebeExecutionListenerEventType.class);
+      final var type = readExpression();
+      final var retries = readExpression();
+      final var taskHeaders = readMap(Map.of());
+      flowNode.addListener(eventType, type, retries, taskHeaders);
+    }
+  }
+
+  private JobWorkerProperties readJobWorkerProperties() {
+    if (reader.readToken().getType() == MsgPackType.NIL) {
+      return null;
+    }
+
+    final var properties = new JobWorkerProperties();
+    properties.setType(readExpression());
+    properties.setRetries(readExpression());
+    properties.setTaskHeaders(readMap(Map.of()));
+
+    final var linkedResourcesToken = reader.readToken();
+    if (linkedResourcesToken.getType() != MsgPackType.NIL) {
+      final int linkedResourceCount = linkedResourcesToken.getSize();
+      final List<LinkedResource> linkedResources = new ArrayList<>(linkedResourceCount);
+      for (int i = 0; i < linkedResourceCount; i++) {
+        final var linkedResource = new LinkedResource();
+        linkedResource.setResourceId(readString());
+        linkedResource.setResourceType(readString());
+        linkedResource.setLinkName(readString());
+        linkedResource.setBindingType(readEnum(ZeebeBindingType.class));
+        linkedResource.setVersionTag(readString());
+        linkedResources.add(linkedResource);
+      }
+      properties.setLinkedResources(linkedResources);
+    }
+
+    return properties;
+  }
+
+  private Expression readExpression() {
+    final var expression = readString();
+    return expression == null ? null : expressionLanguage.parseExpression(expression);
+  }
+
+  private List<String> readIds() {
+    final int size = reader.readArrayHeader();
+    final List<String> ids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add(readString());
+    }
+    return ids;
+  }
+
+  private Map<String, String> readMap(final Map<String, String> emptyMap) {
+    final int size = reader.readMapHeader();
+    if (size == 0) {
+      return emptyMap;
+    }
+
+    final Map<String, String> map = new HashMap<>(size);
+    for (int i = 0; i < size; i++) {
+      map.put(readString(), readString());
+    }
+    return map;
+  }
+
+  private <T extends Enum<T>> T readEnum(final Class<T> enumType) {
+    final var name = readString();
+    return name == null ? null : Enum.valueOf(enumType, name);
+  }
+
+  private DirectBuffer readBuffer() {
+    final var value = readString();
+    return value == null ? null : wrapString(value);
+  }
+
+  private String readString() {
+    final var token = reader.readToken();
+    return token.getType() == MsgPackType.NIL ? null : bufferAsString(token.getValueBuffer());
+  }
+
+  /**
+   * The kinds of elements covered by the format, identified by their exact class. The ordinal of a
+   * kind is part of the format.
+   */
+  private enum ElementKind {
+    PROCESS(ExecutableProcess.class, ExecutableProcess::new),
+    START_EVENT(ExecutableStartEvent.class, ExecutableStartEvent::new),
+    END_EVENT(ExecutableEndEvent.class, ExecutableEndEvent::new),
+    ACTIVITY(ExecutableActivity.class, ExecutableActivity::new),
+    JOB_WORKER_TASK(ExecutableJobWorkerTask.class, ExecutableJobWorkerTask::new),
+    FLOW_NODE(ExecutableFlowNode.class, ExecutableFlowNode::new),
+    EXCLUSIVE_GATEWAY(ExecutableExclusiveGateway.class, ExecutableExclusiveGateway::new),
+    SEQUENCE_FLOW(ExecutableSequenceFlow.class, ExecutableSequenceFlow::new);
+
+    private final Class<? extends AbstractFlowElement> type;
+    private final Function<String, AbstractFlowElement> factory;
+
+    ElementKind(
+        final Class<? extends AbstractFlowElement> type,
+        final Function<String, AbstractFlowElement> factory) {
+      this.type = type;
+      this.factory = factory;
+    }
+
+    private AbstractFlowElement newElement(final String id) {
+      return factory.apply(id);
+    }
+
+    private static ElementKind of(final AbstractFlowElement element) {
+      for (final var kind : values()) {
+        if (kind.type == element.getClass()) {
+          return kind;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -14,7 +14,9 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.ChecksumGenerator;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessCodec;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.StraightThroughProcessingLoopValidator;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.UnsupportedMultiTenantFeaturesValidator;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
@@ -36,12 +38,14 @@ import java.time.InstantSource;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 import org.camunda.bpm.model.xml.ModelParseException;
 
 public final class BpmnResourceTransformer implements DeploymentResourceTransformer {
 
   private final BpmnTransformer bpmnTransformer;
+  private final ExecutableProcessCodec processCodec;
 
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
@@ -61,6 +65,7 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final EngineConfiguration config,
       final InstantSource clock) {
     bpmnTransformer = BpmnFactory.createTransformer(clock);
+    processCodec = new ExecutableProcessCodec(bpmnTransformer.getExpressionLanguage());
     this.keyGenerator = keyGenerator;
     this.stateWriter = stateWriter;
     this.checksumGenerator = checksumGenerator;
@@ -102,7 +107,8 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
                         })
                     .map(
                         ok -> {
-                          createProcessMetadata(deployment, resource, definition, context);
+                          createProcessMetadata(
+                              deployment, resource, definition, executableProcesses, context);
                           return null;
                         });
 
@@ -186,6 +192,7 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final DeploymentRecord deploymentEvent,
       final DeploymentResource deploymentResource,
       final BpmnModelInstance definition,
+      final List<ExecutableProcess> executableProcesses,
       final DeploymentResourceContext context) {
     for (final Process process : getExecutableProcesses(definition)) {
       final String bpmnProcessId = process.getId();
@@ -207,6 +214,9 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
           .setResourceName(deploymentResource.getResourceNameBuffer())
           .setTenantId(tenantId);
       getOptionalVersionTag(process).ifPresent(processMetadata::setVersionTag);
+      // the compiled form is stored with the process, such that neither the event applier nor a
+      // later lookup of the process needs to transform the resource again
+      processMetadata.setExecutableProcess(encode(bpmnProcessId, executableProcesses));
 
       final var isDuplicate =
           isDuplicateOfLatest(deploymentResource, resourceDigest, lastProcess, lastDigest);
@@ -229,6 +239,15 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
     }
   }
 
+  private DirectBuffer encode(
+      final String bpmnProcessId, final List<ExecutableProcess> executableProcesses) {
+    return executableProcesses.stream()
+        .filter(process -> BufferUtil.bufferAsString(process.getId()).equals(bpmnProcessId))
+        .findFirst()
+        .map(processCodec::encode)
+        .orElseGet(UnsafeBuffer::new);
+  }
+
   private List<Process> getExecutableProcesses(final BpmnModelInstance modelInstance) {
     return modelInstance.getDefinitions().getChildElementsByType(Process.class).stream()
         .filter(Process::isExecutable)
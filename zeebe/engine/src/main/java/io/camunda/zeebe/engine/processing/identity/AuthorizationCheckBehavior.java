@@ -14,6 +14,9 @@ import io.camunda.security.configuration.SecurityConfiguration;
 import io.camunda.zeebe.auth.Authorization;
 import io.camunda.zeebe.engine.processing.Rejection;
 import io.camunda.zeebe.engine.state.authorization.DbMembershipState.RelationType;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache.EffectivePermissions;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache.Principal;
 import io.camunda.zeebe.engine.state.authorization.PersistedMappingRule;
 import io.camunda.zeebe.engine.state.immutable.AuthorizationState;
 import io.camunda.zeebe.engine.state.immutable.MappingRuleState;
@@ -52,6 +55,7 @@ public final class AuthorizationCheckBehavior {
   private final AuthorizationState authorizationState;
   private final MappingRuleState mappingRuleState;
   private final MembershipState membershipState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
   private final boolean authorizationsEnabled;
   private final boolean multiTenancyEnabled;
@@ -61,6 +65,7 @@ public final class AuthorizationCheckBehavior {
     authorizationState = processingState.getAuthorizationState();
     mappingRuleState = processingState.getMappingRuleState();
     membershipState = processingState.getMembershipState();
+    effectivePermissionsCache = processingState.getEffectivePermissionsCache();
     authorizationsEnabled = securityConfig.getAuthorizations().isEnabled();
     multiTenancyEnabled = securityConfig.getMultiTenancy().isChecksEnabled();
   }
@@ -274,31 +279,33 @@ public final class AuthorizationCheckBehavior {
 
   private Stream<String> getAuthorizedTenantIds(
       final TypedRecord<?> command, final EntityType entityType, final String entityId) {
-    return Stream.concat(
-        membershipState.getMemberships(entityType, entityId, RelationType.TENANT).stream(),
-        Stream.concat(
-            fetchGroups(command, entityType, entityId).stream()
-                .flatMap(
-                    groupId ->
-                        Stream.concat(
-                            membershipState
-                                .getMemberships(EntityType.GROUP, groupId, RelationType.TENANT)
-                                .stream(),
-                            membershipState
-                                .getMemberships(EntityType.GROUP, groupId, RelationType.ROLE)
-                                .stream()
-                                .flatMap(
-                                    roleId ->
-                                        membershipState
-                                            .getMemberships(
-                                                EntityType.ROLE, roleId, RelationType.TENANT)
-                                            .stream()))),
-            membershipState.getMemberships(entityType, entityId, RelationType.ROLE).stream()
-                .flatMap(
-                    roleId ->
-                        membershipState
-                            .getMemberships(EntityType.ROLE, roleId, RelationType.TENANT)
-                            .stream())));
+    return effectivePermissionsCache
+        .getTenantIds(getPrincipal(command, entityType, entityId), this::resolveTenantIds)
+        .stream();
+  }
+
+  private EffectivePermissions resolveTenantIds(final Principal principal) {
+    final var tenantIds = new HashSet<String>();
+    final var roleIds = new HashSet<String>();
+    final var groupIds = fetchGroups(principal);
+
+    tenantIds.addAll(
+        membershipState.getMemberships(
+            principal.entityType(), principal.entityId(), RelationType.TENANT));
+    roleIds.addAll(
+        membershipState.getMemberships(
+            principal.entityType(), principal.entityId(), RelationType.ROLE));
+    for (final var groupId : groupIds) {
+      tenantIds.addAll(
+          membershipState.getMemberships(EntityType.GROUP, groupId, RelationType.TENANT));
+      roleIds.addAll(membershipState.getMemberships(EntityType.GROUP, groupId, RelationType.ROLE));
+    }
+    for (final var roleId : roleIds) {
+      tenantIds.addAll(
+          membershipState.getMemberships(EntityType.ROLE, roleId, RelationType.TENANT));
+    }
+
+    return new EffectivePermissions(tenantIds, new HashSet<>(groupIds), roleIds);
   }
 
   public Set<String> getAllAuthorizedResourceIdentifiers(final AuthorizationRequest request) {
@@ -367,8 +374,21 @@ public final class AuthorizationCheckBehavior {
       final String ownerId,
       final AuthorizationResourceType resourceType,
       final PermissionType permissionType) {
+    return effectivePermissionsCache
+        .getResourceIdentifiers(
+            getPrincipal(command, ownerType, ownerId),
+            resourceType,
+            permissionType,
+            principal -> resolveResourceIdentifiers(principal, resourceType, permissionType))
+        .stream();
+  }
+
+  private EffectivePermissions resolveResourceIdentifiers(
+      final Principal principal,
+      final AuthorizationResourceType resourceType,
+      final PermissionType permissionType) {
     final var authorizationOwnerType =
-        switch (ownerType) {
+        switch (principal.entityType()) {
           case GROUP -> AuthorizationOwnerType.GROUP;
           case ROLE -> AuthorizationOwnerType.ROLE;
           case USER -> AuthorizationOwnerType.USER;
@@ -377,45 +397,43 @@ public final class AuthorizationCheckBehavior {
           case UNSPECIFIED -> AuthorizationOwnerType.UNSPECIFIED;
         };
 
-    final var direct =
-        getDirectAuthorizedResourceIdentifiers(
-            authorizationOwnerType, ownerId, resourceType, permissionType)
-            .stream();
-    final var viaRole =
-        membershipState.getMemberships(ownerType, ownerId, RelationType.ROLE).stream()
-            .flatMap(
-                roleId ->
-                    getDirectAuthorizedResourceIdentifiers(
-                        AuthorizationOwnerType.ROLE, roleId, resourceType, permissionType)
-                        .stream());
-    final var viaGroups =
-        fetchGroups(command, ownerType, ownerId).stream()
-            .<String>mapMulti(
-                (groupId, stream) -> {
-                  getDirectAuthorizedResourceIdentifiers(
-                          AuthorizationOwnerType.GROUP, groupId, resourceType, permissionType)
-                      .forEach(stream);
-                  membershipState
-                      .getMemberships(EntityType.GROUP, groupId, RelationType.ROLE)
-                      .stream()
-                      .flatMap(
-                          roleId ->
-                              getDirectAuthorizedResourceIdentifiers(
-                                  AuthorizationOwnerType.ROLE, roleId, resourceType, permissionType)
-                                  .stream())
-                      .forEach(stream);
-                });
-    return Stream.concat(direct, Stream.concat(viaRole, viaGroups));
+    final var resourceIds =
+        new HashSet<>(
+            getDirectAuthorizedResourceIdentifiers(
+                authorizationOwnerType, principal.entityId(), resourceType, permissionType));
+    final var roleIds =
+        new HashSet<>(
+            membershipState.getMemberships(
+                principal.entityType(), principal.entityId(), RelationType.ROLE));
+    final var groupIds = fetchGroups(principal);
+    for (final var groupId : groupIds) {
+      resourceIds.addAll(
+          getDirectAuthorizedResourceIdentifiers(
+              AuthorizationOwnerType.GROUP, groupId, resourceType, permissionType));
+      roleIds.addAll(membershipState.getMemberships(EntityType.GROUP, groupId, RelationType.ROLE));
+    }
+    for (final var roleId : roleIds) {
+      resourceIds.addAll(
+          getDirectAuthorizedResourceIdentifiers(
+              AuthorizationOwnerType.ROLE, roleId, resourceType, permissionType));
+    }
+
+    return new EffectivePermissions(resourceIds, new HashSet<>(groupIds), roleIds);
   }
 
-  private List<String> fetchGroups(
-      final TypedRecord<?> command, final EntityType ownerType, final String ownerId) {
+  private Principal getPrincipal(
+      final TypedRecord<?> command, final EntityType entityType, final String entityId) {
     final List<String> groupsClaims =
         (List<String>) command.getAuthorizations().get(Authorization.USER_GROUPS_CLAIMS);
-    if (groupsClaims != null) {
-      return groupsClaims;
+    return new Principal(entityType, entityId, groupsClaims);
+  }
+
+  private List<String> fetchGroups(final Principal principal) {
+    if (principal.groupsClaims() != null) {
+      return principal.groupsClaims();
     }
-    return membershipState.getMemberships(ownerType, ownerId, RelationType.GROUP);
+    return membershipState.getMemberships(
+        principal.entityType(), principal.entityId(), RelationType.GROUP);
   }
 
   /**
@@ -483,7 +501,8 @@ public final class AuthorizationCheckBehavior {
     final var claims =
         (Map<String, Object>)
             command.getAuthorizations().getOrDefault(Authorization.USER_TOKEN_CLAIMS, Map.of());
-    return MappingRuleMatcher.matchingRules(mappingRuleState.getAll().stream(), claims);
+    return MappingRuleMatcher.matchingRules(
+        effectivePermissionsCache.getMappingRules(mappingRuleState::getAll).stream(), claims);
   }
 
   public static final class AuthorizationRequest {
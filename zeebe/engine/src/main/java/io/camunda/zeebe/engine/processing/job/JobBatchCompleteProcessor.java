@@ -0,0 +1,209 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.JobAction;
+import io.camunda.zeebe.engine.metrics.JobProcessingMetrics;
+import io.camunda.zeebe.engine.processing.Rejection;
+import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.AuthorizationRequest;
+import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.instance.ElementInstance;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.JobKind;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.Either;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Completes several jobs of the partition at once. Each job is checked like a single job
+ * completion, and each job which passed the checks is completed while processing this command, by
+ * writing its {@link JobIntent#COMPLETED} event. The {@link JobBatchIntent#COMPLETED} event and the
+ * response therefore only report jobs as completed which are completed. If the records of all
+ * completions exceed the max size of a record batch, the processing fails and the command is
+ * rejected as a whole, without completing any of the jobs.
+ *
+ * <p>The completion of a job is rejected if the job doesn't exist, can't be completed in its
+ * current state, or if the user is not authorized to complete it. Jobs which complete a listener
+ * or an ad-hoc sub-process must provide a job result, which is not supported in a batch, so their
+ * completion is rejected as well. The rejections don't affect the completion of the other jobs;
+ * instead, the rejection reason is set as the error message of the job in the {@link
+ * JobBatchIntent#COMPLETED} event.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String JOB_COUNT_MISMATCH_MESSAGE =
+      "Expected to complete job batch with a job for each job key, but got %d job keys and %d jobs";
+  private static final String INVALID_JOB_STATE_MESSAGE =
+      "Expected to complete job with key '%d', but it is in state '%s'";
+  private static final String INVALID_JOB_KIND_MESSAGE =
+      "Expected to complete job with key '%d' as part of a batch, but it is a job of kind '%s', "
+          + "which must be completed individually";
+  private static final String DUPLICATE_JOB_MESSAGE =
+      "Expected to complete job with key '%d', but it is already completed as part of the batch";
+
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final JobState jobState;
+  private final ElementInstanceState elementInstanceState;
+  private final AuthorizationCheckBehavior authCheckBehavior;
+  private final JobProcessingMetrics jobMetrics;
+  private final EventHandle eventHandle;
+  private final JobRecord completedJob = new JobRecord();
+
+  public JobBatchCompleteProcessor(
+      final Writers writers,
+      final ProcessingState state,
+      final KeyGenerator keyGenerator,
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final JobProcessingMetrics jobMetrics,
+      final EventHandle eventHandle) {
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    jobState = state.getJobState();
+    elementInstanceState = state.getElementInstanceState();
+    this.authCheckBehavior = authCheckBehavior;
+    this.jobMetrics = jobMetrics;
+    this.eventHandle = eventHandle;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> command) {
+    final var value = command.getValue();
+    final var jobKeysCount = value.jobKeys().stream().count();
+    final var jobsCount = value.jobs().stream().count();
+    if (jobKeysCount != jobsCount) {
+      final var reason = JOB_COUNT_MISMATCH_MESSAGE.formatted(jobKeysCount, jobsCount);
+      rejectionWriter.appendRejection(command, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(command, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    final var authorizedTenants = authCheckBehavior.getAuthorizedTenantIds(command);
+    final var completedJobs = new JobBatchRecord().setType(value.getTypeBuffer());
+    final Set<Long> completedJobKeys = new HashSet<>();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    for (final LongValue jobKeyValue : value.jobKeys()) {
+      final long jobKey = jobKeyValue.getValue();
+      final JobRecord job = jobs.next();
+
+      completedJobs.jobKeys().add().setValue(jobKey);
+      final var result = completedJobs.jobs().add();
+      checkJob(command, authorizedTenants, completedJobKeys, jobKey)
+          .ifRightOrLeft(
+              storedJob -> {
+                completedJobKeys.add(jobKey);
+                result.wrapWithoutVariables(storedJob);
+                result.setErrorMessage("");
+                completeJob(jobKey, storedJob, job);
+              },
+              rejection -> result.setErrorMessage(rejection.reason()));
+    }
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedJobs);
+    responseWriter.writeEventOnCommand(
+        jobBatchKey, JobBatchIntent.COMPLETED, completedJobs, command);
+  }
+
+  /**
+   * Completes the job like a single job completion of a job of kind {@link JobKind#BPMN_ELEMENT},
+   * i.e. writes its completed event and continues the process instance at its element.
+   */
+  private void completeJob(final long jobKey, final JobRecord storedJob, final JobRecord job) {
+    completedJob.wrapWithoutVariables(storedJob);
+    completedJob.setVariables(job.getVariablesBuffer());
+    stateWriter.appendFollowUpEvent(jobKey, JobIntent.COMPLETED, completedJob);
+    jobMetrics.countJobEvent(
+        JobAction.COMPLETED, completedJob.getJobKind(), completedJob.getType());
+
+    final long elementInstanceKey = completedJob.getElementInstanceKey();
+    final ElementInstance elementInstance = elementInstanceState.getInstance(elementInstanceKey);
+    if (elementInstance == null) {
+      return;
+    }
+
+    final long scopeKey = elementInstance.getValue().getFlowScopeKey();
+    final ElementInstance scopeInstance = elementInstanceState.getInstance(scopeKey);
+    if (scopeInstance != null && scopeInstance.isActive()) {
+      eventHandle.triggeringProcessEvent(completedJob);
+      commandWriter.appendFollowUpCommand(
+          elementInstanceKey, ProcessInstanceIntent.COMPLETE_ELEMENT, elementInstance.getValue());
+    }
+  }
+
+  private Either<Rejection, JobRecord> checkJob(
+      final TypedRecord<JobBatchRecord> command,
+      final AuthorizedTenants authorizedTenants,
+      final Set<Long> completedJobKeys,
+      final long jobKey) {
+    if (completedJobKeys.contains(jobKey)) {
+      return Either.left(
+          new Rejection(RejectionType.INVALID_ARGUMENT, DUPLICATE_JOB_MESSAGE.formatted(jobKey)));
+    }
+
+    final var state = jobState.getState(jobKey);
+    final var storedJob = jobState.getJob(jobKey, authorizedTenants);
+    if (state == State.NOT_FOUND || storedJob == null) {
+      return Either.left(
+          new Rejection(
+              RejectionType.NOT_FOUND,
+              JobCommandPreconditionChecker.NO_JOB_FOUND_MESSAGE.formatted("complete", jobKey)));
+    }
+
+    if (state != State.ACTIVATABLE && state != State.ACTIVATED) {
+      return Either.left(
+          new Rejection(
+              RejectionType.INVALID_STATE, INVALID_JOB_STATE_MESSAGE.formatted(jobKey, state)));
+    }
+
+    if (storedJob.getJobKind() != JobKind.BPMN_ELEMENT) {
+      return Either.left(
+          new Rejection(
+              RejectionType.INVALID_STATE,
+              INVALID_JOB_KIND_MESSAGE.formatted(jobKey, storedJob.getJobKind())));
+    }
+
+    final var request =
+        new AuthorizationRequest(
+                command,
+                AuthorizationResourceType.PROCESS_DEFINITION,
+                PermissionType.UPDATE_PROCESS_INSTANCE,
+                storedJob.getTenantId())
+            .addResourceId(storedJob.getBpmnProcessId());
+    return authCheckBehavior.isAuthorized(request).map(ignored -> storedJob);
+  }
+}
@@ -115,6 +115,16 @@ public final class JobEventProcessors {
                 processingState.getKeyGenerator(),
                 jobMetrics,
                 authCheckBehavior))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(
+                writers,
+                processingState,
+                processingState.getKeyGenerator(),
+                authCheckBehavior,
+                jobMetrics,
+                eventHandle))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
@@ -37,6 +37,17 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Can be used to notify listeners that there are jobs available for activation on the given
+   * partition. By default, this is the same as {@link #notifyWorkAvailable(String)}.
+   *
+   * @param partitionId the partition on which the jobs are available
+   * @param jobType the type of the stream which has items available
+   */
+  default void notifyWorkAvailable(final int partitionId, final String jobType) {
+    notifyWorkAvailable(jobType);
+  }
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
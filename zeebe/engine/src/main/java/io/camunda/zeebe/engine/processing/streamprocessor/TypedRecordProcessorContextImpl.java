@@ -59,7 +59,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
             config,
-            clock);
+            clock,
+            context.getMeterRegistry());
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
     this.config = config;
@@ -101,6 +102,7 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             partitionId,
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            processingState.getTimerDueDateWheel(),
             clock);
   }
 
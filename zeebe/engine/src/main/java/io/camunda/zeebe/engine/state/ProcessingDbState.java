@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.state.authorization.DbAuthorizationState;
 import io.camunda.zeebe.engine.state.authorization.DbMappingRuleState;
 import io.camunda.zeebe.engine.state.authorization.DbMembershipState;
 import io.camunda.zeebe.engine.state.authorization.DbRoleState;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.batchoperation.DbBatchOperationState;
 import io.camunda.zeebe.engine.state.clock.DbClockState;
 import io.camunda.zeebe.engine.state.compensation.DbCompensationSubscriptionState;
@@ -35,6 +36,7 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel;
 import io.camunda.zeebe.engine.state.message.DbMessageCorrelationState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
@@ -89,6 +91,8 @@ import io.camunda.zeebe.engine.state.variable.DbVariableState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
 import java.util.Objects;
 import java.util.function.BiConsumer;
@@ -97,7 +101,7 @@ public class ProcessingDbState implements MutableProcessingState {
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
   private final KeyGenerator keyGenerator;
   private final MutableProcessState processState;
-  private final MutableTimerInstanceState timerInstanceState;
+  private final DbTimerInstanceState timerInstanceState;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
   private final MutableVariableState variableState;
@@ -128,10 +132,12 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableMappingRuleState mappingRuleState;
   private final MutableBatchOperationState batchOperationState;
   private final MutableMembershipState membershipState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
   private final MutableUsageMetricState usageMetricState;
   private final MutableAsyncRequestState asyncRequestState;
   private final MutableMultiInstanceState multiInstanceState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TimerDueDateWheel timerDueDateWheel;
   private final int partitionId;
 
   public ProcessingDbState(
@@ -143,13 +149,36 @@ public class ProcessingDbState implements MutableProcessingState {
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final EngineConfiguration config,
       final InstantSource clock) {
+    this(
+        partitionId,
+        zeebeDb,
+        transactionContext,
+        keyGenerator,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        config,
+        clock,
+        new SimpleMeterRegistry());
+  }
+
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final EngineConfiguration config,
+      final InstantSource clock,
+      final MeterRegistry meterRegistry) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
     processState = new DbProcessState(zeebeDb, transactionContext, config, clock);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerDueDateWheel = new TimerDueDateWheel(config.getTimersDueDateHorizon(), clock);
+    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext, timerDueDateWheel);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -186,6 +215,8 @@ public class ProcessingDbState implements MutableProcessingState {
     mappingRuleState = new DbMappingRuleState(zeebeDb, transactionContext);
     batchOperationState = new DbBatchOperationState(zeebeDb, transactionContext);
     membershipState = new DbMembershipState(zeebeDb, transactionContext);
+    effectivePermissionsCache =
+        new EffectivePermissionsCache(config.getAuthorizationCacheCapacity(), meterRegistry);
     usageMetricState =
         new DbUsageMetricState(zeebeDb, transactionContext, config.getUsageMetricsExportInterval());
     multiInstanceState = new DbMultiInstanceState(zeebeDb, transactionContext);
@@ -199,6 +230,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
   }
 
   @Override
@@ -366,6 +398,11 @@ public class ProcessingDbState implements MutableProcessingState {
     return usageMetricState;
   }
 
+  @Override
+  public EffectivePermissionsCache getEffectivePermissionsCache() {
+    return effectivePermissionsCache;
+  }
+
   @Override
   public MutableAsyncRequestState getAsyncRequestState() {
     return asyncRequestState;
@@ -396,6 +433,11 @@ public class ProcessingDbState implements MutableProcessingState {
     return transientProcessMessageSubscriptionState;
   }
 
+  /** Returns the due timers kept in memory, which are shared with the scheduled tasks. */
+  public TimerDueDateWheel getTimerDueDateWheel() {
+    return timerDueDateWheel;
+  }
+
   @Override
   public int getPartitionId() {
     return partitionId;
@@ -8,7 +8,9 @@
 package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.mutable.MutableAuthorizationState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.AuthorizationRecord;
 import io.camunda.zeebe.protocol.record.intent.AuthorizationIntent;
 
@@ -16,13 +18,23 @@ public class AuthorizationDeletedApplier
     implements TypedEventApplier<AuthorizationIntent, AuthorizationRecord> {
 
   private final MutableAuthorizationState authorizationState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
-  public AuthorizationDeletedApplier(final MutableAuthorizationState state) {
-    authorizationState = state;
+  public AuthorizationDeletedApplier(final MutableProcessingState state) {
+    authorizationState = state.getAuthorizationState();
+    effectivePermissionsCache = state.getEffectivePermissionsCache();
   }
 
   @Override
   public void applyState(final long key, final AuthorizationRecord value) {
+    authorizationState
+        .get(key)
+        .ifPresent(
+            authorization ->
+                effectivePermissionsCache.invalidatePermissions(
+                    authorization.getOwnerType(),
+                    authorization.getOwnerId(),
+                    authorization.getResourceType()));
     authorizationState.delete(key);
   }
 }
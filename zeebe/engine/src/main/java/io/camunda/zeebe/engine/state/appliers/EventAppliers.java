@@ -108,6 +108,7 @@ public final class EventAppliers implements EventApplier {
     registerJobIntentEventAppliers(state);
     registerVariableEventAppliers(state);
     register(JobBatchIntent.ACTIVATED, new JobBatchActivatedApplier(state));
+    register(JobBatchIntent.COMPLETED, NOOP_EVENT_APPLIER);
     registerIncidentEventAppliers(state);
     registerProcessMessageSubscriptionEventAppliers(state);
     registerTimeEventAppliers(state);
@@ -155,6 +156,9 @@ public final class EventAppliers implements EventApplier {
     register(
         MultiInstanceIntent.INPUT_COLLECTION_EVALUATED,
         new MultiInstanceInputCollectionEvaluatedApplier(state.getMultiInstanceState()));
+    register(
+        MultiInstanceIntent.OUTPUT_ELEMENT_COLLECTED,
+        new MultiInstanceOutputElementCollectedApplier(state.getMultiInstanceState()));
   }
 
   private void registerUsageMetricsAppliers(final MutableProcessingState state) {
@@ -238,6 +242,7 @@ public final class EventAppliers implements EventApplier {
         new ProcessInstanceElementCompletingApplier(elementInstanceState));
     register(
         ProcessInstanceIntent.ELEMENT_COMPLETED,
+        1,
         new ProcessInstanceElementCompletedApplier(
             elementInstanceState,
             eventScopeInstanceState,
@@ -245,16 +250,35 @@ public final class EventAppliers implements EventApplier {
             processState,
             multiInstanceState,
             bufferedStartMessageEventStateApplier));
+    register(
+        ProcessInstanceIntent.ELEMENT_COMPLETED,
+        2,
+        new ProcessInstanceElementCompletedV2Applier(
+            elementInstanceState,
+            eventScopeInstanceState,
+            variableState,
+            processState,
+            multiInstanceState,
+            bufferedStartMessageEventStateApplier));
     register(
         ProcessInstanceIntent.ELEMENT_TERMINATING,
         new ProcessInstanceElementTerminatingApplier(elementInstanceState));
     register(
         ProcessInstanceIntent.ELEMENT_TERMINATED,
+        1,
         new ProcessInstanceElementTerminatedApplier(
             elementInstanceState,
             eventScopeInstanceState,
             multiInstanceState,
             bufferedStartMessageEventStateApplier));
+    register(
+        ProcessInstanceIntent.ELEMENT_TERMINATED,
+        2,
+        new ProcessInstanceElementTerminatedV2Applier(
+            elementInstanceState,
+            eventScopeInstanceState,
+            multiInstanceState,
+            bufferedStartMessageEventStateApplier));
     register(
         ProcessInstanceIntent.SEQUENCE_FLOW_TAKEN,
         new ProcessInstanceSequenceFlowTakenApplier(elementInstanceState, processState));
@@ -558,15 +582,9 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerAuthorizationAppliers(final MutableProcessingState state) {
-    register(
-        AuthorizationIntent.CREATED,
-        new AuthorizationCreatedApplier(state.getAuthorizationState()));
-    register(
-        AuthorizationIntent.DELETED,
-        new AuthorizationDeletedApplier(state.getAuthorizationState()));
-    register(
-        AuthorizationIntent.UPDATED,
-        new AuthorizationUpdatedApplier(state.getAuthorizationState()));
+    register(AuthorizationIntent.CREATED, new AuthorizationCreatedApplier(state));
+    register(AuthorizationIntent.DELETED, new AuthorizationDeletedApplier(state));
+    register(AuthorizationIntent.UPDATED, new AuthorizationUpdatedApplier(state));
   }
 
   private void registerEscalationAppliers() {
@@ -623,9 +641,9 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerMappingRuleAppliers(final MutableProcessingState state) {
-    register(MappingRuleIntent.CREATED, new MappingRuleCreatedApplier(state.getMappingRuleState()));
-    register(MappingRuleIntent.DELETED, new MappingRuleDeletedApplier(state.getMappingRuleState()));
-    register(MappingRuleIntent.UPDATED, new MappingRuleUpdatedApplier(state.getMappingRuleState()));
+    register(MappingRuleIntent.CREATED, new MappingRuleCreatedApplier(state));
+    register(MappingRuleIntent.DELETED, new MappingRuleDeletedApplier(state));
+    register(MappingRuleIntent.UPDATED, new MappingRuleUpdatedApplier(state));
   }
 
   private void registerBatchOperationAppliers(final MutableProcessingState state) {
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.state.TypedEventApplier;
 import io.camunda.zeebe.engine.state.authorization.DbMembershipState.RelationType;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.mutable.MutableMembershipState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.group.GroupRecord;
@@ -17,9 +18,11 @@ import io.camunda.zeebe.protocol.record.intent.GroupIntent;
 public class GroupEntityRemovedApplier implements TypedEventApplier<GroupIntent, GroupRecord> {
 
   private final MutableMembershipState membershipState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
   public GroupEntityRemovedApplier(final MutableProcessingState processingState) {
     membershipState = processingState.getMembershipState();
+    effectivePermissionsCache = processingState.getEffectivePermissionsCache();
   }
 
   @Override
@@ -28,5 +31,6 @@ public class GroupEntityRemovedApplier implements TypedEventApplier<GroupIntent,
     final var entityType = value.getEntityType();
     final var groupId = value.getGroupId();
     membershipState.deleteRelation(entityType, entityId, RelationType.GROUP, groupId);
+    effectivePermissionsCache.invalidateMemberships(entityType, entityId);
   }
 }
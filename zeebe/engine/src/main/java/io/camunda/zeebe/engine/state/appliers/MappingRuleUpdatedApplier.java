@@ -8,7 +8,9 @@
 package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.state.TypedEventApplier;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.mutable.MutableMappingRuleState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.MappingRuleRecord;
 import io.camunda.zeebe.protocol.record.intent.MappingRuleIntent;
 
@@ -16,13 +18,16 @@ public class MappingRuleUpdatedApplier
     implements TypedEventApplier<MappingRuleIntent, MappingRuleRecord> {
 
   private final MutableMappingRuleState mappingRuleState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
-  public MappingRuleUpdatedApplier(final MutableMappingRuleState mappingRuleState) {
-    this.mappingRuleState = mappingRuleState;
+  public MappingRuleUpdatedApplier(final MutableProcessingState state) {
+    mappingRuleState = state.getMappingRuleState();
+    effectivePermissionsCache = state.getEffectivePermissionsCache();
   }
 
   @Override
   public void applyState(final long key, final MappingRuleRecord value) {
     mappingRuleState.update(value);
+    effectivePermissionsCache.invalidateMappingRules();
   }
 }
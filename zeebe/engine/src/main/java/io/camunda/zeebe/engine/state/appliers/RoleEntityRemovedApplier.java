@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.state.TypedEventApplier;
 import io.camunda.zeebe.engine.state.authorization.DbMembershipState.RelationType;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.mutable.MutableMembershipState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.authorization.RoleRecord;
@@ -17,14 +18,17 @@ import io.camunda.zeebe.protocol.record.intent.RoleIntent;
 public class RoleEntityRemovedApplier implements TypedEventApplier<RoleIntent, RoleRecord> {
 
   private final MutableMembershipState membershipState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
   public RoleEntityRemovedApplier(final MutableProcessingState state) {
     membershipState = state.getMembershipState();
+    effectivePermissionsCache = state.getEffectivePermissionsCache();
   }
 
   @Override
   public void applyState(final long key, final RoleRecord value) {
     membershipState.deleteRelation(
         value.getEntityType(), value.getEntityId(), RelationType.ROLE, value.getRoleId());
+    effectivePermissionsCache.invalidateMemberships(value.getEntityType(), value.getEntityId());
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.appliers;
 
 import io.camunda.zeebe.engine.state.TypedEventApplier;
 import io.camunda.zeebe.engine.state.authorization.DbMembershipState.RelationType;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.mutable.MutableMembershipState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.tenant.TenantRecord;
@@ -17,14 +18,17 @@ import io.camunda.zeebe.protocol.record.intent.TenantIntent;
 public class TenantEntityRemovedApplier implements TypedEventApplier<TenantIntent, TenantRecord> {
 
   private final MutableMembershipState membershipState;
+  private final EffectivePermissionsCache effectivePermissionsCache;
 
   public TenantEntityRemovedApplier(final MutableProcessingState state) {
     membershipState = state.getMembershipState();
+    effectivePermissionsCache = state.getEffectivePermissionsCache();
   }
 
   @Override
   public void applyState(final long tenantKey, final TenantRecord tenant) {
     membershipState.deleteRelation(
         tenant.getEntityType(), tenant.getEntityId(), RelationType.TENANT, tenant.getTenantId());
+    effectivePermissionsCache.invalidateTenants(tenant.getEntityType(), tenant.getEntityId());
   }
 }
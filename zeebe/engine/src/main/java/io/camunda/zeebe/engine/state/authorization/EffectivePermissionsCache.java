@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.authorization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetrics;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheType;
+import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.EntityType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the effective permissions of principals (i.e. users, clients and mapping rules) of a
+ * partition: the tenants they're assigned to, and the resources they're authorized for, either
+ * directly or through their roles and groups. Resolving them otherwise takes a number of state
+ * lookups for every authorized command.
+ *
+ * <p>The effective permissions are resolved from the membership, authorization and mapping rule
+ * state, which only change when the respective events are applied. The event appliers invalidate
+ * the entries which depend on the changed entity, i.e. the entries of the entity itself and, for
+ * roles and groups, the entries of all principals which resolved them through the role or group.
+ *
+ * <p>As entries may be resolved from changes which are not committed yet, the cache must be
+ * cleared when a transaction is rolled back.
+ *
+ * <p>The cache is not thread-safe, it must only be used by the stream processor.
+ */
+public final class EffectivePermissionsCache {
+
+  private final Cache<Principal, EffectivePermissions> tenants;
+  private final Cache<PermissionsKey, EffectivePermissions> permissions;
+  private final AuthorizationCacheMetrics metrics;
+  private List<PersistedMappingRule> mappingRules;
+
+  /**
+   * @param capacity the maximum number of cached entries, each for tenants and for permissions
+   * @param meterRegistry the registry to report the cache's hit rate to
+   */
+  public EffectivePermissionsCache(final int capacity, final MeterRegistry meterRegistry) {
+    tenants = CacheBuilder.newBuilder().maximumSize(capacity).build();
+    permissions = CacheBuilder.newBuilder().maximumSize(capacity).build();
+    metrics = new AuthorizationCacheMetrics(meterRegistry);
+  }
+
+  /**
+   * Returns the ids of the tenants the principal is assigned to, resolving them if they're not
+   * cached yet.
+   */
+  public Set<String> getTenantIds(
+      final Principal principal, final Function<Principal, EffectivePermissions> resolver) {
+    var effectivePermissions = tenants.getIfPresent(principal);
+    if (effectivePermissions != null) {
+      metrics.hit(AuthorizationCacheType.TENANTS);
+    } else {
+      metrics.miss(AuthorizationCacheType.TENANTS);
+      effectivePermissions = resolver.apply(principal);
+      tenants.put(principal, effectivePermissions);
+    }
+    return effectivePermissions.ids();
+  }
+
+  /**
+   * Returns the identifiers of the resources of the given type the principal has the permission
+   * for, resolving them if they're not cached yet.
+   */
+  public Set<String> getResourceIdentifiers(
+      final Principal principal,
+      final AuthorizationResourceType resourceType,
+      final PermissionType permissionType,
+      final Function<Principal, EffectivePermissions> resolver) {
+    final var key = new PermissionsKey(principal, resourceType, permissionType);
+    var effectivePermissions = permissions.getIfPresent(key);
+    if (effectivePermissions != null) {
+      metrics.hit(AuthorizationCacheType.PERMISSIONS);
+    } else {
+      metrics.miss(AuthorizationCacheType.PERMISSIONS);
+      effectivePermissions = resolver.apply(principal);
+      permissions.put(key, effectivePermissions);
+    }
+    return effectivePermissions.ids();
+  }
+
+  /** Returns all mapping rules, reading them from the state if they're not cached yet. */
+  public Collection<PersistedMappingRule> getMappingRules(
+      final Supplier<Collection<PersistedMappingRule>> resolver) {
+    if (mappingRules != null) {
+      metrics.hit(AuthorizationCacheType.MAPPING_RULES);
+    } else {
+      metrics.miss(AuthorizationCacheType.MAPPING_RULES);
+      mappingRules = List.copyOf(resolver.get());
+    }
+    return mappingRules;
+  }
+
+  /**
+   * Invalidates all entries which depend on the memberships of the given entity, i.e. its tenants
+   * and permissions, as well as those of all principals which are members of the entity if it's a
+   * role or a group.
+   */
+  public void invalidateMemberships(final EntityType entityType, final String entityId) {
+    invalidateTenants(entityType, entityId);
+    metrics.invalidated(
+        AuthorizationCacheType.PERMISSIONS,
+        removeIf(
+            permissions, (key, value) -> value.dependsOn(key.principal(), entityType, entityId)));
+  }
+
+  /**
+   * Invalidates all entries which depend on the tenant memberships of the given entity, i.e. its
+   * tenants, as well as those of all principals which are members of the entity if it's a role or
+   * a group.
+   */
+  public void invalidateTenants(final EntityType entityType, final String entityId) {
+    metrics.invalidated(
+        AuthorizationCacheType.TENANTS,
+        removeIf(tenants, (principal, value) -> value.dependsOn(principal, entityType, entityId)));
+  }
+
+  /**
+   * Invalidates all entries which depend on the authorizations of the given owner for the given
+   * resource type, i.e. its permissions, as well as those of all principals which are members of
+   * the owner if it's a role or a group.
+   */
+  public void invalidatePermissions(
+      final AuthorizationOwnerType ownerType,
+      final String ownerId,
+      final AuthorizationResourceType resourceType) {
+    final var entityType = toEntityType(ownerType);
+    metrics.invalidated(
+        AuthorizationCacheType.PERMISSIONS,
+        removeIf(
+            permissions,
+            (key, value) ->
+                key.resourceType() == resourceType
+                    && value.dependsOn(key.principal(), entityType, ownerId)));
+  }
+
+  /** Invalidates the cached mapping rules, e.g. after a mapping rule was created or deleted. */
+  public void invalidateMappingRules() {
+    if (mappingRules != null) {
+      mappingRules = null;
+      metrics.invalidated(AuthorizationCacheType.MAPPING_RULES, 1);
+    }
+  }
+
+  /** Removes all entries, e.g. after a transaction was rolled back. */
+  public void clear() {
+    tenants.invalidateAll();
+    permissions.invalidateAll();
+    mappingRules = null;
+  }
+
+  private static <K> int removeIf(
+      final Cache<K, EffectivePermissions> cache,
+      final BiPredicate<K, EffectivePermissions> predicate) {
+    final var entries = cache.asMap().entrySet();
+    final var sizeBefore = entries.size();
+    entries.removeIf(entry -> predicate.test(entry.getKey(), entry.getValue()));
+    return sizeBefore - entries.size();
+  }
+
+  private static EntityType toEntityType(final AuthorizationOwnerType ownerType) {
+    return switch (ownerType) {
+      case USER -> EntityType.USER;
+      case CLIENT -> EntityType.CLIENT;
+      case ROLE -> EntityType.ROLE;
+      case GROUP -> EntityType.GROUP;
+      case MAPPING_RULE -> EntityType.MAPPING_RULE;
+      case UNSPECIFIED -> EntityType.UNSPECIFIED;
+    };
+  }
+
+  /**
+   * A user, client or mapping rule for which authorizations are checked.
+   *
+   * @param entityType the type of the principal
+   * @param entityId the id of the principal
+   * @param groupsClaims the groups of the principal given by the identity provider, which replace
+   *     the groups it's a member of in the state; null if the command had no groups claims
+   */
+  public record Principal(EntityType entityType, String entityId, List<String> groupsClaims) {
+
+    public Principal {
+      groupsClaims = groupsClaims == null ? null : List.copyOf(groupsClaims);
+    }
+
+    private boolean is(final EntityType entityType, final String entityId) {
+      return this.entityType == entityType && this.entityId.equals(entityId);
+    }
+  }
+
+  /**
+   * The resolved tenant ids or resource identifiers of a principal, together with the groups and
+   * roles they were resolved through.
+   */
+  public record EffectivePermissions(Set<String> ids, Set<String> groupIds, Set<String> roleIds) {
+
+    public EffectivePermissions {
+      ids = Set.copyOf(ids);
+      groupIds = Set.copyOf(groupIds);
+      roleIds = Set.copyOf(roleIds);
+    }
+
+    private boolean dependsOn(
+        final Principal principal, final EntityType entityType, final String entityId) {
+      return principal.is(entityType, entityId)
+          || (entityType == EntityType.GROUP && groupIds.contains(entityId))
+          || (entityType == EntityType.ROLE && roleIds.contains(entityId));
+    }
+  }
+
+  private record PermissionsKey(
+      Principal principal, AuthorizationResourceType resourceType, PermissionType permissionType) {}
+}
@@ -22,10 +22,13 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.processing.deployment.ChecksumGenerator;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessCodec;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
 import io.camunda.zeebe.model.bpmn.Bpmn;
@@ -44,12 +47,17 @@ import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
+import org.slf4j.Logger;
 
 public final class DbProcessState implements MutableProcessState {
 
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer;
+  private final ExecutableProcessCodec processCodec;
+  private final SharedProcessCache sharedProcessCache;
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
   private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
       processesByTenantAndProcessIdAndVersionCache;
@@ -115,6 +123,8 @@ public final class DbProcessState implements MutableProcessState {
       final EngineConfiguration config,
       final InstantSource clock) {
     transformer = BpmnFactory.createTransformer(clock);
+    processCodec = new ExecutableProcessCodec(transformer.getExpressionLanguage());
+    sharedProcessCache = config.getSharedProcessCache();
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -380,22 +390,18 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+    final ExecutableProcess executableProcess;
+    if (sharedProcessCache == null) {
+      executableProcess = loadProcess(copiedProcess);
+    } else {
+      final DirectBuffer resource = copiedProcess.getResource();
+      executableProcess =
+          sharedProcessCache.getOrParse(
+              copiedProcess.getKey(),
+              checksumGenerator.checksum(resource),
+              resource.capacity(),
+              () -> loadProcess(copiedProcess));
+    }
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -404,6 +410,43 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess loadProcess(final PersistedProcess persistedProcess) {
+    final DirectBuffer encodedProcess = persistedProcess.getExecutableProcess();
+    if (encodedProcess.capacity() > 0) {
+      try {
+        final var executableProcess = processCodec.decode(encodedProcess);
+        if (executableProcess != null) {
+          return executableProcess;
+        }
+      } catch (final RuntimeException e) {
+        LOG.warn(
+            "Failed to decode process with key '{}', transforming it from its resource instead",
+            persistedProcess.getKey(),
+            e);
+      }
+    }
+
+    // the process was deployed without a compiled form, or encoded with another format version
+    return transformProcess(persistedProcess);
+  }
+
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
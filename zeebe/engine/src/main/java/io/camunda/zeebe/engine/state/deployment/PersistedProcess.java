@@ -19,6 +19,7 @@ import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class PersistedProcess extends UnpackedObject implements DbValue {
   private static final long NO_DEPLOYMENT_KEY = -1L;
@@ -34,9 +35,11 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
   private final LongProperty deploymentKeyProp =
       new LongProperty("deploymentKey", NO_DEPLOYMENT_KEY);
   private final StringProperty versionTagProp = new StringProperty("versionTag", "");
+  private final BinaryProperty executableProcessProp =
+      new BinaryProperty("executableProcess", new UnsafeBuffer());
 
   public PersistedProcess() {
-    super(9);
+    super(10);
     declareProperty(versionProp)
         .declareProperty(keyProp)
         .declareProperty(bpmnProcessIdProp)
@@ -45,7 +48,8 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
         .declareProperty(stateProp)
         .declareProperty(tenantIdProp)
         .declareProperty(deploymentKeyProp)
-        .declareProperty(versionTagProp);
+        .declareProperty(versionTagProp)
+        .declareProperty(executableProcessProp);
   }
 
   public void wrap(final ProcessRecord processRecord, final long processDefinitionKey) {
@@ -58,6 +62,7 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     tenantIdProp.setValue(processRecord.getTenantId());
     deploymentKeyProp.setValue(processRecord.getDeploymentKey());
     versionTagProp.setValue(processRecord.getVersionTag());
+    executableProcessProp.setValue(processRecord.getExecutableProcessBuffer());
   }
 
   public int getVersion() {
@@ -84,6 +89,15 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     return resourceProp.getValue();
   }
 
+  /**
+   * @return the executable process in the compact form of {@link
+   *     io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessCodec},
+   *     or an empty buffer if the process must be transformed from its BPMN resource
+   */
+  public DirectBuffer getExecutableProcess() {
+    return executableProcessProp.getValue();
+  }
+
   public PersistedProcessState getState() {
     return stateProp.getValue();
   }
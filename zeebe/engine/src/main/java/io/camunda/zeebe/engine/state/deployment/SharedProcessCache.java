@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+
+/**
+ * A cache of parsed executable processes, shared by all partitions of a broker. Deployments are
+ * distributed to all partitions with the same process definition key, so without this cache every
+ * partition parses and holds its own copy of the same process.
+ *
+ * <p>Entries are keyed by process definition key and resource checksum, and weighed by the size of
+ * their BPMN resource in bytes, such that a huge process takes up more of the cache than a small
+ * one.
+ *
+ * <p>Only the {@link ExecutableProcess} is shared, as it's not modified after the transformation;
+ * the persisted state of a process, e.g. whether it's pending deletion, is partition specific and
+ * is kept by each partition's {@link DbProcessState}.
+ *
+ * <p>This class is thread-safe. If two partitions miss the same process at the same time, both
+ * parse it and the first one to finish wins; partitions never wait on each other.
+ */
+public final class SharedProcessCache {
+
+  private final Cache<ProcessKey, CachedProcess> cache;
+  private final ProcessCacheMetrics metrics;
+
+  /**
+   * @param maxSizeInBytes the maximum summed size of the BPMN resources of the cached processes
+   * @param meterRegistry the registry to register the cache metrics with
+   */
+  public SharedProcessCache(final long maxSizeInBytes, final MeterRegistry meterRegistry) {
+    metrics = new ProcessCacheMetrics(meterRegistry);
+    cache =
+        CacheBuilder.newBuilder()
+            // the maximum weight is split across segments; use a single one so a large process
+            // can use the whole cache, as writes only happen when a process is parsed anyway
+            .concurrencyLevel(1)
+            .maximumWeight(maxSizeInBytes)
+            .weigher((final ProcessKey key, final CachedProcess value) -> value.weight())
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  /**
+   * Returns the cached process with the given key and checksum, or parses and caches it if it's not
+   * cached yet.
+   *
+   * @param processDefinitionKey the key of the process
+   * @param checksum the checksum of the process' BPMN resource; must not be modified afterwards
+   * @param resourceSize the size of the process' BPMN resource in bytes, i.e. its weight
+   * @param parser parses the process if it's not cached
+   * @return the parsed process
+   */
+  public ExecutableProcess getOrParse(
+      final long processDefinitionKey,
+      final DirectBuffer checksum,
+      final int resourceSize,
+      final Supplier<ExecutableProcess> parser) {
+    final var key = new ProcessKey(processDefinitionKey, checksum);
+    final var cached = cache.getIfPresent(key);
+    if (cached != null) {
+      metrics.hit();
+      return cached.process();
+    }
+
+    metrics.miss();
+    final var parsed = new CachedProcess(parser.get(), resourceSize);
+    final var previous = cache.asMap().putIfAbsent(key, parsed);
+    if (previous != null) {
+      return previous.process();
+    }
+
+    metrics.added(resourceSize);
+    return parsed.process();
+  }
+
+  private void onRemoval(final RemovalNotification<ProcessKey, CachedProcess> notification) {
+    metrics.removed(notification.getValue().weight());
+    if (notification.wasEvicted()) {
+      metrics.evicted();
+    }
+  }
+
+  private record ProcessKey(long processDefinitionKey, DirectBuffer checksum) {}
+
+  private record CachedProcess(ExecutableProcess process, int weight) {}
+}
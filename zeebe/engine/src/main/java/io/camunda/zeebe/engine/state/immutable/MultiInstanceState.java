@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.immutable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 
 public interface MultiInstanceState {
@@ -24,4 +25,14 @@ public interface MultiInstanceState {
    * @return A optional list of buffers representing the input collection.
    */
   Optional<List<DirectBuffer>> getInputCollection(long multiInstanceKey);
+
+  /**
+   * Visits the output elements which were collected for a parallel multi-instance body, ordered by
+   * the loop counter of the inner instance which produced them. The visited buffer is only valid
+   * during the call of the visitor.
+   *
+   * @param multiInstanceKey The key of the multi-instance element instance.
+   * @param visitor The visitor which is called with each output element and its loop counter.
+   */
+  void forEachOutputElement(long multiInstanceKey, ObjIntConsumer<DirectBuffer> visitor);
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.state.immutable;
 
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
@@ -87,6 +88,8 @@ public interface ProcessingState extends StreamProcessorLifecycleAware {
 
   MembershipState getMembershipState();
 
+  EffectivePermissionsCache getEffectivePermissionsCache();
+
   UsageMetricState getUsageMetricState();
 
   AsyncRequestState getAsyncRequestState();
@@ -17,9 +17,12 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.util.function.Consumer;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
 
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -35,10 +38,22 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TransactionContext transactionContext;
+  private final TimerDueDateWheel dueDateWheel;
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, TimerDueDateWheel.disabled());
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateWheel dueDateWheel) {
+    this.transactionContext = transactionContext;
+    this.dueDateWheel = dueDateWheel;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,6 +77,17 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    if (!dueDateWheel.isEnabled()) {
+      return;
+    }
+
+    final long coveredUntil = dueDateWheel.load(context.getClock().millis());
+    dueDateColumnFamily.whileTrue(
+        (key, nil) -> addToWheel(key.first().getValue(), key.second(), coveredUntil));
+  }
+
   @Override
   public void store(final TimerInstance timer) {
     timerKey.wrapLong(timer.getKey());
@@ -71,10 +97,33 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    dueDateWheel.add(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
   }
 
   @Override
   public void remove(final TimerInstance timer) {
+    if (!dueDateWheel.isEnabled()) {
+      removeFromState(timer);
+      return;
+    }
+
+    // the timer is only removed from the wheel once its removal is committed, otherwise a rolled
+    // back removal would leave a timer in the state which is never triggered
+    final long timerDueDate = timer.getDueDate();
+    final long timerElementInstanceKey = timer.getElementInstanceKey();
+    final long key = timer.getKey();
+    transactionContext.runInTransaction(
+        () -> {
+          removeFromState(timer);
+          transactionContext
+              .getCurrentTransaction()
+              .runAfterCommit(
+                  () -> dueDateWheel.remove(timerDueDate, timerElementInstanceKey, key));
+        });
+  }
+
+  private void removeFromState(final TimerInstance timer) {
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
     timerKey.wrapLong(timer.getKey());
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
@@ -92,6 +141,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateWheel.isLoaded()) {
+      return processTimersFromWheel(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -122,6 +175,51 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTimersFromWheel(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateWheel.needsExtension(timestamp)) {
+      final long coveredFrom = dueDateWheel.coveredUntil();
+      final long coveredUntil = dueDateWheel.extend(timestamp);
+
+      dueDate.wrapLong(coveredFrom);
+      elementInstanceKey.inner().wrapLong(0);
+      timerKey.wrapLong(0);
+      dueDateColumnFamily.whileTrue(
+          dueDateCompositeKey,
+          (key, nil) -> addToWheel(key.first().getValue(), key.second(), coveredUntil));
+    }
+
+    for (final var dueTimer : dueDateWheel.poll(timestamp)) {
+      final var timerInstance = get(dueTimer.elementInstanceKey(), dueTimer.timerKey());
+      if (timerInstance == null) {
+        // the wheel is not part of the transaction: either the timer's creation was rolled back,
+        // or it is not committed yet
+        dueDateWheel.onMissing(dueTimer, timestamp);
+        continue;
+      }
+
+      if (!consumer.visit(timerInstance)) {
+        return dueTimer.dueDate();
+      }
+    }
+
+    return dueDateWheel.nextDueDate();
+  }
+
+  /**
+   * Adds the timer to the wheel, and stops at the first timer which is due after the wheel's
+   * coverage; that timer is added as well, so that the wheel knows the next due date.
+   */
+  private boolean addToWheel(
+      final long dueDate,
+      final DbCompositeKey<DbForeignKey<DbLong>, DbLong> elementAndTimerKey,
+      final long coveredUntil) {
+    dueDateWheel.add(
+        dueDate,
+        elementAndTimerKey.first().inner().getValue(),
+        elementAndTimerKey.second().getValue());
+    return dueDate < coveredUntil;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * This class is used by {@link DbTimerInstanceState} to find due timers without iterating the due
+ * date column family on every check. It is a hashed timing wheel which holds the timers due within
+ * a configurable horizon, and forms the inner level of a two level wheel: the outer level is the
+ * due date column family itself, where timers further out are kept only. As time passes, the wheel
+ * is extended by moving the timers which come within the horizon from the column family to the
+ * wheel.
+ *
+ * <p>The wheel holds every timer which is due before {@link #coveredUntil()}. Timers which are
+ * added by processing are also kept if they are due within two horizons from now, so that a timer
+ * which is stored (but not committed yet) while the wheel is extended is never missed, as an
+ * extension never covers more than one horizon from now.
+ *
+ * <p>This class is thread safe. It's intended use is that the processing thread adds and removes
+ * timers, while the thread running the due date checker polls the due timers and extends the wheel.
+ * Like {@link io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState}, the wheel
+ * is not part of the transaction: it may return timers whose creation was rolled back, or is not
+ * committed yet. Such timers are kept until they are removed, or have been missing from the state
+ * for longer than the horizon. Timers are only removed once their removal is committed, such that
+ * a rolled back removal never leaves a timer in the state which the wheel doesn't know of.
+ */
+public final class TimerDueDateWheel {
+
+  private static final long TICK = Duration.ofMillis(100).toMillis();
+  private static final Comparator<DueTimer> DUE_DATE_ORDER =
+      Comparator.comparingLong(DueTimer::dueDate)
+          .thenComparingLong(DueTimer::elementInstanceKey)
+          .thenComparingLong(DueTimer::timerKey);
+
+  private final long tick;
+  private final long horizon;
+  private final InstantSource clock;
+  private final List<Set<DueTimer>> slots;
+  private final TreeSet<DueTimer> due = new TreeSet<>(DUE_DATE_ORDER);
+  private final Map<DueTimer, Long> missingSince = new HashMap<>();
+
+  private boolean loaded;
+  private long cursor;
+  private long polledUntil;
+  private long coveredUntil;
+  private long nextDueDateBeyond = -1;
+  private int size;
+
+  /**
+   * @param horizon the duration for which due timers are kept in memory, or zero to disable the
+   *     wheel
+   */
+  public TimerDueDateWheel(final Duration horizon, final InstantSource clock) {
+    this(TICK, horizon.toMillis(), clock);
+  }
+
+  TimerDueDateWheel(final long tick, final long horizon, final InstantSource clock) {
+    this.tick = tick;
+    this.horizon = horizon;
+    this.clock = clock;
+    // there must be a slot for each tick of the time span that can be kept, i.e. two horizons
+    final int slotCount = horizon > 0 ? (int) ((2 * horizon + tick - 1) / tick) + 1 : 0;
+    slots = new ArrayList<>(Collections.nCopies(slotCount, null));
+  }
+
+  /** Returns a wheel which is never loaded, such that timers are only kept in the column family. */
+  public static TimerDueDateWheel disabled() {
+    return new TimerDueDateWheel(Duration.ZERO, InstantSource.system());
+  }
+
+  public boolean isEnabled() {
+    return horizon > 0;
+  }
+
+  synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  synchronized long coveredUntil() {
+    return coveredUntil;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Marks the wheel as loaded, i.e. from now on it covers all timers due before the returned
+   * timestamp. The caller must add all timers due before it from the column family.
+   *
+   * @return the timestamp until which the wheel covers all timers
+   */
+  synchronized long load(final long now) {
+    clear();
+    loaded = true;
+    cursor = now / tick;
+    polledUntil = now;
+    coveredUntil = now + horizon;
+    return coveredUntil;
+  }
+
+  /**
+   * @return true if the wheel covers less than half of a horizon from now, i.e. it should be
+   *     extended by timers from the column family
+   */
+  synchronized boolean needsExtension(final long now) {
+    return loaded && coveredUntil - now < horizon / 2;
+  }
+
+  /**
+   * Extends the wheel to cover all timers due within a horizon from now. The caller must add all
+   * timers from the column family which are due between the previously covered timestamp and the
+   * returned one.
+   *
+   * @return the timestamp until which the wheel covers all timers
+   */
+  synchronized long extend(final long now) {
+    coveredUntil = Math.max(coveredUntil, now + horizon);
+    nextDueDateBeyond = -1;
+    return coveredUntil;
+  }
+
+  /**
+   * Adds a timer to the wheel. Timers which are due too far in the future are not kept, and are
+   * only remembered as the next due date of the column family.
+   */
+  synchronized void add(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (!loaded) {
+      return;
+    }
+
+    if (dueDate >= Math.max(coveredUntil, clock.millis() + horizon) + horizon) {
+      if (nextDueDateBeyond < 0 || dueDate < nextDueDateBeyond) {
+        nextDueDateBeyond = dueDate;
+      }
+      return;
+    }
+
+    final var timer = new DueTimer(dueDate, elementInstanceKey, timerKey);
+    final boolean added;
+    if (dueDate <= polledUntil) {
+      added = due.add(timer);
+    } else {
+      added = slotOf(dueDate / tick, true).add(timer);
+    }
+
+    if (added) {
+      size++;
+    }
+  }
+
+  synchronized void remove(final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (!loaded) {
+      return;
+    }
+
+    final var timer = new DueTimer(dueDate, elementInstanceKey, timerKey);
+    final var slot = slotOf(dueDate / tick, false);
+    if (due.remove(timer) || (slot != null && slot.remove(timer))) {
+      size--;
+    }
+    missingSince.remove(timer);
+  }
+
+  /**
+   * Notes that the given due timer does not exist in the state, and removes it once it has been
+   * missing for longer than the horizon; until then, its creation may just not be committed yet.
+   */
+  synchronized void onMissing(final DueTimer timer, final long now) {
+    final long since = missingSince.computeIfAbsent(timer, t -> now);
+    if (now - since > horizon) {
+      remove(timer.dueDate(), timer.elementInstanceKey(), timer.timerKey());
+    }
+  }
+
+  /**
+   * Returns the timers which are due at the given timestamp, ordered by their due date. The
+   * returned timers are kept in the wheel until they are removed.
+   */
+  synchronized List<DueTimer> poll(final long now) {
+    final long nowTick = now / tick;
+    final long lastTick = Math.min(nowTick, cursor + slots.size() - 1);
+
+    for (long currentTick = cursor; currentTick <= lastTick; currentTick++) {
+      final var slot = slotOf(currentTick, false);
+      if (slot == null) {
+        continue;
+      }
+
+      final var timers = slot.iterator();
+      while (timers.hasNext()) {
+        final var timer = timers.next();
+        if (timer.dueDate() <= now) {
+          timers.remove();
+          due.add(timer);
+        }
+      }
+    }
+
+    cursor = Math.max(cursor, nowTick);
+    polledUntil = Math.max(polledUntil, now);
+    return new ArrayList<>(due);
+  }
+
+  /**
+   * @return the due date of the next timer which is not due yet, including the next timer of the
+   *     column family which is not kept in the wheel, or {@code -1} if there is no such timer
+   */
+  synchronized long nextDueDate() {
+    long nextDueDate = nextDueDateBeyond;
+
+    for (int i = 0; i < slots.size(); i++) {
+      final long currentTick = cursor + i;
+      final var slot = slotOf(currentTick, false);
+      if (slot == null) {
+        continue;
+      }
+
+      for (final var timer : slot) {
+        if (nextDueDate < 0 || timer.dueDate() < nextDueDate) {
+          nextDueDate = timer.dueDate();
+        }
+      }
+
+      // later slots only hold timers of later ticks, unless they belong to a later round
+      if (nextDueDate >= 0 && nextDueDate / tick == currentTick) {
+        return nextDueDate;
+      }
+    }
+
+    return nextDueDate;
+  }
+
+  private void clear() {
+    for (int i = 0; i < slots.size(); i++) {
+      slots.set(i, null);
+    }
+    due.clear();
+    missingSince.clear();
+    nextDueDateBeyond = -1;
+    size = 0;
+  }
+
+  private Set<DueTimer> slotOf(final long tickOfDueDate, final boolean create) {
+    final int index = (int) (tickOfDueDate % slots.size());
+    var slot = slots.get(index);
+    if (slot == null && create) {
+      slot = new HashSet<>();
+      slots.set(index, slot);
+    }
+    return slot;
+  }
+
+  /** A timer as kept in the wheel; it references the timer instance stored in the state. */
+  record DueTimer(long dueDate, long elementInstanceKey, long timerKey) {}
+}
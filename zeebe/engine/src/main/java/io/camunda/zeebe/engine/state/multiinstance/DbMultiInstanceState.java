@@ -10,11 +10,15 @@ package io.camunda.zeebe.engine.state.multiinstance;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbInt;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.engine.state.mutable.MutableMultiInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
 import org.agrona.DirectBuffer;
 
 public class DbMultiInstanceState implements MutableMultiInstanceState {
@@ -23,6 +27,12 @@ public class DbMultiInstanceState implements MutableMultiInstanceState {
   private final PersistedInputCollection inputCollection;
   private final ColumnFamily<DbLong, PersistedInputCollection> inputCollectionColumnFamily;
 
+  private final DbInt loopCounter;
+  private final DbCompositeKey<DbLong, DbInt> multiInstanceKeyAndLoopCounter;
+  private final PersistedOutputElement outputElement;
+  private final ColumnFamily<DbCompositeKey<DbLong, DbInt>, PersistedOutputElement>
+      outputElementColumnFamily;
+
   public DbMultiInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     multiInstanceKey = new DbLong();
@@ -33,6 +43,16 @@ public class DbMultiInstanceState implements MutableMultiInstanceState {
             transactionContext,
             multiInstanceKey,
             inputCollection);
+
+    loopCounter = new DbInt();
+    multiInstanceKeyAndLoopCounter = new DbCompositeKey<>(multiInstanceKey, loopCounter);
+    outputElement = new PersistedOutputElement();
+    outputElementColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_OUTPUT_ELEMENTS,
+            transactionContext,
+            multiInstanceKeyAndLoopCounter,
+            outputElement);
   }
 
   @Override
@@ -60,4 +80,32 @@ public class DbMultiInstanceState implements MutableMultiInstanceState {
 
     return Optional.of(persistedInputCollection.getInputCollection());
   }
+
+  @Override
+  public void insertOutputElement(
+      final long multiInstanceKey, final int loopCounter, final DirectBuffer outputElement) {
+    this.multiInstanceKey.wrapLong(multiInstanceKey);
+    this.loopCounter.wrapInt(loopCounter);
+    this.outputElement.setOutputElement(outputElement);
+    outputElementColumnFamily.upsert(multiInstanceKeyAndLoopCounter, this.outputElement);
+  }
+
+  @Override
+  public void deleteOutputElements(final long multiInstanceKey) {
+    this.multiInstanceKey.wrapLong(multiInstanceKey);
+    outputElementColumnFamily.whileEqualPrefix(
+        this.multiInstanceKey,
+        (BiConsumer<DbCompositeKey<DbLong, DbInt>, PersistedOutputElement>)
+            (key, value) -> outputElementColumnFamily.deleteExisting(key));
+  }
+
+  @Override
+  public void forEachOutputElement(
+      final long multiInstanceKey, final ObjIntConsumer<DirectBuffer> visitor) {
+    this.multiInstanceKey.wrapLong(multiInstanceKey);
+    outputElementColumnFamily.whileEqualPrefix(
+        this.multiInstanceKey,
+        (BiConsumer<DbCompositeKey<DbLong, DbInt>, PersistedOutputElement>)
+            (key, value) -> visitor.accept(value.getOutputElement(), key.second().getValue()));
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.multiinstance;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+public class PersistedOutputElement extends UnpackedObject implements DbValue {
+  private final BinaryProperty outputElementProperty = new BinaryProperty("outputElement");
+
+  public PersistedOutputElement() {
+    super(1);
+    declareProperty(outputElementProperty);
+  }
+
+  public DirectBuffer getOutputElement() {
+    return outputElementProperty.getValue();
+  }
+
+  public PersistedOutputElement setOutputElement(final DirectBuffer outputElement) {
+    outputElementProperty.setValue(outputElement);
+    return this;
+  }
+}
@@ -27,4 +27,20 @@ public interface MutableMultiInstanceState extends MultiInstanceState {
    * @param multiInstanceKey The key of the multi-instance element instance.
    */
   void deleteInputCollection(long multiInstanceKey);
+
+  /**
+   * Inserts the output element of an inner instance of a multi-instance body into the state.
+   *
+   * @param multiInstanceKey The key of the multi-instance element instance.
+   * @param loopCounter The loop counter of the inner instance which produced the output element.
+   * @param outputElement The output element as a buffer.
+   */
+  void insertOutputElement(long multiInstanceKey, int loopCounter, DirectBuffer outputElement);
+
+  /**
+   * Deletes all output elements of a multi-instance body from the state.
+   *
+   * @param multiInstanceKey The key of the multi-instance element instance.
+   */
+  void deleteOutputElements(long multiInstanceKey);
 }
@@ -13,11 +13,15 @@ import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSen
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.ProcessingExporterTransistor;
+import io.camunda.zeebe.engine.util.RecordToWrite;
 import io.camunda.zeebe.engine.util.StreamProcessingComposite;
 import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
+import io.camunda.zeebe.engine.util.client.JobActivationClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.engine.util.client.VariableClient;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorBuilder;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
@@ -105,6 +109,28 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public JobActivationClient createJobActivationClient() {
+    return new JobActivationClient(streamProcessingComposite);
+  }
+
+  public PublishMessageClient createPublishMessageClient() {
+    return new PublishMessageClient(streamProcessingComposite, partitionCount);
+  }
+
+  public VariableClient createVariableClient() {
+    return new VariableClient(streamProcessingComposite);
+  }
+
+  /**
+   * Writes the given records as one batch to the log, e.g. to write commands for which no client
+   * exists, like triggering a timer.
+   *
+   * @return the position of the last written record
+   */
+  public long writeRecords(final RecordToWrite... records) {
+    return streamProcessingComposite.writeBatch(records);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
     return new TestEngine(1, 1, testContext, cfg -> {});
   }
@@ -0,0 +1,308 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.authorization;
+
+import static io.camunda.zeebe.auth.Authorization.AUTHORIZED_USERNAME;
+import static io.camunda.zeebe.auth.Authorization.USER_TOKEN_CLAIMS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.security.configuration.AuthorizationsConfiguration;
+import io.camunda.security.configuration.MultiTenancyConfiguration;
+import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.AuthorizationRequest;
+import io.camunda.zeebe.engine.state.appliers.AuthorizationCreatedApplier;
+import io.camunda.zeebe.engine.state.appliers.AuthorizationDeletedApplier;
+import io.camunda.zeebe.engine.state.appliers.AuthorizationUpdatedApplier;
+import io.camunda.zeebe.engine.state.appliers.GroupEntityAddedApplier;
+import io.camunda.zeebe.engine.state.appliers.GroupEntityRemovedApplier;
+import io.camunda.zeebe.engine.state.appliers.MappingRuleCreatedApplier;
+import io.camunda.zeebe.engine.state.appliers.RoleEntityAddedApplier;
+import io.camunda.zeebe.engine.state.appliers.TenantEntityAddedApplier;
+import io.camunda.zeebe.engine.state.appliers.TenantEntityRemovedApplier;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.value.authorization.AuthorizationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.authorization.MappingRuleRecord;
+import io.camunda.zeebe.protocol.impl.record.value.authorization.RoleRecord;
+import io.camunda.zeebe.protocol.impl.record.value.group.GroupRecord;
+import io.camunda.zeebe.protocol.impl.record.value.tenant.TenantRecord;
+import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceMatcher;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.EntityType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.test.util.Strings;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Verifies that the effective permissions cached by the {@link AuthorizationCheckBehavior} are
+ * invalidated by the event appliers, i.e. that every check observes the latest state. Each test
+ * checks once before the change, such that the effective permissions are cached.
+ */
+@ExtendWith(ProcessingStateExtension.class)
+final class AuthorizationCheckBehaviorCacheTest {
+
+  private static final AuthorizationResourceType RESOURCE_TYPE =
+      AuthorizationResourceType.RESOURCE;
+  private static final PermissionType PERMISSION_TYPE = PermissionType.CREATE;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState processingState;
+
+  private AuthorizationCheckBehavior authorizationCheckBehavior;
+  private AuthorizationCreatedApplier authorizationCreatedApplier;
+  private AuthorizationUpdatedApplier authorizationUpdatedApplier;
+  private AuthorizationDeletedApplier authorizationDeletedApplier;
+  private GroupEntityAddedApplier groupEntityAddedApplier;
+  private GroupEntityRemovedApplier groupEntityRemovedApplier;
+  private RoleEntityAddedApplier roleEntityAddedApplier;
+  private TenantEntityAddedApplier tenantEntityAddedApplier;
+  private TenantEntityRemovedApplier tenantEntityRemovedApplier;
+  private MappingRuleCreatedApplier mappingRuleCreatedApplier;
+  private final Random random = new Random();
+
+  @BeforeEach
+  void before() {
+    final var securityConfig = new SecurityConfiguration();
+    final var authConfig = new AuthorizationsConfiguration();
+    authConfig.setEnabled(true);
+    securityConfig.setAuthorizations(authConfig);
+    final var multiTenancyConfig = new MultiTenancyConfiguration();
+    multiTenancyConfig.setChecksEnabled(true);
+    securityConfig.setMultiTenancy(multiTenancyConfig);
+    authorizationCheckBehavior = new AuthorizationCheckBehavior(processingState, securityConfig);
+
+    authorizationCreatedApplier = new AuthorizationCreatedApplier(processingState);
+    authorizationUpdatedApplier = new AuthorizationUpdatedApplier(processingState);
+    authorizationDeletedApplier = new AuthorizationDeletedApplier(processingState);
+    groupEntityAddedApplier = new GroupEntityAddedApplier(processingState);
+    groupEntityRemovedApplier = new GroupEntityRemovedApplier(processingState);
+    roleEntityAddedApplier = new RoleEntityAddedApplier(processingState);
+    tenantEntityAddedApplier = new TenantEntityAddedApplier(processingState);
+    tenantEntityRemovedApplier = new TenantEntityRemovedApplier(processingState);
+    mappingRuleCreatedApplier = new MappingRuleCreatedApplier(processingState);
+  }
+
+  @Test
+  void shouldBeAuthorizedAfterPermissionWasAdded() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var resourceId = UUID.randomUUID().toString();
+    final var command = mockCommand(username);
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+
+    // when
+    addPermission(username, AuthorizationOwnerType.USER, resourceId);
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+  }
+
+  @Test
+  void shouldNotBeAuthorizedAfterPermissionWasDeleted() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var resourceId = UUID.randomUUID().toString();
+    final var authorizationKey = addPermission(username, AuthorizationOwnerType.USER, resourceId);
+    final var command = mockCommand(username);
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+
+    // when
+    authorizationDeletedApplier.applyState(
+        authorizationKey, new AuthorizationRecord().setAuthorizationKey(authorizationKey));
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+  }
+
+  @Test
+  void shouldNotBeAuthorizedAfterPermissionWasMovedToAnotherOwner() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var otherUsername = Strings.newRandomValidUsername();
+    final var resourceId = UUID.randomUUID().toString();
+    final var authorizationKey = addPermission(username, AuthorizationOwnerType.USER, resourceId);
+    final var command = mockCommand(username);
+    final var otherCommand = mockCommand(otherUsername);
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+    assertThat(isAuthorized(otherCommand, resourceId)).isFalse();
+
+    // when
+    authorizationUpdatedApplier.applyState(
+        authorizationKey,
+        newAuthorization(authorizationKey, otherUsername, AuthorizationOwnerType.USER, resourceId));
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+    assertThat(isAuthorized(otherCommand, resourceId)).isTrue();
+  }
+
+  @Test
+  void shouldNotBeAuthorizedAfterGroupPermissionWasDeleted() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var groupId = Strings.newRandomValidIdentityId();
+    final var resourceId = UUID.randomUUID().toString();
+    addToGroup(username, EntityType.USER, groupId);
+    final var authorizationKey = addPermission(groupId, AuthorizationOwnerType.GROUP, resourceId);
+    final var command = mockCommand(username);
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+
+    // when
+    authorizationDeletedApplier.applyState(
+        authorizationKey, new AuthorizationRecord().setAuthorizationKey(authorizationKey));
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+  }
+
+  @Test
+  void shouldNotBeAuthorizedAfterRemovalFromGroup() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var groupId = Strings.newRandomValidIdentityId();
+    final var resourceId = UUID.randomUUID().toString();
+    addToGroup(username, EntityType.USER, groupId);
+    addPermission(groupId, AuthorizationOwnerType.GROUP, resourceId);
+    final var command = mockCommand(username);
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+
+    // when
+    groupEntityRemovedApplier.applyState(
+        1L,
+        new GroupRecord().setGroupId(groupId).setEntityId(username).setEntityType(EntityType.USER));
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+  }
+
+  @Test
+  void shouldBeAuthorizedAfterGroupWasAssignedToRole() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var groupId = Strings.newRandomValidIdentityId();
+    final var roleId = Strings.newRandomValidIdentityId();
+    final var resourceId = UUID.randomUUID().toString();
+    addToGroup(username, EntityType.USER, groupId);
+    addPermission(roleId, AuthorizationOwnerType.ROLE, resourceId);
+    final var command = mockCommand(username);
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+
+    // when
+    addToRole(groupId, EntityType.GROUP, roleId);
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+  }
+
+  @Test
+  void shouldNotBeAssignedToTenantAfterRoleWasRemovedFromTenant() {
+    // given
+    final var username = Strings.newRandomValidUsername();
+    final var roleId = Strings.newRandomValidIdentityId();
+    final var tenantId = Strings.newRandomValidIdentityId();
+    addToRole(username, EntityType.USER, roleId);
+    final var tenant =
+        new TenantRecord().setTenantId(tenantId).setEntityId(roleId).setEntityType(EntityType.ROLE);
+    tenantEntityAddedApplier.applyState(1L, tenant);
+    final var command = mockCommand(username);
+    assertThat(authorizationCheckBehavior.isAssignedToTenant(command, tenantId)).isTrue();
+
+    // when
+    tenantEntityRemovedApplier.applyState(1L, tenant);
+
+    // then
+    assertThat(authorizationCheckBehavior.isAssignedToTenant(command, tenantId)).isFalse();
+  }
+
+  @Test
+  void shouldBeAuthorizedThroughMappingRuleCreatedAfterCheck() {
+    // given
+    final var claimName = UUID.randomUUID().toString();
+    final var claimValue = UUID.randomUUID().toString();
+    final var mappingRuleId = UUID.randomUUID().toString();
+    final var resourceId = UUID.randomUUID().toString();
+    addPermission(mappingRuleId, AuthorizationOwnerType.MAPPING_RULE, resourceId);
+    final var command = mock(TypedRecord.class);
+    when(command.getAuthorizations())
+        .thenReturn(Map.of(USER_TOKEN_CLAIMS, Map.of(claimName, claimValue)));
+    when(command.hasRequestMetadata()).thenReturn(true);
+    assertThat(isAuthorized(command, resourceId)).isFalse();
+
+    // when
+    mappingRuleCreatedApplier.applyState(
+        random.nextLong(),
+        new MappingRuleRecord()
+            .setMappingRuleId(mappingRuleId)
+            .setName(UUID.randomUUID().toString())
+            .setClaimName(claimName)
+            .setClaimValue(claimValue));
+
+    // then
+    assertThat(isAuthorized(command, resourceId)).isTrue();
+  }
+
+  private boolean isAuthorized(final TypedRecord<?> command, final String resourceId) {
+    return authorizationCheckBehavior
+        .isAuthorized(
+            new AuthorizationRequest(command, RESOURCE_TYPE, PERMISSION_TYPE)
+                .addResourceId(resourceId))
+        .isRight();
+  }
+
+  private void addToGroup(
+      final String entityId, final EntityType entityType, final String groupId) {
+    groupEntityAddedApplier.applyState(
+        1L, new GroupRecord().setGroupId(groupId).setEntityId(entityId).setEntityType(entityType));
+  }
+
+  private void addToRole(final String entityId, final EntityType entityType, final String roleId) {
+    roleEntityAddedApplier.applyState(
+        1L, new RoleRecord().setRoleId(roleId).setEntityId(entityId).setEntityType(entityType));
+  }
+
+  private long addPermission(
+      final String ownerId, final AuthorizationOwnerType ownerType, final String resourceId) {
+    final var authorizationKey = random.nextLong();
+    authorizationCreatedApplier.applyState(
+        authorizationKey, newAuthorization(authorizationKey, ownerId, ownerType, resourceId));
+    return authorizationKey;
+  }
+
+  private AuthorizationRecord newAuthorization(
+      final long authorizationKey,
+      final String ownerId,
+      final AuthorizationOwnerType ownerType,
+      final String resourceId) {
+    return new AuthorizationRecord()
+        .setAuthorizationKey(authorizationKey)
+        .setOwnerId(ownerId)
+        .setOwnerType(ownerType)
+        .setResourceMatcher(AuthorizationResourceMatcher.ID)
+        .setResourceId(resourceId)
+        .setResourceType(RESOURCE_TYPE)
+        .setPermissionTypes(Set.of(PERMISSION_TYPE));
+  }
+
+  private TypedRecord<?> mockCommand(final String username) {
+    final var command = mock(TypedRecord.class);
+    when(command.getAuthorizations()).thenReturn(Map.of(AUTHORIZED_USERNAME, username));
+    when(command.hasRequestMetadata()).thenReturn(true);
+    return command;
+  }
+}
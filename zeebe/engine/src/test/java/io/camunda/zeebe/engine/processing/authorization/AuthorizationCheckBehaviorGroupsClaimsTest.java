@@ -75,10 +75,8 @@ final class AuthorizationCheckBehaviorGroupsClaimsTest {
     authorizationCheckBehavior = new AuthorizationCheckBehavior(processingState, securityConfig);
 
     userCreatedApplier = new UserCreatedApplier(processingState.getUserState());
-    mappingRuleCreatedApplier =
-        new MappingRuleCreatedApplier(processingState.getMappingRuleState());
-    authorizationCreatedApplier =
-        new AuthorizationCreatedApplier(processingState.getAuthorizationState());
+    mappingRuleCreatedApplier = new MappingRuleCreatedApplier(processingState);
+    authorizationCreatedApplier = new AuthorizationCreatedApplier(processingState);
     roleCreatedApplier = new RoleCreatedApplier(processingState.getRoleState());
     roleEntityAddedApplier = new RoleEntityAddedApplier(processingState);
     tenantCreatedApplier = new TenantCreatedApplier(processingState.getTenantState());
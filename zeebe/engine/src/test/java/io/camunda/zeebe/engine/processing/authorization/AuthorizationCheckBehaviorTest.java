@@ -77,10 +77,8 @@ final class AuthorizationCheckBehaviorTest {
     authorizationCheckBehavior = new AuthorizationCheckBehavior(processingState, securityConfig);
 
     userCreatedApplier = new UserCreatedApplier(processingState.getUserState());
-    mappingRuleCreatedApplier =
-        new MappingRuleCreatedApplier(processingState.getMappingRuleState());
-    authorizationCreatedApplier =
-        new AuthorizationCreatedApplier(processingState.getAuthorizationState());
+    mappingRuleCreatedApplier = new MappingRuleCreatedApplier(processingState);
+    authorizationCreatedApplier = new AuthorizationCreatedApplier(processingState);
     groupCreatedApplier = new GroupCreatedApplier(processingState.getGroupState());
     groupEntityAddedApplier = new GroupEntityAddedApplier(processingState);
     roleCreatedApplier = new RoleCreatedApplier(processingState.getRoleState());
@@ -22,6 +22,7 @@ import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableLoopCharacteristics;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableMultiInstanceBody;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.record.value.ErrorType;
 import io.camunda.zeebe.util.Either;
@@ -76,11 +77,12 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mockExpressionProcessor, mock(StateWriter.class));
 
     // when
     final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext, 1);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -124,11 +126,12 @@ public class MultiInstanceOutputCollectionBehaviorTest {
     when(mockFlowScopeContext.getElementInstanceKey()).thenReturn(flowScopeContextKey);
 
     final var sut =
-        new MultiInstanceOutputCollectionBehavior(mockStateBehavior, mockExpressionProcessor);
+        new MultiInstanceOutputCollectionBehavior(
+            mockStateBehavior, mockExpressionProcessor, mock(StateWriter.class));
 
     // when
     final var result =
-        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext);
+        sut.updateOutputCollection(mockElement, mockChildContext, mockFlowScopeContext, 1);
 
     // then
     assertThat(result.isLeft()).isTrue();
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.MultiInstanceRecordValue;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class MultiInstanceOutputCollectionTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  private static final String PROCESS_ID = "process";
+  private static final String ELEMENT_ID = "task";
+  private static final String OUTPUT_COLLECTION = "results";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldCollectOutputElementsOfLargeParallelBodyOnCompletion() {
+    // given
+    ENGINE.deployment().withXmlResource(process(false, 100)).deploy();
+
+    // when
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+
+    // then
+    final var multiInstanceBody =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.MULTI_INSTANCE_BODY)
+            .getFirst();
+
+    assertThat(
+            RecordingExporter.records()
+                .limitToProcessInstance(processInstanceKey)
+                .variableRecords()
+                .withScopeKey(multiInstanceBody.getKey())
+                .withName(OUTPUT_COLLECTION))
+        .extracting(Record::getIntent)
+        .describedAs("Expect that the output collection is updated only once")
+        .containsExactly(VariableIntent.CREATED, VariableIntent.UPDATED);
+
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .withScopeKey(processInstanceKey)
+                .withName(OUTPUT_COLLECTION)
+                .getFirst()
+                .getValue()
+                .getValue())
+        .isEqualTo(expectedOutputCollection(100));
+
+    final List<Record<MultiInstanceRecordValue>> collectedOutputElements =
+        outputElementCollectedRecords(processInstanceKey);
+    assertThat(collectedOutputElements)
+        .hasSize(100)
+        .allSatisfy(r -> assertThat(r.getKey()).isEqualTo(multiInstanceBody.getKey()));
+    assertThat(collectedOutputElements)
+        .extracting(r -> r.getValue().getLoopCounter())
+        .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, 100).boxed().toList());
+  }
+
+  @Test
+  public void shouldUpdateOutputCollectionOfSmallParallelBodyOnEachCompletion() {
+    // given
+    ENGINE.deployment().withXmlResource(process(false, 3)).deploy();
+
+    // when
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .withScopeKey(processInstanceKey)
+                .withName(OUTPUT_COLLECTION)
+                .getFirst()
+                .getValue()
+                .getValue())
+        .isEqualTo(expectedOutputCollection(3));
+
+    assertThat(outputElementCollectedRecords(processInstanceKey)).isEmpty();
+  }
+
+  @Test
+  public void shouldUpdateOutputCollectionOfLargeSequentialBodyOnEachCompletion() {
+    // given
+    ENGINE.deployment().withXmlResource(process(true, 100)).deploy();
+
+    // when
+    final long processInstanceKey = ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords()
+                .withProcessInstanceKey(processInstanceKey)
+                .withScopeKey(processInstanceKey)
+                .withName(OUTPUT_COLLECTION)
+                .getFirst()
+                .getValue()
+                .getValue())
+        .isEqualTo(expectedOutputCollection(100));
+
+    assertThat(outputElementCollectedRecords(processInstanceKey)).isEmpty();
+  }
+
+  private static BpmnModelInstance process(final boolean sequential, final int size) {
+    return Bpmn.createExecutableProcess(PROCESS_ID)
+        .startEvent()
+        .manualTask(ELEMENT_ID)
+        .multiInstance(
+            b -> {
+              b.zeebeInputCollectionExpression("for i in 1.." + size + " return i")
+                  .zeebeInputElement("item")
+                  .zeebeOutputCollection(OUTPUT_COLLECTION)
+                  .zeebeOutputElementExpression("item * 2");
+              if (sequential) {
+                b.sequential();
+              } else {
+                b.parallel();
+              }
+            })
+        .endEvent()
+        .done();
+  }
+
+  private static String expectedOutputCollection(final int size) {
+    return JsonUtil.toJson(IntStream.rangeClosed(1, size).map(i -> i * 2).boxed().toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Record<MultiInstanceRecordValue>> outputElementCollectedRecords(
+      final long processInstanceKey) {
+    return RecordingExporter.records()
+        .limitToProcessInstance(processInstanceKey)
+        .withValueType(ValueType.MULTI_INSTANCE)
+        .withIntent(MultiInstanceIntent.OUTPUT_ELEMENT_COLLECTED)
+        .map(r -> (Record<MultiInstanceRecordValue>) (Record<?>) r)
+        .toList();
+  }
+}
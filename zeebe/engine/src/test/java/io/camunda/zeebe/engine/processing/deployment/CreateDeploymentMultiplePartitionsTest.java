@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.tuple;
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.Assertions;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -551,6 +552,30 @@ public final class CreateDeploymentMultiplePartitionsTest {
         .hasSize(1);
   }
 
+  @Test
+  public void shouldWriteProcessCreatedEventsWithCompiledProcess() {
+    // given
+    final var processId = Strings.newRandomValidBpmnId();
+
+    // when
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            "process.bpmn", Bpmn.createExecutableProcess(processId).startEvent().endEvent().done())
+        .deploy();
+
+    // then
+    assertThat(
+            RecordingExporter.processRecords()
+                .withIntents(ProcessIntent.CREATED)
+                .withBpmnProcessId(processId)
+                .limit(PARTITION_COUNT)
+                .map(record -> ((ProcessRecord) record.getValue()).getExecutableProcessBuffer()))
+        .describedAs("All partitions get the compiled process with the created event")
+        .hasSize(PARTITION_COUNT)
+        .allSatisfy(executableProcess -> assertThat(executableProcess.capacity()).isPositive());
+  }
+
   @Test
   public void shouldWriteDrgAndDecisionCreatedEventsWithSameKeys() {
     // given
@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model.transformation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.ExpressionLanguageFactory;
+import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableExclusiveGateway;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.InstantSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class ExecutableProcessCodecTest {
+
+  private static final String PROCESS_ID = "process";
+  private static final String ANY_TEST_RESOURCE = "/processes/exclusive-gateway.bpmn";
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage(
+          new ZeebeFeelEngineClock(InstantSource.system()));
+  private final BpmnTransformer transformer = new BpmnTransformer(expressionLanguage);
+  private final ExecutableProcessCodec codec = new ExecutableProcessCodec(expressionLanguage);
+
+  @Test
+  void shouldDecodeEncodedProcess() {
+    // given
+    final var startEvent =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .zeebeStartExecutionListener("process-start")
+            .startEvent("start")
+            .name("Start")
+            .zeebeProperty("key", "value");
+    startEvent.documentation("The start of the process");
+
+    final var process =
+        transform(
+            startEvent
+                .serviceTask(
+                    "task",
+                    task ->
+                        task.zeebeJobType("=\"job-\" + type")
+                            .zeebeJobRetries("5")
+                            .zeebeTaskHeader("header", "value")
+                            .zeebeInputExpression("x", "y")
+                            .zeebeOutputExpression("result", "z.result")
+                            .zeebeEndExecutionListener("task-end"))
+                .exclusiveGateway("split")
+                .defaultFlow()
+                .parallelGateway("fork")
+                .manualTask("manual")
+                .parallelGateway("join")
+                .endEvent("end")
+                .moveToNode("fork")
+                .connectTo("join")
+                .moveToNode("split")
+                .sequenceFlowId("conditional")
+                .conditionExpression("z.result > 10")
+                .endEvent("terminate", end -> end.terminate())
+                .done());
+
+    // when
+    final var decoded = codec.decode(codec.encode(process));
+
+    // then
+    assertDecodedEqualTo(decoded, process);
+  }
+
+  @ParameterizedTest
+  @MethodSource("bpmnTestResources")
+  void shouldDecodeProcessesOfTestResources(final Path resource) {
+    // given
+    final var processes = transformResource(resource);
+    assumeThat(processes).describedAs("Expected a valid model with processes").isNotEmpty();
+
+    for (final ExecutableProcess process : processes) {
+      // when
+      final var encoded = codec.encode(process);
+
+      // then
+      if (encoded.capacity() > 0) {
+        assertDecodedEqualTo(codec.decode(encoded), process);
+      }
+    }
+  }
+
+  @Test
+  void shouldEncodeProcessesOfTestResources() {
+    // given
+    final var processes = bpmnTestResources().flatMap(r -> transformResource(r).stream());
+
+    // when
+    final var encodedProcesses = processes.map(codec::encode).filter(b -> b.capacity() > 0);
+
+    // then - the round trip of the test resources isn't only covering unsupported processes
+    assertThat(encodedProcesses).isNotEmpty();
+  }
+
+  @Test
+  void shouldDecodeExpressions() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", task -> task.zeebeJobType("static").zeebeJobRetries("=3"))
+                .exclusiveGateway("split")
+                .conditionExpression("x")
+                .endEvent()
+                .done());
+
+    // when
+    final var decoded = codec.decode(codec.encode(process));
+
+    // then
+    final var jobWorkerProperties =
+        decoded.getElementById("task", ExecutableJobWorkerTask.class).getJobWorkerProperties();
+    assertThat(jobWorkerProperties.getType().isStatic()).isTrue();
+    assertThat(jobWorkerProperties.getType().getExpression()).isEqualTo("static");
+    assertThat(jobWorkerProperties.getRetries().isStatic()).isFalse();
+    assertThat(jobWorkerProperties.getRetries().getExpression()).isEqualTo("3");
+
+    final var gateway = decoded.getElementById("split", ExecutableExclusiveGateway.class);
+    assertThat(gateway.getOutgoingWithCondition())
+        .singleElement()
+        .satisfies(flow -> assertThat(flow.getCondition().getExpression()).isEqualTo("x"));
+  }
+
+  @Test
+  void shouldNotEncodeProcessWithBoundaryEvent() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask("task", task -> task.zeebeJobType("job"))
+                .boundaryEvent("timer", timer -> timer.timerWithDuration("PT1M").endEvent())
+                .moveToActivity("task")
+                .endEvent()
+                .done());
+
+    // when
+    final var encoded = codec.encode(process);
+
+    // then
+    assertThat(encoded.capacity()).isZero();
+  }
+
+  @Test
+  void shouldNotEncodeProcessWithUnsupportedElement() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .subProcess("subprocess", sub -> sub.embeddedSubProcess().startEvent().endEvent())
+                .endEvent()
+                .done());
+
+    // when
+    final var encoded = codec.encode(process);
+
+    // then
+    assertThat(encoded.capacity()).isZero();
+  }
+
+  @Test
+  void shouldNotEncodeProcessWithMessageStartEvent() {
+    // given
+    final var process =
+        transform(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .message("message")
+                .endEvent()
+                .done());
+
+    // when
+    final var encoded = codec.encode(process);
+
+    // then
+    assertThat(encoded.capacity()).isZero();
+  }
+
+  @Test
+  void shouldNotDecodeOtherFormatVersion() {
+    // given
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    writer.writeInteger(ExecutableProcessCodec.FORMAT_VERSION + 1);
+
+    // when
+    final var decoded = codec.decode(new UnsafeBuffer(buffer, 0, writer.getOffset()));
+
+    // then
+    assertThat(decoded).isNull();
+  }
+
+  private void assertDecodedEqualTo(
+      final ExecutableProcess decoded, final ExecutableProcess process) {
+    assertThat(decoded)
+        .usingRecursiveComparison()
+        .withComparatorForType(
+            Comparator.comparing(Expression::getExpression).thenComparing(Expression::isStatic),
+            Expression.class)
+        .withEqualsForType(BufferUtil::equals, DirectBuffer.class)
+        .isEqualTo(process);
+  }
+
+  /** Transforms the resource, or returns no processes if it's not a valid model. */
+  private List<ExecutableProcess> transformResource(final Path resource) {
+    try (final var input = Files.newInputStream(resource)) {
+      return transformer.transformDefinitions(Bpmn.readModelFromStream(input));
+    } catch (final IOException | RuntimeException e) {
+      return List.of();
+    }
+  }
+
+  private static Stream<Path> bpmnTestResources() {
+    try {
+      final var process = ExecutableProcessCodecTest.class.getResource(ANY_TEST_RESOURCE);
+      final var root = Path.of(process.toURI()).getParent().getParent();
+      try (final var files = Files.walk(root)) {
+        return files.filter(file -> file.toString().endsWith(".bpmn")).sorted().toList().stream();
+      }
+    } catch (final IOException | URISyntaxException e) {
+      throw new IllegalStateException("Failed to list the BPMN test resources", e);
+    }
+  }
+
+  private ExecutableProcess transform(final BpmnModelInstance model) {
+    return transformer.transformDefinitions(model).stream()
+        .filter(process -> BufferUtil.bufferAsString(process.getId()).equals(PROCESS_ID))
+        .findFirst()
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobBatchCompleteTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  private static final String PROCESS_ID = "process";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private String jobType;
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final long firstJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long secondJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    ENGINE.jobs().withType(jobType).withMaxJobsToActivate(2).activate();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobBatch()
+            .withJob(firstJobKey, Map.of("foo", "bar"))
+            .withJob(secondJobKey, Map.of("foo", "baz"))
+            .complete();
+
+    // then
+    Assertions.assertThat(completed)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(JobBatchIntent.COMPLETED);
+    assertThat(completed.getValue().getJobKeys()).containsExactly(firstJobKey, secondJobKey);
+    assertThat(completed.getValue().getJobs())
+        .extracting(JobRecordValue::getErrorMessage)
+        .containsOnly("");
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withType(jobType)
+                .limit(2)
+                .map(Record::getValue)
+                .map(JobRecordValue::getVariables))
+        .containsExactly(Map.of("foo", "bar"), Map.of("foo", "baz"));
+  }
+
+  @Test
+  public void shouldCompleteJobsInSameProcessingBatch() {
+    // given
+    final long firstJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long secondJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(firstJobKey).withJob(secondJobKey).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withSourceRecordPosition(completed.getSourceRecordPosition())
+                .limit(2))
+        .extracting(Record::getKey)
+        .containsExactly(firstJobKey, secondJobKey);
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getIntent() == JobBatchIntent.COMPLETED)
+                .jobRecords()
+                .withIntent(JobIntent.COMPLETE)
+                .exists())
+        .isFalse();
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .withBpmnProcessId(PROCESS_ID)
+                .limit(2))
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldCompleteOtherJobsIfJobNotFound() {
+    // given
+    final long jobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long unknownJobKey = jobKey + 1_000;
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(unknownJobKey).withJob(jobKey).complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(unknownJobKey, jobKey);
+    assertThat(completed.getValue().getJobs())
+        .extracting(JobRecordValue::getErrorMessage)
+        .satisfiesExactly(
+            error ->
+                assertThat(error)
+                    .isEqualTo(
+                        "Expected to complete job with key '%d', but no such job was found"
+                            .formatted(unknownJobKey)),
+            error -> assertThat(error).isEmpty());
+    assertThat(RecordingExporter.jobRecords(JobIntent.COMPLETED).withRecordKey(jobKey).exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotCompleteJobTwice() {
+    // given
+    final long jobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(jobKey).withJob(jobKey).complete();
+
+    // then
+    assertThat(completed.getValue().getJobs())
+        .extracting(JobRecordValue::getErrorMessage)
+        .satisfiesExactly(
+            error -> assertThat(error).isEmpty(),
+            error -> assertThat(error).contains("already completed as part of the batch"));
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getIntent() == JobBatchIntent.COMPLETED)
+                .jobRecords()
+                .withIntent(JobIntent.COMPLETED)
+                .withRecordKey(jobKey))
+        .hasSize(1);
+  }
+
+  @Test
+  public void shouldCompleteOtherJobsIfJobIsRejected() {
+    // given
+    final long failedJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final Record<JobRecordValue> job = ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = job.getKey();
+    ENGINE.jobs().withType(jobType).withMaxJobsToActivate(2).activate();
+    ENGINE.job().withKey(failedJobKey).withRetries(0).fail();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(failedJobKey).withJob(jobKey).complete();
+
+    // then
+    assertThat(completed.getValue().getJobs())
+        .extracting(JobRecordValue::getErrorMessage)
+        .satisfiesExactly(
+            error -> assertThat(error).contains("but it is in state 'FAILED'"),
+            error -> assertThat(error).isEmpty());
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getIntent() == JobBatchIntent.COMPLETED)
+                .jobRecords()
+                .withIntent(JobIntent.COMPLETED))
+        .extracting(Record::getKey)
+        .containsExactly(jobKey);
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .withProcessInstanceKey(job.getValue().getProcessInstanceKey())
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldRejectIfJobsDoNotMatchJobKeys() {
+    // given
+    final long jobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+
+    // when
+    final Record<JobBatchRecordValue> rejection =
+        ENGINE.jobBatch().withJobKeyOnly(jobKey).expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.INVALID_ARGUMENT);
+    assertThat(rejection.getRejectionReason())
+        .isEqualTo(
+            "Expected to complete job batch with a job for each job key, but got 1 job keys and 0 jobs");
+  }
+
+  @Test
+  public void shouldSetJobInformationOnCompletedJobs() {
+    // given
+    final Record<JobRecordValue> job = ENGINE.createJob(jobType, PROCESS_ID);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE.jobBatch().withJob(job.getKey(), Map.of("foo", "bar")).complete();
+
+    // then
+    final JobRecordValue completedJob = completed.getValue().getJobs().get(0);
+    assertThat(completedJob.getType()).isEqualTo(jobType);
+    assertThat(completedJob.getProcessInstanceKey())
+        .isEqualTo(job.getValue().getProcessInstanceKey());
+    assertThat(completedJob.getVariables()).doesNotContain(entry("foo", "bar"));
+  }
+}
@@ -58,10 +58,8 @@ public class MappingRuleAppliersTest {
     authorizationState = processingState.getAuthorizationState();
     groupState = processingState.getGroupState();
     membershipState = processingState.getMembershipState();
-    mappingRuleDeletedApplier =
-        new MappingRuleDeletedApplier(processingState.getMappingRuleState());
-    mappingRuleUpdatedApplier =
-        new MappingRuleUpdatedApplier(processingState.getMappingRuleState());
+    mappingRuleDeletedApplier = new MappingRuleDeletedApplier(processingState);
+    mappingRuleUpdatedApplier = new MappingRuleUpdatedApplier(processingState);
   }
 
   @Test
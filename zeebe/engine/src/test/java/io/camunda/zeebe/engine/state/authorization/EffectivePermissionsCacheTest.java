@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheKeyNames;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetricsDoc.AuthorizationCacheType;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache.EffectivePermissions;
+import io.camunda.zeebe.engine.state.authorization.EffectivePermissionsCache.Principal;
+import io.camunda.zeebe.protocol.record.value.AuthorizationOwnerType;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.EntityType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+final class EffectivePermissionsCacheTest {
+
+  private static final Principal USER = new Principal(EntityType.USER, "user", null);
+  private static final Principal OTHER_USER = new Principal(EntityType.USER, "other", null);
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final EffectivePermissionsCache cache = new EffectivePermissionsCache(100, meterRegistry);
+  private final AtomicInteger resolved = new AtomicInteger();
+
+  @Test
+  void shouldResolveTenantsOnlyOnce() {
+    // given
+    cache.getTenantIds(USER, resolver(Set.of("tenant"), Set.of(), Set.of()));
+
+    // when
+    final var tenantIds = cache.getTenantIds(USER, resolver(Set.of(), Set.of(), Set.of()));
+
+    // then
+    assertThat(tenantIds).containsExactly("tenant");
+    assertThat(resolved).hasValue(1);
+    assertThat(counter(AuthorizationCacheMetricsDoc.HITS, AuthorizationCacheType.TENANTS)).isOne();
+    assertThat(counter(AuthorizationCacheMetricsDoc.MISSES, AuthorizationCacheType.TENANTS))
+        .isOne();
+  }
+
+  @Test
+  void shouldCacheTenantsPerGroupsClaims() {
+    // given
+    final var withClaims = new Principal(EntityType.USER, "user", List.of("group"));
+    cache.getTenantIds(USER, resolver(Set.of("tenant"), Set.of(), Set.of()));
+
+    // when
+    final var tenantIds = cache.getTenantIds(withClaims, resolver(Set.of(), Set.of(), Set.of()));
+
+    // then
+    assertThat(tenantIds).isEmpty();
+    assertThat(resolved).hasValue(2);
+  }
+
+  @Test
+  void shouldInvalidatePrincipalsWhichResolvedThroughGroup() {
+    // given
+    cache.getTenantIds(USER, resolver(Set.of("tenant"), Set.of("group"), Set.of()));
+    cache.getTenantIds(OTHER_USER, resolver(Set.of("tenant"), Set.of(), Set.of()));
+
+    // when
+    cache.invalidateMemberships(EntityType.GROUP, "group");
+
+    // then
+    cache.getTenantIds(USER, resolver(Set.of(), Set.of(), Set.of()));
+    cache.getTenantIds(OTHER_USER, resolver(Set.of(), Set.of(), Set.of()));
+    assertThat(resolved).hasValue(3);
+    assertThat(counter(AuthorizationCacheMetricsDoc.INVALIDATIONS, AuthorizationCacheType.TENANTS))
+        .isOne();
+  }
+
+  @Test
+  void shouldInvalidatePermissionsOfResourceTypeOnly() {
+    // given
+    final var role = Set.of("role");
+    cache.getResourceIdentifiers(
+        USER,
+        AuthorizationResourceType.RESOURCE,
+        PermissionType.CREATE,
+        resolver(Set.of("a"), Set.of(), role));
+    cache.getResourceIdentifiers(
+        USER,
+        AuthorizationResourceType.PROCESS_DEFINITION,
+        PermissionType.CREATE_PROCESS_INSTANCE,
+        resolver(Set.of("b"), Set.of(), role));
+
+    // when
+    cache.invalidatePermissions(
+        AuthorizationOwnerType.ROLE, "role", AuthorizationResourceType.RESOURCE);
+
+    // then
+    final var resources =
+        cache.getResourceIdentifiers(
+            USER,
+            AuthorizationResourceType.RESOURCE,
+            PermissionType.CREATE,
+            resolver(Set.of(), Set.of(), Set.of()));
+    final var processDefinitions =
+        cache.getResourceIdentifiers(
+            USER,
+            AuthorizationResourceType.PROCESS_DEFINITION,
+            PermissionType.CREATE_PROCESS_INSTANCE,
+            resolver(Set.of(), Set.of(), Set.of()));
+    assertThat(resources).isEmpty();
+    assertThat(processDefinitions).containsExactly("b");
+    assertThat(resolved).hasValue(3);
+  }
+
+  @Test
+  void shouldReadMappingRulesAgainAfterInvalidation() {
+    // given
+    cache.getMappingRules(List::of);
+
+    // when
+    cache.invalidateMappingRules();
+    final var mappingRules = cache.getMappingRules(() -> List.of(new PersistedMappingRule()));
+
+    // then
+    assertThat(mappingRules).hasSize(1);
+    assertThat(counter(AuthorizationCacheMetricsDoc.MISSES, AuthorizationCacheType.MAPPING_RULES))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldResolveAgainAfterClear() {
+    // given
+    cache.getTenantIds(USER, resolver(Set.of("tenant"), Set.of(), Set.of()));
+
+    // when
+    cache.clear();
+
+    // then
+    cache.getTenantIds(USER, resolver(Set.of("tenant"), Set.of(), Set.of()));
+    assertThat(resolved).hasValue(2);
+  }
+
+  private Function<Principal, EffectivePermissions> resolver(
+      final Set<String> ids, final Set<String> groupIds, final Set<String> roleIds) {
+    return principal -> {
+      resolved.incrementAndGet();
+      return new EffectivePermissions(ids, groupIds, roleIds);
+    };
+  }
+
+  private double counter(
+      final AuthorizationCacheMetricsDoc doc, final AuthorizationCacheType type) {
+    return meterRegistry
+        .get(doc.getName())
+        .tag(AuthorizationCacheKeyNames.CACHE.asString(), type.getTagValue())
+        .counter()
+        .count();
+  }
+}
@@ -15,8 +15,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.AbstractFlowElement;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.ExecutableProcessCodec;
 import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
 import io.camunda.zeebe.engine.state.immutable.ProcessState.PersistedProcessVisitor;
 import io.camunda.zeebe.engine.state.immutable.ProcessState.ProcessIdentifier;
@@ -31,7 +34,9 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.InstantSource;
 import java.util.function.LongConsumer;
+import org.agrona.DirectBuffer;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
@@ -641,6 +646,49 @@ public final class ProcessStateTest {
     Assertions.assertThat(serviceTask).isNotNull();
   }
 
+  @Test
+  public void shouldLoadExecutableProcessFromCompiledForm() {
+    // given - a compiled form which differs from the resource, to see which one is loaded
+    final var processRecord = creatingProcessRecord(processingState);
+    final var compiledModel =
+        Bpmn.createExecutableProcess("processId")
+            .startEvent("startEvent")
+            .serviceTask("test", task -> task.zeebeJobType("compiled"))
+            .endEvent("endEvent")
+            .done();
+    processRecord.setExecutableProcess(compile(compiledModel));
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    processState.clearCache();
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    final var serviceTask =
+        deployedProcess.getProcess().getElementById("test", ExecutableJobWorkerTask.class);
+    assertThat(serviceTask.getJobWorkerProperties().getType().getExpression())
+        .isEqualTo("compiled");
+  }
+
+  @Test
+  public void shouldTransformProcessWithoutCompiledForm() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    processState.clearCache();
+    final var deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(deployedProcess.getPersistedProcess().getExecutableProcess().capacity()).isZero();
+    final var serviceTask =
+        deployedProcess.getProcess().getElementById("test", ExecutableJobWorkerTask.class);
+    assertThat(serviceTask.getJobWorkerProperties().getType().getExpression()).isEqualTo("type");
+  }
+
   @Test
   public void shouldGetProcessByProcessIdAndDeploymentKey() {
     // given
@@ -1224,6 +1272,12 @@ public final class ProcessStateTest {
     return deploymentRecord;
   }
 
+  private static DirectBuffer compile(final BpmnModelInstance model) {
+    final var transformer = BpmnFactory.createTransformer(InstantSource.system());
+    final var codec = new ExecutableProcessCodec(transformer.getExpressionLanguage());
+    return codec.encode(transformer.transformDefinitions(model).getFirst());
+  }
+
   public static ProcessRecord creatingProcessRecord(final MutableProcessingState processingState) {
     return creatingProcessRecord(processingState, "processId");
   }
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetricsDoc;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+
+final class SharedProcessCacheTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger parsedProcesses = new AtomicInteger();
+
+  @Test
+  void shouldParseProcessOnlyOnce() {
+    // given
+    final var cache = new SharedProcessCache(1024, meterRegistry);
+    final var parsed = cache.getOrParse(1L, checksum("a"), 10, parser("process"));
+
+    // when
+    final var cached = cache.getOrParse(1L, checksum("a"), 10, parser("process"));
+
+    // then
+    assertThat(cached).isSameAs(parsed);
+    assertThat(parsedProcesses).hasValue(1);
+    assertThat(counter(ProcessCacheMetricsDoc.HITS)).isOne();
+    assertThat(counter(ProcessCacheMetricsDoc.MISSES)).isOne();
+  }
+
+  @Test
+  void shouldParseProcessAgainIfChecksumDiffers() {
+    // given
+    final var cache = new SharedProcessCache(1024, meterRegistry);
+    final var parsed = cache.getOrParse(1L, checksum("a"), 10, parser("process"));
+
+    // when
+    final var other = cache.getOrParse(1L, checksum("b"), 10, parser("process"));
+
+    // then
+    assertThat(other).isNotSameAs(parsed);
+    assertThat(parsedProcesses).hasValue(2);
+  }
+
+  @Test
+  void shouldEvictByWeight() {
+    // given
+    final var cache = new SharedProcessCache(100, meterRegistry);
+    cache.getOrParse(1L, checksum("a"), 60, parser("small"));
+
+    // when
+    cache.getOrParse(2L, checksum("b"), 60, parser("large"));
+    cache.getOrParse(1L, checksum("a"), 60, parser("small"));
+
+    // then
+    assertThat(parsedProcesses).hasValue(3);
+    assertThat(counter(ProcessCacheMetricsDoc.EVICTIONS)).isEqualTo(2);
+    assertThat(meterRegistry.get(ProcessCacheMetricsDoc.WEIGHT.getName()).gauge().value())
+        .isEqualTo(60);
+  }
+
+  @Test
+  void shouldNotCacheProcessLargerThanCache() {
+    // given
+    final var cache = new SharedProcessCache(100, meterRegistry);
+
+    // when
+    cache.getOrParse(1L, checksum("a"), 101, parser("huge"));
+    cache.getOrParse(1L, checksum("a"), 101, parser("huge"));
+
+    // then
+    assertThat(parsedProcesses).hasValue(2);
+    assertThat(meterRegistry.get(ProcessCacheMetricsDoc.WEIGHT.getName()).gauge().value())
+        .isZero();
+  }
+
+  private Supplier<ExecutableProcess> parser(final String processId) {
+    return () -> {
+      parsedProcesses.incrementAndGet();
+      return new ExecutableProcess(processId);
+    };
+  }
+
+  private DirectBuffer checksum(final String checksum) {
+    return BufferUtil.wrapString(checksum);
+  }
+
+  private double counter(final ProcessCacheMetricsDoc doc) {
+    return meterRegistry.get(doc.getName()).counter().count();
+  }
+}
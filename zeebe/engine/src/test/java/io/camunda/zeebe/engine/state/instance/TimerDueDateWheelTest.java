@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel.DueTimer;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimerDueDateWheelTest {
+
+  private static final long TICK = 100;
+  private static final long HORIZON = 1_000;
+
+  private final AtomicLong now = new AtomicLong(10_000);
+  private final InstantSource clock = () -> Instant.ofEpochMilli(now.get());
+  private TimerDueDateWheel wheel;
+
+  @BeforeEach
+  void setUp() {
+    wheel = new TimerDueDateWheel(TICK, HORIZON, clock);
+    wheel.load(now.get());
+  }
+
+  @Test
+  void shouldNotKeepTimersBeforeLoaded() {
+    // given
+    wheel = new TimerDueDateWheel(TICK, HORIZON, clock);
+
+    // when
+    wheel.add(10_100, 1, 2);
+
+    // then
+    assertThat(wheel.isLoaded()).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldPollDueTimersInOrderOfDueDate() {
+    // given
+    wheel.add(10_550, 1, 3);
+    wheel.add(10_150, 1, 2);
+    wheel.add(10_500, 1, 1);
+    wheel.add(10_900, 1, 4);
+
+    // when
+    final var dueTimers = wheel.poll(10_550);
+
+    // then
+    assertThat(dueTimers)
+        .containsExactly(
+            new DueTimer(10_150, 1, 2), new DueTimer(10_500, 1, 1), new DueTimer(10_550, 1, 3));
+    assertThat(wheel.nextDueDate()).isEqualTo(10_900);
+  }
+
+  @Test
+  void shouldKeepDueTimersUntilRemoved() {
+    // given
+    wheel.add(10_100, 1, 2);
+    wheel.add(10_200, 1, 3);
+    wheel.poll(10_200);
+
+    // when
+    wheel.remove(10_100, 1, 2);
+
+    // then
+    assertThat(wheel.poll(10_300)).containsExactly(new DueTimer(10_200, 1, 3));
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldAddOverdueTimersAsDue() {
+    // given
+    wheel.poll(10_500);
+
+    // when
+    wheel.add(9_000, 1, 2);
+
+    // then
+    assertThat(wheel.poll(10_500)).containsExactly(new DueTimer(9_000, 1, 2));
+  }
+
+  @Test
+  void shouldNotAddTimerTwice() {
+    // given
+    wheel.add(10_100, 1, 2);
+    wheel.poll(10_100);
+
+    // when
+    wheel.add(10_100, 1, 2);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(wheel.poll(10_200)).hasSize(1);
+  }
+
+  @Test
+  void shouldOnlyRememberNextDueDateOfTimersBeyondTwoHorizons() {
+    // given
+    final long beyond = now.get() + 2 * HORIZON;
+
+    // when
+    wheel.add(beyond + 500, 1, 2);
+    wheel.add(beyond, 1, 3);
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.nextDueDate()).isEqualTo(beyond);
+  }
+
+  @Test
+  void shouldKeepTimersDueAfterCoverageWithinTwoHorizons() {
+    // given
+    final long afterCoverage = wheel.coveredUntil() + HORIZON / 2;
+
+    // when
+    wheel.add(afterCoverage, 1, 2);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(wheel.nextDueDate()).isEqualTo(afterCoverage);
+  }
+
+  @Test
+  void shouldFindTimersOfLaterRounds() {
+    // given - a timer due in more than one rotation of the wheel
+    wheel.extend(now.get() + HORIZON);
+    now.addAndGet(HORIZON);
+    final long dueDate = 10_000 + 2 * HORIZON + 5 * TICK;
+    wheel.add(dueDate, 1, 2);
+
+    // when
+    final var notDueYet = wheel.poll(10_000 + HORIZON);
+    final var nextDueDate = wheel.nextDueDate();
+    final var due = wheel.poll(dueDate);
+
+    // then
+    assertThat(notDueYet).isEmpty();
+    assertThat(nextDueDate).isEqualTo(dueDate);
+    assertThat(due).containsExactly(new DueTimer(dueDate, 1, 2));
+  }
+
+  @Test
+  void shouldNeedExtensionOnceLessThanHalfAHorizonIsCovered() {
+    // given
+    final long coveredUntil = wheel.coveredUntil();
+
+    // when
+    final boolean needsExtensionEarly = wheel.needsExtension(coveredUntil - HORIZON / 2);
+    final boolean needsExtensionLate = wheel.needsExtension(coveredUntil - HORIZON / 2 + 1);
+    final long extendedUntil = wheel.extend(coveredUntil);
+
+    // then
+    assertThat(needsExtensionEarly).isFalse();
+    assertThat(needsExtensionLate).isTrue();
+    assertThat(extendedUntil).isEqualTo(coveredUntil + HORIZON);
+  }
+
+  @Test
+  void shouldRemoveTimerOnceMissingForLongerThanHorizon() {
+    // given
+    wheel.add(10_100, 1, 2);
+    final var timer = wheel.poll(10_100).getFirst();
+
+    // when
+    wheel.onMissing(timer, 10_100);
+    wheel.onMissing(timer, 10_100 + HORIZON);
+    final var stillDue = wheel.poll(10_100 + HORIZON);
+    wheel.onMissing(timer, 10_101 + HORIZON);
+
+    // then
+    assertThat(stillDue).containsExactly(timer);
+    assertThat(wheel.poll(10_101 + HORIZON)).isEmpty();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldClearTimersOnLoad() {
+    // given
+    wheel.add(10_100, 1, 2);
+
+    // when
+    wheel.load(now.get());
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.poll(10_100)).isEmpty();
+    assertThat(wheel.nextDueDate()).isEqualTo(-1);
+  }
+}
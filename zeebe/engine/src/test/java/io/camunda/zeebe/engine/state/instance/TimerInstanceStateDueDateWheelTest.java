@@ -0,0 +1,195 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamClock;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class TimerInstanceStateDueDateWheelTest {
+
+  private static final long HORIZON = 1_000;
+  private static final long NO_ELEMENT_INSTANCE = -1;
+
+  private final AtomicLong now = new AtomicLong(10_000);
+  private final InstantSource clock = () -> Instant.ofEpochMilli(now.get());
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private TimerDueDateWheel wheel;
+  private DbTimerInstanceState state;
+
+  @BeforeEach
+  void setUp() {
+    wheel = new TimerDueDateWheel(100, HORIZON, clock);
+    state = new DbTimerInstanceState(zeebeDb, transactionContext, wheel);
+  }
+
+  @Test
+  void shouldLoadTimersWithinHorizonOnRecovery() {
+    // given
+    storeTimer(1, 10_100);
+    storeTimer(2, 10_900);
+    storeTimer(3, 15_000);
+
+    // when
+    recover();
+
+    // then
+    assertThat(wheel.size()).isEqualTo(2);
+    final List<Long> triggered = new ArrayList<>();
+    final long nextDueDate = state.processTimersWithDueDateBefore(10_500, t -> add(triggered, t));
+    assertThat(triggered).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(10_900);
+  }
+
+  @Test
+  void shouldReturnDueDateOfTimerBeyondHorizon() {
+    // given
+    storeTimer(1, 15_000);
+    recover();
+
+    // when
+    final long nextDueDate = state.processTimersWithDueDateBefore(10_500, t -> true);
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(nextDueDate).isEqualTo(15_000);
+  }
+
+  @Test
+  void shouldExtendWheelByTimersFromColumnFamily() {
+    // given
+    storeTimer(1, 15_000);
+    storeTimer(2, 30_000);
+    recover();
+
+    // when
+    now.set(15_000);
+    final List<Long> triggered = new ArrayList<>();
+    final long nextDueDate = state.processTimersWithDueDateBefore(15_000, t -> add(triggered, t));
+
+    // then
+    assertThat(triggered).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(30_000);
+  }
+
+  @Test
+  void shouldTriggerTimerStoredAfterRecovery() {
+    // given
+    recover();
+
+    // when
+    storeTimer(1, 10_200);
+
+    // then
+    final List<Long> triggered = new ArrayList<>();
+    state.processTimersWithDueDateBefore(10_200, t -> add(triggered, t));
+    assertThat(triggered).containsExactly(1L);
+  }
+
+  @Test
+  void shouldNotTriggerRemovedTimer() {
+    // given
+    recover();
+    storeTimer(1, 10_200);
+    storeTimer(2, 10_300);
+
+    // when
+    final var timer = state.get(NO_ELEMENT_INSTANCE, 1);
+    state.remove(timer);
+
+    // then
+    final List<Long> triggered = new ArrayList<>();
+    state.processTimersWithDueDateBefore(10_300, t -> add(triggered, t));
+    assertThat(triggered).containsExactly(2L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldRemoveTimerFromWheelOnlyOnceRemovalIsCommitted() throws Exception {
+    // given
+    recover();
+    storeTimer(1, 10_200);
+    final var transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(() -> state.remove(state.get(NO_ELEMENT_INSTANCE, 1)));
+
+    // then
+    assertThat(wheel.size()).isOne();
+    transaction.commit();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldTriggerTimerIfRemovalIsRolledBack() throws Exception {
+    // given
+    recover();
+    storeTimer(1, 10_200);
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> state.remove(state.get(NO_ELEMENT_INSTANCE, 1)));
+
+    // when
+    transaction.rollback();
+
+    // then
+    final List<Long> triggered = new ArrayList<>();
+    state.processTimersWithDueDateBefore(10_200, t -> add(triggered, t));
+    assertThat(triggered).containsExactly(1L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldStopAtTimerWhichIsNotConsumed() {
+    // given
+    recover();
+    storeTimer(1, 10_200);
+    storeTimer(2, 10_300);
+
+    // when
+    final long nextDueDate = state.processTimersWithDueDateBefore(10_300, t -> false);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(10_200);
+  }
+
+  private void recover() {
+    final var context = mock(ReadonlyStreamProcessorContext.class);
+    when(context.getClock()).thenReturn(StreamClock.uncontrolled(clock));
+    state.onRecovered(context);
+  }
+
+  private void storeTimer(final long key, final long dueDate) {
+    final var timer = new TimerInstance();
+    timer.setElementInstanceKey(NO_ELEMENT_INSTANCE);
+    timer.setKey(key);
+    timer.setDueDate(dueDate);
+    state.store(timer);
+  }
+
+  private static boolean add(final List<Long> triggered, final TimerInstance timer) {
+    triggered.add(timer.getKey());
+    return true;
+  }
+}
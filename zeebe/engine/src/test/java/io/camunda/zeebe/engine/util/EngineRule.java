@@ -34,6 +34,7 @@ import io.camunda.zeebe.engine.util.client.GroupClient;
 import io.camunda.zeebe.engine.util.client.IdentitySetupClient;
 import io.camunda.zeebe.engine.util.client.IncidentClient;
 import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobBatchCompleteClient;
 import io.camunda.zeebe.engine.util.client.JobClient;
 import io.camunda.zeebe.engine.util.client.MappingRuleClient;
 import io.camunda.zeebe.engine.util.client.MessageCorrelationClient;
@@ -482,6 +483,10 @@ public final class EngineRule extends ExternalResource {
     return new JobClient(environmentRule);
   }
 
+  public JobBatchCompleteClient jobBatch() {
+    return new JobBatchCompleteClient(environmentRule);
+  }
+
   public IncidentClient incident() {
     return new IncidentClient(environmentRule);
   }
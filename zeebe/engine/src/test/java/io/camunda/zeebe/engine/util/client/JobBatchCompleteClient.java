@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.util.client;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+public final class JobBatchCompleteClient {
+  private static final int DEFAULT_PARTITION = 1;
+
+  private static final BiFunction<Integer, Long, Record<JobBatchRecordValue>>
+      SUCCESS_EXPECTATION_SUPPLIER =
+          (partitionId, position) ->
+              RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED)
+                  .withPartitionId(partitionId)
+                  .withSourceRecordPosition(position)
+                  .getFirst();
+
+  private static final BiFunction<Integer, Long, Record<JobBatchRecordValue>>
+      REJECTION_EXPECTATION_SUPPLIER =
+          (partitionId, position) ->
+              RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETE)
+                  .onlyCommandRejections()
+                  .withPartitionId(partitionId)
+                  .withSourceRecordPosition(position)
+                  .getFirst();
+
+  private final CommandWriter writer;
+  private final JobBatchRecord jobBatchRecord = new JobBatchRecord().setType("");
+
+  private int partitionId = DEFAULT_PARTITION;
+  private BiFunction<Integer, Long, Record<JobBatchRecordValue>> expectation =
+      SUCCESS_EXPECTATION_SUPPLIER;
+
+  public JobBatchCompleteClient(final CommandWriter writer) {
+    this.writer = writer;
+  }
+
+  public JobBatchCompleteClient withJob(final long jobKey) {
+    return withJob(jobKey, Map.of());
+  }
+
+  public JobBatchCompleteClient withJob(final long jobKey, final Map<String, Object> variables) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add().setVariables(MsgPackUtil.asMsgPack(variables));
+    partitionId = Protocol.decodePartitionId(jobKey);
+    return this;
+  }
+
+  /** Adds only the key of a job to the batch, without the job itself. */
+  public JobBatchCompleteClient withJobKeyOnly(final long jobKey) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    partitionId = Protocol.decodePartitionId(jobKey);
+    return this;
+  }
+
+  public JobBatchCompleteClient expectRejection() {
+    expectation = REJECTION_EXPECTATION_SUPPLIER;
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    final long position =
+        writer.writeCommandOnPartition(partitionId, JobBatchIntent.COMPLETE, jobBatchRecord);
+
+    return expectation.apply(partitionId, position);
+  }
+
+  public Record<JobBatchRecordValue> complete(final String username) {
+    final long position =
+        writer.writeCommandOnPartition(
+            partitionId, JobBatchIntent.COMPLETE, jobBatchRecord, username);
+
+    return expectation.apply(partitionId, position);
+  }
+}
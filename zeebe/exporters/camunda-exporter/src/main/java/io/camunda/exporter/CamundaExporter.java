@@ -40,6 +40,7 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
+import io.camunda.exporter.store.ExporterBatchWriter.PendingBatch;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.search.schema.MappingSource;
@@ -62,9 +63,13 @@ import io.camunda.zeebe.util.SemanticVersion;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,6 +91,11 @@ public class CamundaExporter implements Exporter {
   private SearchEngineClient searchEngineClient;
   private int partitionId;
 
+  // only used when bulks are pipelined; bulks are acknowledged in order once they completed
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private ExecutorService bulkExecutor;
+  private boolean retryingFailedBulks = false;
+
   public CamundaExporter() {
     // the metadata will be initialized on open
     this(new DefaultExporterResourceProvider(), null);
@@ -146,6 +156,12 @@ public class CamundaExporter implements Exporter {
     }
 
     writer = createBatchWriter();
+    if (configuration.getBulk().isPipelined()) {
+      // bulks are executed one after another, in the order they were flushed
+      bulkExecutor =
+          Executors.newSingleThreadExecutor(
+              Thread.ofPlatform().name("camunda-exporter-bulk-" + partitionId).daemon().factory());
+    }
 
     checkImportersCompletedAndReschedule();
     controller.readMetadata().ifPresent(metadata::deserialize);
@@ -160,11 +176,16 @@ public class CamundaExporter implements Exporter {
     if (writer != null) {
       try {
         flush();
+        awaitInFlightBulks();
       } catch (final Exception e) {
         LOG.warn("Failed to flush records before closing exporter.", e);
       }
     }
 
+    if (bulkExecutor != null) {
+      bulkExecutor.shutdownNow();
+    }
+
     if (clientAdapter != null) {
       try {
         clientAdapter.close();
@@ -187,7 +208,12 @@ public class CamundaExporter implements Exporter {
           "Skip record with broker version '{}'. Last exported position will be updated to '{}'",
           record.getBrokerVersion(),
           record.getPosition());
-      updateLastExportedPosition(record.getPosition());
+      if (inFlightBulks.isEmpty()) {
+        updateLastExportedPosition(record.getPosition());
+      } else {
+        // acknowledged once the in-flight bulks completed
+        lastPosition = record.getPosition();
+      }
       return;
     }
 
@@ -218,6 +244,10 @@ public class CamundaExporter implements Exporter {
       return;
     }
 
+    if (!inFlightBulks.isEmpty()) {
+      acknowledgeCompletedBulks();
+    }
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -334,7 +364,9 @@ processing records from previous version
   private void flushAndReschedule() {
     try {
       flush();
-      updateLastExportedPosition(lastPosition);
+      if (inFlightBulks.isEmpty()) {
+        updateLastExportedPosition(lastPosition);
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -384,6 +416,11 @@ processing records from previous version
   }
 
   private void flush() {
+    if (configuration.getBulk().isPipelined()) {
+      flushPipelined();
+      return;
+    }
+
     if (writer.getBatchSize() == 0) {
       return;
     }
@@ -404,11 +441,106 @@ processing records from previous version
     updateLastExportedPosition(lastPosition);
   }
 
+  /**
+   * Hands over the cached entities as a bulk request which is executed asynchronously, so that the
+   * next batch can be built while the request is in flight. In-flight requests are executed one
+   * after another in flush order, such that an older bulk never overwrites the documents of a newer
+   * one. At most {@code bulk.maxInFlight} requests are in flight at the same time; once that limit
+   * is reached, flushing waits for the oldest one to complete.
+   *
+   * <p>The position is only acknowledged once the bulk containing it, and all bulks before it,
+   * completed.
+   */
+  private void flushPipelined() {
+    acknowledgeCompletedBulks();
+    if (writer.getBatchSize() == 0) {
+      return;
+    }
+
+    if (inFlightBulks.size() >= configuration.getBulk().getMaxInFlight()) {
+      inFlightBulks.getFirst().batch().await();
+      acknowledgeCompletedBulks();
+    }
+
+    try (final var ignored = metrics.measureFlushDuration()) {
+      metrics.recordBulkSize(writer.getBatchSize());
+      final BatchRequest batchRequest = clientAdapter.createBatchRequest().withMetrics(metrics);
+      inFlightBulks.addLast(
+          new InFlightBulk(writer.flushAsync(batchRequest, bulkExecutor), lastPosition));
+      metrics.stopFlushLatencyMeasurement();
+    } catch (final PersistenceException ex) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Acknowledges the position of every completed bulk, in order, stopping at the first bulk still
+   * in flight.
+   *
+   * <p>If a bulk failed, all bulks after it are awaited, and then it and all bulks after it are
+   * retried synchronously and in order. Bulks after it must be retried as well, even if they
+   * succeeded, since retrying the failed bulk may overwrite their newer updates. This is the same
+   * as re-exporting from the last acknowledged position, which exporting already has to tolerate.
+   *
+   * @throws ExporterException if retrying a bulk fails; it is retried again on the next flush
+   */
+  private void acknowledgeCompletedBulks() {
+    long acknowledgedPosition = -1;
+    try {
+      while (!inFlightBulks.isEmpty() && inFlightBulks.getFirst().batch().isDone()) {
+        final var bulk = inFlightBulks.getFirst();
+        if (retryingFailedBulks || bulk.batch().hasFailed()) {
+          retryBulk(bulk);
+        } else {
+          writer.complete(bulk.batch());
+        }
+
+        inFlightBulks.removeFirst();
+        metrics.recordFlushOccurrence(Instant.now());
+        acknowledgedPosition = bulk.position();
+      }
+    } finally {
+      if (inFlightBulks.isEmpty()) {
+        retryingFailedBulks = false;
+      }
+
+      if (acknowledgedPosition >= 0) {
+        updateLastExportedPosition(acknowledgedPosition);
+      }
+    }
+  }
+
+  private void retryBulk(final InFlightBulk bulk) {
+    if (!retryingFailedBulks) {
+      LOG.warn(
+          "Failed to execute bulk of {} entities asynchronously, will retry it and all following bulks",
+          bulk.batch().size());
+      metrics.recordFailedFlush();
+      inFlightBulks.forEach(inFlightBulk -> inFlightBulk.batch().await());
+      retryingFailedBulks = true;
+    }
+
+    try (final var ignored = metrics.measureFlushDuration()) {
+      writer.retry(bulk.batch(), clientAdapter.createBatchRequest().withMetrics(metrics));
+    } catch (final PersistenceException ex) {
+      metrics.recordFailedFlush();
+      throw new ExporterException(ex.getMessage(), ex);
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    inFlightBulks.forEach(bulk -> bulk.batch().await());
+    acknowledgeCompletedBulks();
+  }
+
   private void updateLastExportedPosition(final long lastPosition) {
     final var serialized = metadata.serialize();
     controller.updateLastExportedRecordPosition(lastPosition, serialized);
   }
 
+  private record InFlightBulk(PendingBatch batch, long position) {}
+
   private record CamundaExporterRecordFilter() implements RecordFilter {
     private static final Set<ValueType> VALUE_TYPES_2_EXPORT =
         Set.of(
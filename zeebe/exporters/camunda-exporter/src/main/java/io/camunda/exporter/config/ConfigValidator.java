@@ -95,6 +95,12 @@ public final class ConfigValidator {
               waitPeriodBeforeArchiving, PATTERN_DATE_INTERVAL_FORMAT));
     }
 
+    final int maxInFlightBulks = configuration.getBulk().getMaxInFlight();
+    if (maxInFlightBulks < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 0. Current value: " + maxInFlightBulks);
+    }
+
     final int rolloverBatchSize = configuration.getHistory().getRolloverBatchSize();
     if (rolloverBatchSize < 1) {
       throw new ExporterException(
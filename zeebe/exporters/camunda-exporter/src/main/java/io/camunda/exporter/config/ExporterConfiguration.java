@@ -144,6 +144,9 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // max number of bulk requests handed over to be executed asynchronously, one after another in
+    // flush order; 0 means bulk requests are executed synchronously on the exporter actor
+    private int maxInFlight = 0;
 
     public int getDelay() {
       return delay;
@@ -161,9 +164,28 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
+    public boolean isPipelined() {
+      return maxInFlight > 0;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", maxInFlight="
+          + maxInFlight
+          + '}';
     }
   }
 
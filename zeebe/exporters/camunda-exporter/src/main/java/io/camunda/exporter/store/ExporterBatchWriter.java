@@ -18,24 +18,32 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 
 /** Caches exporter entities of different types and provide the method to flush them in a batch. */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public final class ExporterBatchWriter {
-  private final Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
+  private Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
   private final Map<Long, Long> cachedRecordTimestamps = new HashMap<>();
 
   private final Map<ValueType, List<ExportHandler>> handlers;
   private final BiConsumer<String, Error> customErrorHandler;
   private final CamundaExporterMetrics metrics;
 
+  // asynchronous flushes are chained, such that two bulks updating the same document are always
+  // applied in the order they were flushed
+  private CompletableFuture<Void> lastAsyncFlush = CompletableFuture.completedFuture(null);
+
   private ExporterBatchWriter(
       final Map<ValueType, List<ExportHandler>> handlers,
       final BiConsumer<String, Error> customErrorHandler,
@@ -80,24 +88,81 @@ public final class ExporterBatchWriter {
   }
 
   public void flush(final BatchRequest batchRequest) throws PersistenceException {
-    // some handlers modify the same entity (e.g. list view flow node instances are
-    // updated from process instance and incident records)
-    //
-    // the handler that modified the entity last will also flush it
     if (cachedEntities.isEmpty()) {
       return;
     }
 
-    for (final var entityAndHandler : cachedEntities.values()) {
+    flushEntities(cachedEntities.values(), batchRequest);
+    batchRequest.execute(customErrorHandler);
+    observeRecordTimestamps();
+    reset();
+  }
+
+  /**
+   * Flushes the cached entities into the given batch request, and executes it asynchronously on the
+   * given executor. The cached entities are handed over to the returned batch, such that new
+   * records can be cached while the request is in flight.
+   *
+   * <p>The request is only executed once the previously flushed batch completed, successfully or
+   * not, so an older batch never overwrites the updates of a newer one.
+   *
+   * <p>If the returned batch fails, it can be retried via {@link #retry(PendingBatch,
+   * BatchRequest)}.
+   */
+  public PendingBatch flushAsync(final BatchRequest batchRequest, final Executor executor)
+      throws PersistenceException {
+    flushEntities(cachedEntities.values(), batchRequest);
+
+    final var entities = cachedEntities;
+    final var timestamps = new ArrayList<>(cachedRecordTimestamps.values());
+    cachedEntities = new HashMap<>();
+    cachedRecordTimestamps.clear();
+
+    final var result =
+        lastAsyncFlush
+            .handle((ignored, error) -> null)
+            .thenRunAsync(
+                () -> {
+                  try {
+                    batchRequest.execute(customErrorHandler);
+                  } catch (final PersistenceException e) {
+                    throw new CompletionException(e);
+                  }
+                },
+                executor);
+    lastAsyncFlush = result;
+    return new PendingBatch(entities.values(), timestamps, result);
+  }
+
+  /**
+   * Flushes the entities of a previously failed batch again into the given batch request, and
+   * executes it synchronously.
+   */
+  public void retry(final PendingBatch batch, final BatchRequest batchRequest)
+      throws PersistenceException {
+    flushEntities(batch.entities, batchRequest);
+    batchRequest.execute(customErrorHandler);
+    metrics.observeRecordExportLatencies(batch.recordTimestamps);
+  }
+
+  /** Observes the export latencies of the records of a batch which completed successfully. */
+  public void complete(final PendingBatch batch) {
+    metrics.observeRecordExportLatencies(batch.recordTimestamps);
+  }
+
+  private void flushEntities(
+      final Collection<EntityAndHandlers> entities, final BatchRequest batchRequest)
+      throws PersistenceException {
+    // some handlers modify the same entity (e.g. list view flow node instances are
+    // updated from process instance and incident records)
+    //
+    // the handler that modified the entity last will also flush it
+    for (final var entityAndHandler : entities) {
       final ExporterEntity entity = entityAndHandler.entity();
       for (final var handler : entityAndHandler.handlers()) {
         handler.flush(entity, batchRequest);
       }
     }
-
-    batchRequest.execute(customErrorHandler);
-    observeRecordTimestamps();
-    reset();
   }
 
   private void observeRecordTimestamps() {
@@ -149,6 +214,42 @@ public final class ExporterBatchWriter {
     }
   }
 
+  /**
+   * A batch which was handed over to be executed asynchronously. It keeps the flushed entities
+   * around, so that the batch can be retried if the request fails.
+   */
+  public static final class PendingBatch {
+    private final Collection<EntityAndHandlers> entities;
+    private final List<Long> recordTimestamps;
+    private final CompletableFuture<Void> result;
+
+    private PendingBatch(
+        final Collection<EntityAndHandlers> entities,
+        final List<Long> recordTimestamps,
+        final CompletableFuture<Void> result) {
+      this.entities = entities;
+      this.recordTimestamps = recordTimestamps;
+      this.result = result;
+    }
+
+    public boolean isDone() {
+      return result.isDone();
+    }
+
+    public boolean hasFailed() {
+      return result.isCompletedExceptionally();
+    }
+
+    /** Blocks until the request completed, successfully or not. */
+    public void await() {
+      result.handle((ignored, error) -> null).join();
+    }
+
+    public int size() {
+      return entities.size();
+    }
+  }
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
   private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
@@ -192,6 +192,36 @@ final class CamundaExporterIT {
     verify(controllerSpy).updateLastExportedRecordPosition(eq(record2.getPosition()), any());
   }
 
+  @TestTemplate
+  void shouldUpdateExporterPositionOnceAllPipelinedBulksCompleted(
+      final ExporterConfiguration config, final SearchClientAdapter ignored) throws IOException {
+    // given
+    createSchemas(config);
+    config.getBulk().setSize(1);
+    config.getBulk().setMaxInFlight(2);
+    final var exporter = new CamundaExporter();
+
+    final var context = getContextFromConfig(config);
+    exporter.configure(context);
+    final var controller = new ExporterTestController();
+    exporter.open(controller);
+
+    // when
+    final var record = generateRecordWithSupportedBrokerVersion(ValueType.USER, UserIntent.CREATED);
+    final var record2 =
+        generateRecordWithSupportedBrokerVersion(ValueType.USER, UserIntent.CREATED);
+    exporter.export(record);
+    exporter.export(record2);
+
+    // then - in-flight bulks are acknowledged on the next flush
+    Awaitility.await()
+        .untilAsserted(
+            () -> {
+              controller.runScheduledTasks(Duration.ofSeconds(config.getBulk().getDelay()));
+              assertThat(controller.getPosition()).isEqualTo(record2.getPosition());
+            });
+  }
+
   @ParameterizedTest
   @MethodSource("containerProvider")
   @DisabledIfSystemProperty(
@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.handlers.ExportHandler;
 import io.camunda.protocol.TestRecord;
 import io.camunda.protocol.TestValue;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -134,4 +136,116 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute(any());
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldCacheNewRecordsWhileAsyncFlushIsInFlight() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final TestExporterEntity entity = new TestExporterEntity().setId("1");
+    final TestExporterEntity otherEntity = new TestExporterEntity().setId("2");
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(any())).thenReturn(List.of("1")).thenReturn(List.of("2"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(entity);
+    when(handler.createNewEntity(eq("2"))).thenReturn(otherEntity);
+    final List<Runnable> tasks = new ArrayList<>();
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    batchWriter.addRecord(record);
+
+    // when
+    final var batch = batchWriter.flushAsync(batchRequest, tasks::add);
+    batchWriter.addRecord(new TestRecord(1, NULL_VAL));
+
+    // then
+    verify(handler).flush(entity, batchRequest);
+    verify(batchRequest, never()).execute(any());
+    assertThat(batch.isDone()).isFalse();
+    assertThat(batchWriter.getBatchSize()).isEqualTo(1);
+
+    // when
+    tasks.forEach(Runnable::run);
+
+    // then
+    verify(batchRequest).execute(any());
+    assertThat(batch.isDone()).isTrue();
+    assertThat(batch.hasFailed()).isFalse();
+  }
+
+  @Test
+  void shouldExecuteAsyncFlushesInOrder() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(any())).thenReturn(List.of("1"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(new TestExporterEntity().setId("1"));
+    final List<Runnable> tasks = new ArrayList<>();
+    final BatchRequest firstRequest = mock(BatchRequest.class);
+    final BatchRequest secondRequest = mock(BatchRequest.class);
+
+    // when
+    batchWriter.addRecord(record);
+    final var first = batchWriter.flushAsync(firstRequest, tasks::add);
+    batchWriter.addRecord(new TestRecord(1, NULL_VAL));
+    final var second = batchWriter.flushAsync(secondRequest, tasks::add);
+
+    // then - the second bulk is only submitted once the first one completed
+    assertThat(tasks).hasSize(1);
+    tasks.removeFirst().run();
+    verify(firstRequest).execute(any());
+    verify(secondRequest, never()).execute(any());
+    assertThat(first.isDone()).isTrue();
+    assertThat(second.isDone()).isFalse();
+
+    assertThat(tasks).hasSize(1);
+    tasks.removeFirst().run();
+    verify(secondRequest).execute(any());
+    assertThat(second.isDone()).isTrue();
+  }
+
+  @Test
+  void shouldExecuteNextAsyncFlushAfterFailedOne() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(any())).thenReturn(List.of("1"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(new TestExporterEntity().setId("1"));
+    final BatchRequest failingRequest = mock(BatchRequest.class);
+    doThrow(new PersistenceException("failure")).when(failingRequest).execute(any());
+    final BatchRequest nextRequest = mock(BatchRequest.class);
+
+    // when
+    batchWriter.addRecord(record);
+    final var failed = batchWriter.flushAsync(failingRequest, Runnable::run);
+    batchWriter.addRecord(new TestRecord(1, NULL_VAL));
+    final var next = batchWriter.flushAsync(nextRequest, Runnable::run);
+
+    // then
+    assertThat(failed.hasFailed()).isTrue();
+    assertThat(next.isDone()).isTrue();
+    assertThat(next.hasFailed()).isFalse();
+    verify(nextRequest).execute(any());
+  }
+
+  @Test
+  void shouldRetryFailedAsyncFlush() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final TestExporterEntity entity = new TestExporterEntity().setId("1");
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of("1"));
+    when(handler.createNewEntity(eq("1"))).thenReturn(entity);
+    final BatchRequest failingRequest = mock(BatchRequest.class);
+    doThrow(new PersistenceException("failure")).when(failingRequest).execute(any());
+    batchWriter.addRecord(record);
+    final var batch = batchWriter.flushAsync(failingRequest, Runnable::run);
+
+    // when
+    final BatchRequest retryRequest = mock(BatchRequest.class);
+    batchWriter.retry(batch, retryRequest);
+
+    // then
+    assertThat(batch.hasFailed()).isTrue();
+    verify(handler).flush(entity, retryRequest);
+    verify(retryRequest).execute(any());
+    assertThat(batchWriter.getBatchSize()).isZero();
+  }
 }
@@ -21,6 +21,7 @@ public class ExporterConfiguration {
 
   private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
   private int queueSize = RdbmsWriterConfig.DEFAULT_QUEUE_SIZE;
+  private boolean asyncFlush = RdbmsWriterConfig.DEFAULT_ASYNC_FLUSH;
 
   private HistoryConfiguration history = new HistoryConfiguration();
 
@@ -50,6 +51,14 @@ public class ExporterConfiguration {
     this.queueSize = queueSize;
   }
 
+  public boolean isAsyncFlush() {
+    return asyncFlush;
+  }
+
+  public void setAsyncFlush(final boolean asyncFlush) {
+    this.asyncFlush = asyncFlush;
+  }
+
   public boolean isExportBatchOperationItemsOnCreation() {
     return exportBatchOperationItemsOnCreation;
   }
@@ -150,6 +159,7 @@ public class ExporterConfiguration {
     return new RdbmsWriterConfig.Builder()
         .partitionId(partitionId)
         .queueSize(queueSize)
+        .asyncFlush(asyncFlush)
         .batchOperationItemInsertBlockSize(batchOperationItemInsertBlockSize)
         .exportBatchOperationItemsOnCreation(exportBatchOperationItemsOnCreation)
         .history(historyConfig)
@@ -43,6 +43,9 @@ public final class RdbmsExporter {
   // volatile runtime properties
   private ExporterPositionModel exporterRdbmsPosition;
   private long lastPosition = -1;
+  // the last position of the batch which is being flushed; it's only reported to the broker once
+  // the batch is committed, which may happen on the writer thread of the execution queue
+  private volatile long flushedPosition = -1;
   private ScheduledTask currentFlushTask = null;
   private ScheduledTask currentCleanupTask = null;
 
@@ -80,11 +83,13 @@ public final class RdbmsExporter {
       // This is needed since the brokers last exported position is from its last snapshot and can
       // be different from ours.
       lastPosition = exporterRdbmsPosition.lastExportedPosition();
-      updatePositionInBroker();
+      updatePositionInBroker(lastPosition);
     }
 
     rdbmsWriter.getExecutionQueue().registerPreFlushListener(this::updatePositionInRdbms);
-    rdbmsWriter.getExecutionQueue().registerPostFlushListener(this::updatePositionInBroker);
+    rdbmsWriter
+        .getExecutionQueue()
+        .registerPostFlushListener(() -> updatePositionInBroker(flushedPosition));
 
     // schedule first cleanup in 1 second. Future intervals are given by the history cleanup service
     // itself
@@ -108,6 +113,8 @@ public final class RdbmsExporter {
       LOG.warn("[RDBMS Exporter] Failed to flush records before closing exporter.", e);
     }
 
+    rdbmsWriter.close();
+
     LOG.info("[RDBMS Exporter] Exporter closed");
   }
 
@@ -166,12 +173,13 @@ public final class RdbmsExporter {
     rdbmsWriter.getRdbmsPurger().purgeRdbms();
   }
 
-  private void updatePositionInBroker() {
-    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", lastPosition);
-    controller.updateLastExportedRecordPosition(lastPosition);
+  private void updatePositionInBroker(final long position) {
+    LOG.trace("[RDBMS Exporter] Updating position to {} in broker", position);
+    controller.updateLastExportedRecordPosition(position);
   }
 
   private void updatePositionInRdbms() {
+    flushedPosition = lastPosition;
     if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
       LOG.trace("[RDBMS Exporter] Updating position to {} in rdbms", lastPosition);
       exporterRdbmsPosition =
@@ -216,8 +224,13 @@ public final class RdbmsExporter {
   }
 
   private void flushAndReschedule() {
-    flushExecutionQueue();
-    currentFlushTask = controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
+    try {
+      rdbmsWriter.flushAsync();
+    } finally {
+      // a failed batch stays queued, so keep flushing periodically to retry it
+      currentFlushTask =
+          controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
+    }
   }
 
   private void cleanupHistory() {
@@ -102,6 +102,23 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
   }
 
+  @Test
+  void shouldReportPositionOfFlushedBatchToBroker() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+    exporter.export(mockRecord(ValueType.JOB, 1));
+    exporter.export(mockRecord(ValueType.JOB, 2));
+    executionQueue.preFlushListeners.forEach(PreFlushListener::onPreFlush);
+
+    // when - a record is exported while the batch is committed
+    exporter.export(mockRecord(ValueType.JOB, 3));
+    executionQueue.postFlushListeners.forEach(PostFlushListener::onPostFlush);
+
+    // then
+    verify(controller).updateLastExportedRecordPosition(2);
+    verify(controller, never()).updateLastExportedRecordPosition(3);
+  }
+
   @Test
   void shouldNotUpdatePositionOnFlushWhenNoRecordsHandled() {
     // given
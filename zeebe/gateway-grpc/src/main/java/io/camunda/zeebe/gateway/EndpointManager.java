@@ -19,6 +19,8 @@ import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
@@ -32,6 +34,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -86,6 +90,7 @@ public final class EndpointManager {
   private final ActivateJobsHandler<ActivateJobsResponse> activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
   private final StreamJobsHandler streamJobsHandler;
+  private final CompleteJobsHandler completeJobsHandler;
 
   public EndpointManager(
       final BrokerClient brokerClient,
@@ -97,6 +102,7 @@ public final class EndpointManager {
     this.streamJobsHandler = streamJobsHandler;
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    completeJobsHandler = new CompleteJobsHandler(brokerClient);
     RequestMapper.setMultiTenancyEnabled(multiTenancy.isChecksEnabled());
   }
 
@@ -214,6 +220,32 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final List<JobCompletion> completions;
+    final Map<String, Object> claims;
+    try {
+      completions = RequestMapper.toJobCompletions(request);
+      claims = getAuthorizationClaims();
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    completeJobsHandler
+        .completeJobs(completions, claims)
+        .whenComplete(
+            (results, error) -> {
+              if (error != null) {
+                responseObserver.onError(error);
+              } else {
+                responseObserver.onNext(ResponseMapper.toCompleteJobsResponse(results));
+                responseObserver.onCompleted();
+              }
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -488,7 +520,12 @@ public final class EndpointManager {
       throws Exception {
 
     final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    brokerRequest.setAuthorization(getAuthorizationClaims());
 
+    return brokerRequest;
+  }
+
+  private Map<String, Object> getAuthorizationClaims() throws Exception {
     final Map<String, Object> claims = new HashMap<>();
 
     // retrieve the user claims from the context and add them to the authorization if present
@@ -514,9 +551,7 @@ public final class EndpointManager {
       claims.put(Authorization.USER_GROUPS_CLAIMS, groupsClaims);
     }
 
-    brokerRequest.setAuthorization(claims);
-
-    return brokerRequest;
+    return claims;
   }
 
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
@@ -368,7 +368,8 @@ public final class Gateway implements CloseableSilently {
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          gatewayCfg.getJobActivation().getPartitionFanOut());
     }
   }
 
@@ -385,6 +386,7 @@ public final class Gateway implements CloseableSilently {
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
         .setMetrics(
             new LongPollingMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.GRPC))
+        .setPartitionFanOut(gatewayCfg.getJobActivation().getPartitionFanOut())
         .build();
   }
 
@@ -28,11 +28,13 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerThrowErrorRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerUpdateJobTimeoutRequest;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -168,6 +170,17 @@ public final class RequestMapper extends RequestUtil {
         getJobResultOrDefault(grpcRequest));
   }
 
+  public static List<JobCompletion> toJobCompletions(final CompleteJobsRequest grpcRequest) {
+    if (grpcRequest.getJobsCount() == 0) {
+      throw new IllegalArgumentException(
+          "Expected to complete at least one job, but no jobs were given");
+    }
+
+    return grpcRequest.getJobsList().stream()
+        .map(job -> new JobCompletion(job.getJobKey(), ensureJsonSet(job.getVariables())))
+        .toList();
+  }
+
   private static JobResult getJobResultOrDefault(final CompleteJobRequest request) {
     if (!request.hasResult()) {
       return null;
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletion;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.JobCompletionResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.Map;
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long FIRST_JOB_KEY = Protocol.encodePartitionId(1, 1);
+  private static final long SECOND_JOB_KEY = Protocol.encodePartitionId(1, 2);
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final CompleteJobsStub stub = new CompleteJobsStub().rejectJob(SECOND_JOB_KEY, "rejected");
+    stub.registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Map.of("key", "value"));
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(JobCompletion.newBuilder().setJobKey(FIRST_JOB_KEY).setVariables(variables))
+            .addJobs(JobCompletion.newBuilder().setJobKey(SECOND_JOB_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(
+            JobCompletionResult::getJobKey,
+            JobCompletionResult::getCompleted,
+            JobCompletionResult::getRejectionReason)
+        .containsExactly(
+            Tuple.tuple(FIRST_JOB_KEY, true, ""), Tuple.tuple(SECOND_JOB_KEY, false, "rejected"));
+
+    final BrokerCompleteJobsRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getIntent()).isEqualTo(JobBatchIntent.COMPLETE);
+    assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.JOB_BATCH);
+    assertThat(brokerRequest.getRequestWriter().getJobKeys())
+        .containsExactly(FIRST_JOB_KEY, SECOND_JOB_KEY);
+    assertThat(brokerRequest.getRequestWriter().getJobs())
+        .extracting(job -> job.getVariables())
+        .containsExactly(Map.of("key", "value"), Map.of());
+  }
+
+  @Test
+  public void shouldRejectRequestWithoutJobs() {
+    // given
+    final CompleteJobsRequest request = CompleteJobsRequest.newBuilder().build();
+
+    // when/then
+    assertThatThrownBy(() -> client.completeJobs(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+        .isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+}
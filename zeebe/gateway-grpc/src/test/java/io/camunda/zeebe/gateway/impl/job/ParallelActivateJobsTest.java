@@ -0,0 +1,244 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.Gateway;
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.job.FailJobStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.testing.ActorSchedulerRule;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+public final class ParallelActivateJobsTest {
+
+  private static final String TYPE = "test";
+  private static final int FAN_OUT = 4;
+  private static final long MAX_MESSAGE_SIZE = DataSize.ofMegabytes(4).toBytes();
+
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule();
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub activateJobsStub = new ActivateJobsStub();
+  private final Map<Integer, Integer> availableJobsPerPartition = new ConcurrentHashMap<>();
+  private final List<BrokerActivateJobsRequest> activateRequests = new CopyOnWriteArrayList<>();
+  private final List<Integer> requestedAmounts = new CopyOnWriteArrayList<>();
+  private final List<Long> givenBackJobKeys = new CopyOnWriteArrayList<>();
+  private RoundRobinActivateJobsHandler<ActivateJobsResponse> handler;
+  private int partitionsCount;
+
+  @Before
+  public void setup() {
+    handler =
+        new RoundRobinActivateJobsHandler<>(
+            brokerClient,
+            MAX_MESSAGE_SIZE,
+            ResponseMapper::toActivateJobsResponse,
+            Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER,
+            FAN_OUT);
+    submitActorToActivateJobs(handler);
+
+    registerActivateJobsHandler(this::activateJobsOnPartition);
+    final var failJobStub = new FailJobStub();
+    brokerClient.registerHandler(
+        BrokerFailJobRequest.class,
+        (final BrokerFailJobRequest request) -> {
+          givenBackJobKeys.add(request.getKey());
+          return failJobStub.handle(request);
+        });
+
+    partitionsCount = brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+  }
+
+  @Test
+  public void shouldSplitAmountAcrossConcurrentPartitionRequests() {
+    // given
+    final var request = activateJobsRequest(10);
+
+    // when
+    final var remainingAmount = activateJobs(request);
+
+    // then
+    assertThat(remainingAmount).isEqualTo(10);
+    assertThat(requestedAmounts.subList(0, FAN_OUT)).containsExactly(3, 3, 2, 2);
+    assertThat(activateRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .hasSize(partitionsCount)
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanRequested() {
+    // given
+    for (int partitionId = 1; partitionId <= partitionsCount; partitionId++) {
+      availableJobsPerPartition.put(partitionId, 5);
+    }
+    final var request = activateJobsRequest(10);
+
+    // when
+    final var remainingAmount = activateJobs(request);
+
+    // then
+    assertThat(remainingAmount).isZero();
+    assertThat(activatedJobsCount(request)).isEqualTo(10);
+    assertThat(givenBackJobKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldPollPartitionAgainWithAmountOthersCouldNotFill() {
+    // given
+    availableJobsPerPartition.put(1, 10);
+    final var request = activateJobsRequest(8);
+
+    // when
+    final var remainingAmount = activateJobs(request);
+
+    // then
+    assertThat(remainingAmount).isZero();
+    assertThat(activatedJobsCount(request)).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldAskPartitionsWithAvailableJobsFirst() {
+    // given
+    brokerClient.notifyJobsAvailable(5, TYPE);
+    availableJobsPerPartition.put(5, 1);
+    final var request = activateJobsRequest(1);
+
+    // when
+    final var remainingAmount = activateJobs(request);
+
+    // then
+    assertThat(remainingAmount).isZero();
+    assertThat(activateRequests)
+        .extracting(BrokerActivateJobsRequest::getPartitionId)
+        .containsExactly(5);
+  }
+
+  @Test
+  public void shouldNotLoseJobsActivatedConcurrentlyToFailedRequest() {
+    // given
+    for (int partitionId = 1; partitionId <= partitionsCount; partitionId++) {
+      availableJobsPerPartition.put(partitionId, 1);
+    }
+    registerActivateJobsHandler(
+        request -> {
+          if (activateRequests.size() == 1) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(Intent.UNKNOWN, 1, RejectionType.INVALID_ARGUMENT, "expected"));
+          }
+          return activateJobsOnPartition(request);
+        });
+    final var request = activateJobsRequest(FAN_OUT);
+    final var error = new CompletableFuture<Throwable>();
+
+    // when
+    handler.activateJobs(
+        partitionsCount,
+        request,
+        error::complete,
+        (remaining, resourceExhausted) -> error.completeExceptionally(new AssertionError()));
+
+    // then
+    assertThat(error).succeedsWithin(Duration.ofSeconds(5));
+    Awaitility.await("until the jobs activated after the failure are given back")
+        .untilAsserted(
+            () ->
+                assertThat(activatedJobsCount(request) + givenBackJobKeys.size())
+                    .isEqualTo(FAN_OUT - 1));
+  }
+
+  private BrokerResponse<?> activateJobsOnPartition(final BrokerActivateJobsRequest request)
+      throws Exception {
+    final var partitionId = request.getPartitionId();
+    final var available = availableJobsPerPartition.getOrDefault(partitionId, 0);
+    final var amount = Math.min(available, request.getRequestWriter().getMaxJobsToActivate());
+    availableJobsPerPartition.put(partitionId, available - amount);
+    activateJobsStub.addAvailableJobs(TYPE, amount);
+    return activateJobsStub.handle(request);
+  }
+
+  private void registerActivateJobsHandler(
+      final RequestHandler<BrokerActivateJobsRequest, BrokerResponse<?>> requestHandler) {
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (final BrokerActivateJobsRequest request) -> {
+          activateRequests.add(request);
+          requestedAmounts.add(request.getRequestWriter().getMaxJobsToActivate());
+          return requestHandler.handle(request);
+        });
+  }
+
+  private int activateJobs(final InflightActivateJobsRequest<ActivateJobsResponse> request) {
+    final var remainingAmount = new CompletableFuture<Integer>();
+    handler.activateJobs(
+        partitionsCount,
+        request,
+        remainingAmount::completeExceptionally,
+        (remaining, resourceExhausted) -> remainingAmount.complete(remaining));
+    return remainingAmount.join();
+  }
+
+  private int activatedJobsCount(final InflightActivateJobsRequest<ActivateJobsResponse> request) {
+    final var responses = ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(request.getResponseObserver(), atLeast(0)).onNext(responses.capture());
+    return responses.getAllValues().stream().mapToInt(ActivateJobsResponse::getJobsCount).sum();
+  }
+
+  private InflightActivateJobsRequest<ActivateJobsResponse> activateJobsRequest(
+      final int maxJobsToActivate) {
+    final var grpcRequest =
+        ActivateJobsRequest.newBuilder()
+            .setType(TYPE)
+            .setMaxJobsToActivate(maxJobsToActivate)
+            .build();
+    return new InflightActivateJobsRequest<>(
+        1, RequestMapper.toActivateJobsRequest(grpcRequest), spy(ServerStreamObserver.class), 0);
+  }
+
+  private void submitActorToActivateJobs(
+      final RoundRobinActivateJobsHandler<ActivateJobsResponse> handler) {
+    final var future = new CompletableFuture<>();
+    final var actor =
+        Actor.newActor()
+            .name("ParallelActivateJobsHandler-Test")
+            .actorStartedHandler(handler.andThen(future::complete))
+            .build();
+    actorSchedulerRule.submitActor(actor);
+    future.join();
+  }
+}
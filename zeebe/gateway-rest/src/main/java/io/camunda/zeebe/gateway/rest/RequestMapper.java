@@ -15,6 +15,7 @@ import static io.camunda.zeebe.gateway.rest.validator.DocumentValidator.validate
 import static io.camunda.zeebe.gateway.rest.validator.ElementRequestValidator.validateVariableRequest;
 import static io.camunda.zeebe.gateway.rest.validator.EvaluateDecisionRequestValidator.validateEvaluateDecisionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobActivationRequest;
+import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobBatchCompletionRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobErrorRequest;
 import static io.camunda.zeebe.gateway.rest.validator.JobRequestValidator.validateJobUpdateRequest;
 import static io.camunda.zeebe.gateway.rest.validator.MessageRequestValidator.validateMessageCorrelationRequest;
@@ -45,6 +46,7 @@ import io.camunda.service.ElementInstanceServices.SetVariablesRequest;
 import io.camunda.service.GroupServices.GroupDTO;
 import io.camunda.service.GroupServices.GroupMemberDTO;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.CompleteJobsItem;
 import io.camunda.service.JobServices.UpdateJobChangeset;
 import io.camunda.service.MappingRuleServices.MappingRuleDTO;
 import io.camunda.service.MessageServices.CorrelateMessageRequest;
@@ -75,6 +77,8 @@ import io.camunda.zeebe.gateway.protocol.rest.DocumentMetadata;
 import io.camunda.zeebe.gateway.protocol.rest.GroupCreateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.GroupUpdateRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItem;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -294,6 +298,20 @@ public class RequestMapper {
         getJobResultOrDefault(completionRequest));
   }
 
+  public static Either<ProblemDetail, List<CompleteJobsItem>> toJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return getResult(
+        validateJobBatchCompletionRequest(completionRequest),
+        () ->
+            completionRequest.getJobs().stream()
+                .map(
+                    job ->
+                        new CompleteJobsItem(
+                            KeyUtil.keyToLong(job.getJobKey()),
+                            getMapOrEmpty(job, JobBatchCompletionItem::getVariables)))
+                .toList());
+  }
+
   public static Either<ProblemDetail, UpdateJobRequest> toJobUpdateRequest(
       final JobUpdateRequest updateRequest, final long jobKey) {
     final var validationJobUpdateResponse = validateJobUpdateRequest(updateRequest);
@@ -23,6 +23,7 @@ import io.camunda.service.DocumentServices.DocumentReferenceResponse;
 import io.camunda.service.exception.ServiceException;
 import io.camunda.util.EnumUtil;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.rest.ActivatedJobResult;
 import io.camunda.zeebe.gateway.protocol.rest.AuthorizationCreateResult;
@@ -47,6 +48,8 @@ import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionOutputItem;
 import io.camunda.zeebe.gateway.protocol.rest.EvaluatedDecisionResult;
 import io.camunda.zeebe.gateway.protocol.rest.GroupCreateResult;
 import io.camunda.zeebe.gateway.protocol.rest.GroupUpdateResult;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionItemResult;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionResult;
 import io.camunda.zeebe.gateway.protocol.rest.JobKindEnum;
 import io.camunda.zeebe.gateway.protocol.rest.JobListenerEventTypeEnum;
 import io.camunda.zeebe.gateway.protocol.rest.MappingRuleCreateResult;
@@ -182,6 +185,22 @@ public final class ResponseMapper {
     return new RestJobActivationResult(response, sizeExceedingJobs);
   }
 
+  public static ResponseEntity<Object> toJobBatchCompletionResponse(
+      final List<JobCompletionResult> results) {
+    final var response =
+        new JobBatchCompletionResult()
+            .results(
+                results.stream()
+                    .map(
+                        result ->
+                            new JobBatchCompletionItemResult()
+                                .jobKey(KeyUtil.keyToString(result.jobKey()))
+                                .completed(result.completed())
+                                .rejectionReason(result.rejectionReason()))
+                    .toList());
+    return ResponseEntity.ok(response);
+  }
+
   private static ActivatedJobResult toActivatedJob(final long jobKey, final JobRecord job) {
     return new ActivatedJobResult()
         .jobKey(KeyUtil.keyToString(jobKey))
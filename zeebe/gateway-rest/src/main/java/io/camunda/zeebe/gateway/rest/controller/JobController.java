@@ -14,8 +14,10 @@ import io.camunda.security.auth.CamundaAuthenticationProvider;
 import io.camunda.security.configuration.MultiTenancyConfiguration;
 import io.camunda.service.JobServices;
 import io.camunda.service.JobServices.ActivateJobsRequest;
+import io.camunda.service.JobServices.CompleteJobsItem;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResult;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobFailRequest;
@@ -27,12 +29,14 @@ import io.camunda.zeebe.gateway.rest.RequestMapper.CompleteJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.ErrorJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.FailJobRequest;
 import io.camunda.zeebe.gateway.rest.RequestMapper.UpdateJobRequest;
+import io.camunda.zeebe.gateway.rest.ResponseMapper;
 import io.camunda.zeebe.gateway.rest.RestErrorMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryRequestMapper;
 import io.camunda.zeebe.gateway.rest.SearchQueryResponseMapper;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPatchMapping;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPostMapping;
 import io.camunda.zeebe.gateway.rest.annotation.RequiresSecondaryStorage;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -88,6 +92,13 @@ public class JobController {
     return completeJob(RequestMapper.toJobCompletionRequest(completionRequest, jobKey));
   }
 
+  @CamundaPostMapping(path = "/completion")
+  public CompletableFuture<ResponseEntity<Object>> completeJobs(
+      @RequestBody final JobBatchCompletionRequest completionRequest) {
+    return RequestMapper.toJobBatchCompletionRequest(completionRequest)
+        .fold(RestErrorMapper::mapProblemToCompletedResponse, this::completeJobs);
+  }
+
   @CamundaPatchMapping(path = "/{jobKey}")
   public CompletableFuture<ResponseEntity<Object>> updateJob(
       @PathVariable final long jobKey, @RequestBody final JobUpdateRequest jobUpdateRequest) {
@@ -155,6 +166,16 @@ public class JobController {
                     completeJobRequest.result()));
   }
 
+  private CompletableFuture<ResponseEntity<Object>> completeJobs(
+      final List<CompleteJobsItem> completeJobsItems) {
+    return RequestMapper.executeServiceMethod(
+        () ->
+            jobServices
+                .withAuthentication(authenticationProvider.getCamundaAuthentication())
+                .completeJobs(completeJobsItems),
+        ResponseMapper::toJobBatchCompletionResponse);
+  }
+
   private CompletableFuture<ResponseEntity<Object>> updateJob(
       final UpdateJobRequest updateJobRequest) {
     return RequestMapper.executeServiceMethodWithNoContentResult(
@@ -11,8 +11,10 @@ import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAG
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_EMPTY_ATTRIBUTE;
 import static io.camunda.zeebe.gateway.rest.validator.ErrorMessages.ERROR_MESSAGE_INVALID_ATTRIBUTE_VALUE;
 import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validate;
+import static io.camunda.zeebe.gateway.rest.validator.RequestValidator.validateKeyFormat;
 
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationRequest;
+import io.camunda.zeebe.gateway.protocol.rest.JobBatchCompletionRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobChangeset;
 import io.camunda.zeebe.gateway.protocol.rest.JobErrorRequest;
 import io.camunda.zeebe.gateway.protocol.rest.JobUpdateRequest;
@@ -69,4 +71,25 @@ public final class JobRequestValidator {
           }
         });
   }
+
+  public static Optional<ProblemDetail> validateJobBatchCompletionRequest(
+      final JobBatchCompletionRequest completionRequest) {
+    return validate(
+        violations -> {
+          if (completionRequest.getJobs() == null || completionRequest.getJobs().isEmpty()) {
+            violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobs"));
+            return;
+          }
+          completionRequest
+              .getJobs()
+              .forEach(
+                  job -> {
+                    if (job.getJobKey() == null) {
+                      violations.add(ERROR_MESSAGE_EMPTY_ATTRIBUTE.formatted("jobKey"));
+                    } else {
+                      validateKeyFormat(job.getJobKey(), "jobKey", violations);
+                    }
+                  });
+        });
+  }
 }
@@ -20,7 +20,9 @@ import io.camunda.security.auth.CamundaAuthentication;
 import io.camunda.security.auth.CamundaAuthenticationProvider;
 import io.camunda.security.configuration.MultiTenancyConfiguration;
 import io.camunda.service.JobServices;
+import io.camunda.service.JobServices.CompleteJobsItem;
 import io.camunda.service.JobServices.UpdateJobChangeset;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
 import io.camunda.zeebe.gateway.protocol.rest.JobActivationResult;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -670,6 +672,109 @@ public class JobControllerTest extends RestControllerTest {
     Mockito.verify(jobServices).completeJob(eq(1L), eq(Map.of("foo", "bar")), any(JobResult.class));
   }
 
+  @Test
+  void shouldCompleteJobs() {
+    // given
+    when(jobServices.completeJobs(any()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                List.of(
+                    new JobCompletionResult(1L, true, ""),
+                    new JobCompletionResult(2L, false, "rejected"))));
+
+    final var request =
+        """
+          {
+            "jobs": [
+              {
+                "jobKey": "1",
+                "variables": {
+                  "foo": "bar"
+                }
+              },
+              {
+                "jobKey": "2"
+              }
+            ]
+          }
+        """;
+
+    final var expectedBody =
+        """
+          {
+            "results": [
+              {
+                "jobKey": "1",
+                "completed": true,
+                "rejectionReason": ""
+              },
+              {
+                "jobKey": "2",
+                "completed": false,
+                "rejectionReason": "rejected"
+              }
+            ]
+          }""";
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .json(expectedBody, JsonCompareMode.STRICT);
+
+    Mockito.verify(jobServices)
+        .completeJobs(
+            List.of(
+                new CompleteJobsItem(1L, Map.of("foo", "bar")),
+                new CompleteJobsItem(2L, Map.of())));
+  }
+
+  @Test
+  void shouldRejectCompleteJobsWithoutJobs() {
+    // given
+    final var request =
+        """
+          {
+            "jobs": []
+          }
+        """;
+
+    final var expectedBody =
+        """
+            {
+              "type": "about:blank",
+              "status": 400,
+              "title": "INVALID_ARGUMENT",
+              "detail": "No jobs provided.",
+              "instance": "%s"
+            }"""
+            .formatted(JOBS_BASE_URL + "/completion");
+
+    // when/then
+    webClient
+        .post()
+        .uri(JOBS_BASE_URL + "/completion")
+        .accept(MediaType.APPLICATION_JSON)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(request)
+        .exchange()
+        .expectStatus()
+        .isBadRequest()
+        .expectHeader()
+        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+        .expectBody()
+        .json(expectedBody, JsonCompareMode.STRICT);
+
+    verifyNoInteractions(jobServices);
+  }
+
   @Test
   void shouldUpdateJob() {
     // given
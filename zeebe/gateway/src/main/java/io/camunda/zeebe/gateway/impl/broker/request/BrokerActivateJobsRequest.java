@@ -55,6 +55,18 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     return this;
   }
 
+  /**
+   * Returns a copy of this request, which can be sent to another partition concurrently to this
+   * one.
+   */
+  public BrokerActivateJobsRequest copy() {
+    final var copy = new BrokerActivateJobsRequest(requestDto.getType());
+    BufferUtil.copy(requestDto, copy.requestDto);
+    copy.request.setAuthorization(request.getAuthorization());
+    copy.setOperationReference(getOperationReference());
+    return copy;
+  }
+
   @Override
   public JobBatchRecord getRequestWriter() {
     return requestDto;
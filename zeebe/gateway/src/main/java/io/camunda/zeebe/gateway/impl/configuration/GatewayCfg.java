@@ -18,6 +18,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private SecurityCfg security = new SecurityCfg();
   private LongPollingCfg longPolling = new LongPollingCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
   private List<InterceptorCfg> interceptors = new ArrayList<>();
   private List<FilterCfg> filters = new ArrayList<>();
 
@@ -74,6 +75,15 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   public List<InterceptorCfg> getInterceptors() {
     return interceptors;
   }
@@ -92,7 +102,8 @@ public class GatewayCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, security, longPolling, interceptors);
+    return Objects.hash(
+        network, cluster, threads, security, longPolling, jobActivation, interceptors);
   }
 
   @Override
@@ -109,6 +120,7 @@ public class GatewayCfg {
         && Objects.equals(threads, that.threads)
         && Objects.equals(security, that.security)
         && Objects.equals(longPolling, that.longPolling)
+        && Objects.equals(jobActivation, that.jobActivation)
         && Objects.equals(interceptors, that.interceptors);
   }
 
@@ -125,6 +137,8 @@ public class GatewayCfg {
         + security
         + ", longPolling="
         + longPolling
+        + ", jobActivation="
+        + jobActivation
         + ", interceptors="
         + interceptors;
   }
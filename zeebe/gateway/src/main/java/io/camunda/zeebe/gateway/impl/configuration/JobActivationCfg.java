@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private int partitionFanOut = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_PARTITION_FAN_OUT;
+
+  public int getPartitionFanOut() {
+    return partitionFanOut;
+  }
+
+  public JobActivationCfg setPartitionFanOut(final int partitionFanOut) {
+    this.partitionFanOut = partitionFanOut;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(partitionFanOut);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return partitionFanOut == that.partitionFanOut;
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{" + "partitionFanOut=" + partitionFanOut + '}';
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes several jobs at once. The completions are grouped by the partition of the job key, and
+ * a single command is sent to each partition, which completes all of its jobs in one processing
+ * batch. The partitions are asked concurrently.
+ *
+ * <p>The completion of each job succeeds or fails on its own: if the broker rejects the completion
+ * of a job, or the request to its partition fails altogether, the job is reported as not completed
+ * with the reason, and the other jobs are completed regardless.
+ */
+public final class CompleteJobsHandler {
+
+  private final BrokerClient brokerClient;
+
+  public CompleteJobsHandler(final BrokerClient brokerClient) {
+    this.brokerClient = brokerClient;
+  }
+
+  /**
+   * @param completions the jobs to complete
+   * @param claims the authorization claims of the caller
+   * @return the results of the completions, in the order of the given completions
+   */
+  public CompletableFuture<List<JobCompletionResult>> completeJobs(
+      final List<JobCompletion> completions, final Map<String, Object> claims) {
+    final var results = new JobCompletionResult[completions.size()];
+    final Map<Integer, PartitionCompletions> partitions = new LinkedHashMap<>();
+    for (int index = 0; index < completions.size(); index++) {
+      final var completion = completions.get(index);
+      final var partitionId = Protocol.decodePartitionId(completion.jobKey());
+      partitions
+          .computeIfAbsent(partitionId, PartitionCompletions::new)
+          .add(index, completion.jobKey(), completion.variables());
+    }
+
+    final var futures =
+        partitions.values().stream()
+            .map(partition -> completeJobsOnPartition(partition, claims, results))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures).thenApply(ignored -> Arrays.asList(results));
+  }
+
+  private CompletableFuture<Void> completeJobsOnPartition(
+      final PartitionCompletions partition,
+      final Map<String, Object> claims,
+      final JobCompletionResult[] results) {
+    partition.request.setAuthorization(claims);
+    return brokerClient
+        .sendRequestWithRetry(partition.request)
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                partition.onCompleted(response, results);
+              } else {
+                partition.onFailure(rejectionReason(error), results);
+              }
+              return null;
+            });
+  }
+
+  private static String rejectionReason(final Throwable error) {
+    final var cause = error instanceof CompletionException ? error.getCause() : error;
+    if (cause instanceof final BrokerRejectionException rejection) {
+      return rejection.getRejection().reason();
+    }
+    return cause.getMessage();
+  }
+
+  /**
+   * @param jobKey the key of the job to complete
+   * @param variables the variables to complete the job with, as MessagePack document
+   */
+  public record JobCompletion(long jobKey, DirectBuffer variables) {}
+
+  /**
+   * @param jobKey the key of the job
+   * @param completed true if the job was completed
+   * @param rejectionReason the reason why the job was not completed, or an empty string if it was
+   */
+  public record JobCompletionResult(long jobKey, boolean completed, String rejectionReason) {}
+
+  private static final class PartitionCompletions {
+
+    private final BrokerCompleteJobsRequest request;
+    private final List<Integer> indices = new ArrayList<>();
+    private final List<Long> jobKeys = new ArrayList<>();
+
+    private PartitionCompletions(final int partitionId) {
+      request = new BrokerCompleteJobsRequest(partitionId);
+    }
+
+    private void add(final int index, final long jobKey, final DirectBuffer variables) {
+      indices.add(index);
+      jobKeys.add(jobKey);
+      request.addJob(jobKey, variables);
+    }
+
+    private void onCompleted(
+        final BrokerResponse<JobBatchRecord> response, final JobCompletionResult[] results) {
+      final Iterator<JobRecord> jobs = response.getResponse().jobs().iterator();
+      for (int i = 0; i < indices.size(); i++) {
+        final var errorMessage = jobs.next().getErrorMessage();
+        results[indices.get(i)] =
+            new JobCompletionResult(jobKeys.get(i), errorMessage.isEmpty(), errorMessage);
+      }
+    }
+
+    private void onFailure(final String reason, final JobCompletionResult[] results) {
+      for (int i = 0; i < indices.size(); i++) {
+        results[indices.get(i)] = new JobCompletionResult(jobKeys.get(i), false, reason);
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * The state of an activate jobs request which is sent to several partitions concurrently. The
+ * amount of jobs to activate is split across the in-flight partition requests, such that the sum of
+ * the amounts requested from all partitions never exceeds the amount the client asked for. The part
+ * of a partition's share which it could not fill is given back once it responded, and handed out to
+ * the next partitions.
+ */
+final class ParallelActivateJobsRequestState {
+
+  private final Deque<Integer> partitions;
+  private final int fanOut;
+  private int remainingAmount;
+  private int inFlightRequests;
+  private boolean resourceExhaustedWasPresent;
+  private boolean completed;
+
+  ParallelActivateJobsRequestState(
+      final Collection<Integer> partitions, final int remainingAmount, final int fanOut) {
+    this.partitions = new ArrayDeque<>(partitions);
+    this.remainingAmount = remainingAmount;
+    this.fanOut = fanOut;
+  }
+
+  boolean canSendRequest() {
+    return !completed && inFlightRequests < fanOut && remainingAmount > 0 && !partitions.isEmpty();
+  }
+
+  int nextPartition() {
+    return partitions.poll();
+  }
+
+  /**
+   * Reserves the share of the remaining amount for the next partition request. The remaining amount
+   * is split evenly across the partition requests which can still be sent.
+   */
+  int reserveAmount() {
+    final int requests = Math.min(fanOut - inFlightRequests, partitions.size() + 1);
+    final int amount = (remainingAmount + requests - 1) / requests;
+    remainingAmount -= amount;
+    inFlightRequests++;
+    return amount;
+  }
+
+  /**
+   * @param partitionId the partition which responded
+   * @param reservedAmount the amount which was reserved for the partition
+   * @param activatedAmount the amount of jobs which were activated on the partition
+   * @param pollAgain true if the partition may have more jobs available
+   */
+  void onResponse(
+      final int partitionId,
+      final int reservedAmount,
+      final int activatedAmount,
+      final boolean pollAgain) {
+    inFlightRequests--;
+    remainingAmount += reservedAmount - activatedAmount;
+    if (pollAgain) {
+      partitions.addFirst(partitionId);
+    }
+  }
+
+  void onError(final int reservedAmount, final boolean resourceExhausted) {
+    inFlightRequests--;
+    remainingAmount += reservedAmount;
+    resourceExhaustedWasPresent |= resourceExhausted;
+  }
+
+  /**
+   * @return true if no request is in-flight anymore, and either enough jobs were activated or all
+   *     partitions were asked
+   */
+  boolean isDone() {
+    return !completed && inFlightRequests == 0 && (remainingAmount <= 0 || partitions.isEmpty());
+  }
+
+  boolean isCompleted() {
+    return completed;
+  }
+
+  void complete() {
+    completed = true;
+  }
+
+  int getRemainingAmount() {
+    return remainingAmount;
+  }
+
+  boolean wasResourceExhaustedPresent() {
+    return resourceExhaustedWasPresent;
+  }
+}
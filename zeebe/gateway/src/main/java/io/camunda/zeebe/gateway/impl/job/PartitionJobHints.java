@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers per job type on which partitions jobs are known to be available. A partition is hinted
+ * when the broker notifies that jobs of the type became available on it, or when jobs of the type
+ * were activated on it, and it is no longer hinted once an activation on it returned no jobs.
+ *
+ * <p>Hints are only used to decide the order in which partitions are asked for jobs; a partition
+ * which is not hinted is still asked, just later.
+ */
+final class PartitionJobHints {
+
+  private final Map<String, Set<Integer>> hintedPartitions = new ConcurrentHashMap<>();
+
+  void hint(final String jobType, final int partitionId) {
+    hintedPartitions
+        .computeIfAbsent(jobType, type -> ConcurrentHashMap.newKeySet())
+        .add(partitionId);
+  }
+
+  void clear(final String jobType, final int partitionId) {
+    hintedPartitions.computeIfPresent(
+        jobType,
+        (type, partitions) -> {
+          partitions.remove(partitionId);
+          return partitions.isEmpty() ? null : partitions;
+        });
+  }
+
+  boolean isHinted(final String jobType, final int partitionId) {
+    final var partitions = hintedPartitions.get(jobType);
+    return partitions != null && partitions.contains(partitionId);
+  }
+
+  /**
+   * Returns the given partitions such that the partitions which are hinted for the job type come
+   * first; otherwise, the given order is kept.
+   */
+  List<Integer> order(final String jobType, final Iterator<Integer> partitionIds) {
+    final List<Integer> hinted = new ArrayList<>();
+    final List<Integer> others = new ArrayList<>();
+    partitionIds.forEachRemaining(
+        partitionId -> {
+          if (isHinted(jobType, partitionId)) {
+            hinted.add(partitionId);
+          } else {
+            others.add(partitionId);
+          }
+        });
+
+    hinted.addAll(others);
+    return hinted;
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_PARTITION_FAN_OUT;
+
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
@@ -32,6 +34,11 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If the partition fan-out is greater than one, up to that many partitions are asked for jobs
+ * concurrently, and the amount of jobs to activate is split across them (see {@link
+ * ParallelActivateJobsRequestState}). Partitions on which jobs of the requested type are known to
+ * be available are asked first (see {@link PartitionJobHints}).
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -40,6 +47,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       ACTIVATE_JOB_NOT_SENT_MSG + ", failed with: %s";
   private static final String MAX_MESSAGE_SIZE_EXCEEDED_MSG =
       "the response is bigger than the maximum allowed message size %d";
+  private static final String REQUEST_COMPLETED_MSG =
+      "the activate jobs request was already completed";
 
   private final Map<String, RoundRobinDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
@@ -47,6 +56,8 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final int partitionFanOut;
+  private final PartitionJobHints partitionJobHints = new PartitionJobHints();
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,16 +67,35 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        DEFAULT_JOB_ACTIVATION_PARTITION_FAN_OUT);
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final int partitionFanOut) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.partitionFanOut = Math.max(1, partitionFanOut);
   }
 
   @Override
   public void accept(final ActorControl actor) {
     this.actor = actor;
+    if (partitionFanOut > 1) {
+      brokerClient.subscribePartitionJobAvailableNotification(
+          (partitionId, jobType) -> partitionJobHints.hint(jobType, partitionId));
+    }
   }
 
   @Override
@@ -98,11 +128,18 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
     final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
+    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
+
+    if (partitionFanOut > 1) {
+      final var partitions = partitionJobHints.order(jobType, partitionIterator);
+      final var requestState =
+          new ParallelActivateJobsRequestState(partitions, maxJobsToActivate, partitionFanOut);
+      activateJobsInParallel(request, requestState, delegate);
+      return;
+    }
 
     final var requestState =
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
-    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
-
     activateJobs(request, requestState, delegate);
   }
 
@@ -160,39 +197,12 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         () -> {
           final var response = brokerResponse.getResponse();
           final JobActivationResult<T> jobActivationResult =
-              activationResultMapper.apply(
-                  new JobActivationResponse(brokerResponse.getKey(), response, maxMessageSize));
-
-          final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
-          if (!jobsToDefer.isEmpty()) {
-            final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
-            final var jobType = request.getType();
-            final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
-
-            logResponseNotSent(jobType, jobKeys, reason);
-            reactivateJobs(jobsToDefer, reason);
+              toJobActivationResult(request, brokerResponse);
+          if (!trySendActivatedJobs(request, delegate, response, jobActivationResult)) {
+            return;
           }
 
-          final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
           final var jobsCount = jobActivationResult.getJobsCount();
-          final var jobsActivated = jobsCount > 0;
-          if (jobsActivated) {
-            final var result = request.tryToSendActivatedJobs(activateJobsResponse);
-            final var responseWasSent = result.getOrElse(false);
-
-            if (!responseWasSent) {
-              final var activatedJobsToReactivate = jobActivationResult.getJobs();
-              final var jobKeys = response.getJobKeys();
-              final var jobType = request.getType();
-              final var reason = createReasonMessage(result);
-
-              logResponseNotSent(jobType, jobKeys, reason);
-              reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
-              return;
-            }
-          }
-
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
 
@@ -202,6 +212,169 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  private void activateJobsInParallel(
+      final InflightActivateJobsRequest<T> request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate) {
+    actor.run(
+        () -> {
+          if (!request.isOpen() || requestState.isCompleted()) {
+            return;
+          }
+
+          while (requestState.canSendRequest()) {
+            final var partitionId = requestState.nextPartition();
+            final var amount = requestState.reserveAmount();
+
+            final var brokerRequest = request.getRequest().copy();
+            brokerRequest.setPartitionId(partitionId);
+            brokerRequest.setMaxJobsToActivate(amount);
+
+            brokerClient
+                .sendRequest(brokerRequest)
+                .whenComplete(
+                    (brokerResponse, error) -> {
+                      if (error == null) {
+                        handleParallelResponseSuccess(
+                            request, requestState, delegate, partitionId, amount, brokerResponse);
+                      } else {
+                        handleParallelResponseError(
+                            request, requestState, delegate, partitionId, amount, error);
+                      }
+                    });
+          }
+
+          if (requestState.isDone()) {
+            // enough jobs activated or no more partitions left to check
+            requestState.complete();
+            delegate.onCompleted(
+                requestState.getRemainingAmount(), requestState.wasResourceExhaustedPresent());
+          }
+        });
+  }
+
+  private void handleParallelResponseSuccess(
+      final InflightActivateJobsRequest<T> request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int reservedAmount,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    actor.run(
+        () -> {
+          final var response = brokerResponse.getResponse();
+          final JobActivationResult<T> jobActivationResult =
+              toJobActivationResult(request, brokerResponse);
+          final var jobsCount = jobActivationResult.getJobsCount();
+
+          if (jobsCount > 0) {
+            partitionJobHints.hint(request.getType(), partitionId);
+          } else {
+            partitionJobHints.clear(request.getType(), partitionId);
+          }
+
+          if (requestState.isCompleted()) {
+            // the request was completed while the partition activated jobs for it; give them back
+            if (jobsCount > 0) {
+              logResponseNotSent(request.getType(), response.getJobKeys(), REQUEST_COMPLETED_MSG);
+              reactivateJobs(jobActivationResult.getJobs(), REQUEST_COMPLETED_MSG);
+            }
+            return;
+          }
+
+          if (!trySendActivatedJobs(request, delegate, response, jobActivationResult)) {
+            requestState.complete();
+            return;
+          }
+
+          final var shouldPollPartitionAgain =
+              response.getTruncated() || (jobsCount > 0 && jobsCount >= reservedAmount);
+          requestState.onResponse(partitionId, reservedAmount, jobsCount, shouldPollPartitionAgain);
+          activateJobsInParallel(request, requestState, delegate);
+        });
+  }
+
+  private void handleParallelResponseError(
+      final InflightActivateJobsRequest<T> request,
+      final ParallelActivateJobsRequestState requestState,
+      final ResponseObserverDelegate delegate,
+      final int partitionId,
+      final int reservedAmount,
+      final Throwable error) {
+    actor.run(
+        () -> {
+          if (requestState.isCompleted()) {
+            return;
+          }
+
+          final var wasResourceExhausted = wasResourceExhausted(error);
+          if (isRejection(error)) {
+            requestState.complete();
+            delegate.onError(error);
+            return;
+          } else if (!wasResourceExhausted) {
+            logErrorResponse(partitionId, request.getType(), error);
+          }
+
+          requestState.onError(reservedAmount, wasResourceExhausted);
+          activateJobsInParallel(request, requestState, delegate);
+        });
+  }
+
+  private JobActivationResult<T> toJobActivationResult(
+      final InflightActivateJobsRequest<T> request,
+      final BrokerResponse<JobBatchRecord> brokerResponse) {
+    final JobActivationResult<T> jobActivationResult =
+        activationResultMapper.apply(
+            new JobActivationResponse(
+                brokerResponse.getKey(), brokerResponse.getResponse(), maxMessageSize));
+
+    final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
+    if (!jobsToDefer.isEmpty()) {
+      final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
+      final var jobType = request.getType();
+      final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+
+      logResponseNotSent(jobType, jobKeys, reason);
+      reactivateJobs(jobsToDefer, reason);
+    }
+
+    return jobActivationResult;
+  }
+
+  /**
+   * Sends the activated jobs to the client. If they can't be sent, the jobs are given back and the
+   * request is canceled.
+   *
+   * @return true if the jobs were sent, or if there were no jobs to send
+   */
+  private boolean trySendActivatedJobs(
+      final InflightActivateJobsRequest<T> request,
+      final ResponseObserverDelegate delegate,
+      final JobBatchRecord response,
+      final JobActivationResult<T> jobActivationResult) {
+    final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
+    final var jobsActivated = jobActivationResult.getJobsCount() > 0;
+    if (!jobsActivated) {
+      return true;
+    }
+
+    final var result = request.tryToSendActivatedJobs(activateJobsResponse);
+    final var responseWasSent = result.getOrElse(false);
+    if (!responseWasSent) {
+      final var activatedJobsToReactivate = jobActivationResult.getJobs();
+      final var jobKeys = response.getJobKeys();
+      final var jobType = request.getType();
+      final var reason = createReasonMessage(result);
+
+      logResponseNotSent(jobType, jobKeys, reason);
+      reactivateJobs(activatedJobsToReactivate, reason);
+      cancelActivateJobsRequest(reason, delegate);
+    }
+
+    return responseWasSent;
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class CompleteJobsStub
+    implements RequestStub<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>> {
+
+  public static final long JOB_BATCH_KEY = 789;
+
+  private final Map<Long, String> rejectedJobs = new HashMap<>();
+
+  public CompleteJobsStub rejectJob(final long jobKey, final String reason) {
+    rejectedJobs.put(jobKey, reason);
+    return this;
+  }
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerCompleteJobsRequest request)
+      throws Exception {
+    final var response = new JobBatchRecord().setType("");
+    for (final var jobKey : request.getRequestWriter().jobKeys()) {
+      response.jobKeys().add().setValue(jobKey.getValue());
+      response
+          .jobs()
+          .add()
+          .setErrorMessage(rejectedJobs.getOrDefault(jobKey.getValue(), ""));
+    }
+    return new BrokerResponse<>(response, request.getPartitionId(), JOB_BATCH_KEY);
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCompleteJobsRequest.class, this);
+  }
+}
@@ -28,12 +28,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
   private Consumer<String> jobsAvailableHandler;
+  private BiConsumer<Integer, String> partitionJobsAvailableHandler = (partitionId, type) -> {};
 
   private final Map<Class<?>, RequestHandler<?, ?>> requestHandlers = new HashMap<>();
 
@@ -126,6 +128,12 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler = handler;
   }
 
+  @Override
+  public void subscribePartitionJobAvailableNotification(
+      final BiConsumer<Integer, String> handler) {
+    partitionJobsAvailableHandler = handler;
+  }
+
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
       void registerHandler(
           final Class<?> requestType, final RequestHandler<RequestT, ResponseT> requestHandler) {
@@ -136,6 +144,10 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler.accept(type);
   }
 
+  public void notifyJobsAvailable(final int partitionId, final String type) {
+    partitionJobsAvailableHandler.accept(partitionId, type);
+  }
+
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
     assertThat(brokerRequests).hasSize(1);
     return (T) brokerRequests.get(0);
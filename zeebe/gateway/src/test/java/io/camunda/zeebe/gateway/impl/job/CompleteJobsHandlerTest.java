@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.job.CompleteJobsStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletion;
+import io.camunda.zeebe.gateway.impl.job.CompleteJobsHandler.JobCompletionResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class CompleteJobsHandlerTest {
+
+  private static final long FIRST_JOB_KEY = Protocol.encodePartitionId(1, 1);
+  private static final long SECOND_JOB_KEY = Protocol.encodePartitionId(2, 1);
+  private static final long THIRD_JOB_KEY = Protocol.encodePartitionId(1, 2);
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final CompleteJobsStub completeJobsStub = new CompleteJobsStub();
+  private final CompleteJobsHandler handler = new CompleteJobsHandler(brokerClient);
+
+  @BeforeEach
+  void setup() {
+    completeJobsStub.registerWith(brokerClient);
+  }
+
+  @Test
+  void shouldSendOneRequestPerPartition() {
+    // given
+    final var completions =
+        List.of(
+            completion(FIRST_JOB_KEY, Map.of("foo", 1)),
+            completion(SECOND_JOB_KEY, Map.of("foo", 2)),
+            completion(THIRD_JOB_KEY, Map.of("foo", 3)));
+
+    // when
+    final var results = completeJobs(completions);
+
+    // then
+    assertThat(results)
+        .containsExactly(
+            new JobCompletionResult(FIRST_JOB_KEY, true, ""),
+            new JobCompletionResult(SECOND_JOB_KEY, true, ""),
+            new JobCompletionResult(THIRD_JOB_KEY, true, ""));
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allSatisfy(
+            request -> assertThat(request).isInstanceOf(BrokerCompleteJobsRequest.class))
+        .extracting(request -> ((BrokerCompleteJobsRequest) request).getRequestWriter())
+        .extracting(JobBatchRecord::getJobKeys)
+        .containsExactly(List.of(FIRST_JOB_KEY, THIRD_JOB_KEY), List.of(SECOND_JOB_KEY));
+  }
+
+  @Test
+  void shouldSendVariablesOfEachJob() {
+    // given
+    final var completions =
+        List.of(
+            completion(FIRST_JOB_KEY, Map.of("foo", 1)),
+            completion(THIRD_JOB_KEY, Map.of("foo", 3)));
+
+    // when
+    completeJobs(completions);
+
+    // then
+    final BrokerCompleteJobsRequest request = brokerClient.getSingleBrokerRequest();
+    assertThat(request.getPartitionId()).isEqualTo(1);
+    assertThat(request.getIntent()).isEqualTo(JobBatchIntent.COMPLETE);
+    assertThat(request.getRequestWriter().getJobs())
+        .extracting(job -> job.getVariables())
+        .containsExactly(Map.of("foo", 1), Map.of("foo", 3));
+  }
+
+  @Test
+  void shouldReportRejectedJob() {
+    // given
+    completeJobsStub.rejectJob(THIRD_JOB_KEY, "expected");
+    final var completions =
+        List.of(
+            completion(FIRST_JOB_KEY, Map.of()),
+            completion(SECOND_JOB_KEY, Map.of()),
+            completion(THIRD_JOB_KEY, Map.of()));
+
+    // when
+    final var results = completeJobs(completions);
+
+    // then
+    assertThat(results)
+        .containsExactly(
+            new JobCompletionResult(FIRST_JOB_KEY, true, ""),
+            new JobCompletionResult(SECOND_JOB_KEY, true, ""),
+            new JobCompletionResult(THIRD_JOB_KEY, false, "expected"));
+  }
+
+  @Test
+  void shouldReportJobsOfFailedPartition() {
+    // given
+    brokerClient.registerHandler(
+        BrokerCompleteJobsRequest.class,
+        (final BrokerCompleteJobsRequest request) -> {
+          if (request.getPartitionId() == 1) {
+            return new BrokerRejectionResponse<>(
+                new BrokerRejection(
+                    JobBatchIntent.COMPLETE, 0, RejectionType.INVALID_ARGUMENT, "expected"));
+          }
+          return completeJobsStub.handle(request);
+        });
+    final var completions =
+        List.of(
+            completion(FIRST_JOB_KEY, Map.of()),
+            completion(SECOND_JOB_KEY, Map.of()),
+            completion(THIRD_JOB_KEY, Map.of()));
+
+    // when
+    final var results = completeJobs(completions);
+
+    // then
+    assertThat(results)
+        .containsExactly(
+            new JobCompletionResult(FIRST_JOB_KEY, false, "expected"),
+            new JobCompletionResult(SECOND_JOB_KEY, true, ""),
+            new JobCompletionResult(THIRD_JOB_KEY, false, "expected"));
+  }
+
+  private List<JobCompletionResult> completeJobs(final List<JobCompletion> completions) {
+    final var results = handler.completeJobs(completions, Map.of());
+    assertThat(results).succeedsWithin(Duration.ofSeconds(5));
+    return results.join();
+  }
+
+  private static JobCompletion completion(final long jobKey, final Map<String, Object> variables) {
+    return new JobCompletion(jobKey, MsgPackUtil.asMsgPack(variables));
+  }
+}
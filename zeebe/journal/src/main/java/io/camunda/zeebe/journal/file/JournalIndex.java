@@ -89,4 +89,23 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Collects the entries indexed between the given indexes (inclusive), such that they can be
+   * persisted alongside a sealed segment.
+   *
+   * @param firstIndex the first index of the segment
+   * @param lastIndex the last index of the segment
+   * @return the indexed entries, or null if not every entry of the range which should be indexed is
+   *     currently indexed
+   */
+  PersistedSegmentIndex.Entries collect(long firstIndex, long lastIndex);
+
+  /**
+   * Serves lookups for the range covered by the given persisted segment index from it. Entries kept
+   * in memory for that range are released.
+   *
+   * @param segmentIndex the persisted index of a sealed segment
+   */
+  void attach(PersistedSegmentIndex segmentIndex);
 }
@@ -37,6 +37,10 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final Timer prefetchLatency;
+  private final Counter prefetchDataRate;
+  private final Counter coldPrefetches;
+  private final Counter readAheadMisses;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +71,10 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    prefetchLatency = makeTimer(PREFETCH_LATENCY);
+    prefetchDataRate = makeCounter(PREFETCH_DATA_RATE);
+    coldPrefetches = makeCounter(PREFETCH_COLD);
+    readAheadMisses = makeCounter(READ_AHEAD_MISSES);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +126,28 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  CloseableSilently observePrefetchLatency() {
+    return MicrometerUtil.timer(prefetchLatency, Timer.start(registry));
+  }
+
+  void observePrefetch(final long prefetchedBytes) {
+    prefetchDataRate.increment(prefetchedBytes / 1024f);
+  }
+
+  void observeColdPrefetch() {
+    coldPrefetches.increment();
+  }
+
+  void observeReadAheadMiss() {
+    readAheadMisses.increment();
+  }
+
+  private Counter makeCounter(final JournalMetricsDoc meter) {
+    return Counter.builder(meter.getName())
+        .description(meter.getDescription())
+        .register(registry);
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
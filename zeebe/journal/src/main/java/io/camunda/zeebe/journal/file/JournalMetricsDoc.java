@@ -303,6 +303,101 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time spent loading a range of a segment ahead of the readers */
+  PREFETCH_LATENCY {
+    @Override
+    public String getName() {
+      return "atomix.journal.prefetch.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time spent loading a range of a segment into memory ahead of the readers";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** The rate in KiB at which segments are loaded ahead of the readers */
+  PREFETCH_DATA_RATE {
+    @Override
+    public String getName() {
+      return "atomix.journal.prefetch.data.rate";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The rate in KiB at which segments are loaded into memory ahead of the readers";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "KiB";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of prefetched ranges which were not resident in memory */
+  PREFETCH_COLD {
+    @Override
+    public String getName() {
+      return "atomix.journal.prefetch.cold";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of prefetched ranges which were not fully resident in memory, i.e. whose page"
+          + " faults were taken by the prefetcher instead of the readers";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Number of reads which overtook the read-ahead */
+  READ_AHEAD_MISSES {
+    @Override
+    public String getName() {
+      return "atomix.journal.read.ahead.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of times a reader read past the prefetched range of a segment, i.e. likely"
+          + " took page faults itself";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
@@ -0,0 +1,281 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only, memory-mapped index of a sealed segment. It is written once when the segment is
+ * sealed, and loaded when the segment is opened again, so that the journal index does not have to
+ * be rebuilt by scanning the segment.
+ *
+ * <p>The file uses a primitive, sorted layout which supports binary search lookups without boxing:
+ *
+ * <pre>
+ * | version (int) | segmentId (long) | firstIndex (long) | lastIndex (long)
+ * | entryCount (int) | asqnCount (int)
+ * | index (long) * entryCount | position (int) * entryCount
+ * | asqn (long) * asqnCount | asqnIndex (long) * asqnCount
+ * | checksum (long) |
+ * </pre>
+ *
+ * The checksum is a CRC32C of everything preceding it. If the file is missing, does not match the
+ * segment, or its checksum does not match, it is ignored and the index is rebuilt by scanning the
+ * segment as before.
+ *
+ * <p>The mapped buffer is never explicitly unmapped, as concurrent readers may still be looking up
+ * entries when the index is detached; it is unmapped once it is garbage collected.
+ */
+final class PersistedSegmentIndex {
+
+  static final String FILE_EXTENSION = ".idx";
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(PersistedSegmentIndex.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String TMP_EXTENSION = ".tmp";
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + 3 * Long.BYTES + Integer.BYTES + Integer.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = Integer.BYTES + 3 * Long.BYTES;
+  private static final int ASQN_COUNT_OFFSET = ENTRY_COUNT_OFFSET + Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int entryCount;
+  private final int asqnCount;
+  private final int positionsOffset;
+  private final int asqnsOffset;
+  private final int asqnIndexesOffset;
+
+  private PersistedSegmentIndex(
+      final ByteBuffer buffer, final long firstIndex, final long lastIndex) {
+    this.buffer = buffer;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+    asqnCount = buffer.getInt(ASQN_COUNT_OFFSET);
+    positionsOffset = HEADER_LENGTH + entryCount * Long.BYTES;
+    asqnsOffset = positionsOffset + entryCount * Integer.BYTES;
+    asqnIndexesOffset = asqnsOffset + asqnCount * Long.BYTES;
+  }
+
+  /** Returns the path of the index file belonging to the given segment file. */
+  static Path indexFile(final SegmentFile segmentFile) {
+    final var file = segmentFile.file();
+    return file.toPath().resolveSibling(file.getName() + FILE_EXTENSION);
+  }
+
+  /**
+   * Writes the given entries to the index file. The file is first written to a temporary file and
+   * then atomically moved in place, so that a reader never observes a partially written index.
+   */
+  static void write(
+      final Path indexFile,
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final Entries entries)
+      throws IOException {
+    final int entryCount = entries.indexes().length;
+    final int asqnCount = entries.asqns().length;
+    final int length = encodedLength(entryCount, asqnCount);
+    final ByteBuffer buffer = ByteBuffer.allocate(length + Long.BYTES).order(ENDIANNESS);
+
+    buffer
+        .putInt(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(entryCount)
+        .putInt(asqnCount);
+    for (final long index : entries.indexes()) {
+      buffer.putLong(index);
+    }
+    for (final int position : entries.positions()) {
+      buffer.putInt(position);
+    }
+    for (final long asqn : entries.asqns()) {
+      buffer.putLong(asqn);
+    }
+    for (final long asqnIndex : entries.asqnIndexes()) {
+      buffer.putLong(asqnIndex);
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, length));
+    buffer.flip();
+
+    final Path tmpFile = indexFile.resolveSibling(indexFile.getFileName() + TMP_EXTENSION);
+    try (final var channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+    Files.move(
+        tmpFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Loads the index file of a segment, if it exists and is valid for the given segment.
+   *
+   * @return the loaded index, or null if the file is missing, stale or corrupted
+   */
+  static PersistedSegmentIndex load(
+      final Path indexFile, final long segmentId, final long firstIndex, final long lastIndex) {
+    final ByteBuffer buffer;
+    try (final var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      buffer = channel.map(MapMode.READ_ONLY, 0, channel.size()).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.debug("Failed to map segment index {}, will rebuild index instead", indexFile, e);
+      return null;
+    }
+
+    if (!isValid(buffer, segmentId, firstIndex, lastIndex)) {
+      LOG.debug(
+          "Segment index {} does not match segment {} (first index {}, last index {}), will rebuild index instead",
+          indexFile,
+          segmentId,
+          firstIndex,
+          lastIndex);
+      delete(indexFile);
+      return null;
+    }
+
+    return new PersistedSegmentIndex(buffer, firstIndex, lastIndex);
+  }
+
+  /** Deletes the given index file, if it exists. */
+  static void delete(final Path indexFile) {
+    try {
+      Files.deleteIfExists(indexFile);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete segment index {}. It will be ignored on the next start.", indexFile, e);
+    }
+  }
+
+  long firstIndex() {
+    return firstIndex;
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  /**
+   * Looks up the position of the given index.
+   *
+   * @return the position of the given index or a lesser index, or null if there is none
+   */
+  IndexInfo lookup(final long index) {
+    final int slot = floorSlot(HEADER_LENGTH, entryCount, index);
+    if (slot < 0) {
+      return null;
+    }
+
+    return new IndexInfo(
+        buffer.getLong(HEADER_LENGTH + slot * Long.BYTES),
+        buffer.getInt(positionsOffset + slot * Integer.BYTES));
+  }
+
+  /**
+   * Looks up the index of the greatest indexed record with an asqn less than or equal to the given
+   * asqn, and an index less than or equal to the given upper bound.
+   *
+   * @return the index, or null if there is none
+   */
+  Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final int slot = floorSlot(asqnsOffset, asqnCount, asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    final long index = buffer.getLong(asqnIndexesOffset + slot * Long.BYTES);
+    if (index <= indexUpperBound) {
+      return index;
+    }
+
+    final int boundedSlot = floorSlot(asqnIndexesOffset, asqnCount, indexUpperBound);
+    return boundedSlot < 0 ? null : buffer.getLong(asqnIndexesOffset + boundedSlot * Long.BYTES);
+  }
+
+  /** Returns the slot of the greatest value less than or equal to the given key, or -1. */
+  private int floorSlot(final int offset, final int count, final long key) {
+    int low = 0;
+    int high = count - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long value = buffer.getLong(offset + mid * Long.BYTES);
+      if (value < key) {
+        low = mid + 1;
+      } else if (value > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return high;
+  }
+
+  private static boolean isValid(
+      final ByteBuffer buffer, final long segmentId, final long firstIndex, final long lastIndex) {
+    if (buffer.capacity() < HEADER_LENGTH + Long.BYTES
+        || buffer.getInt(0) != VERSION
+        || buffer.getLong(Integer.BYTES) != segmentId
+        || buffer.getLong(Integer.BYTES + Long.BYTES) != firstIndex
+        || buffer.getLong(Integer.BYTES + 2 * Long.BYTES) != lastIndex) {
+      return false;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET);
+    final int asqnCount = buffer.getInt(ASQN_COUNT_OFFSET);
+    if (entryCount < 0 || asqnCount < 0) {
+      return false;
+    }
+
+    final long length = (long) HEADER_LENGTH + (long) entryCount * (Long.BYTES + Integer.BYTES);
+    final long encodedLength = length + 2L * asqnCount * Long.BYTES;
+    if (encodedLength + Long.BYTES != buffer.capacity()) {
+      return false;
+    }
+
+    final long checksum = new ChecksumGenerator().compute(buffer, 0, (int) encodedLength);
+    return checksum == buffer.getLong((int) encodedLength);
+  }
+
+  private static int encodedLength(final int entryCount, final int asqnCount) {
+    return HEADER_LENGTH + entryCount * (Long.BYTES + Integer.BYTES) + asqnCount * (2 * Long.BYTES);
+  }
+
+  /**
+   * The indexed entries of a single segment, sorted by index. Records without an asqn are only
+   * present in {@code indexes} and {@code positions}, such that {@code asqns} and {@code
+   * asqnIndexes} are both strictly increasing.
+   */
+  record Entries(long[] indexes, int[] positions, long[] asqns, long[] asqnIndexes) {}
+}
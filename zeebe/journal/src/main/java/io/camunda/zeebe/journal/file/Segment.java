@@ -30,6 +30,7 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +58,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // number of ranges which are currently loaded by the prefetcher; the buffer must not be unmapped
+  // while a range is loaded, as that would crash the JVM
+  private final AtomicInteger loadingRanges = new AtomicInteger();
 
   Segment(
       final SegmentFile file,
@@ -193,6 +197,42 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return reader;
   }
 
+  /**
+   * Returns the size of the segment in bytes, i.e. the size of its mapped file.
+   *
+   * @return the size of the segment
+   */
+  int size() {
+    return buffer.capacity();
+  }
+
+  /**
+   * Loads the given range of the segment into memory, advising the OS that it will be needed soon.
+   * The segment must be pinned by a reader while loading, so it's not unmapped when it's deleted
+   * concurrently. If the segment is closed while the range is loaded, it's not unmapped, but left
+   * to be unmapped once the buffer is garbage collected.
+   *
+   * @param offset the position in the segment at which to start loading
+   * @param length how many bytes to load
+   * @return true if the range was already resident in memory or the segment is closed, false if it
+   *     had to be read
+   */
+  boolean load(final int offset, final int length) {
+    loadingRanges.incrementAndGet();
+    try {
+      if (!open) {
+        return true;
+      }
+
+      final var range = buffer.slice(offset, length);
+      final boolean resident = range.isLoaded();
+      range.load();
+      return resident;
+    } finally {
+      loadingRanges.decrementAndGet();
+    }
+  }
+
   private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
     return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
   }
@@ -231,18 +271,70 @@ final class Segment implements AutoCloseable, FlushableSegment {
   public void close() {
     open = false;
     readers.forEach(SegmentReader::close);
+    if (loadingRanges.get() > 0) {
+      LOG.warn("Skip unmapping segment {}, as a range of it is still being loaded", this);
+      return;
+    }
     IoUtil.unmap(buffer);
   }
 
   /** Deletes the segment. */
   void delete() {
     open = false;
+    PersistedSegmentIndex.delete(PersistedSegmentIndex.indexFile(file));
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
     }
   }
 
+  /**
+   * Seals the segment: its indexed entries are written to an index file, which is then used to
+   * serve lookups for this segment, here and after a restart. If the segment was not fully indexed
+   * (e.g. it was partially written before a restart), no index file is written, and the segment
+   * will be indexed by scanning it as before.
+   */
+  void seal() {
+    final var lastIndex = lastIndex();
+    final var entries = index.collect(index(), lastIndex);
+    if (entries == null) {
+      LOG.debug("Skip writing index of segment {}, as it is not fully indexed", this);
+      return;
+    }
+
+    final var indexFile = PersistedSegmentIndex.indexFile(file);
+    try {
+      PersistedSegmentIndex.write(indexFile, id(), index(), lastIndex, entries);
+    } catch (final IOException e) {
+      LOG.warn("Failed to write index of segment {}, will rebuild it on restart", this, e);
+      PersistedSegmentIndex.delete(indexFile);
+      return;
+    }
+
+    loadPersistedIndex();
+  }
+
+  /**
+   * Serves lookups for this segment from its index file, if it exists and matches the segment.
+   * Otherwise the segment is indexed by scanning it when it is read.
+   */
+  void loadPersistedIndex() {
+    final var segmentIndex =
+        PersistedSegmentIndex.load(
+            PersistedSegmentIndex.indexFile(file), id(), index(), lastIndex());
+    if (segmentIndex != null) {
+      index.attach(segmentIndex);
+    }
+  }
+
+  /**
+   * Deletes the index file of this segment, e.g. because the segment is truncated and the index
+   * would be stale.
+   */
+  void deletePersistedIndex() {
+    PersistedSegmentIndex.delete(PersistedSegmentIndex.indexFile(file));
+  }
+
   private void safeDelete() {
     if (!readers.isEmpty()) {
       throw new JournalException(
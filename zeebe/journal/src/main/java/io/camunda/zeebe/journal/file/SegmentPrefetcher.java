@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads ranges of segments into memory on a background thread, ahead of sequential readers, such
+ * that cold reads (e.g. during replay, exporter or follower catch-up) don't take their page faults
+ * one by one on the reader's thread.
+ *
+ * <p>Loading a range uses {@link java.nio.MappedByteBuffer#load()}, which advises the kernel that
+ * the range will be needed (i.e. {@code madvise(MADV_WILLNEED)} on Linux) and then touches each
+ * page. While a range is loaded, the segment is pinned like by a reader, so it's not unmapped when
+ * it's deleted concurrently. The prefetcher must be closed before the segments are closed: ranges
+ * are loaded in chunks, and closing cancels the loading after the current chunk and waits for it.
+ *
+ * <p>Prefetching is best effort: if the prefetcher is lagging behind, further requests are dropped
+ * and the readers fault the pages in themselves, as they would without read-ahead.
+ */
+final class SegmentPrefetcher implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPrefetcher.class);
+  private static final int MAX_PENDING_REQUESTS = 16;
+  // bounds how long closing waits for a range which is being loaded
+  private static final int LOAD_CHUNK_SIZE = 1024 * 1024;
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private final int readAheadSize;
+  private final JournalMetrics metrics;
+  private final ThreadPoolExecutor executor;
+  private volatile boolean closed;
+
+  /**
+   * @param name the name of the journal, used to name the prefetching thread
+   * @param readAheadSize how many bytes to load ahead of a reader
+   * @param metrics the journal metrics
+   */
+  SegmentPrefetcher(final String name, final int readAheadSize, final JournalMetrics metrics) {
+    this.readAheadSize = readAheadSize;
+    this.metrics = metrics;
+    executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_REQUESTS),
+            Thread.ofPlatform().name("zeebe-journal-prefetch-" + name).daemon(true).factory());
+  }
+
+  private SegmentPrefetcher() {
+    readAheadSize = 0;
+    metrics = null;
+    executor = null;
+  }
+
+  /** Returns a prefetcher which does nothing, i.e. readers don't read ahead. */
+  static SegmentPrefetcher noop() {
+    return new SegmentPrefetcher();
+  }
+
+  /** Returns how many bytes to load ahead of a reader; if 0, readers don't read ahead. */
+  int readAheadSize() {
+    return readAheadSize;
+  }
+
+  /**
+   * Loads the given range of the segment asynchronously. Must be called while holding the journal's
+   * read lock, such that the segment cannot be deleted before it's pinned.
+   *
+   * @param segment the segment to load
+   * @param offset the position in the segment at which to start loading
+   * @param length how many bytes to load; cut off at the end of the segment
+   */
+  void prefetch(final Segment segment, final int offset, final int length) {
+    final int cappedLength = Math.min(length, segment.size() - offset);
+    if (executor == null || cappedLength <= 0 || !segment.isOpen()) {
+      return;
+    }
+
+    // a reader keeps the segment mapped until the range is loaded, even if it's deleted meanwhile
+    final var pin = segment.createReader();
+    try {
+      executor.execute(() -> load(segment, pin, offset, cappedLength));
+    } catch (final RejectedExecutionException e) {
+      pin.close();
+    }
+  }
+
+  /** Counts a read which overtook the read-ahead, i.e. which likely faulted pages in itself. */
+  void onReadAheadMiss() {
+    metrics.observeReadAheadMiss();
+  }
+
+  @Override
+  public void close() {
+    if (executor == null) {
+      return;
+    }
+
+    // cancel the current and the pending requests, which then only release their pins
+    closed = true;
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        // the segments skip unmapping while a range of them is loaded, see Segment#close
+        LOG.warn(
+            "Expected segment prefetcher to terminate within {}, but it did not", CLOSE_TIMEOUT);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void load(
+      final Segment segment, final SegmentReader pin, final int offset, final int length) {
+    try {
+      if (closed || !segment.isOpen()) {
+        return;
+      }
+
+      boolean resident = true;
+      int loaded = 0;
+      try (final var ignored = metrics.observePrefetchLatency()) {
+        while (loaded < length && !closed && segment.isOpen()) {
+          final int chunkLength = Math.min(LOAD_CHUNK_SIZE, length - loaded);
+          resident &= segment.load(offset + loaded, chunkLength);
+          loaded += chunkLength;
+        }
+      }
+
+      if (!resident) {
+        metrics.observeColdPrefetch();
+      }
+      metrics.observePrefetch(loaded);
+    } finally {
+      pin.close();
+    }
+  }
+}
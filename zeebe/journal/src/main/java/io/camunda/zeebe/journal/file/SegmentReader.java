@@ -105,6 +105,11 @@ final class SegmentReader implements Iterator<JournalRecord> {
     segment.onReaderClosed(this);
   }
 
+  /** Returns the position in the segment of the next entry to read. */
+  int position() {
+    return buffer.position();
+  }
+
   long getNextIndex() {
     return currentIndex + 1;
   }
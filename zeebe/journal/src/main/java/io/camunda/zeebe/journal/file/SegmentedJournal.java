@@ -49,12 +49,23 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
+  private final SegmentPrefetcher prefetcher;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
       final SegmentsFlusher segmentsFlusher) {
+    this(journalIndex, segments, journalMetrics, segmentsFlusher, SegmentPrefetcher.noop());
+  }
+
+  SegmentedJournal(
+      final JournalIndex journalIndex,
+      final SegmentsManager segments,
+      final JournalMetrics journalMetrics,
+      final SegmentsFlusher segmentsFlusher,
+      final SegmentPrefetcher prefetcher) {
+    this.prefetcher = Objects.requireNonNull(prefetcher, "must specify a segment prefetcher");
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
@@ -217,6 +228,8 @@ public final class SegmentedJournal implements Journal {
     } catch (final FlushException e) {
       LOGGER.warn("Failed to flush when closing", e);
     }
+    // the prefetcher reads the mapped segments, so it must be stopped before they are unmapped
+    prefetcher.close();
     segments.close();
     open = false;
   }
@@ -292,6 +305,11 @@ public final class SegmentedJournal implements Journal {
     return journalIndex;
   }
 
+  /** Returns the prefetcher which loads segments into memory ahead of the readers. */
+  SegmentPrefetcher prefetcher() {
+    return prefetcher;
+  }
+
   long acquireReadlock() {
     return rwlock.readLock();
   }
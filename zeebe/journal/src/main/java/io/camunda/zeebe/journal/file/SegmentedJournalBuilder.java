@@ -33,6 +33,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_READ_AHEAD_SIZE = 0;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +45,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int readAheadSize = DEFAULT_READ_AHEAD_SIZE;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -145,6 +147,23 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many bytes of a segment are loaded into memory ahead of sequential readers, on a
+   * background thread. This avoids that cold reads, e.g. when an exporter or a follower catches up,
+   * take their page faults one by one on the reader's thread.
+   *
+   * <p>By default, this is 0, i.e. readers don't read ahead.
+   *
+   * @param readAheadSize how many bytes to load ahead of readers, or 0 to disable read-ahead
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code readAheadSize} is negative
+   */
+  public SegmentedJournalBuilder withReadAheadSize(final int readAheadSize) {
+    checkArgument(readAheadSize >= 0, "readAheadSize must be positive or 0");
+    this.readAheadSize = readAheadSize;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -182,7 +201,12 @@ public class SegmentedJournalBuilder {
             journalMetrics,
             journalMetaStore);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+    final var prefetcher =
+        readAheadSize > 0
+            ? new SegmentPrefetcher(name, readAheadSize, journalMetrics)
+            : SegmentPrefetcher.noop();
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, segmentsFlusher, prefetcher);
   }
 }
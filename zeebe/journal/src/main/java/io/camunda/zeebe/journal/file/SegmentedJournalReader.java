@@ -28,10 +28,16 @@ class SegmentedJournalReader implements JournalReader {
   private Segment currentSegment;
   private SegmentReader currentReader;
   private final JournalMetrics metrics;
+  private final SegmentPrefetcher prefetcher;
+  private final int readAheadSize;
+  // position in the current segment up to which it was prefetched; -1 if nothing was prefetched
+  private int readAheadLimit = -1;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
     this.journal = journal;
     metrics = journalMetrics;
+    prefetcher = journal.prefetcher();
+    readAheadSize = prefetcher.readAheadSize();
     initialize();
   }
 
@@ -66,7 +72,9 @@ class SegmentedJournalReader implements JournalReader {
       throw new NoSuchElementException();
     }
 
-    return currentReader.next();
+    final var record = currentReader.next();
+    readAhead();
+    return record;
   }
 
   @Override
@@ -182,6 +190,7 @@ class SegmentedJournalReader implements JournalReader {
       currentReader.seek(index);
     }
 
+    readAheadLimit = -1;
     return getNextIndex();
   }
 
@@ -233,7 +242,10 @@ class SegmentedJournalReader implements JournalReader {
 
       final Segment nextSegment = journal.getNextSegment(currentSegment.index());
       if (nextSegment != null && nextSegment.index() == getNextIndex()) {
+        // the start of the next segment may already be prefetched when reading sequentially
+        final int nextReadAheadLimit = readAheadLimit - currentSegment.size();
         replaceCurrentSegment(nextSegment);
+        readAheadLimit = nextReadAheadLimit > 0 ? nextReadAheadLimit : -1;
         return currentReader.hasNext();
       }
       return false;
@@ -241,7 +253,45 @@ class SegmentedJournalReader implements JournalReader {
     return true;
   }
 
+  /**
+   * Keeps at least half of the read-ahead window prefetched ahead of the reader, such that ranges
+   * are prefetched in chunks of half the window. When the window reaches past the end of the
+   * current segment, the start of the next segment is prefetched too.
+   */
+  private void readAhead() {
+    if (readAheadSize == 0) {
+      return;
+    }
+
+    final int position = currentReader.position();
+    if (position < readAheadLimit - readAheadSize / 2) {
+      return;
+    }
+
+    if (readAheadLimit >= 0 && position > readAheadLimit) {
+      prefetcher.onReadAheadMiss();
+    }
+
+    final int from = Math.max(position, readAheadLimit);
+    final long to = (long) position + readAheadSize;
+    final int segmentSize = currentSegment.size();
+    if (from < segmentSize) {
+      prefetcher.prefetch(currentSegment, from, (int) (Math.min(to, segmentSize) - from));
+    }
+
+    if (to > segmentSize) {
+      final var nextSegment = journal.getNextSegment(currentSegment.index());
+      if (nextSegment != null) {
+        final int nextFrom = Math.max(0, readAheadLimit - segmentSize);
+        prefetcher.prefetch(nextSegment, nextFrom, (int) (to - segmentSize - nextFrom));
+      }
+    }
+
+    readAheadLimit = (int) Math.min(to, Integer.MAX_VALUE);
+  }
+
   private void replaceCurrentSegment(final Segment nextSegment) {
+    readAheadLimit = -1;
     if (currentSegment.equals(nextSegment)) {
       currentReader.reset();
       return;
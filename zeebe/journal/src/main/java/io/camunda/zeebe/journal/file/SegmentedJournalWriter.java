@@ -114,6 +114,8 @@ final class SegmentedJournalWriter {
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
     // the old truncated entry.
     currentSegment.resetLastEntryInDescriptor();
+    // The segment may have been sealed before; its index file would be stale after truncation
+    currentSegment.deletePersistedIndex();
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
@@ -128,6 +130,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.seal();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -384,6 +384,7 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        segment.loadPersistedIndex();
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -442,6 +443,7 @@ final class SegmentsManager implements AutoCloseable {
 
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
+      PersistedSegmentIndex.delete(PersistedSegmentIndex.indexFile(new SegmentFile(file)));
       try {
         Files.delete(file.toPath());
       } catch (final IOException e) {
@@ -17,6 +17,7 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 
@@ -29,6 +30,10 @@ final class SparseJournalIndex implements JournalIndex {
   // This is added to make deleteAfter and deleteUntil easier.
   // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
   private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  // Indexes of sealed segments, keyed by their first index. These are served from the mapped index
+  // files, and are not duplicated in the maps above.
+  private final ConcurrentNavigableMap<Long, PersistedSegmentIndex> segmentIndexes =
+      new ConcurrentSkipListMap<>();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -37,7 +42,8 @@ final class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
-    if (index % density == 0) {
+    // entries of sealed segments are served from their index files, even if a reader scans them
+    if (index % density == 0 && !isPersisted(index)) {
       indexToPosition.put(index, position);
       final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
@@ -50,7 +56,12 @@ final class SparseJournalIndex implements JournalIndex {
   @Override
   public IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final IndexInfo persisted = lookupPersisted(index);
+    if (entry == null || (persisted != null && persisted.index() > entry.getKey())) {
+      return persisted;
+    }
+
+    return new IndexInfo(entry.getKey(), entry.getValue());
   }
 
   @Override
@@ -60,15 +71,13 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final Long inMemory = lookupAsqnInMemory(asqn, indexUpperBound);
+    final Long persisted = lookupAsqnPersisted(asqn, indexUpperBound);
+    if (inMemory == null || (persisted != null && persisted > inMemory)) {
+      return persisted;
     }
-    return null;
+
+    return inMemory;
   }
 
   @Override
@@ -81,6 +90,8 @@ final class SparseJournalIndex implements JournalIndex {
       final boolean include = asqnEntryToDelete.getKey() > index;
       asqnToIndex.tailMap(asqnToDelete, include).clear();
     }
+
+    segmentIndexes.values().removeIf(segmentIndex -> segmentIndex.lastIndex() > index);
   }
 
   @Override
@@ -93,6 +104,8 @@ final class SparseJournalIndex implements JournalIndex {
       indexToAsqn.headMap(index, false).clear();
       asqnToIndex.headMap(asqnToDelete, false).clear();
     }
+
+    segmentIndexes.values().removeIf(segmentIndex -> segmentIndex.lastIndex() < index);
   }
 
   @Override
@@ -100,10 +113,15 @@ final class SparseJournalIndex implements JournalIndex {
     indexToPosition.clear();
     indexToAsqn.clear();
     asqnToIndex.clear();
+    segmentIndexes.clear();
   }
 
   @Override
   public boolean hasIndexed(final long index) {
+    if (isPersisted(index)) {
+      return true;
+    }
+
     final var indexInfo = lookup(index);
     if (indexInfo == null) {
       return false;
@@ -111,4 +129,99 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public PersistedSegmentIndex.Entries collect(final long firstIndex, final long lastIndex) {
+    if (lastIndex < firstIndex) {
+      return null;
+    }
+
+    final NavigableMap<Long, Integer> positions =
+        indexToPosition.subMap(firstIndex, true, lastIndex, true);
+    final long expectedCount = lastIndex / density - (firstIndex - 1) / density;
+    final int count = positions.size();
+    if (count != expectedCount) {
+      return null;
+    }
+
+    final long[] indexes = new long[count];
+    final int[] positionArray = new int[count];
+    int slot = 0;
+    for (final var entry : positions.entrySet()) {
+      indexes[slot] = entry.getKey();
+      positionArray[slot] = entry.getValue();
+      slot++;
+    }
+
+    final NavigableMap<Long, Long> asqns = indexToAsqn.subMap(firstIndex, true, lastIndex, true);
+    final int asqnCount = asqns.size();
+    final long[] asqnArray = new long[asqnCount];
+    final long[] asqnIndexes = new long[asqnCount];
+    slot = 0;
+    for (final var entry : asqns.entrySet()) {
+      asqnIndexes[slot] = entry.getKey();
+      asqnArray[slot] = entry.getValue();
+      slot++;
+    }
+
+    return new PersistedSegmentIndex.Entries(indexes, positionArray, asqnArray, asqnIndexes);
+  }
+
+  @Override
+  public void attach(final PersistedSegmentIndex segmentIndex) {
+    segmentIndexes.put(segmentIndex.firstIndex(), segmentIndex);
+
+    final long firstIndex = segmentIndex.firstIndex();
+    final long lastIndex = segmentIndex.lastIndex();
+    if (lastIndex < firstIndex) {
+      return;
+    }
+
+    final var asqns = indexToAsqn.subMap(firstIndex, true, lastIndex, true);
+    asqns.values().forEach(asqnToIndex::remove);
+    asqns.clear();
+    indexToPosition.subMap(firstIndex, true, lastIndex, true).clear();
+  }
+
+  /** Returns whether the given index belongs to a segment whose index file is attached. */
+  private boolean isPersisted(final long index) {
+    final var segmentIndex = segmentIndexes.floorEntry(index);
+    return segmentIndex != null && segmentIndex.getValue().lastIndex() >= index;
+  }
+
+  private Long lookupAsqnInMemory(final long asqn, final long indexUpperBound) {
+    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
+    if (entry != null) {
+      if (entry.getValue() <= indexUpperBound) {
+        return entry.getValue();
+      } else {
+        return indexToAsqn.floorKey(indexUpperBound);
+      }
+    }
+    return null;
+  }
+
+  private IndexInfo lookupPersisted(final long index) {
+    // the closest segment usually has an entry; only fall back to older segments if it does not
+    for (final var segmentIndex : segmentIndexes.headMap(index, true).descendingMap().values()) {
+      final var indexInfo = segmentIndex.lookup(index);
+      if (indexInfo != null) {
+        return indexInfo;
+      }
+    }
+
+    return null;
+  }
+
+  private Long lookupAsqnPersisted(final long asqn, final long indexUpperBound) {
+    for (final var segmentIndex :
+        segmentIndexes.headMap(indexUpperBound, true).descendingMap().values()) {
+      final var index = segmentIndex.lookupAsqn(asqn, indexUpperBound);
+      if (index != null) {
+        return index;
+      }
+    }
+
+    return null;
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class PersistedSegmentIndexTest {
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldLookupWrittenEntries() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.log.idx");
+    final var entries =
+        new PersistedSegmentIndex.Entries(
+            new long[] {5, 10, 15},
+            new int[] {64, 128, 256},
+            new long[] {3, 8},
+            new long[] {5, 15});
+
+    // when
+    PersistedSegmentIndex.write(indexFile, 1, 1, 17, entries);
+    final var segmentIndex = PersistedSegmentIndex.load(indexFile, 1, 1, 17);
+
+    // then
+    assertThat(segmentIndex).isNotNull();
+    assertThat(segmentIndex.lookup(4)).isNull();
+    assertThat(segmentIndex.lookup(5)).isEqualTo(new IndexInfo(5, 64));
+    assertThat(segmentIndex.lookup(14)).isEqualTo(new IndexInfo(10, 128));
+    assertThat(segmentIndex.lookup(17)).isEqualTo(new IndexInfo(15, 256));
+    assertThat(segmentIndex.lookupAsqn(2, Long.MAX_VALUE)).isNull();
+    assertThat(segmentIndex.lookupAsqn(7, Long.MAX_VALUE)).isEqualTo(5);
+    assertThat(segmentIndex.lookupAsqn(8, Long.MAX_VALUE)).isEqualTo(15);
+    assertThat(segmentIndex.lookupAsqn(8, 14)).isEqualTo(5);
+    assertThat(segmentIndex.lookupAsqn(8, 4)).isNull();
+  }
+
+  @Test
+  void shouldNotLoadMissingIndex() {
+    // when
+    final var segmentIndex =
+        PersistedSegmentIndex.load(directory.resolve("journal-1.log.idx"), 1, 1, 10);
+
+    // then
+    assertThat(segmentIndex).isNull();
+  }
+
+  @Test
+  void shouldNotLoadIndexOfOtherSegment() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.log.idx");
+    PersistedSegmentIndex.write(indexFile, 1, 1, 10, singleEntry());
+
+    // when
+    final var segmentIndex = PersistedSegmentIndex.load(indexFile, 1, 1, 12);
+
+    // then
+    assertThat(segmentIndex).isNull();
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldNotLoadIndexWithMismatchingChecksum() throws IOException {
+    // given
+    final var indexFile = directory.resolve("journal-1.log.idx");
+    PersistedSegmentIndex.write(indexFile, 1, 1, 10, singleEntry());
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length - Long.BYTES - 1] ^= 1;
+    Files.write(indexFile, content);
+
+    // when
+    final var segmentIndex = PersistedSegmentIndex.load(indexFile, 1, 1, 10);
+
+    // then
+    assertThat(segmentIndex).isNull();
+    assertThat(indexFile).doesNotExist();
+  }
+
+  @Test
+  void shouldServeLookupsFromAttachedIndex() throws IOException {
+    // given
+    final var journalIndex = new SparseJournalIndex(5);
+    for (int i = 1; i <= 12; i++) {
+      journalIndex.index(asJournalRecord(i, i), i * 10);
+    }
+    final var entries = journalIndex.collect(1, 10);
+    final var indexFile = directory.resolve("journal-1.log.idx");
+    PersistedSegmentIndex.write(indexFile, 1, 1, 10, entries);
+
+    // when
+    journalIndex.attach(PersistedSegmentIndex.load(indexFile, 1, 1, 10));
+
+    // then
+    assertThat(journalIndex.lookup(7)).isEqualTo(new IndexInfo(5, 50));
+    assertThat(journalIndex.lookup(12)).isEqualTo(new IndexInfo(10, 100));
+    assertThat(journalIndex.lookupAsqn(9)).isEqualTo(5);
+    assertThat(journalIndex.hasIndexed(9)).isTrue();
+  }
+
+  @Test
+  void shouldNotIndexEntriesOfAttachedSegmentInMemory() throws IOException {
+    // given
+    final var journalIndex = new SparseJournalIndex(5);
+    for (int i = 1; i <= 10; i++) {
+      journalIndex.index(asJournalRecord(i, i), i * 10);
+    }
+    final var indexFile = directory.resolve("journal-1.log.idx");
+    PersistedSegmentIndex.write(indexFile, 1, 1, 10, journalIndex.collect(1, 10));
+    journalIndex.attach(PersistedSegmentIndex.load(indexFile, 1, 1, 10));
+
+    // when - a reader scans the sealed segment again, and then the next segment
+    for (int i = 1; i <= 15; i++) {
+      journalIndex.index(asJournalRecord(i, i), i * 10);
+    }
+
+    // then
+    assertThat(journalIndex.hasIndexed(3)).isTrue();
+    assertThat(journalIndex.collect(1, 10)).isNull();
+    assertThat(journalIndex.lookup(7)).isEqualTo(new IndexInfo(5, 50));
+    assertThat(journalIndex.lookup(15)).isEqualTo(new IndexInfo(15, 150));
+  }
+
+  @Test
+  void shouldNotCollectPartiallyIndexedSegment() {
+    // given
+    final var journalIndex = new SparseJournalIndex(5);
+    journalIndex.index(asJournalRecord(10, 10), 100);
+
+    // when
+    final var entries = journalIndex.collect(1, 10);
+
+    // then
+    assertThat(entries).isNull();
+  }
+
+  private PersistedSegmentIndex.Entries singleEntry() {
+    return new PersistedSegmentIndex.Entries(
+        new long[] {5}, new int[] {64}, new long[] {1}, new long[] {5});
+  }
+}
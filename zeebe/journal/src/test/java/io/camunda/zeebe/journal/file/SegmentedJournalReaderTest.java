@@ -31,6 +31,7 @@ import java.nio.file.Path;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -175,6 +176,98 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldReadAheadOfSequentialReader() {
+    // given
+    final var readAheadJournal = buildJournal(directory.resolve("read-ahead"), entrySize() * 2);
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 5; i++) {
+      readAheadJournal.append(i, recordDataWriter);
+    }
+
+    // when
+    try (readAheadJournal;
+        final var readAheadReader = readAheadJournal.openReader()) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 5; i++) {
+        // then
+        assertThat(readAheadReader.hasNext()).isTrue();
+        assertThat(readAheadReader.next().index()).isEqualTo(i);
+      }
+      assertThat(readAheadReader.hasNext()).isFalse();
+
+      Awaitility.await("until the segments are prefetched")
+          .untilAsserted(
+              () ->
+                  assertThat(
+                          meterRegistry
+                              .get(JournalMetricsDoc.PREFETCH_DATA_RATE.getName())
+                              .counter()
+                              .count())
+                      .isPositive());
+    }
+  }
+
+  @Test
+  void shouldReadAheadAfterCompact() {
+    // given
+    final var readAheadJournal = buildJournal(directory.resolve("read-ahead"), entrySize() * 2);
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 5; i++) {
+      readAheadJournal.append(i, recordDataWriter);
+    }
+
+    try (readAheadJournal;
+        final var readAheadReader = readAheadJournal.openReader()) {
+      readAheadReader.next();
+
+      // when - compact while the reader is reading ahead in the first segments
+      final int indexToCompact = ENTRIES_PER_SEGMENT * 2 + 1;
+      readAheadJournal.deleteUntil(indexToCompact);
+      readAheadReader.seekToFirst();
+
+      // then
+      for (int i = indexToCompact; i <= ENTRIES_PER_SEGMENT * 5; i++) {
+        assertThat(readAheadReader.hasNext()).isTrue();
+        assertThat(readAheadReader.next().index()).isEqualTo(i);
+      }
+    }
+  }
+
+  @Test
+  void shouldCloseJournalWhileReadingAhead() {
+    // given
+    final var readAheadJournal =
+        buildJournal(directory.resolve("read-ahead"), entrySize() * ENTRIES_PER_SEGMENT);
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 5; i++) {
+      readAheadJournal.append(i, recordDataWriter);
+    }
+    final var readAheadReader = readAheadJournal.openReader();
+    final var firstSegment = readAheadJournal.getFirstSegment();
+    readAheadReader.next();
+
+    // when - the prefetcher may still be loading the segments
+    readAheadJournal.close();
+
+    // then
+    assertThat(firstSegment.isOpen()).isFalse();
+    assertThat(firstSegment.load(0, firstSegment.size()))
+        .describedAs("a closed segment is not loaded, as it may be unmapped")
+        .isTrue();
+  }
+
+  private SegmentedJournal buildJournal(final Path directory, final int readAheadSize) {
+    return SegmentedJournal.builder(meterRegistry)
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(
+            entrySize() * ENTRIES_PER_SEGMENT + SegmentDescriptorSerializer.currentEncodingLength())
+        .withJournalIndexDensity(ENTRIES_PER_SEGMENT / 2)
+        .withReadAheadSize(readAheadSize)
+        .withMetaStore(new MockJournalMetastore())
+        .build();
+  }
+
+  private int entrySize() {
+    return FrameUtil.getLength() + getSerializedSize(data);
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
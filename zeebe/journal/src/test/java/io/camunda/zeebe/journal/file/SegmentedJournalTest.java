@@ -33,7 +33,10 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -424,8 +427,9 @@ class SegmentedJournalTest {
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
 
-    // when
+    // when - without the index of the sealed segment, it has to be rebuilt by scanning
     journal.close();
+    deleteSegmentIndexFiles();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -436,6 +440,72 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldLoadIndexOfSealedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var firstLookup = journal.getJournalIndex().lookup(firstIndex);
+    final var secondLookup = journal.getJournalIndex().lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    assertThat(segmentIndexFiles()).hasSize(1);
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstLookup);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondLookup);
+    assertThat(indexAfterRestart.lookupAsqn(2)).isEqualTo(secondIndex);
+  }
+
+  @Test
+  void shouldRebuildIndexIfSegmentIndexIsCorrupted() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    // when
+    final var indexFile = segmentIndexFiles().getFirst();
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length - 1] ^= 1;
+    Files.write(indexFile, content);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(journal.getJournalIndex().lookup(firstIndex)).isNull();
+    final var reader = journal.openReader();
+    reader.seek(firstIndex);
+    assertThat(reader.next().asqn()).isOne();
+  }
+
+  @Test
+  void shouldDeleteSegmentIndexOnTruncation() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    assertThat(segmentIndexFiles()).hasSize(1);
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(segmentIndexFiles()).isEmpty();
+    assertThat(journal.getJournalIndex().lookup(2).index()).isOne();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -920,6 +990,20 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private List<Path> segmentIndexFiles() {
+    try (final var files = Files.list(directory.resolve("data"))) {
+      return files
+          .filter(file -> file.toString().endsWith(PersistedSegmentIndex.FILE_EXTENSION))
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void deleteSegmentIndexFiles() {
+    segmentIndexFiles().forEach(PersistedSegmentIndex::delete);
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
@@ -24,7 +24,9 @@ import java.io.Closeable;
 import java.time.InstantSource;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,14 +34,28 @@ import org.slf4j.LoggerFactory;
  * The sequencer takes concurrent {@link #tryWrite(WriteContext, List, long) tryWrite} calls and
  * serializes them, assigning positions to all entries. Writes that are accepted are written
  * directly to the {@link LogStorage}.
+ *
+ * <p>Writers don't take a lock: each writer claims the positions of its batch atomically, and then
+ * publishes the batch into a ring, in the slot of its first position. Whichever writer wins the
+ * {@link #draining} flag appends all consecutive published batches to the log storage, in the order
+ * of their positions, so the storage sees the same sequence of appends as if they were written
+ * under a lock. A write may return before its batch is appended, if a writer which claimed lower
+ * positions has not published its batch yet; that writer appends it once it publishes.
  */
 final class Sequencer implements LogStreamWriter, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
+  // must be a power of two; bounds how far writers can claim positions ahead of the storage
+  private static final int RING_CAPACITY = 1 << 12;
+  private static final int RING_MASK = RING_CAPACITY - 1;
   private final int maxFragmentSize;
 
-  private volatile long position;
+  // the next position to claim
+  private final AtomicLong position;
+  // the next position to append; only advanced by the writer holding the draining flag
+  private volatile long appendPosition;
   private volatile boolean isClosed = false;
-  private final ReentrantLock lock = new ReentrantLock();
+  private final AtomicReferenceArray<PendingBatch> ring = new AtomicReferenceArray<>(RING_CAPACITY);
+  private final AtomicBoolean draining = new AtomicBoolean();
   private final LogStorage logStorage;
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
@@ -55,7 +71,8 @@ final class Sequencer implements LogStreamWriter, Closeable {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
-    position = initialPosition;
+    position = new AtomicLong(initialPosition);
+    appendPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
@@ -107,19 +124,23 @@ final class Sequencer implements LogStreamWriter, Closeable {
     final int batchSize = appendEntries.size();
     final int batchLength = calculateBatchLength(appendEntries);
 
-    lock.lock();
+    final var lowestPosition = position.getAndAdd(batchSize);
+    final var highestPosition = lowestPosition + batchSize - 1;
     try {
-      final var currentPosition = position;
-      final var highestPosition = currentPosition + batchSize - 1;
-      final var sequencedBatch =
-          new SequencedBatch(
-              clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
-      flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
-      position = currentPosition + batchSize;
+      // wait until the slot of the batch is free, helping to append the batches before it; the
+      // batch holding the lowest claimed position always has a free slot, so this terminates
+      while (lowestPosition - appendPosition >= RING_CAPACITY) {
+        drain();
+        Thread.onSpinWait();
+      }
+
+      ring.set(
+          slot(lowestPosition),
+          new PendingBatch(
+              inFlightEntry, sourcePosition, appendEntries, batchSize, batchLength));
+      drain();
       return Either.right(highestPosition);
     } finally {
-      lock.unlock();
       sequencerMetrics.observeBatchLengthBytes(batchLength);
       sequencerMetrics.observeBatchSize(batchSize);
     }
@@ -135,7 +156,57 @@ final class Sequencer implements LogStreamWriter, Closeable {
     isClosed = true;
   }
 
+  /**
+   * Appends all published batches following the last appended one, in the order of their positions.
+   * Only one writer drains at a time; if another writer is draining, it also appends the batches
+   * published meanwhile, as it checks the ring again after releasing the draining flag.
+   */
+  private void drain() {
+    while (draining.compareAndSet(false, true)) {
+      try {
+        var nextPosition = appendPosition;
+        PendingBatch batch;
+        while ((batch = ring.get(slot(nextPosition))) != null) {
+          append(nextPosition, batch);
+          ring.set(slot(nextPosition), null);
+          nextPosition += batch.size();
+          appendPosition = nextPosition;
+        }
+      } finally {
+        draining.set(false);
+      }
+
+      if (ring.get(slot(appendPosition)) == null) {
+        return;
+      }
+    }
+  }
+
+  private void append(final long lowestPosition, final PendingBatch batch) {
+    final var highestPosition = lowestPosition + batch.size() - 1;
+    final var sequencedBatch =
+        new SequencedBatch(
+            clock.millis(),
+            lowestPosition,
+            batch.sourcePosition(),
+            batch.entries(),
+            batch.length());
+    flowControl.onAppend(batch.inFlightEntry(), highestPosition);
+    logStorage.append(lowestPosition, highestPosition, sequencedBatch, flowControl);
+  }
+
+  private static int slot(final long position) {
+    return (int) (position & RING_MASK);
+  }
+
   private static boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null && entry.recordMetadata() != null;
   }
+
+  private record PendingBatch(
+      InFlightEntry inFlightEntry,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int size,
+      int length) {}
 }
@@ -21,6 +21,7 @@ import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.InstantSource;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.LockSupport;
@@ -247,6 +248,40 @@ final class SequencerTest {
     Assertions.assertThat(testFailures).isEmpty();
   }
 
+  @Test
+  void maintainsPositionWithManyWritersAndMixedBatchSizes() throws InterruptedException {
+    // given
+    final var numberOfWriters = 32;
+    final var logStorage = new VerifyingLogStorage();
+    final var logStreamMetrics = new LogStreamMetrics(new SimpleMeterRegistry());
+    final var sequencer =
+        new Sequencer(
+            logStorage,
+            1,
+            16,
+            InstantSource.system(),
+            new SequencerMetrics(new SimpleMeterRegistry()),
+            new FlowControl(logStreamMetrics));
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when -- start many writers, writing batches of different sizes
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      final var entries = Collections.nCopies(i % 4 + 1, TestEntry.ofDefaults());
+      writers[i] = newWriterThread(sequencer, 1, 10_000, entries, false, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then -- VerifyingLogStorage did not throw, and all batches were appended
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position).isEqualTo(numberOfWriters / 4 * 10_000L * 10);
+  }
+
   private Thread newWriterThread(
       final Sequencer sequencer,
       final long initialPosition,
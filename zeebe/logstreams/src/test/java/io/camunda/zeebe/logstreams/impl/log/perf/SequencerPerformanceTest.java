@@ -0,0 +1,210 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log.perf;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.log.LockingSequencer;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of concurrent writers appending through the sequencer of a log stream,
+ * compared to the previous implementation which serializes all writes through a lock, see {@link
+ * LockingSequencer}. Each benchmark method runs with a different number of writers. The log
+ * storage only acknowledges the appends, such that the sequencer itself is measured.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SequencerPerformanceTest {
+
+  @Param({"LOCK_FREE", "LOCKING"})
+  private Implementation implementation;
+
+  @Param({"1", "3"})
+  private int entriesPerBatch;
+
+  private LogStream logStream;
+  private LogStreamWriter writer;
+  private List<LogAppendEntry> batch;
+
+  @Setup
+  public void setup() {
+    final var logStorage = new AcknowledgingLogStorage();
+    logStream =
+        LogStream.builder()
+            .withPartitionId(1)
+            .withLogName("sequencer-perf")
+            .withLogStorage(logStorage)
+            .withClock(InstantSource.system())
+            .withWriteRateLimit(RateLimit.disabled())
+            .withMeterRegistry(new SimpleMeterRegistry())
+            .build();
+    logStorage.flowControl = logStream.getFlowControl();
+
+    writer =
+        switch (implementation) {
+          case LOCK_FREE -> logStream.newLogStreamWriter();
+          case LOCKING -> LockingSequencer.create(logStorage, logStream.getFlowControl());
+        };
+    batch = Collections.nCopies(entriesPerBatch, TestEntry.ofDefaults());
+  }
+
+  @TearDown
+  public void tearDown() {
+    logStream.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Either<WriteFailure, Long> writeWith1Writer() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(2)
+  public Either<WriteFailure, Long> writeWith2Writers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Either<WriteFailure, Long> writeWith4Writers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Either<WriteFailure, Long> writeWith8Writers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Either<WriteFailure, Long> writeWith16Writers() {
+    return write();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public Either<WriteFailure, Long> writeWith32Writers() {
+    return write();
+  }
+
+  @JMHTest("writeWith8Writers")
+  void shouldWriteWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score for 8 concurrent writers
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 500_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("implementation", "LOCK_FREE").param("entriesPerBatch", "1"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private Either<WriteFailure, Long> write() {
+    return writer.tryWrite(WriteContext.internal(), batch);
+  }
+
+  public enum Implementation {
+    LOCK_FREE,
+    LOCKING
+  }
+
+  /**
+   * Acknowledges every append right away, and marks it as processed, such that flow control does
+   * not accumulate in-flight entries. It's empty for readers, so the log stream starts writing at
+   * the first position.
+   */
+  private static final class AcknowledgingLogStorage implements LogStorage {
+    private volatile FlowControl flowControl;
+
+    @Override
+    public LogStorageReader newReader() {
+      return new EmptyLogStorageReader();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(highestPosition, highestPosition);
+      listener.onCommit(highestPosition, highestPosition);
+      flowControl.onProcessed(highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+
+  private static final class EmptyLogStorageReader implements LogStorageReader {
+
+    @Override
+    public void seek(final long position) {}
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNext() {
+      return false;
+    }
+
+    @Override
+    public DirectBuffer next() {
+      throw new NoSuchElementException();
+    }
+  }
+}
@@ -21,6 +21,7 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
+  private PropertyLookup propertyLookup;
 
   /**
    * Creates a new ObjectValue
@@ -34,6 +35,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyLookup = null;
     return this;
   }
 
@@ -96,23 +98,18 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    if (propertyLookup == null) {
+      propertyLookup = PropertyLookup.of(this, declaredProperties);
+    }
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      final int slot = propertyLookup.find(decodedKey, declaredProperties);
+      if (slot >= 0) {
+        prop = declaredProperties.get(slot);
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
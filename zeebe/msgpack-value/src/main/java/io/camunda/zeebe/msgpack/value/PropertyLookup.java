@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * Maps the encoded key of a declared property to its slot in {@link ObjectValue}'s declared
+ * properties, so that decoding a key does not have to compare it against every declared property.
+ *
+ * <p>The table is an open addressing hash table, where the hash is derived from the key's length
+ * and a few of its bytes. As such, computing it does not depend on the length of the key, and a
+ * lookup usually compares the decoded key only once against the matching declared key.
+ *
+ * <p>Tables only depend on the keys of the declared properties, which are the same for all
+ * instances of a given {@link ObjectValue} type. They are therefore built once per type, and shared
+ * by all instances declaring the same keys in the same order.
+ */
+final class PropertyLookup {
+
+  private static final int EMPTY = -1;
+  private static final ClassValue<AtomicReference<PropertyLookup>> LOOKUPS =
+      new ClassValue<>() {
+        @Override
+        protected AtomicReference<PropertyLookup> computeValue(final Class<?> type) {
+          return new AtomicReference<>();
+        }
+      };
+
+  private final DirectBuffer[] keys;
+  private final int[] slots;
+  private final int mask;
+
+  private PropertyLookup(final List<? extends BaseProperty<?>> declaredProperties) {
+    final int size = declaredProperties.size();
+    keys = new DirectBuffer[size];
+    slots = new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, size * 2))];
+    mask = slots.length - 1;
+    Arrays.fill(slots, EMPTY);
+
+    for (int slot = 0; slot < size; slot++) {
+      final StringValue key = declaredProperties.get(slot).getKey();
+      keys[slot] = BufferUtil.cloneBuffer(key.getValue(), 0, key.getLength());
+
+      int index = hash(key) & mask;
+      while (slots[index] != EMPTY) {
+        index = (index + 1) & mask;
+      }
+      slots[index] = slot;
+    }
+  }
+
+  /**
+   * Returns the lookup table for the declared properties of the given object. The table of the
+   * object's type is reused if it was built for the same keys, otherwise a new one is built.
+   */
+  static PropertyLookup of(
+      final ObjectValue object, final List<? extends BaseProperty<?>> declaredProperties) {
+    final var sharedLookup = LOOKUPS.get(object.getClass());
+    final var lookup = sharedLookup.get();
+    if (lookup != null && lookup.matches(declaredProperties)) {
+      return lookup;
+    }
+
+    final var newLookup = new PropertyLookup(declaredProperties);
+    sharedLookup.compareAndSet(null, newLookup);
+    return newLookup;
+  }
+
+  /**
+   * @return the slot of the declared property with the given key, or -1 if there is none
+   */
+  int find(final StringValue key, final List<? extends BaseProperty<?>> declaredProperties) {
+    int index = hash(key) & mask;
+    int slot;
+    while ((slot = slots[index]) != EMPTY) {
+      if (declaredProperties.get(slot).getKey().equals(key)) {
+        return slot;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return EMPTY;
+  }
+
+  private boolean matches(final List<? extends BaseProperty<?>> declaredProperties) {
+    if (keys.length != declaredProperties.size()) {
+      return false;
+    }
+
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (!BufferUtil.equals(keys[slot], declaredProperties.get(slot).getKey().getValue())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int hash(final StringValue key) {
+    final int length = key.getLength();
+    if (length == 0) {
+      return 0;
+    }
+
+    final DirectBuffer bytes = key.getValue();
+    int hash = length;
+    hash = 31 * hash + bytes.getByte(0);
+    hash = 31 * hash + bytes.getByte(length >> 1);
+    hash = 31 * hash + bytes.getByte(length - 1);
+    return hash ^ (hash >>> 16);
+  }
+}
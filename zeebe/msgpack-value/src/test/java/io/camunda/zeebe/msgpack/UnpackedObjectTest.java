@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.msgpack;
 
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.msgpack.property.BooleanProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
@@ -127,4 +130,100 @@ public class UnpackedObjectTest {
       assertThat(newSchemaObject.getLength()).isEqualTo(length);
     }
   }
+
+  @Nested
+  class PropertyDispatch {
+
+    @Test
+    void shouldReadKeysWhichOnlyDifferInFewBytes() {
+      // given - keys of the same length with the same first, middle and last byte
+      final var first = new LongProperty("abcXe");
+      final var second = new LongProperty("abcYe");
+      final var third = new LongProperty("abcZe");
+      final var object = new UnpackedObject(3);
+      object.declareProperty(first).declareProperty(second).declareProperty(third);
+
+      final var buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(4);
+                w.writeString(wrapString("abcZe"));
+                w.writeInteger(3L);
+                w.writeString(wrapString("abcWe"));
+                w.writeInteger(4L);
+                w.writeString(wrapString("abcXe"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("abcYe"));
+                w.writeInteger(2L);
+              });
+
+      // when
+      object.wrap(buffer);
+
+      // then
+      assertThat(first.getValue()).isEqualTo(1L);
+      assertThat(second.getValue()).isEqualTo(2L);
+      assertThat(third.getValue()).isEqualTo(3L);
+      assertThat(object.getLength()).isEqualTo(buffer.capacity());
+    }
+
+    @Test
+    void shouldReadObjectsOfSameTypeWithDifferentProperties() {
+      // given
+      final var foo = new LongProperty("foo", 0L);
+      final var fooObject = new UnpackedObject(1);
+      fooObject.declareProperty(foo);
+
+      final var bar = new LongProperty("bar", 0L);
+      final var barObject = new UnpackedObject(1);
+      barObject.declareProperty(bar);
+
+      final var buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(2);
+                w.writeString(wrapString("foo"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("bar"));
+                w.writeInteger(2L);
+              });
+
+      // when
+      fooObject.wrap(buffer);
+      barObject.wrap(buffer);
+
+      // then
+      assertThat(foo.getValue()).isEqualTo(1L);
+      assertThat(bar.getValue()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReadPropertyDeclaredAfterFirstRead() {
+      // given
+      final var foo = new LongProperty("foo", 0L);
+      final var bar = new LongProperty("bar", 0L);
+      final var object = new UnpackedObject(2);
+      object.declareProperty(foo);
+
+      final var buffer =
+          encodeMsgPack(
+              (w) -> {
+                w.writeMapHeader(2);
+                w.writeString(wrapString("foo"));
+                w.writeInteger(1L);
+                w.writeString(wrapString("bar"));
+                w.writeInteger(2L);
+              });
+      object.wrap(buffer);
+
+      // when
+      object.declareProperty(bar);
+      object.wrap(buffer);
+
+      // then
+      assertThat(foo.getValue()).isEqualTo(1L);
+      assertThat(bar.getValue()).isEqualTo(2L);
+      assertThat(object.getLength()).isEqualTo(buffer.capacity());
+    }
+  }
 }
@@ -23,6 +23,7 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.protocol.record.value.deployment.ProcessMetadataValue;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * This class is used in the DeploymentRecord, only to send the process meta information back to the
@@ -42,8 +43,12 @@ public final class ProcessMetadata extends UnifiedRecordValue implements Process
   private final LongProperty deploymentKeyProp = new LongProperty("deploymentKey", -1);
   private final StringProperty versionTagProp = new StringProperty("versionTag", "");
 
+  // the compiled form of the process, used by the engine only - property should not be exported
+  private final BinaryProperty executableProcessProp =
+      new BinaryProperty("executableProcess", new UnsafeBuffer());
+
   public ProcessMetadata() {
-    super(9);
+    super(10);
     declareProperty(bpmnProcessIdProp)
         .declareProperty(versionProp)
         .declareProperty(keyProp)
@@ -52,7 +57,8 @@ public final class ProcessMetadata extends UnifiedRecordValue implements Process
         .declareProperty(isDuplicateProp)
         .declareProperty(tenantIdProp)
         .declareProperty(deploymentKeyProp)
-        .declareProperty(versionTagProp);
+        .declareProperty(versionTagProp)
+        .declareProperty(executableProcessProp);
   }
 
   @Override
@@ -177,6 +183,16 @@ public final class ProcessMetadata extends UnifiedRecordValue implements Process
     return resourceNameProp.getValue();
   }
 
+  @JsonIgnore
+  public DirectBuffer getExecutableProcessBuffer() {
+    return executableProcessProp.getValue();
+  }
+
+  public ProcessMetadata setExecutableProcess(final DirectBuffer executableProcess) {
+    executableProcessProp.setValue(executableProcess);
+    return this;
+  }
+
   public ProcessMetadata setBpmnProcessId(
       final DirectBuffer bpmnProcessId, final int offset, final int length) {
     bpmnProcessIdProp.setValue(bpmnProcessId, offset, length);
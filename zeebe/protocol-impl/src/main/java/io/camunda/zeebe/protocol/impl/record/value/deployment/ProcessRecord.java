@@ -35,8 +35,12 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
   private final LongProperty deploymentKeyProp = new LongProperty("deploymentKey", -1);
   private final StringProperty versionTagProp = new StringProperty("versionTag", "");
 
+  // the compiled form of the process, used by the engine only - property should not be exported
+  private final BinaryProperty executableProcessProp =
+      new BinaryProperty("executableProcess", new UnsafeBuffer());
+
   public ProcessRecord() {
-    super(9);
+    super(10);
     declareProperty(bpmnProcessIdProp)
         .declareProperty(versionProp)
         .declareProperty(keyProp)
@@ -45,7 +49,8 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
         .declareProperty(resourceProp)
         .declareProperty(tenantIdProp)
         .declareProperty(deploymentKeyProp)
-        .declareProperty(versionTagProp);
+        .declareProperty(versionTagProp)
+        .declareProperty(executableProcessProp);
   }
 
   public ProcessRecord wrap(final ProcessMetadata metadata, final byte[] resource) {
@@ -58,6 +63,7 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
     tenantIdProp.setValue(metadata.getTenantId());
     deploymentKeyProp.setValue(metadata.getDeploymentKey());
     versionTagProp.setValue(metadata.getVersionTag());
+    executableProcessProp.setValue(metadata.getExecutableProcessBuffer());
     return this;
   }
 
@@ -204,6 +210,20 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
     return resourceProp.getValue();
   }
 
+  /**
+   * @return the compiled form of the process, created when the process was deployed, or an empty
+   *     buffer if it has none
+   */
+  @JsonIgnore
+  public DirectBuffer getExecutableProcessBuffer() {
+    return executableProcessProp.getValue();
+  }
+
+  public ProcessRecord setExecutableProcess(final DirectBuffer executableProcess) {
+    executableProcessProp.setValue(executableProcess);
+    return this;
+  }
+
   @Override
   public String getTenantId() {
     return BufferUtil.bufferAsString(tenantIdProp.getValue());
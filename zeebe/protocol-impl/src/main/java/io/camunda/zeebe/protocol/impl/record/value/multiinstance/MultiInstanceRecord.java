@@ -9,23 +9,33 @@ package io.camunda.zeebe.protocol.impl.record.value.multiinstance;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.msgpack.value.BinaryValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.MultiInstanceRecordValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 
 public class MultiInstanceRecord extends UnifiedRecordValue implements MultiInstanceRecordValue {
   private static final StringValue INPUT_COLLECTION = new StringValue("inputCollection");
+  private static final DirectBuffer NIL_VALUE = BufferUtil.wrapArray(MsgPackHelper.NIL);
   private final ArrayProperty<BinaryValue> inputCollectionProperty =
       new ArrayProperty<>(INPUT_COLLECTION, BinaryValue::new);
+  private final IntegerProperty loopCounterProperty = new IntegerProperty("loopCounter", -1);
+  private final BinaryProperty outputElementProperty =
+      new BinaryProperty("outputElement", NIL_VALUE);
 
   public MultiInstanceRecord() {
-    super(1);
-    declareProperty(inputCollectionProperty);
+    super(3);
+    declareProperty(inputCollectionProperty)
+        .declareProperty(loopCounterProperty)
+        .declareProperty(outputElementProperty);
   }
 
   @JsonIgnore
@@ -45,4 +55,29 @@ public class MultiInstanceRecord extends UnifiedRecordValue implements MultiInst
         });
     return this;
   }
+
+  @Override
+  public int getLoopCounter() {
+    return loopCounterProperty.getValue();
+  }
+
+  public MultiInstanceRecord setLoopCounter(final int loopCounter) {
+    loopCounterProperty.setValue(loopCounter);
+    return this;
+  }
+
+  @Override
+  public String getOutputElement() {
+    return MsgPackConverter.convertToJson(outputElementProperty.getValue());
+  }
+
+  public MultiInstanceRecord setOutputElement(final DirectBuffer outputElement) {
+    outputElementProperty.setValue(outputElement);
+    return this;
+  }
+
+  @JsonIgnore
+  public DirectBuffer getOutputElementBuffer() {
+    return outputElementProperty.getValue();
+  }
 }
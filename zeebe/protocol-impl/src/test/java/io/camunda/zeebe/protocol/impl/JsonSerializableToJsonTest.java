@@ -3595,10 +3595,14 @@ final class JsonSerializableToJsonTest {
                         List.of(
                             new UnsafeBuffer(MsgPackConverter.convertToMsgPack("1")),
                             new UnsafeBuffer(MsgPackConverter.convertToMsgPack("2")),
-                            new UnsafeBuffer(MsgPackConverter.convertToMsgPack("3")))),
+                            new UnsafeBuffer(MsgPackConverter.convertToMsgPack("3"))))
+                    .setLoopCounter(2)
+                    .setOutputElement(new UnsafeBuffer(MsgPackConverter.convertToMsgPack("4"))),
         """
       {
-        "inputCollection": ["1", "2", "3"]
+        "inputCollection": ["1", "2", "3"],
+        "loopCounter": 2,
+        "outputElement": "4"
       }
       """
       },
@@ -3610,7 +3614,9 @@ final class JsonSerializableToJsonTest {
         (Supplier<MultiInstanceRecord>) MultiInstanceRecord::new,
         """
       {
-        "inputCollection": []
+        "inputCollection": [],
+        "loopCounter": -1,
+        "outputElement": "null"
       }
       """
       },
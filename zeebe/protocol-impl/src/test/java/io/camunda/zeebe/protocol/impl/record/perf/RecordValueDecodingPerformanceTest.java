@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.perf;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding the msgpack encoded values of the largest and most frequent records, as done
+ * for every record read from the log, every state lookup and every exporter pass.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class RecordValueDecodingPerformanceTest {
+
+  @Param({"PROCESS_INSTANCE", "JOB", "USER_TASK"})
+  private RecordValueType recordValueType;
+
+  private UnpackedObject value;
+  private DirectBuffer encodedValue;
+
+  @Setup
+  public void setup() {
+    final var encoded = recordValueType.create();
+    final var buffer = new UnsafeBuffer(new byte[encoded.getLength()]);
+    encoded.write(buffer, 0);
+
+    encodedValue = buffer;
+    value = recordValueType.newInstance();
+  }
+
+  @Benchmark
+  public UnpackedObject measureDecoding() {
+    value.wrap(encodedValue);
+    return value;
+  }
+
+  @JMHTest("measureDecoding")
+  void shouldDecodeJobRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score, allowing a few microseconds to decode the few dozen
+    // properties of a job record
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 200_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("recordValueType", "JOB")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  public enum RecordValueType {
+    PROCESS_INSTANCE(
+        ProcessInstanceRecord::new,
+        () ->
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("order-process")
+                .setVersion(3)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("ship-order")
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+                .setFlowScopeKey(2251799813685251L)
+                .setTenantId("<default>")),
+    JOB(
+        JobRecord::new,
+        () ->
+            new JobRecord()
+                .setType("ship-order")
+                .setWorker("order-worker")
+                .setRetries(3)
+                .setDeadline(1_700_000_000_000L)
+                .setBpmnProcessId("order-process")
+                .setProcessDefinitionVersion(3)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("ship-order")
+                .setElementInstanceKey(2251799813685260L)
+                .setTenantId("<default>")),
+    USER_TASK(
+        UserTaskRecord::new,
+        () ->
+            new UserTaskRecord()
+                .setUserTaskKey(2251799813685270L)
+                .setAssignee("demo")
+                .setDueDate("2024-01-01T00:00:00Z")
+                .setPriority(50)
+                .setBpmnProcessId("order-process")
+                .setProcessDefinitionVersion(3)
+                .setProcessDefinitionKey(2251799813685249L)
+                .setProcessInstanceKey(2251799813685251L)
+                .setElementId("approve-order")
+                .setElementInstanceKey(2251799813685260L)
+                .setCreationTimestamp(1_700_000_000_000L)
+                .setTenantId("<default>"));
+
+    private final Supplier<UnpackedObject> newInstance;
+    private final Supplier<UnpackedObject> create;
+
+    RecordValueType(
+        final Supplier<UnpackedObject> newInstance, final Supplier<UnpackedObject> create) {
+      this.newInstance = newInstance;
+      this.create = create;
+    }
+
+    UnpackedObject newInstance() {
+      return newInstance.get();
+    }
+
+    UnpackedObject create() {
+      return create.get();
+    }
+  }
+}
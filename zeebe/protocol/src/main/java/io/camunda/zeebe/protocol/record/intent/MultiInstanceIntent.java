@@ -16,7 +16,8 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MultiInstanceIntent implements ProcessInstanceRelatedIntent {
-  INPUT_COLLECTION_EVALUATED(0);
+  INPUT_COLLECTION_EVALUATED(0),
+  OUTPUT_ELEMENT_COLLECTED(1);
 
   final short value;
 
@@ -25,10 +26,14 @@ public enum MultiInstanceIntent implements ProcessInstanceRelatedIntent {
   }
 
   public static Intent from(final short value) {
-    if (value == 0) {
-      return INPUT_COLLECTION_EVALUATED;
+    switch (value) {
+      case 0:
+        return INPUT_COLLECTION_EVALUATED;
+      case 1:
+        return OUTPUT_ELEMENT_COLLECTED;
+      default:
+        return Intent.UNKNOWN;
     }
-    return Intent.UNKNOWN;
   }
 
   @Override
@@ -24,6 +24,12 @@ import org.immutables.value.Value;
 /**
  * Represents a job batch related event or command.
  *
+ * <p>A job batch is used to activate jobs, and to complete several jobs of a partition at once. To
+ * complete jobs, the job at each index of {@link #getJobs()} holds the variables to complete the
+ * job with the key at the same index of {@link #getJobKeys()}, and the job type is empty. If the
+ * completion of a job is rejected, the rejection reason is the error message of the job in the
+ * {@link JobBatchIntent#COMPLETED} event.
+ *
  * <p>See {@link JobBatchIntent} for intents.
  */
 @Value.Immutable
@@ -32,4 +32,13 @@ public interface MultiInstanceRecordValue extends RecordValue {
 
   /** Returns the input collection */
   List<String> getInputCollection();
+
+  /**
+   * Returns the loop counter of the inner instance whose output element was collected, or -1 if the
+   * record does not refer to an inner instance
+   */
+  int getLoopCounter();
+
+  /** Returns the output element of the inner instance, serialized as JSON */
+  String getOutputElement();
 }
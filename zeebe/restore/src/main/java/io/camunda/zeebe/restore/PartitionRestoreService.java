@@ -13,6 +13,7 @@ import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.Journal;
@@ -28,10 +29,15 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +52,8 @@ public class PartitionRestoreService {
   private final int brokerId;
   private final CRC32CChecksumProvider checksumProvider;
   private final MeterRegistry meterRegistry;
+  private final Executor downloadExecutor;
+  private final RestoreMetrics metrics;
 
   public PartitionRestoreService(
       final BackupStore backupStore,
@@ -53,6 +61,20 @@ public class PartitionRestoreService {
       final int brokerId,
       final CRC32CChecksumProvider checksumProvider,
       final MeterRegistry meterRegistry) {
+    this(backupStore, partition, brokerId, checksumProvider, meterRegistry, Runnable::run);
+  }
+
+  /**
+   * @param downloadExecutor the executor to download backups on; it bounds the number of backups
+   *     which are downloaded concurrently when it's shared between partitions
+   */
+  public PartitionRestoreService(
+      final BackupStore backupStore,
+      final RaftPartition partition,
+      final int brokerId,
+      final CRC32CChecksumProvider checksumProvider,
+      final MeterRegistry meterRegistry,
+      final Executor downloadExecutor) {
     this.backupStore = backupStore;
     partitionId = partition.id().id();
     rootDirectory = partition.dataDirectory().toPath();
@@ -60,6 +82,8 @@ public class PartitionRestoreService {
     this.brokerId = brokerId;
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
     this.meterRegistry = meterRegistry;
+    this.downloadExecutor = Objects.requireNonNull(downloadExecutor);
+    metrics = new RestoreMetrics(meterRegistry);
   }
 
   /**
@@ -75,6 +99,9 @@ public class PartitionRestoreService {
    * Downloads backups, restores them to the partition's data directory. Backups are truncated to
    * checkpoint positions.
    *
+   * <p>The next backup is downloaded while the records of the current one are copied, such that at
+   * most two backups of the partition are on disk at the same time.
+   *
    * @param backupIds ids of the backups to restore from
    */
   public void restore(final long[] backupIds, final BackupValidator validator)
@@ -87,27 +114,35 @@ public class PartitionRestoreService {
     }
     validateAndSortBackupIds(backupIds);
 
+    CompletableFuture<Backup> nextDownload = null;
     try (final var restoredJournal =
-        SegmentedJournal.builder(partition.getMeterRegistry())
-            .withDirectory(rootDirectory.toFile())
-            .withName(partition.name())
-            .withMetaStore(new InMemory())
-            .build()) {
+            SegmentedJournal.builder(partition.getMeterRegistry())
+                .withDirectory(rootDirectory.toFile())
+                .withName(partition.name())
+                .withMetaStore(new InMemory())
+                .build();
+        final var ignored = metrics.startPartitionRestore()) {
+      nextDownload = downloadAsync(backupIds[0], validator);
       Backup previousBackup = null;
-      for (final var backupId : backupIds) {
-        final var restoreTarget =
-            rootDirectory.resolve("restoring-partition" + partitionId + "-backup-" + backupId);
-        FileUtil.ensureDirectoryExists(restoreTarget);
-        final var backup = download(backupId, restoreTarget, validator);
+      for (int i = 0; i < backupIds.length; i++) {
+        final var backup = await(nextDownload);
+        nextDownload = i + 1 < backupIds.length ? downloadAsync(backupIds[i + 1], validator) : null;
+
         if (previousBackup == null) {
           // Only take the first snapshot, all others are redundant because we have the full log.
           moveSnapshotFiles(backup);
         }
+        final var restoreTarget = restoreTarget(backupIds[i]);
         copyBetweenCheckpoints(previousBackup, backup, restoreTarget, restoredJournal);
         previousBackup = backup;
         FileUtil.deleteFolder(restoreTarget);
       }
       restoredJournal.flush();
+    } finally {
+      // don't leave a download behind which still writes to the data directory
+      if (nextDownload != null) {
+        nextDownload.exceptionally(error -> null).join();
+      }
     }
 
     // TODO: As an additional consistency check:
@@ -234,10 +269,60 @@ public class PartitionRestoreService {
     }
   }
 
+  private CompletableFuture<Backup> downloadAsync(
+      final long checkpointId, final BackupValidator validator) {
+    return CompletableFuture.supplyAsync(
+        () -> download(checkpointId, restoreTarget(checkpointId), validator), downloadExecutor);
+  }
+
   private Backup download(
       final long checkpointId, final Path tempRestoringDirectory, final BackupValidator validator) {
     final var validBackup = findValidBackup(checkpointId, validator);
-    return backupStore.restore(validBackup, tempRestoringDirectory).join();
+    try (final var ignored = metrics.startDownload()) {
+      FileUtil.ensureDirectoryExists(tempRestoringDirectory);
+      final var startTime = System.nanoTime();
+      // the store downloads the files concurrently, and verifies their checksums while doing so
+      final var backup = backupStore.restore(validBackup, tempRestoringDirectory).join();
+      final var elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+
+      final var bytes = sizeOf(backup.snapshot()) + sizeOf(backup.segments());
+      final var seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+      metrics.downloaded(bytes);
+      LOG.info(
+          "Downloaded backup {} of partition {}, {} bytes in {} ({} MiB/s)",
+          checkpointId,
+          partitionId,
+          bytes,
+          elapsed,
+          "%.1f".formatted(bytes / seconds / (1024 * 1024)));
+      return backup;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path restoreTarget(final long backupId) {
+    return rootDirectory.resolve("restoring-partition" + partitionId + "-backup-" + backupId);
+  }
+
+  private static long sizeOf(final NamedFileSet fileSet) throws IOException {
+    long size = 0;
+    for (final var file : fileSet.files()) {
+      size += Files.size(file);
+    }
+    return size;
+  }
+
+  /** Waits for the download, rethrowing its failure as is, e.g. an invalid backup. */
+  private static Backup await(final CompletableFuture<Backup> download) {
+    try {
+      return download.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
   private BackupIdentifier findValidBackup(
@@ -41,24 +41,51 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class RestoreManager {
+  /** The default number of backups which are downloaded concurrently, across all partitions. */
+  public static final int DEFAULT_CONCURRENT_DOWNLOADS = 8;
+
   private static final Logger LOG = LoggerFactory.getLogger(RestoreManager.class);
   private final BrokerCfg configuration;
   private final BackupStore backupStore;
   private final MeterRegistry meterRegistry;
+  private final int concurrentDownloads;
+  private final RestoreMetrics metrics;
+  private final AtomicInteger restoredPartitions = new AtomicInteger();
 
   public RestoreManager(
       final BrokerCfg configuration,
       final BackupStore backupStore,
       final MeterRegistry meterRegistry) {
+    this(configuration, backupStore, DEFAULT_CONCURRENT_DOWNLOADS, meterRegistry);
+  }
+
+  /**
+   * @param concurrentDownloads the maximum number of backups which are downloaded concurrently,
+   *     across all partitions
+   */
+  public RestoreManager(
+      final BrokerCfg configuration,
+      final BackupStore backupStore,
+      final int concurrentDownloads,
+      final MeterRegistry meterRegistry) {
+    if (concurrentDownloads < 1) {
+      throw new IllegalArgumentException(
+          "Expected to download at least one backup at a time, but was " + concurrentDownloads);
+    }
+
     this.configuration = configuration;
     this.backupStore = backupStore;
+    this.concurrentDownloads = concurrentDownloads;
     this.meterRegistry = meterRegistry;
+    metrics = new RestoreMetrics(meterRegistry);
   }
 
   public void restore(
@@ -79,15 +106,28 @@ public class RestoreManager {
     }
 
     final var partitionsToRestore = collectPartitions();
+    metrics.setPartitionsToRestore(partitionsToRestore.size());
+    restoredPartitions.set(0);
 
+    // partitions are restored concurrently, while the downloads, which dominate the duration of a
+    // restore, are bounded to not overload the backup store and the network
     try (final var executor =
-        Executors.newThreadPerTaskExecutor(
-            Thread.ofVirtual().name("zeebe-restore-", 0).factory())) {
+            Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("zeebe-restore-", 0).factory());
+        final var downloadExecutor =
+            Executors.newFixedThreadPool(
+                concurrentDownloads,
+                Thread.ofVirtual().name("zeebe-restore-download-", 0).factory())) {
       final var tasks = new ArrayList<Callable<Void>>(partitionsToRestore.size());
       for (final var partition : partitionsToRestore) {
         tasks.add(
             () -> {
-              restorePartition(partition, backupIds, validateConfig);
+              restorePartition(partition, backupIds, validateConfig, downloadExecutor);
+              LOG.info(
+                  "Restored {} of {} partitions",
+                  restoredPartitions.incrementAndGet(),
+                  partitionsToRestore.size());
+              metrics.partitionRestored();
               return null;
             });
       }
@@ -134,7 +174,8 @@ public class RestoreManager {
   private void restorePartition(
       final InstrumentedRaftPartition partition,
       final long[] backupIds,
-      final boolean validateConfig)
+      final boolean validateConfig,
+      final Executor downloadExecutor)
       throws IOException, FlushException {
     final BackupValidator validator;
     final RaftPartition raftPartition = partition.partition();
@@ -153,7 +194,8 @@ public class RestoreManager {
             partition.partition(),
             configuration.getCluster().getNodeId(),
             new ChecksumProviderRocksDBImpl(),
-            partition.registry());
+            partition.registry(),
+            downloadExecutor);
     try {
       restoreService.restore(backupIds, validator);
       LOG.info(
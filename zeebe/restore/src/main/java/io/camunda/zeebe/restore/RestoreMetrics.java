@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.DOWNLOADED_BYTES;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.DOWNLOAD_DURATION;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.PARTITIONS_TO_RESTORE;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.PARTITION_RESTORE_DURATION;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.RESTORED_PARTITIONS;
+
+import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Reports the progress and throughput of a restore. The meters are registered on first use, such
+ * that the broker wide meters and the per partition meters can be reported to different
+ * registries.
+ */
+final class RestoreMetrics {
+
+  private final MeterRegistry registry;
+
+  RestoreMetrics(final MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  void setPartitionsToRestore(final int count) {
+    StatefulGauge.builder(PARTITIONS_TO_RESTORE.getName())
+        .description(PARTITIONS_TO_RESTORE.getDescription())
+        .register(registry)
+        .set(count);
+  }
+
+  void partitionRestored() {
+    Counter.builder(RESTORED_PARTITIONS.getName())
+        .description(RESTORED_PARTITIONS.getDescription())
+        .register(registry)
+        .increment();
+  }
+
+  void downloaded(final long bytes) {
+    Counter.builder(DOWNLOADED_BYTES.getName())
+        .description(DOWNLOADED_BYTES.getDescription())
+        .baseUnit(DOWNLOADED_BYTES.getBaseUnit())
+        .register(registry)
+        .increment(bytes);
+  }
+
+  CloseableSilently startDownload() {
+    return startTimer(MicrometerUtil.buildTimer(DOWNLOAD_DURATION).register(registry));
+  }
+
+  CloseableSilently startPartitionRestore() {
+    return startTimer(MicrometerUtil.buildTimer(PARTITION_RESTORE_DURATION).register(registry));
+  }
+
+  private CloseableSilently startTimer(final Timer timer) {
+    return MicrometerUtil.timer(timer, Timer.start(registry.config().clock()));
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+@SuppressWarnings("NullableProblems")
+public enum RestoreMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of partitions of this broker which are restored */
+  PARTITIONS_TO_RESTORE {
+    @Override
+    public String getDescription() {
+      return "Number of partitions of this broker which are restored";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.partitions.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+  },
+
+  /** Number of partitions of this broker which were restored successfully */
+  RESTORED_PARTITIONS {
+    @Override
+    public String getDescription() {
+      return "Number of partitions of this broker which were restored successfully";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.partitions.restored";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+  },
+
+  /** Number of bytes downloaded from the backup store, per partition */
+  DOWNLOADED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes downloaded from the backup store, per partition";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.downloaded.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+  },
+
+  /** Time it took to download a backup of a partition from the backup store */
+  DOWNLOAD_DURATION {
+    @Override
+    public String getDescription() {
+      return "Time it took to download a backup of a partition from the backup store";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.download.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return RESTORE_SLOS;
+    }
+  },
+
+  /** Time it took to restore a partition, from downloading its backups to flushing its journal */
+  PARTITION_RESTORE_DURATION {
+    @Override
+    public String getDescription() {
+      return "Time it took to restore a partition, from downloading its backups to flushing its"
+          + " journal";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.partition.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return RESTORE_SLOS;
+    }
+  };
+
+  private static final Duration[] RESTORE_SLOS =
+      Stream.of(1, 10, 30, 60, 5 * 60, 15 * 60, 30 * 60, 60 * 60)
+          .map(Duration::ofSeconds)
+          .toArray(Duration[]::new);
+}
@@ -18,6 +18,9 @@ import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
 import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupConfig;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStore;
+import io.camunda.zeebe.backup.filesystem.FilesystemBackupStoreException.ContentMismatch;
 import io.camunda.zeebe.backup.management.BackupService;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalMetaStore;
@@ -45,7 +48,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterAll;
@@ -93,11 +98,7 @@ class PartitionRestoreServiceTest {
             0, partitionId, dataDirectory, snapshotPath -> Map.of(), meterRegistry);
     actorScheduler.submitActor(snapshotStore, SchedulingHints.IO_BOUND);
 
-    final var partitionMetadata =
-        new PartitionMetadata(
-            PartitionId.from("raft", partitionId), Set.of(), Map.of(), 1, new MemberId("1"));
-    final var raftPartition =
-        new RaftPartition(partitionMetadata, null, dataDirectoryToRestore.toFile(), meterRegistry);
+    final var raftPartition = newRaftPartition();
     restoreService =
         new PartitionRestoreService(
             backupStore, raftPartition, nodeId, snapshotPath -> Map.of(), meterRegistry);
@@ -174,6 +175,39 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldDownloadOnGivenExecutor() {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "checkpoint");
+    takeSnapshot(1, 1);
+    final long backupId = 2;
+    takeBackup(backupId, 2);
+
+    final var downloads = new AtomicInteger();
+    final var service =
+        new PartitionRestoreService(
+            backupStore,
+            newRaftPartition(),
+            nodeId,
+            snapshotPath -> Map.of(),
+            meterRegistry,
+            task -> {
+              downloads.incrementAndGet();
+              new Thread(task).start();
+            });
+
+    // when
+    service.restore(backupId, BackupValidator.none());
+
+    // then
+    assertThat(downloads).hasValue(1);
+    assertThat(meterRegistry.get(RestoreMetricsDoc.DOWNLOADED_BYTES.getName()).counter().count())
+        .isPositive();
+    assertThat(meterRegistry.get(RestoreMetricsDoc.DOWNLOAD_DURATION.getName()).timer().count())
+        .isOne();
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
@@ -215,6 +249,45 @@ class PartitionRestoreServiceTest {
         .isInstanceOf(CorruptedSnapshotException.class);
   }
 
+  @Test
+  void shouldFailToRestoreWhenBackupFileIsCorrupted(@TempDir final Path backupDirectory)
+      throws IOException {
+    // given - a backup in a store which verifies the contents while restoring them
+    appendRecord(1, "data");
+    appendRecord(2, "checkpoint");
+    takeSnapshot(1, 1);
+    final long backupId = 2;
+    final var backup = takeBackup(backupId, 2);
+    final var store =
+        FilesystemBackupStore.of(
+            new FilesystemBackupConfig(backupDirectory.toString()),
+            Executors.newVirtualThreadPerTaskExecutor());
+    store.save(backup).join();
+    final var service =
+        new PartitionRestoreService(
+            store, newRaftPartition(), nodeId, snapshotPath -> Map.of(), meterRegistry);
+
+    // corrupt the stored contents of the backup
+    try (final var objects = Files.list(backupDirectory.resolve("objects/" + partitionId))) {
+      final var contents =
+          objects
+              .filter(Files::isRegularFile)
+              .filter(path -> !path.getFileName().toString().startsWith("."))
+              .toList();
+      for (final var object : contents) {
+        Files.write(object, "corrupted".getBytes(), StandardOpenOption.APPEND);
+      }
+    }
+
+    // when - then
+    try {
+      assertThatThrownBy(() -> service.restore(backupId, new ValidatePartitionCount(1)))
+          .isInstanceOf(ContentMismatch.class);
+    } finally {
+      store.closeAsync().join();
+    }
+  }
+
   @Test
   void shouldFailToRestoreWhenPartitionCountIsDifferent() {
     // given
@@ -246,6 +319,14 @@ class PartitionRestoreServiceTest {
     return restoredSegmentFiles;
   }
 
+  private RaftPartition newRaftPartition() {
+    final var partitionMetadata =
+        new PartitionMetadata(
+            PartitionId.from("raft", partitionId), Set.of(), Map.of(), 1, new MemberId("1"));
+    return new RaftPartition(
+        partitionMetadata, null, dataDirectoryToRestore.toFile(), meterRegistry);
+  }
+
   private Backup takeBackup(final long backupId, final long checkpointPosition) {
     final var backup =
         backupStore.waitForBackup(new BackupIdentifierImpl(nodeId, partitionId, backupId));
@@ -41,4 +41,12 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * @return true if the chunk does not carry the file's content, but only references a file with
+   *     the same name and checksum which the receiver already holds in its latest snapshot
+   */
+  default boolean isFileReference() {
+    return false;
+  }
 }
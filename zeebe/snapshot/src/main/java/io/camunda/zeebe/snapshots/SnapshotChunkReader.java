@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver already holds, mapped to their checksum. Files with the same
+   * name and checksum are then not sent again, but only referenced, such that the receiver can
+   * reuse its own copy. The files are forgotten on {@link #reset()}.
+   *
+   * @param fileChecksums the checksums of the files held by the receiver, by file name
+   */
+  default void setReceiverFiles(final Map<String, Long> fileChecksums) {}
 }
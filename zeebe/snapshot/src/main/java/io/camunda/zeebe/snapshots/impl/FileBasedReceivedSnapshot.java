@@ -20,6 +20,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
@@ -87,7 +88,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isFileReference()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -99,14 +102,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+
+    if (snapshotChunk.isFileReference()) {
+      LOGGER.trace("Link referenced file {} of snapshot {}", chunkName, snapshotId);
+      linkReferencedFile(snapshotChunk, snapshotFile);
+      checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+      return;
+    }
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    updateChecksum(snapshotChunk, snapshotFile);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -117,6 +126,67 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void updateChecksum(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var content = snapshotChunk.getContent();
+    if (content.length == snapshotChunk.getTotalFileSize()) {
+      checksumCollection.updateFromBytes(snapshotFile.getFileName().toString(), content);
+      return;
+    }
+
+    // a file split into multiple chunks is only complete once its last chunk is written; its
+    // checksum must cover the whole file, so that the file can be referenced again by the sender
+    if (snapshotChunk.getFileBlockPosition() + content.length == snapshotChunk.getTotalFileSize()) {
+      try {
+        checksumCollection.updateFromFile(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to compute checksum of snapshot file %s", snapshotFile), e);
+      }
+    }
+  }
+
+  /**
+   * Links the file referenced by the given chunk from the latest persisted snapshot, which must
+   * hold a file with the same name, checksum and size. Snapshot files are never modified once
+   * persisted, so both snapshots can safely share the file.
+   */
+  private void linkReferencedFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to link referenced file %s, but there is no snapshot to link it from",
+                            chunkName)));
+
+    final var sourceFile = latestSnapshot.getPath().resolve(chunkName);
+    final var sourceChecksum = latestSnapshot.getChecksums().getChecksums().get(chunkName);
+    try {
+      if (sourceChecksum == null
+          || sourceChecksum != snapshotChunk.getChecksum()
+          || Files.size(sourceFile) != snapshotChunk.getTotalFileSize()) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to link referenced file %s with checksum %d from snapshot %s, but it has checksum %s",
+                chunkName, snapshotChunk.getChecksum(), latestSnapshot.getId(), sourceChecksum));
+      }
+
+      Files.deleteIfExists(snapshotFile);
+      Files.createLink(snapshotFile, sourceFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Failed to link referenced file %s from snapshot %s",
+              chunkName, latestSnapshot.getId()),
+          e);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
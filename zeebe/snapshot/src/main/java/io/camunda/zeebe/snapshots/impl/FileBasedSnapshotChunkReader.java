@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.IOException;
@@ -15,6 +16,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,24 +24,42 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If the checksums of the files are known, whole files which the receiver already holds with the
+ * same checksum (see {@link #setReceiverFiles(Map)}) are only referenced instead of being read and
+ * sent again. The metadata file is always sent, as the receiver reads it from the received chunks.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> checksums;
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private Map<String, Long> receiverFiles = Map.of();
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
   }
 
+  FileBasedSnapshotChunkReader(final Path directory, final ImmutableChecksumsSFV checksums)
+      throws IOException {
+    this(directory, Long.MAX_VALUE, checksums);
+  }
+
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, null);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final ImmutableChecksumsSFV checksums)
+      throws IOException {
     this.directory = directory;
+    this.checksums = checksums == null ? Map.of() : checksums.getChecksums();
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -60,6 +80,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    receiverFiles = Map.of();
   }
 
   @Override
@@ -89,6 +110,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReceiverFiles(final Map<String, Long> fileChecksums) {
+    receiverFiles = fileChecksums;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -103,6 +129,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
+    if (offset == 0 && isHeldByReceiver(fileName)) {
+      return nextFileReference(fileName);
+    }
+
     final var filePath = directory.resolve(fileName).toString();
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
@@ -125,4 +155,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private boolean isHeldByReceiver(final String fileName) {
+    if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+      return false;
+    }
+
+    final var checksum = checksums.get(fileName);
+    return checksum != null && checksum.equals(receiverFiles.get(fileName));
+  }
+
+  private SnapshotChunk nextFileReference(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+
+      return SnapshotChunkUtil.createFileReferenceChunk(
+          snapshotID, totalCount, fileName, checksums.get(fileName), fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
@@ -35,7 +35,28 @@ final class SnapshotChunkUtil {
 
     final long checksum = createChecksum(fileData);
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, fileName, checksum, fileData, fileBlockPosition, totalFileSize);
+        snapshotId,
+        totalCount,
+        fileName,
+        checksum,
+        fileData,
+        fileBlockPosition,
+        totalFileSize,
+        false);
+  }
+
+  /**
+   * Creates a chunk which references a whole file instead of carrying its content. The checksum is
+   * the checksum of the whole file, as found in the snapshot's checksum file.
+   */
+  static SnapshotChunk createFileReferenceChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String fileName,
+      final long fileChecksum,
+      final long totalFileSize) {
+    return new SnapshotChunkImpl(
+        snapshotId, totalCount, fileName, fileChecksum, new byte[0], 0, totalFileSize, true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -46,6 +67,7 @@ final class SnapshotChunkUtil {
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
+    private final boolean fileReference;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -54,7 +76,8 @@ final class SnapshotChunkUtil {
         final long checksum,
         final byte[] content,
         final long fileBlockPosition,
-        final long totalFileSize) {
+        final long totalFileSize,
+        final boolean fileReference) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
@@ -62,6 +85,7 @@ final class SnapshotChunkUtil {
       this.content = content;
       this.fileBlockPosition = fileBlockPosition;
       this.totalFileSize = totalFileSize;
+      this.fileReference = fileReference;
     }
 
     @Override
@@ -98,5 +122,10 @@ final class SnapshotChunkUtil {
     public long getTotalFileSize() {
       return totalFileSize;
     }
+
+    @Override
+    public boolean isFileReference() {
+      return fileReference;
+    }
   }
 }
@@ -347,6 +347,86 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldComputeChecksumOfWholeFileWhenFilesAreChunked() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldLinkReferencedFilesFromLatestSnapshot() throws IOException {
+    // given
+    final var firstPersistedSnapshot = takePersistedSnapshot(1L);
+    final var firstReceivedSnapshot = receiveSnapshot(firstPersistedSnapshot).persist().join();
+    final var secondPersistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondPersistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = secondPersistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReceiverFiles(firstReceivedSnapshot.getChecksums().getChecksums());
+
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        assertThat(chunk.isFileReference())
+            .isEqualTo(!chunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME));
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("file1"),
+                firstReceivedSnapshot.getPath().resolve("file1")))
+        .isTrue();
+
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(secondPersistedSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file1"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file1"));
+  }
+
+  @Test
+  public void shouldNotLinkReferencedFileWithoutMatchingFile() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var checksums = persistedSnapshot.getChecksums().getChecksums();
+
+    // when
+    final var referenceChunk =
+        SnapshotChunkUtil.createFileReferenceChunk(
+            persistedSnapshot.getId(),
+            checksums.size(),
+            "file1",
+            checksums.get("file1"),
+            SNAPSHOT_FILE_CONTENTS.get("file1").length());
+
+    // then
+    assertThatCode(() -> receivedSnapshot.apply(referenceChunk).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class)
+        .hasMessageContaining("there is no snapshot to link it from");
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
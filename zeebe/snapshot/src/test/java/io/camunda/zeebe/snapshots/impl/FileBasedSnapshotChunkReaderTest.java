@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -332,6 +333,40 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReferenceFilesHeldByReceiver() throws IOException {
+    // given
+    final var reader = newReaderWithChecksums();
+    final var checksums = checksumsOf(snapshotDirectory).getChecksums();
+    reader.setReceiverFiles(Map.of("file1", checksums.get("file1"), "file3", 0L));
+
+    // when
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::isFileReference)
+        .containsExactly(tuple("file1", true), tuple("file2", false), tuple("file3", false));
+    assertThat(chunks.getFirst().getContent()).isEmpty();
+    assertThat(chunks.getFirst().getChecksum()).isEqualTo(checksums.get("file1"));
+    assertThat(chunks.getFirst().getTotalFileSize()).isEqualTo("this".length());
+    assertThat(chunks.get(2).getContent()).isEqualTo("content".getBytes());
+  }
+
+  @Test
+  public void shouldNotReferenceFilesAfterReset() throws IOException {
+    // given
+    final var reader = newReaderWithChecksums();
+    reader.setReceiverFiles(checksumsOf(snapshotDirectory).getChecksums());
+
+    // when
+    reader.reset();
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks).noneMatch(SnapshotChunk::isFileReference);
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -358,6 +393,19 @@ public final class FileBasedSnapshotChunkReaderTest {
     return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
   }
 
+  private FileBasedSnapshotChunkReader newReaderWithChecksums() throws IOException {
+    newReader().close();
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, checksumsOf(snapshotDirectory));
+  }
+
+  private SfvChecksumImpl checksumsOf(final Path directory) throws IOException {
+    final var checksums = new SfvChecksumImpl();
+    for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
+      checksums.updateFromFile(directory.resolve(chunk));
+    }
+    return checksums;
+  }
+
   private FileBasedSnapshotChunkReader newReader() throws IOException {
     return newReader(Long.MAX_VALUE);
   }
@@ -105,4 +105,14 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the processing transaction was rolled back, before the batch is
+   * processed again with fewer commands or before {@link #onProcessingError(Throwable, TypedRecord,
+   * ProcessingResultBuilder)} is called.
+   *
+   * <p>Implementors must discard any in-memory state which was derived from the rolled back
+   * changes.
+   */
+  default void onRollback() {}
 }
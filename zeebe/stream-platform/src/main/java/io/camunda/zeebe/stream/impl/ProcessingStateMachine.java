@@ -441,6 +441,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -34,7 +35,9 @@ import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.metrics.ReplayMetrics;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -71,11 +74,18 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   // current iteration
   private long lastSourceEventPosition = StreamProcessor.UNSET_POSITION;
   private long batchSourceEventPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
 
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
 
+  // positions of the last committed transaction, to read all its batches again on retry
+  private long committedReadRecordPosition = StreamProcessor.UNSET_POSITION;
+  private long committedReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  private long committedSeekPosition;
+  private Batch currentBatch;
+
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
   private final StreamProcessorMode streamProcessorMode;
@@ -85,7 +95,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final BooleanSupplier shouldPause;
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
+  private final Map<ValueType, RecordProcessor> recordProcessorByValueType =
+      new EnumMap<>(ValueType.class);
   private final int partitionId;
+  private final int maxEventsInReplayTransaction;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -107,6 +120,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(context.getMeterRegistry());
+    maxEventsInReplayTransaction = context.getMaxEventsInReplayTransaction();
   }
 
   /**
@@ -121,6 +135,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     this.snapshotPosition = snapshotPosition;
     lastSourceEventPosition =
         snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION;
+    committedSeekPosition = snapshotPosition;
 
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
@@ -159,22 +174,22 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(this::tryToReplayBatches, abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
                     throw new RuntimeException(
                         "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
+                            .formatted(currentBatch.current(), typedEvent.getMetadata()),
                         failure);
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                        Math.max(lastSourceEventPosition, transactionSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
                     actor.submit(this::replayNextEvent);
                   }
@@ -196,27 +211,50 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the next batches in a single transaction, until at least {@code
+   * maxEventsInReplayTransaction} events are read, no further batch is available, or the replay
+   * should pause. A batch is never split across transactions, and the transaction is always
+   * committed before returning, so that the state is consistent between actor jobs.
+   */
+  private boolean tryToReplayBatches() throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      // reading all batches of the transaction from the beginning again
+      lastReadRecordPosition = committedReadRecordPosition;
+      lastReplayedEventPosition = committedReplayedEventPosition;
+      logStreamBatchReader.seekToNextBatch(committedSeekPosition);
     }
 
+    transactionSourceEventPosition = StreamProcessor.UNSET_POSITION;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
-          batch.forEachRemaining(this::replayEvent);
-
-          if (batchSourceEventPosition > snapshotPosition) {
-            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          int readEvents = 0;
+          do {
+            currentBatch = logStreamBatchReader.next();
+            while (currentBatch.hasNext()) {
+              replayEvent(currentBatch.next());
+              readEvents++;
+            }
+            transactionSourceEventPosition =
+                Math.max(transactionSourceEventPosition, batchSourceEventPosition);
+          } while (readEvents < maxEventsInReplayTransaction
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean());
+
+          if (transactionSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(transactionSourceEventPosition);
           }
         });
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
 
+    committedReadRecordPosition = lastReadRecordPosition;
+    committedReplayedEventPosition = lastReplayedEventPosition;
+    committedSeekPosition = lastReadRecordPosition;
     return true;
   }
 
@@ -228,12 +266,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
+      final var processor = getRecordProcessor(currentTypedEvent);
       processor.replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
@@ -241,6 +274,21 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     onRecordReplayed(currentEvent);
   }
 
+  private RecordProcessor getRecordProcessor(final TypedRecord<?> currentTypedEvent) {
+    final var processor =
+        recordProcessorByValueType.computeIfAbsent(
+            currentTypedEvent.getValueType(),
+            valueType ->
+                recordProcessors.stream()
+                    .filter(p -> p.accepts(valueType))
+                    .findFirst()
+                    .orElse(null));
+    if (processor == null) {
+      throw NoSuchProcessorException.forRecord(currentTypedEvent);
+    }
+    return processor;
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
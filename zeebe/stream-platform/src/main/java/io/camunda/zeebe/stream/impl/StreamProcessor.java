@@ -337,7 +337,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   }
 
   private long recoverFromSnapshot() {
-    final TransactionContext transactionContext = zeebeDb.createContext();
+    final TransactionContext transactionContext = zeebeDb.createCachedContext();
     streamProcessorContext.transactionContext(transactionContext);
     streamProcessorContext.keyGeneratorControls(
         new DbKeyGenerator(partitionId, zeebeDb, transactionContext));
@@ -147,6 +147,11 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxEventsInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxEventsInReplayTransaction()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +159,12 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxEventsInReplayTransaction(
+      final int maxEventsInReplayTransaction) {
+    streamProcessorContext.maxEventsInReplayTransaction(maxEventsInReplayTransaction);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
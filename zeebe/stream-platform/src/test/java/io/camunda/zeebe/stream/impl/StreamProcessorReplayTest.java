@@ -164,6 +164,34 @@ final class StreamProcessorReplayTest {
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
 
+  @Test
+  void shouldRestoreFromLogWhenReplayingAllBatchesInOneTransaction() {
+    // given
+    final var lastCommandPosition = writeCommandAndEventBatches(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayTransaction(100));
+
+    // then
+    verifyRestoredPositions(streamProcessor, lastCommandPosition);
+  }
+
+  @Test
+  void shouldRestoreFromLogWhenReplayingEachBatchInOwnTransaction() {
+    // given
+    final var lastCommandPosition = writeCommandAndEventBatches(3);
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxEventsInReplayTransaction(1));
+
+    // then
+    verifyRestoredPositions(streamProcessor, lastCommandPosition);
+  }
+
   @Test
   void shouldRestoreFromSnapshot() throws Exception {
     // given
@@ -331,6 +359,44 @@ final class StreamProcessorReplayTest {
                     .isEqualTo(positionInSnapshot));
   }
 
+  private long writeCommandAndEventBatches(final int count) {
+    long lastCommandPosition = -1;
+    for (int i = 1; i <= count; i++) {
+      final var eventPosition =
+          streamPlatform.writeBatch(
+              RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+              RecordToWrite.event()
+                  .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+                  .key(Protocol.encodePartitionId(1, i))
+                  .causedBy(0));
+      lastCommandPosition = eventPosition - 1;
+    }
+    return lastCommandPosition;
+  }
+
+  private void verifyRestoredPositions(
+      final StreamProcessor streamProcessor, final long lastCommandPosition) {
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, timeout(TIMEOUT_MILLIS).times(3)).replay(any());
+    verify(recordProcessor, never()).process(any(), any());
+
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastWrittenPositionAsync().join())
+                    .isEqualTo(lastCommandPosition + 1));
+
+    // state has to be updated
+    assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition())
+        .isEqualTo(lastCommandPosition);
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(3L);
+  }
+
   private static void verifyProcessingErrorLifecycle(final RecordProcessor processorWhichFails) {
     final var inOrder = inOrder(processorWhichFails);
     inOrder.verify(processorWhichFails, TIMEOUT).init(any());
@@ -213,6 +213,7 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
@@ -1424,12 +1425,51 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  void shouldCallOnRollbackBeforeRetryingBatchWithFewerCommands() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var processingError =
+        new ExceededBatchRecordSizeException(mock(RecordBatchEntry.class), 10, 1, 1);
+    final var resultBuilderCaptor = ArgumentCaptor.forClass(ProcessingResultBuilder.class);
+    when(defaultRecordProcessor.process(any(), resultBuilderCaptor.capture()))
+        .thenAnswer(
+            (invocation) -> {
+              final var resultBuilder = resultBuilderCaptor.getValue();
+              resultBuilder.appendRecordReturnEither(
+                  1,
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.COMMAND)
+                      .intent(COMPLETE_ELEMENT)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            })
+        .thenThrow(processingError)
+        .thenAnswer((invocation) -> resultBuilderCaptor.getValue().build());
+    streamPlatform.startStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then - the follow-up command exceeds the batch, so the batch is rolled back and the command
+    // is processed again without it
+    final var inOrder = inOrder(defaultRecordProcessor);
+    inOrder.verify(defaultRecordProcessor, TIMEOUT.times(2)).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    verify(defaultRecordProcessor, never()).onProcessingError(any(), any(), any());
+  }
+
   @Test
   void shouldRemoveCachedScheduledCommandOnProcess() {
     // given
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl.perf;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.stream.api.EmptyProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.StreamPlatform;
+import io.camunda.zeebe.stream.util.DefaultZeebeDbFactory;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the stream processor replays a log of {@link #BATCH_COUNT} batches, each
+ * consisting of a command and its follow-up event, into an empty state. Every replayed event writes
+ * one entry to the state, similar to an event applier.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ReplayPerformanceTest {
+
+  private static final int BATCH_COUNT = 10_000;
+
+  @Param({"1", "1000"})
+  private int maxEventsInReplayTransaction;
+
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+  private StreamPlatform streamPlatform;
+
+  @Setup
+  public void setup() throws IOException {
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+    closeables.add(actorScheduler);
+
+    final var dataDirectory = Files.createTempDirectory("replay-perf");
+    closeables.add(() -> FileUtil.deleteFolderIfExists(dataDirectory));
+
+    streamPlatform =
+        new StreamPlatform(
+            dataDirectory,
+            closeables,
+            actorScheduler,
+            DefaultZeebeDbFactory.defaultFactory(),
+            InstantSource.system());
+    streamPlatform.withRecordProcessors(new ArrayList<>(List.of(new StateWritingProcessor())));
+
+    for (int i = 1; i <= BATCH_COUNT; i++) {
+      streamPlatform.writeBatch(
+          RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)),
+          RecordToWrite.event()
+              .processInstance(ELEMENT_ACTIVATING, Records.processInstance(i))
+              .key(Protocol.encodePartitionId(1, i))
+              .causedBy(0));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    Collections.reverse(closeables);
+    CloseHelper.quietCloseAll(closeables);
+  }
+
+  @Benchmark
+  public long measureReplayThroughput() throws Exception {
+    // the processor replays the whole log on every start, as its state is deleted on close
+    streamPlatform.resetMockInvocations();
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.maxEventsInReplayTransaction(maxEventsInReplayTransaction));
+    final long lastProcessedPosition = streamProcessor.getLastProcessedPositionAsync().join();
+    streamPlatform.closeStreamProcessor();
+    return lastProcessedPosition;
+  }
+
+  @JMHTest("measureReplayThroughput")
+  void shouldReplayWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative ops/s score; each operation replays the whole log
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("maxEventsInReplayTransaction", "1000"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static final class StateWritingProcessor implements RecordProcessor {
+
+    private final DbLong eventKey = new DbLong();
+    private final DbLong eventPosition = new DbLong();
+    private ColumnFamily<DbLong, DbLong> positionByKey;
+
+    @Override
+    public void init(final RecordProcessorContext recordProcessorContext) {
+      positionByKey =
+          recordProcessorContext
+              .getZeebeDb()
+              .createColumnFamily(
+                  ZbColumnFamilies.DEFAULT,
+                  recordProcessorContext.getTransactionContext(),
+                  eventKey,
+                  eventPosition);
+    }
+
+    @Override
+    public boolean accepts(final ValueType valueType) {
+      return true;
+    }
+
+    @Override
+    public void replay(final TypedRecord record) {
+      eventKey.wrapLong(record.getKey());
+      eventPosition.wrapLong(record.getPosition());
+      positionByKey.upsert(eventKey, eventPosition);
+    }
+
+    @Override
+    public ProcessingResult process(
+        final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
+      return EmptyProcessingResult.INSTANCE;
+    }
+
+    @Override
+    public ProcessingResult onProcessingError(
+        final Throwable processingException,
+        final TypedRecord record,
+        final ProcessingResultBuilder processingResultBuilder) {
+      return EmptyProcessingResult.INSTANCE;
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.camunda.zeebe.protocol.record.intent.ClockIntent;
 import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.MultiInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.AdHocSubProcessInstructionRecordValue;
 import io.camunda.zeebe.protocol.record.value.AsyncRequestRecordValue;
 import io.camunda.zeebe.protocol.record.value.AuthorizationRecordValue;
@@ -1232,6 +1233,14 @@ public class CompactRecordLogger {
 
   private String summarizeMultiInstance(final Record<?> record) {
     final var value = (MultiInstanceRecordValue) record.getValue();
+    if (record.getIntent() == MultiInstanceIntent.OUTPUT_ELEMENT_COLLECTED) {
+      return new StringBuilder()
+          .append("loopCounter: ")
+          .append(value.getLoopCounter())
+          .append(", outputElement: ")
+          .append(value.getOutputElement())
+          .toString();
+    }
     return new StringBuilder()
         .append("inputCollection: ")
         .append(value.getInputCollection())
@@ -53,6 +53,72 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of reads of cached column families, by whether they were served from the cache */
+  CACHE_ACCESSES {
+    private static final KeyName[] KEYS =
+        new KeyName[] {
+          PartitionKeyNames.PARTITION,
+          ColumnFamilyMetricsKeyName.COLUMN_FAMILY,
+          ColumnFamilyMetricsKeyName.CACHE_RESULT
+        };
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.accesses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of reads of cached column families, by whether they were served from the cache";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of values of cached column families evicted from the cache */
+  CACHE_EVICTIONS {
+    private static final KeyName[] KEYS =
+        new KeyName[] {PartitionKeyNames.PARTITION, ColumnFamilyMetricsKeyName.COLUMN_FAMILY};
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.evictions";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of values of cached column families evicted from the cache";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -77,6 +143,16 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "operation";
       }
+    },
+    /**
+     * Whether a read was served from the cache, with value {@link
+     * io.camunda.zeebe.db.ColumnFamilyMetricsDoc.CacheResult}
+     */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -101,4 +177,19 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return name;
     }
   }
+
+  /** Whether a read of a cached column family was served from the cache. */
+  public enum CacheResult {
+    HIT("hit"),
+    MISS("miss");
+    private final String name;
+
+    CacheResult(final String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
 }
@@ -56,6 +56,18 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   TransactionContext createContext();
 
+  /**
+   * Creates a context which keeps the values of cached column families in memory, if the database
+   * is configured to cache any. As the cache does not see writes done through other contexts, there
+   * must be at most one such context, and it must be the only one writing to the cached column
+   * families.
+   *
+   * @return a context with a cache, or a regular context if caching is disabled
+   */
+  default TransactionContext createCachedContext() {
+    return createContext();
+  }
+
   /**
    * Checks the database if the given column is empty.
    *
@@ -38,4 +38,13 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Registers a task which is run once this transaction is committed, e.g. to apply a change to
+   * in-memory state which must only become visible together with the transaction's changes. The
+   * task is discarded if the transaction is rolled back.
+   *
+   * @param task the task to run after the commit
+   */
+  void runAfterCommit(Runnable task);
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -42,6 +43,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 0;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -72,6 +74,16 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The maximum size in bytes of the in-memory cache of column family values, which is kept by a
+   * cached context (see {@link io.camunda.zeebe.db.ZeebeDb#createCachedContext()}). Setting it to 0
+   * (the default) or less disables the cache.
+   */
+  private long columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
+  /** The names of the column families whose values are cached, if the cache is enabled. */
+  private Set<String> cachedColumnFamilies = Set.of();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +167,22 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public long getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final long columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = Set.copyOf(cachedColumnFamilies);
+    return this;
+  }
 }
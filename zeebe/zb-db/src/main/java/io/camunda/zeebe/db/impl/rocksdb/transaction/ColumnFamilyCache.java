@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the serialized values of cached column families in memory, so that reading them does not
+ * require a lookup in RocksDB. The cache belongs to a single transaction context, and is aware of
+ * its transactions: values written within a transaction are kept apart, and are only promoted to
+ * the cache once the transaction is committed, or discarded if it is rolled back.
+ *
+ * <p>Entries are keyed by the full key, including the column family prefix, such that a single
+ * cache is shared by all cached column families of a context. Keys which do not exist are cached as
+ * well. The cache is bounded by the size of its keys and values; once it is full, the least
+ * recently used entries are evicted.
+ *
+ * <p>Cached values are never handed out to readers directly, but only copies of them, such that a
+ * reader which modifies or keeps its value cannot corrupt the cache.
+ *
+ * <p>The cache does not see writes done through other contexts, and must therefore only be used by
+ * the context which is the only writer of the cached column families.
+ */
+final class ColumnFamilyCache {
+
+  private final long capacity;
+  private final LinkedHashMap<DirectBuffer, Entry> committed = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<DirectBuffer, Entry> pending = new HashMap<>();
+  private final UnsafeBuffer lookupKey = new UnsafeBuffer(0, 0);
+  private long size;
+
+  ColumnFamilyCache(final long capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Returns the cached entry of the given key, as seen by the current transaction.
+   *
+   * @return the cached entry, or null if the key is not cached
+   */
+  Entry get(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, 0, keyLength);
+    final var entry = pending.get(lookupKey);
+    return entry != null ? entry : committed.get(lookupKey);
+  }
+
+  /**
+   * Caches the value of the given key as it was read from the database. Must only be called if the
+   * key is not cached, i.e. it was not written in the current transaction.
+   *
+   * @param value the value read from the database, or null if the key does not exist; it is copied,
+   *     so the caller may keep using it
+   */
+  void fill(
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final ColumnFamilyCacheMetrics metrics) {
+    final var copy = value == null ? null : value.clone();
+    putCommitted(copyKey(key, keyLength), new Entry(copy, metrics));
+    evict();
+  }
+
+  /** Remembers a value written in the current transaction. */
+  void put(
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength,
+      final ColumnFamilyCacheMetrics metrics) {
+    pending.put(copyKey(key, keyLength), new Entry(Arrays.copyOf(value, valueLength), metrics));
+  }
+
+  /** Remembers a key deleted in the current transaction. */
+  void delete(final byte[] key, final int keyLength, final ColumnFamilyCacheMetrics metrics) {
+    pending.put(copyKey(key, keyLength), new Entry(null, metrics));
+  }
+
+  /** Promotes everything written in the committed transaction to the cache. */
+  void commit() {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    pending.forEach(this::putCommitted);
+    pending.clear();
+    evict();
+  }
+
+  /** Discards everything written in the rolled back transaction. */
+  void rollback() {
+    pending.clear();
+  }
+
+  long size() {
+    return size;
+  }
+
+  private void putCommitted(final DirectBuffer key, final Entry entry) {
+    final var previous = committed.put(key, entry);
+    size += key.capacity() + entry.length();
+    if (previous != null) {
+      size -= key.capacity() + previous.length();
+    }
+  }
+
+  private void evict() {
+    final var entries = committed.entrySet().iterator();
+    while (size > capacity && entries.hasNext()) {
+      final var eldest = entries.next();
+      entries.remove();
+      size -= eldest.getKey().capacity() + eldest.getValue().length();
+      eldest.getValue().metrics().eviction();
+    }
+  }
+
+  private static DirectBuffer copyKey(final byte[] key, final int keyLength) {
+    return new UnsafeBuffer(Arrays.copyOf(key, keyLength));
+  }
+
+  /**
+   * A cached value, together with the metrics of the column family it belongs to.
+   *
+   * @param value the serialized value, or null if the key does not exist; it must never be handed
+   *     out to readers, see {@link #copyOfValue()}
+   */
+  record Entry(byte[] value, ColumnFamilyCacheMetrics metrics) {
+
+    /**
+     * @return whether the key exists
+     */
+    boolean exists() {
+      return value != null;
+    }
+
+    /**
+     * @return a copy of the cached value, which the reader may modify or keep, or null if the key
+     *     does not exist
+     */
+    byte[] copyOfValue() {
+      return value == null ? null : value.clone();
+    }
+
+    private int length() {
+      return value == null ? 0 : value.length;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static io.camunda.zeebe.db.ColumnFamilyMetricsDoc.CACHE_ACCESSES;
+import static io.camunda.zeebe.db.ColumnFamilyMetricsDoc.CACHE_EVICTIONS;
+
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc.CacheResult;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc.ColumnFamilyMetricsKeyName;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the accesses and evictions of a cached column family. Unlike the access latencies, these
+ * are always recorded, as they are cheap and the only way to tell whether the cache is effective.
+ */
+final class ColumnFamilyCacheMetrics {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+
+  <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue> ColumnFamilyCacheMetrics(
+      final ColumnFamilyNames columnFamily, final MeterRegistry registry) {
+    final var columnFamilyLabel = columnFamily.name();
+    hits = createAccessCounter(registry, columnFamilyLabel, CacheResult.HIT);
+    misses = createAccessCounter(registry, columnFamilyLabel, CacheResult.MISS);
+    evictions =
+        Counter.builder(CACHE_EVICTIONS.getName())
+            .description(CACHE_EVICTIONS.getDescription())
+            .tags(ColumnFamilyMetricsKeyName.COLUMN_FAMILY.asString(), columnFamilyLabel)
+            .register(registry);
+  }
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void eviction() {
+    evictions.increment();
+  }
+
+  private static Counter createAccessCounter(
+      final MeterRegistry registry, final String columnFamily, final CacheResult result) {
+    return Counter.builder(CACHE_ACCESSES.getName())
+        .description(CACHE_ACCESSES.getDescription())
+        .tags(
+            ColumnFamilyMetricsKeyName.COLUMN_FAMILY.asString(),
+            columnFamily,
+            ColumnFamilyMetricsKeyName.CACHE_RESULT.asString(),
+            result.getName())
+        .register(registry);
+  }
+}
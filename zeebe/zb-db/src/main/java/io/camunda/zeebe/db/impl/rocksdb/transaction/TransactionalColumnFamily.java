@@ -62,6 +62,8 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final boolean cached;
+  private final ColumnFamilyCacheMetrics cacheMetrics;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -78,6 +80,11 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    cached = transactionDb.isCached(columnFamily);
+    cacheMetrics =
+        cached
+            ? new ColumnFamilyCacheMetrics(columnFamily, transactionDb.getMeterRegistry())
+            : null;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -98,6 +105,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cachePut(transaction, value.getLength());
           });
     }
   }
@@ -117,6 +125,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cachePut(transaction, value.getLength());
           });
     }
   }
@@ -135,6 +144,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cachePut(transaction, value.getLength());
           });
     }
   }
@@ -145,12 +155,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = getValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       final var valueBuffer = columnFamilyContext.getValueView();
@@ -169,12 +174,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] valueBytes =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] valueBytes = getValue(transaction);
             if (valueBytes != null) {
               final var newValue = valueSupplier.get();
               newValue.wrap(new UnsafeBuffer(valueBytes), 0, valueBytes.length);
@@ -258,6 +258,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -272,6 +273,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            cacheDelete(transaction);
           });
     }
   }
@@ -282,12 +284,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] value = lookupValue(transaction);
             columnFamilyContext.wrapValueView(value);
           });
       return !columnFamilyContext.isValueViewEmpty();
@@ -335,12 +332,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = lookupValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -351,18 +343,98 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = lookupValue(transaction);
     if (value == null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Returns the value of the key currently written to the column family context, which the caller
+   * may modify or keep. If the column family is cached, the value is copied from the cache, and
+   * only looked up in the transaction if it is not cached yet.
+   *
+   * @return the value, or null if the key does not exist
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    final var cache = cached ? transaction.cache() : null;
+    if (cache == null) {
+      return readValue(transaction);
+    }
+
+    final var entry =
+        cache.get(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    if (entry != null) {
+      cacheMetrics.hit();
+      return entry.copyOfValue();
+    }
+
+    return fillCache(cache, transaction);
+  }
+
+  /**
+   * Like {@link #getValue(ZeebeTransaction)}, but may return the cached value itself. Must only be
+   * used to check whether the key exists, and the returned value must neither be modified nor kept.
+   */
+  private byte[] lookupValue(final ZeebeTransaction transaction) throws Exception {
+    final var cache = cached ? transaction.cache() : null;
+    if (cache == null) {
+      return readValue(transaction);
+    }
+
+    final var entry =
+        cache.get(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    if (entry != null) {
+      cacheMetrics.hit();
+      return entry.value();
+    }
+
+    return fillCache(cache, transaction);
+  }
+
+  private byte[] fillCache(final ColumnFamilyCache cache, final ZeebeTransaction transaction)
+      throws Exception {
+    cacheMetrics.miss();
+    final byte[] value = readValue(transaction);
+    cache.fill(
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        value,
+        cacheMetrics);
+    return value;
+  }
+
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
+  private void cachePut(final ZeebeTransaction transaction, final int valueLength) {
+    final var cache = cached ? transaction.cache() : null;
+    if (cache != null) {
+      cache.put(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          valueLength,
+          cacheMetrics);
+    }
+  }
+
+  private void cacheDelete(final ZeebeTransaction transaction) {
+    final var cache = cached ? transaction.cache() : null;
+    if (cache != null) {
+      cache.delete(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          cacheMetrics);
+    }
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
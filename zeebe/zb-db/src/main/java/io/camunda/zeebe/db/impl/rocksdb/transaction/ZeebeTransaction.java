@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,14 +25,24 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final ColumnFamilyCache cache;
+  private final List<Runnable> commitTasks = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, null);
+  }
+
+  ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final ColumnFamilyCache cache) {
     this.transactionRenovator = transactionRenovator;
     this.transaction = transaction;
+    this.cache = cache;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -122,6 +134,18 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return inCurrentTransaction;
   }
 
+  /**
+   * @return the cache of the context this transaction belongs to, or null if it has none
+   */
+  ColumnFamilyCache cache() {
+    return cache;
+  }
+
+  @Override
+  public void runAfterCommit(final Runnable task) {
+    commitTasks.add(task);
+  }
+
   @Override
   public void run(final TransactionOperation operations) throws Exception {
     try {
@@ -164,13 +188,31 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    if (cache != null) {
+      cache.commit();
+    }
+    runCommitTasks();
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    commitTasks.clear();
+    if (cache != null) {
+      cache.rollback();
+    }
     transaction.rollback();
   }
 
+  private void runCommitTasks() {
+    try {
+      for (final var task : commitTasks) {
+        task.run();
+      }
+    } finally {
+      commitTasks.clear();
+    }
+  }
+
   @Override
   public void close() {
     transaction.close();
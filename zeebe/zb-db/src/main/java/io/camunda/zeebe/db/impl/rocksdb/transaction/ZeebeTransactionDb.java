@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -64,6 +65,8 @@ public class ZeebeTransactionDb<
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final long columnFamilyCacheSize;
+  private final Set<String> cachedColumnFamilies;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -81,6 +84,8 @@ public class ZeebeTransactionDb<
     this.accessMetricsConfiguration = accessMetricsConfiguration;
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
 
     prefixReadOptions = PrefixReadOptions.readOptions();
     closables.add(prefixReadOptions);
@@ -156,6 +161,13 @@ public class ZeebeTransactionDb<
     return defaultNativeHandle;
   }
 
+  /**
+   * @return true if the values of the given column family are cached by cached contexts
+   */
+  protected boolean isCached(final ColumnFamilyNames columnFamily) {
+    return columnFamilyCacheSize > 0 && cachedColumnFamilies.contains(columnFamily.name());
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -209,6 +221,19 @@ public class ZeebeTransactionDb<
     return new DefaultTransactionContext(zeebeTransaction);
   }
 
+  @Override
+  public TransactionContext createCachedContext() {
+    if (columnFamilyCacheSize <= 0 || cachedColumnFamilies.isEmpty()) {
+      return createContext();
+    }
+
+    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, this, new ColumnFamilyCache(columnFamilyCacheSize));
+    closables.add(zeebeTransaction);
+    return new DefaultTransactionContext(zeebeTransaction);
+  }
+
   @Override
   public boolean isEmpty(
       final ColumnFamilyNames columnFamilyName, final TransactionContext context) {
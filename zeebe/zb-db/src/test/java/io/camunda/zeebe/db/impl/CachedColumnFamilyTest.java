@@ -0,0 +1,268 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class CachedColumnFamilyTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @TempDir private Path tempDir;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadCommittedValueFromCache() {
+    // given
+    openDb(1024);
+    final var columnFamily = createColumnFamily(zeebeDb.createCachedContext());
+    upsert(columnFamily, 1, 10);
+    columnFamily.get(key(1));
+
+    // when
+    final var result = columnFamily.get(key(1));
+
+    // then
+    assertThat(result.getValue()).isEqualTo(10);
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.HIT)).isEqualTo(2);
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isZero();
+  }
+
+  @Test
+  void shouldCacheMissingKey() {
+    // given
+    openDb(1024);
+    final var columnFamily = createColumnFamily(zeebeDb.createCachedContext());
+    columnFamily.exists(key(1));
+
+    // when
+    final var exists = columnFamily.exists(key(1));
+
+    // then
+    assertThat(exists).isFalse();
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.HIT)).isOne();
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isOne();
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    openDb(1024);
+    final var context = zeebeDb.createCachedContext();
+    final var columnFamily = createColumnFamily(context);
+    upsert(columnFamily, 1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          columnFamily.upsert(key(1), value(20));
+          columnFamily.upsert(key(2), value(30));
+          assertThat(columnFamily.get(key(1)).getValue()).isEqualTo(20);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(columnFamily.get(key(1)).getValue()).isEqualTo(10);
+    assertThat(columnFamily.exists(key(2))).isFalse();
+  }
+
+  @Test
+  void shouldPromoteWritesOnCommit() throws Exception {
+    // given
+    openDb(1024);
+    final var context = zeebeDb.createCachedContext();
+    final var columnFamily = createColumnFamily(context);
+    upsert(columnFamily, 1, 10);
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          columnFamily.upsert(key(1), value(20));
+          columnFamily.deleteExisting(key(1));
+          columnFamily.upsert(key(2), value(30));
+        });
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(columnFamily.exists(key(1))).isFalse();
+    assertThat(columnFamily.get(key(2)).getValue()).isEqualTo(30);
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValues() {
+    // given - a cache which holds only a few entries of 16 bytes key and 8 bytes value
+    openDb(3 * 24);
+    final var columnFamily = createColumnFamily(zeebeDb.createCachedContext());
+    for (int i = 0; i < 10; i++) {
+      upsert(columnFamily, i, i * 10);
+    }
+
+    // when
+    final var first = columnFamily.get(key(0)).getValue();
+    final var last = columnFamily.get(key(9)).getValue();
+
+    // then
+    assertThat(first).isEqualTo(0);
+    assertThat(last).isEqualTo(90);
+    assertThat(cacheEvictions()).isEqualTo(8);
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isOne();
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.HIT)).isOne();
+  }
+
+  @Test
+  void shouldNotShareCachedValueWithReaders() {
+    // given
+    openDb(1024);
+    final var context = zeebeDb.createCachedContext();
+    final var columnFamily = createColumnFamily(context);
+    final var keepingValue = new KeepingValue();
+    final var keepingColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, keepingValue);
+    upsert(columnFamily, 1, 10);
+    keepingColumnFamily.get(key(1));
+
+    // when - a reader modifies the buffer it was given
+    keepingValue.buffer.putLong(0, 20);
+
+    // then
+    assertThat(columnFamily.get(key(1)).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldRecordCacheMetricsWithoutFineGrainedAccessMetrics() {
+    // given
+    openDb(1024, Kind.NONE);
+    final var columnFamily = createColumnFamily(zeebeDb.createCachedContext());
+    columnFamily.exists(key(1));
+
+    // when
+    columnFamily.exists(key(1));
+
+    // then
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.HIT)).isOne();
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isOne();
+  }
+
+  @Test
+  void shouldNotCacheInRegularContext() {
+    // given
+    openDb(1024);
+    final var columnFamily = createColumnFamily(zeebeDb.createContext());
+    upsert(columnFamily, 1, 10);
+
+    // when
+    final var result = columnFamily.get(key(1));
+
+    // then
+    assertThat(result.getValue()).isEqualTo(10);
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.HIT)).isZero();
+    assertThat(cacheAccesses(ColumnFamilyMetricsDoc.CacheResult.MISS)).isZero();
+  }
+
+  private void openDb(final long cacheSize) {
+    openDb(cacheSize, Kind.FINE);
+  }
+
+  private void openDb(final long cacheSize, final Kind accessMetrics) {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setColumnFamilyCacheSize(cacheSize)
+            .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name()));
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                configuration,
+                new ConsistencyChecksSettings(true, true),
+                new AccessMetricsConfiguration(accessMetrics, 1),
+                () -> meterRegistry)
+            .createDb(tempDir.toFile());
+  }
+
+  private ColumnFamily<DbLong, DbLong> createColumnFamily(final TransactionContext context) {
+    return zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  private void upsert(
+      final ColumnFamily<DbLong, DbLong> columnFamily, final long key, final long value) {
+    columnFamily.upsert(key(key), value(value));
+  }
+
+  private DbLong key(final long key) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(key);
+    return dbKey;
+  }
+
+  private DbLong value(final long value) {
+    final var dbValue = new DbLong();
+    dbValue.wrapLong(value);
+    return dbValue;
+  }
+
+  private double cacheAccesses(final ColumnFamilyMetricsDoc.CacheResult result) {
+    return meterRegistry
+        .get(ColumnFamilyMetricsDoc.CACHE_ACCESSES.getName())
+        .tag("result", result.getName())
+        .counter()
+        .count();
+  }
+
+  private double cacheEvictions() {
+    return meterRegistry.get(ColumnFamilyMetricsDoc.CACHE_EVICTIONS.getName()).counter().count();
+  }
+
+  /** A value which keeps the buffer it was read from, like a lazily decoding value would. */
+  private static final class KeepingValue implements DbValue {
+    private MutableDirectBuffer buffer;
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      this.buffer = new UnsafeBuffer(buffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return buffer.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, this.buffer, 0, this.buffer.capacity());
+    }
+  }
+}
@@ -462,6 +462,35 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRunTaskAfterCommit() throws Exception {
+    // given
+    final var runs = new AtomicLong();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transaction.runAfterCommit(runs::incrementAndGet));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(runs).hasValue(1);
+  }
+
+  @Test
+  public void shouldDiscardTaskOnRollback() throws Exception {
+    // given
+    final var runs = new AtomicLong();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> transaction.runAfterCommit(runs::incrementAndGet));
+
+    // when
+    transaction.rollback();
+    transactionContext.runInTransaction(() -> {});
+
+    // then
+    assertThat(runs).hasValue(0);
+  }
+
   @Test
   // See https://github.com/camunda/camunda/issues/11681, this test is to ensure that we don't
   // hide exceptions from the `ProcessingStateMachine`.